@@ -0,0 +1,11 @@
+package com.studies.catalog.admin.application.castmember.retrieve.suggest;
+
+import com.studies.catalog.admin.domain.pagination.Suggestion;
+
+public record CastMemberSuggestionOutput(String id, String name) {
+
+    public static CastMemberSuggestionOutput from(final Suggestion aSuggestion) {
+        return new CastMemberSuggestionOutput(aSuggestion.id(), aSuggestion.name());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.studies.catalog.admin.application.castmember.retrieve.suggest;
+
+import com.studies.catalog.admin.application.UseCase;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+
+public abstract sealed class SuggestCastMembersUseCase
+        extends UseCase<SuggestQuery, List<CastMemberSuggestionOutput>>
+        permits SuggestCastMembersUseCaseImpl {
+}
\ No newline at end of file
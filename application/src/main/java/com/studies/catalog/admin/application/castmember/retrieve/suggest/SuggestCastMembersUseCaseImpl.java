@@ -0,0 +1,28 @@
+package com.studies.catalog.admin.application.castmember.retrieve.suggest;
+
+import com.studies.catalog.admin.domain.castmember.CastMemberGateway;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class SuggestCastMembersUseCaseImpl extends SuggestCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public SuggestCastMembersUseCaseImpl(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<CastMemberSuggestionOutput> execute(final SuggestQuery aQuery) {
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            return List.of();
+        }
+
+        return this.castMemberGateway.suggest(aQuery).stream()
+                .map(CastMemberSuggestionOutput::from)
+                .toList();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.studies.catalog.admin.application.category.retrieve.suggest;
+
+import com.studies.catalog.admin.domain.pagination.Suggestion;
+
+public record CategorySuggestionOutput(String id, String name) {
+
+    public static CategorySuggestionOutput from(final Suggestion aSuggestion) {
+        return new CategorySuggestionOutput(aSuggestion.id(), aSuggestion.name());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.studies.catalog.admin.application.category.retrieve.suggest;
+
+import com.studies.catalog.admin.application.UseCase;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase
+        extends UseCase<SuggestQuery, List<CategorySuggestionOutput>> {
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.studies.catalog.admin.application.category.retrieve.suggest;
+
+import com.studies.catalog.admin.domain.category.CategoryGateway;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SuggestCategoriesUseCaseImpl extends SuggestCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public SuggestCategoriesUseCaseImpl(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestQuery aQuery) {
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            return List.of();
+        }
+
+        return this.categoryGateway.suggest(aQuery).stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.studies.catalog.admin.application.genre.retrieve.suggest;
+
+import com.studies.catalog.admin.domain.pagination.Suggestion;
+
+public record GenreSuggestionOutput(String id, String name) {
+
+    public static GenreSuggestionOutput from(final Suggestion aSuggestion) {
+        return new GenreSuggestionOutput(aSuggestion.id(), aSuggestion.name());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.studies.catalog.admin.application.genre.retrieve.suggest;
+
+import com.studies.catalog.admin.application.UseCase;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+
+public abstract class SuggestGenreUseCase
+        extends UseCase<SuggestQuery, List<GenreSuggestionOutput>> {
+}
\ No newline at end of file
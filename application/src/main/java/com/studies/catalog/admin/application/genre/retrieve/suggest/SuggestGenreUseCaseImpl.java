@@ -0,0 +1,28 @@
+package com.studies.catalog.admin.application.genre.retrieve.suggest;
+
+import com.studies.catalog.admin.domain.genre.GenreGateway;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SuggestGenreUseCaseImpl extends SuggestGenreUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public SuggestGenreUseCaseImpl(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<GenreSuggestionOutput> execute(final SuggestQuery aQuery) {
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            return List.of();
+        }
+
+        return this.genreGateway.suggest(aQuery).stream()
+                .map(GenreSuggestionOutput::from)
+                .toList();
+    }
+
+}
\ No newline at end of file
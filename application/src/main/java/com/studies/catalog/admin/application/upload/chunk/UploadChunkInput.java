@@ -0,0 +1,25 @@
+package com.studies.catalog.admin.application.upload.chunk;
+
+import com.studies.catalog.admin.domain.video.Resource;
+
+public record UploadChunkInput(
+        String videoId,
+        String mediaType,
+        String uploadId,
+        long offset,
+        String checksum,
+        Resource resource
+) {
+
+    public static UploadChunkInput with(
+            final String aVideoId,
+            final String aMediaType,
+            final String anUploadId,
+            final long anOffset,
+            final String aChecksum,
+            final Resource aResource
+    ) {
+        return new UploadChunkInput(aVideoId, aMediaType, anUploadId, anOffset, aChecksum, aResource);
+    }
+
+}
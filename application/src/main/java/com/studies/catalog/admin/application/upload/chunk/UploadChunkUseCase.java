@@ -0,0 +1,8 @@
+package com.studies.catalog.admin.application.upload.chunk;
+
+import com.studies.catalog.admin.application.UseCase;
+import com.studies.catalog.admin.application.upload.retrieve.get.UploadSessionOutput;
+
+public abstract class UploadChunkUseCase
+        extends UseCase<UploadChunkInput, UploadSessionOutput> {
+}
@@ -0,0 +1,60 @@
+package com.studies.catalog.admin.application.upload.chunk;
+
+import com.studies.catalog.admin.application.upload.retrieve.get.UploadSessionOutput;
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+
+import java.util.Objects;
+
+public class UploadChunkUseCaseImpl extends UploadChunkUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public UploadChunkUseCaseImpl(
+            final UploadSessionGateway uploadSessionGateway,
+            final MediaResourceGateway mediaResourceGateway
+    ) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final UploadChunkInput anInput) {
+        final var anId = UploadSessionID.from(anInput.uploadId());
+        final var aResource = anInput.resource();
+        final var anOffset = anInput.offset();
+
+        if (anInput.checksum() == null || anInput.checksum().isBlank()) {
+            throw NotificationException.with(new Error("'checksum' should not be empty"));
+        }
+
+        final var aSession = this.uploadSessionGateway.findById(anId)
+                .filter(it -> it.getVideoId().getValue().equalsIgnoreCase(anInput.videoId()))
+                .filter(it -> it.getMediaType().name().equalsIgnoreCase(anInput.mediaType()))
+                .orElseThrow(() -> NotFoundException.with(UploadSession.class, anId));
+
+        aSession.checkAcceptsChunk(anOffset, aResource.contentLength());
+
+        if (!this.mediaResourceGateway.storeChunk(aSession, anOffset, aResource, anInput.checksum())) {
+            throw NotificationException.with(new Error(
+                    "Checksum mismatch for chunk at offset %d: expected %s but received %s"
+                            .formatted(anOffset, anInput.checksum(), aResource.checksum())
+            ));
+        }
+
+        final var aChunk = UploadChunk.with(anOffset, aResource.contentLength(), aResource.checksum());
+        aSession.receiveChunk(aChunk);
+
+        this.uploadSessionGateway.saveChunk(anId, aChunk);
+
+        return UploadSessionOutput.from(aSession);
+    }
+
+}
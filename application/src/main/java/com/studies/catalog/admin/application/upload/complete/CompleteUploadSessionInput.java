@@ -0,0 +1,13 @@
+package com.studies.catalog.admin.application.upload.complete;
+
+public record CompleteUploadSessionInput(
+        String videoId,
+        String mediaType,
+        String uploadId
+) {
+
+    public static CompleteUploadSessionInput with(final String aVideoId, final String aMediaType, final String anUploadId) {
+        return new CompleteUploadSessionInput(aVideoId, aMediaType, anUploadId);
+    }
+
+}
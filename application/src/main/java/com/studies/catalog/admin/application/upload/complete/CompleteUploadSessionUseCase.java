@@ -0,0 +1,8 @@
+package com.studies.catalog.admin.application.upload.complete;
+
+import com.studies.catalog.admin.application.UseCase;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteUploadSessionUseCase
+        extends UseCase<CompleteUploadSessionInput, UploadMediaOutput> {
+}
@@ -0,0 +1,60 @@
+package com.studies.catalog.admin.application.upload.complete;
+
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaInput;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaOutput;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+import com.studies.catalog.admin.domain.video.VideoResource;
+
+import java.util.Objects;
+
+public class CompleteUploadSessionUseCaseImpl extends CompleteUploadSessionUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final UploadMediaUseCase uploadMediaUseCase;
+
+    public CompleteUploadSessionUseCaseImpl(
+            final UploadSessionGateway uploadSessionGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final UploadMediaUseCase uploadMediaUseCase
+    ) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteUploadSessionInput anInput) {
+        final var anId = UploadSessionID.from(anInput.uploadId());
+
+        final var aSession = this.uploadSessionGateway.findById(anId)
+                .filter(it -> it.getVideoId().getValue().equalsIgnoreCase(anInput.videoId()))
+                .filter(it -> it.getMediaType().name().equalsIgnoreCase(anInput.mediaType()))
+                .orElseThrow(() -> NotFoundException.with(UploadSession.class, anId));
+
+        final var aVideoId = aSession.getVideoId().getValue();
+        final var aType = aSession.getMediaType();
+
+        if (aSession.isCompleted()) {
+            return new UploadMediaOutput(aVideoId, aType);
+        }
+
+        aSession.complete();
+
+        final var aResource = this.mediaResourceGateway.assembleChunks(aSession);
+        final var output = this.uploadMediaUseCase.execute(
+                UploadMediaInput.with(aVideoId, VideoResource.with(aType, aResource))
+        );
+
+        this.uploadSessionGateway.update(aSession);
+        this.mediaResourceGateway.clearChunks(aSession);
+
+        return output;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.studies.catalog.admin.application.upload.create;
+
+public record CreateUploadSessionInput(
+        String videoId,
+        String mediaType,
+        String name,
+        String contentType,
+        long totalSize
+) {
+
+    public static CreateUploadSessionInput with(
+            final String aVideoId,
+            final String aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aTotalSize
+    ) {
+        return new CreateUploadSessionInput(aVideoId, aMediaType, aName, aContentType, aTotalSize);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.studies.catalog.admin.application.upload.create;
+
+import com.studies.catalog.admin.domain.upload.UploadSession;
+
+public record CreateUploadSessionOutput(
+        String id,
+        String videoId,
+        String mediaType
+) {
+
+    public static CreateUploadSessionOutput from(final UploadSession aSession) {
+        return new CreateUploadSessionOutput(
+                aSession.getId().getValue(),
+                aSession.getVideoId().getValue(),
+                aSession.getMediaType().name()
+        );
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.studies.catalog.admin.application.upload.create;
+
+import com.studies.catalog.admin.application.UseCase;
+
+public abstract class CreateUploadSessionUseCase
+        extends UseCase<CreateUploadSessionInput, CreateUploadSessionOutput> {
+}
@@ -0,0 +1,56 @@
+package com.studies.catalog.admin.application.upload.create;
+
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.validation.handler.Notification;
+import com.studies.catalog.admin.domain.video.Video;
+import com.studies.catalog.admin.domain.video.VideoGateway;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class CreateUploadSessionUseCaseImpl extends CreateUploadSessionUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+    private final VideoGateway videoGateway;
+
+    public CreateUploadSessionUseCaseImpl(
+            final UploadSessionGateway uploadSessionGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public CreateUploadSessionOutput execute(final CreateUploadSessionInput anInput) {
+        final var aVideoId = VideoID.from(anInput.videoId());
+        final var aType = VideoMediaType.of(anInput.mediaType())
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(anInput.mediaType()))));
+
+        if (this.videoGateway.findById(aVideoId).isEmpty()) {
+            throw NotFoundException.with(Video.class, aVideoId);
+        }
+
+        final var notification = Notification.create();
+
+        final var aSession = notification.validate(() -> UploadSession.newSession(
+                aVideoId,
+                aType,
+                anInput.name(),
+                anInput.contentType(),
+                anInput.totalSize()
+        ));
+
+        if (notification.hasError()) {
+            throw new NotificationException("Could not create Aggregate UploadSession", notification);
+        }
+
+        return CreateUploadSessionOutput.from(this.uploadSessionGateway.create(aSession));
+    }
+
+}
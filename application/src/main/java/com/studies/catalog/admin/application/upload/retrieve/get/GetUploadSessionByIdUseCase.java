@@ -0,0 +1,7 @@
+package com.studies.catalog.admin.application.upload.retrieve.get;
+
+import com.studies.catalog.admin.application.UseCase;
+
+public abstract class GetUploadSessionByIdUseCase
+        extends UseCase<GetUploadSessionInput, UploadSessionOutput> {
+}
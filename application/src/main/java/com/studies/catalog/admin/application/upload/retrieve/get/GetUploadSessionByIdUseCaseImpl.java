@@ -0,0 +1,29 @@
+package com.studies.catalog.admin.application.upload.retrieve.get;
+
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+
+import java.util.Objects;
+
+public class GetUploadSessionByIdUseCaseImpl extends GetUploadSessionByIdUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+
+    public GetUploadSessionByIdUseCaseImpl(final UploadSessionGateway uploadSessionGateway) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final GetUploadSessionInput anInput) {
+        final var anId = UploadSessionID.from(anInput.uploadId());
+
+        return this.uploadSessionGateway.findById(anId)
+                .filter(it -> it.getVideoId().getValue().equalsIgnoreCase(anInput.videoId()))
+                .filter(it -> it.getMediaType().name().equalsIgnoreCase(anInput.mediaType()))
+                .map(UploadSessionOutput::from)
+                .orElseThrow(() -> NotFoundException.with(UploadSession.class, anId));
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.studies.catalog.admin.application.upload.retrieve.get;
+
+public record GetUploadSessionInput(
+        String videoId,
+        String mediaType,
+        String uploadId
+) {
+
+    public static GetUploadSessionInput with(final String aVideoId, final String aMediaType, final String anUploadId) {
+        return new GetUploadSessionInput(aVideoId, aMediaType, anUploadId);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.studies.catalog.admin.application.upload.retrieve.get;
+
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionStatus;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.List;
+
+public record UploadSessionOutput(
+        String id,
+        String videoId,
+        VideoMediaType mediaType,
+        String name,
+        String contentType,
+        long totalSize,
+        long receivedBytes,
+        UploadSessionStatus status,
+        List<ChunkOutput> chunks,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static UploadSessionOutput from(final UploadSession aSession) {
+        return new UploadSessionOutput(
+                aSession.getId().getValue(),
+                aSession.getVideoId().getValue(),
+                aSession.getMediaType(),
+                aSession.getName(),
+                aSession.getContentType(),
+                aSession.getTotalSize(),
+                aSession.receivedBytes(),
+                aSession.getStatus(),
+                aSession.getChunks().stream().map(ChunkOutput::from).toList(),
+                aSession.getCreatedAt(),
+                aSession.getUpdatedAt()
+        );
+    }
+
+    public record ChunkOutput(long offset, long size, String checksum) {
+
+        public static ChunkOutput from(final UploadChunk aChunk) {
+            return new ChunkOutput(aChunk.offset(), aChunk.size(), aChunk.checksum());
+        }
+
+    }
+
+}
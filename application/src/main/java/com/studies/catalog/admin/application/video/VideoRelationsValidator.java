@@ -0,0 +1,69 @@
+package com.studies.catalog.admin.application.video;
+
+import com.studies.catalog.admin.domain.Identifier;
+import com.studies.catalog.admin.domain.castmember.CastMemberID;
+import com.studies.catalog.admin.domain.category.CategoryID;
+import com.studies.catalog.admin.domain.genre.GenreID;
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.validation.ValidationHandler;
+import com.studies.catalog.admin.domain.validation.handler.Notification;
+import com.studies.catalog.admin.domain.video.VideoGateway;
+import com.studies.catalog.admin.domain.video.VideoRelations;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class VideoRelationsValidator {
+
+    private final VideoGateway videoGateway;
+
+    public VideoRelationsValidator(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    public ValidationHandler validate(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        final var notification = Notification.create();
+        final var requested = VideoRelations.with(categories, genres, members);
+        if (requested.isEmpty()) {
+            return notification;
+        }
+
+        final var existing = this.videoGateway.existingRelations(requested);
+        notification.append(validateAggregate("categories", categories, existing.categories()));
+        notification.append(validateAggregate("genres", genres, existing.genres()));
+        notification.append(validateAggregate("cast members", members, existing.members()));
+
+        return notification;
+    }
+
+    private <T extends Identifier> ValidationHandler validateAggregate(
+            final String aggregate,
+            final Set<T> ids,
+            final Set<T> existingIds
+    ) {
+        final var notification = Notification.create();
+        if (ids == null || ids.isEmpty()) {
+            return notification;
+        }
+
+        if (!existingIds.containsAll(ids)) {
+            final var missingIds = new ArrayList<>(ids);
+            missingIds.removeAll(existingIds);
+
+            final var missingIdsMessage = missingIds.stream()
+                    .map(Identifier::getValue)
+                    .collect(Collectors.joining(", "));
+
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
+        }
+
+        return notification;
+    }
+
+}
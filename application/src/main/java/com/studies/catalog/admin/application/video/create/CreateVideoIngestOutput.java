@@ -0,0 +1,16 @@
+package com.studies.catalog.admin.application.video.create;
+
+import com.studies.catalog.admin.application.video.media.ingest.MediaIngestOutput;
+
+import java.util.List;
+
+public record CreateVideoIngestOutput(
+        String id,
+        List<MediaIngestOutput> ingests
+) {
+
+    public static CreateVideoIngestOutput with(final String anId, final List<MediaIngestOutput> ingests) {
+        return new CreateVideoIngestOutput(anId, ingests);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.studies.catalog.admin.application.video.create;
+
+import com.studies.catalog.admin.application.UseCase;
+
+public abstract class CreateVideoWithIngestUseCase
+        extends UseCase<CreateVideoInput, CreateVideoIngestOutput> {
+}
\ No newline at end of file
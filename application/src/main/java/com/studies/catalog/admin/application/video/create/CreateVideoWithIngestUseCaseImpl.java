@@ -0,0 +1,61 @@
+package com.studies.catalog.admin.application.video.create;
+
+import com.studies.catalog.admin.application.video.media.ingest.MediaIngestOutput;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.domain.video.VideoResource;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public class CreateVideoWithIngestUseCaseImpl extends CreateVideoWithIngestUseCase {
+
+    private final MediaIngestGateway mediaIngestGateway;
+    private final CreateVideoUseCase createVideoUseCase;
+
+    public CreateVideoWithIngestUseCaseImpl(
+            final MediaIngestGateway mediaIngestGateway,
+            final CreateVideoUseCase createVideoUseCase
+    ) {
+        this.mediaIngestGateway = Objects.requireNonNull(mediaIngestGateway);
+        this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
+    }
+
+    @Override
+    public CreateVideoIngestOutput execute(final CreateVideoInput anInput) {
+        final var resources = Stream.of(
+                        VideoResource.with(VideoMediaType.VIDEO, anInput.video()),
+                        VideoResource.with(VideoMediaType.TRAILER, anInput.trailer()),
+                        VideoResource.with(VideoMediaType.BANNER, anInput.banner()),
+                        VideoResource.with(VideoMediaType.THUMBNAIL, anInput.thumbnail()),
+                        VideoResource.with(VideoMediaType.THUMBNAIL_HALF, anInput.thumbnailHalf())
+                )
+                .filter(it -> it.resource() != null)
+                .toList();
+
+        // Room for every media is taken before the video exists, so a full queue rejects the whole request
+        try (final var anAdmission = this.mediaIngestGateway.admit(resources.size())) {
+            final var output = this.createVideoUseCase.execute(CreateVideoInput.with(
+                    anInput.title(),
+                    anInput.description(),
+                    anInput.launchedAt(),
+                    anInput.duration(),
+                    anInput.opened(),
+                    anInput.published(),
+                    anInput.rating(),
+                    anInput.categories(),
+                    anInput.genres(),
+                    anInput.members()
+            ));
+
+            final var aVideoId = VideoID.from(output.id());
+            final var ingests = resources.stream()
+                    .map(it -> MediaIngestOutput.from(this.mediaIngestGateway.submit(anAdmission, aVideoId, it)))
+                    .toList();
+
+            return CreateVideoIngestOutput.with(output.id(), ingests);
+        }
+    }
+
+}
\ No newline at end of file
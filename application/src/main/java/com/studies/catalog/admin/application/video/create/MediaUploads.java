@@ -0,0 +1,93 @@
+package com.studies.catalog.admin.application.video.create;
+
+import com.studies.catalog.admin.domain.video.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+final class MediaUploads {
+
+    private final ExecutorCompletionService<Object> completion;
+    private final List<Future<?>> futures;
+    private final Object lock;
+
+    private int running;
+    private boolean aborted;
+
+    MediaUploads(final ExecutorService executor) {
+        this.completion = new ExecutorCompletionService<>(Objects.requireNonNull(executor));
+        this.futures = new ArrayList<>();
+        this.lock = new Object();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Future<T> submit(final Optional<Resource> aResource, final Function<Resource, T> store) {
+        if (aResource.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final var future = this.completion.submit(() -> {
+            synchronized (this.lock) {
+                if (this.aborted) {
+                    throw new CancellationException();
+                }
+                this.running++;
+            }
+
+            try {
+                return store.apply(aResource.get());
+            } finally {
+                synchronized (this.lock) {
+                    this.running--;
+                    this.lock.notifyAll();
+                }
+            }
+        });
+
+        this.futures.add(future);
+        return (Future<T>) future;
+    }
+
+    void awaitAll() throws Throwable {
+        for (int i = 0; i < this.futures.size(); i++) {
+            try {
+                this.completion.take().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    void abort() {
+        synchronized (this.lock) {
+            this.aborted = true;
+        }
+
+        this.futures.forEach(it -> it.cancel(true));
+
+        var interrupted = false;
+        synchronized (this.lock) {
+            while (this.running > 0) {
+                try {
+                    this.lock.wait();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -21,7 +21,7 @@ public class DeleteVideoUseCaseImpl extends DeleteVideoUseCase {
         final var aVideoId = VideoID.from(anId);
 
         this.videoGateway.deleteById(aVideoId);
-        this.mediaResourceGateway.clearResources(aVideoId);
+        this.mediaResourceGateway.scheduleClearResources(aVideoId);
     }
 
 }
\ No newline at end of file
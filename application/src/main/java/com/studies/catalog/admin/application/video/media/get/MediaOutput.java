@@ -1,17 +1,21 @@
-package com.studies.catalog.admin.application.video.media.get;
-
-import com.studies.catalog.admin.domain.video.Resource;
-
-public record MediaOutput(
-        byte[] content,
-        String contentType,
-        String name
-) {
-    public static MediaOutput with(final Resource aResource) {
-        return new MediaOutput(
-                aResource.content(),
-                aResource.contentType(),
-                aResource.name()
-        );
-    }
-}
\ No newline at end of file
+package com.studies.catalog.admin.application.video.media.get;
+
+import com.studies.catalog.admin.domain.video.Resource;
+
+public record MediaOutput(
+        Resource.Content content,
+        long contentLength,
+        String checksum,
+        String contentType,
+        String name
+) {
+    public static MediaOutput with(final Resource aResource) {
+        return new MediaOutput(
+                aResource.contentSupplier(),
+                aResource.contentLength(),
+                aResource.checksum(),
+                aResource.contentType(),
+                aResource.name()
+        );
+    }
+}
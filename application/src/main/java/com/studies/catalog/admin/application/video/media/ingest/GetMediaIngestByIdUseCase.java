@@ -0,0 +1,7 @@
+package com.studies.catalog.admin.application.video.media.ingest;
+
+import com.studies.catalog.admin.application.UseCase;
+
+public abstract class GetMediaIngestByIdUseCase
+        extends UseCase<String, MediaIngestOutput> {
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.studies.catalog.admin.application.video.media.ingest;
+
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+
+import java.util.Objects;
+
+public class GetMediaIngestByIdUseCaseImpl extends GetMediaIngestByIdUseCase {
+
+    private final MediaIngestGateway mediaIngestGateway;
+
+    public GetMediaIngestByIdUseCaseImpl(final MediaIngestGateway mediaIngestGateway) {
+        this.mediaIngestGateway = Objects.requireNonNull(mediaIngestGateway);
+    }
+
+    @Override
+    public MediaIngestOutput execute(final String anId) {
+        return this.mediaIngestGateway.findById(anId)
+                .map(MediaIngestOutput::from)
+                .orElseThrow(() -> NotFoundException.with(new Error("Media ingest %s was not found".formatted(anId))));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.studies.catalog.admin.application.video.media.ingest;
+
+import com.studies.catalog.admin.domain.video.VideoResource;
+
+public record IngestMediaInput(
+        String videoId,
+        VideoResource videoResource
+) {
+
+    public static IngestMediaInput with(final String anId, final VideoResource aResource) {
+        return new IngestMediaInput(anId, aResource);
+    }
+
+}
\ No newline at end of file
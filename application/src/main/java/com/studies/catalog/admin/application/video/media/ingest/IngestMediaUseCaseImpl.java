@@ -0,0 +1,25 @@
+package com.studies.catalog.admin.application.video.media.ingest;
+
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import com.studies.catalog.admin.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class IngestMediaUseCaseImpl extends IngestMediaUseCase {
+
+    private final MediaIngestGateway mediaIngestGateway;
+
+    public IngestMediaUseCaseImpl(final MediaIngestGateway mediaIngestGateway) {
+        this.mediaIngestGateway = Objects.requireNonNull(mediaIngestGateway);
+    }
+
+    @Override
+    public MediaIngestOutput execute(final IngestMediaInput anInput) {
+        final var anId = VideoID.from(anInput.videoId());
+
+        try (final var anAdmission = this.mediaIngestGateway.admit(1)) {
+            return MediaIngestOutput.from(this.mediaIngestGateway.submit(anAdmission, anId, anInput.videoResource()));
+        }
+    }
+
+}
\ No newline at end of file
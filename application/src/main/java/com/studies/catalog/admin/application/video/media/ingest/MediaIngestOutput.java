@@ -0,0 +1,37 @@
+package com.studies.catalog.admin.application.video.media.ingest;
+
+import com.studies.catalog.admin.domain.video.MediaIngest;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import java.time.Instant;
+
+public record MediaIngestOutput(
+        String id,
+        String videoId,
+        VideoMediaType mediaType,
+        String name,
+        MediaIngestStatus status,
+        long totalBytes,
+        long transferredBytes,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static MediaIngestOutput from(final MediaIngest anIngest) {
+        return new MediaIngestOutput(
+                anIngest.id(),
+                anIngest.videoId(),
+                anIngest.mediaType(),
+                anIngest.name(),
+                anIngest.status(),
+                anIngest.totalBytes(),
+                anIngest.transferredBytes(),
+                anIngest.error(),
+                anIngest.createdAt(),
+                anIngest.updatedAt()
+        );
+    }
+
+}
\ No newline at end of file
@@ -1,24 +1,17 @@
 package com.studies.catalog.admin.application.video.update;
 
-import com.studies.catalog.admin.domain.Identifier;
-import com.studies.catalog.admin.domain.castmember.CastMemberGateway;
+import com.studies.catalog.admin.application.video.VideoRelationsValidator;
 import com.studies.catalog.admin.domain.castmember.CastMemberID;
-import com.studies.catalog.admin.domain.category.CategoryGateway;
 import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.exceptions.DomainException;
 import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
 import com.studies.catalog.admin.domain.exceptions.NotFoundException;
 import com.studies.catalog.admin.domain.exceptions.NotificationException;
-import com.studies.catalog.admin.domain.genre.GenreGateway;
 import com.studies.catalog.admin.domain.genre.GenreID;
-import com.studies.catalog.admin.domain.validation.Error;
-import com.studies.catalog.admin.domain.validation.ValidationHandler;
 import com.studies.catalog.admin.domain.validation.handler.Notification;
 import com.studies.catalog.admin.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -30,23 +23,16 @@ import static com.studies.catalog.admin.domain.video.VideoMediaType.*;
 public class UpdateVideoUseCaseImpl extends UpdateVideoUseCase {
 
     private final VideoGateway videoGateway;
-    private final CategoryGateway categoryGateway;
-    private final CastMemberGateway castMemberGateway;
-    private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final VideoRelationsValidator relationsValidator;
 
     public UpdateVideoUseCaseImpl(
             final VideoGateway videoGateway,
-            final CategoryGateway categoryGateway,
-            final CastMemberGateway castMemberGateway,
-            final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.relationsValidator = new VideoRelationsValidator(videoGateway);
     }
 
     @Override
@@ -62,9 +48,7 @@ public class UpdateVideoUseCaseImpl extends UpdateVideoUseCase {
                 .orElseThrow(notFoundException(anId));
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        notification.append(this.relationsValidator.validate(categories, genres, members));
 
         aVideo.update(
                 anInput.title(),
@@ -132,44 +116,6 @@ public class UpdateVideoUseCaseImpl extends UpdateVideoUseCase {
         return () -> NotFoundException.with(Video.class, anId);
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
         return ids.stream()
                 .map(mapper)
@@ -0,0 +1,65 @@
+package com.studies.catalog.admin.application.genre.retrieve.suggest;
+
+import com.studies.catalog.admin.application.UseCaseTest;
+import com.studies.catalog.admin.domain.genre.GenreGateway;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.Suggestion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SuggestGenreUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private SuggestGenreUseCaseImpl useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    void givenATerm_whenCallsSuggestGenres_shouldReturnTheSuggestions() {
+        // given
+        final var aSuggestion = new Suggestion("123", "Action");
+        final var aQuery = new SuggestQuery("Act", 5);
+
+        when(genreGateway.suggest(any()))
+                .thenReturn(List.of(aSuggestion));
+
+        // when
+        final var currentOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(List.of(new GenreSuggestionOutput("123", "Action")), currentOutput);
+
+        verify(genreGateway).suggest(eq(aQuery));
+    }
+
+    @Test
+    void givenABlankTerm_whenCallsSuggestGenres_shouldReturnEmptyWithoutSearching() {
+        // given
+        final var aQuery = new SuggestQuery(" ", 5);
+
+        // when
+        final var currentOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertTrue(currentOutput.isEmpty());
+
+        verify(genreGateway, never()).suggest(any());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.studies.catalog.admin.application.upload.chunk;
+
+import com.studies.catalog.admin.application.UseCaseTest;
+import com.studies.catalog.admin.domain.exceptions.DomainException;
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UploadChunkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private UploadChunkUseCaseImpl useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(uploadSessionGateway, mediaResourceGateway);
+    }
+
+    @Test
+    void givenAValidChunk_whenCallsUploadChunk_shouldStoreAndRecordIt() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var expectedOffset = 4L;
+        final var expectedChecksum = "abc";
+        final var aResource = Resource.with("Chunk".getBytes(), expectedChecksum, "application/octet-stream", "chunk");
+
+        when(uploadSessionGateway.findById(any())).thenReturn(Optional.of(aSession));
+        when(mediaResourceGateway.storeChunk(any(), anyLong(), any(), any())).thenReturn(true);
+
+        final var anInput = UploadChunkInput.with(
+                aSession.getVideoId().getValue(),
+                "video",
+                aSession.getId().getValue(),
+                expectedOffset,
+                expectedChecksum,
+                aResource
+        );
+
+        // when
+        final var currentOutput = useCase.execute(anInput);
+
+        // then
+        Assertions.assertEquals(5, currentOutput.receivedBytes());
+        Assertions.assertEquals(1, currentOutput.chunks().size());
+
+        verify(mediaResourceGateway, times(1)).storeChunk(eq(aSession), eq(expectedOffset), eq(aResource), eq(expectedChecksum));
+        verify(uploadSessionGateway, times(1)).saveChunk(eq(aSession.getId()), eq(UploadChunk.with(expectedOffset, 5, expectedChecksum)));
+    }
+
+    @Test
+    void givenAChecksumMismatch_whenCallsUploadChunk_shouldNotRecordIt() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var aResource = Resource.with("Chunk".getBytes(), "abc", "application/octet-stream", "chunk");
+        final var expectedErrorMessage = "Checksum mismatch for chunk at offset 0: expected def but received abc";
+
+        when(uploadSessionGateway.findById(any())).thenReturn(Optional.of(aSession));
+        when(mediaResourceGateway.storeChunk(any(), anyLong(), any(), any())).thenReturn(false);
+
+        final var anInput = UploadChunkInput.with(
+                aSession.getVideoId().getValue(), "VIDEO", aSession.getId().getValue(), 0, "def", aResource
+        );
+
+        // when
+        final var currentException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(anInput));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getMessage());
+        verify(uploadSessionGateway, never()).saveChunk(any(), any());
+    }
+
+    @Test
+    void givenAChunkOutOfBounds_whenCallsUploadChunk_shouldNotStoreIt() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var aResource = Resource.with("Chunk".getBytes(), "abc", "application/octet-stream", "chunk");
+        final var expectedErrorMessage = "Chunk [8, 13) is outside of the upload size 10";
+
+        when(uploadSessionGateway.findById(any())).thenReturn(Optional.of(aSession));
+
+        final var anInput = UploadChunkInput.with(
+                aSession.getVideoId().getValue(), "VIDEO", aSession.getId().getValue(), 8, "abc", aResource
+        );
+
+        // when
+        final var currentException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(anInput));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getMessage());
+        verify(mediaResourceGateway, never()).storeChunk(any(), anyLong(), any(), any());
+        verify(uploadSessionGateway, never()).saveChunk(any(), any());
+    }
+
+}
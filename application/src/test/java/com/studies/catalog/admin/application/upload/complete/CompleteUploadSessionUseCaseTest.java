@@ -0,0 +1,102 @@
+package com.studies.catalog.admin.application.upload.complete;
+
+import com.studies.catalog.admin.application.UseCaseTest;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaOutput;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import com.studies.catalog.admin.domain.exceptions.DomainException;
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.upload.UploadSessionStatus;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CompleteUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private CompleteUploadSessionUseCaseImpl useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(uploadSessionGateway, mediaResourceGateway, uploadMediaUseCase);
+    }
+
+    @Test
+    void givenAFullyReceivedSession_whenCallsComplete_shouldUploadAssembledMedia() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var aSession = UploadSession.newSession(aVideoId, expectedType, "trailer.mp4", "video/mp4", 10);
+        aSession.receiveChunk(UploadChunk.with(0, 5, "a"));
+        aSession.receiveChunk(UploadChunk.with(5, 5, "b"));
+
+        final var assembled = Resource.with("0123456789".getBytes(), "abc", "video/mp4", "trailer.mp4");
+
+        when(uploadSessionGateway.findById(any())).thenReturn(Optional.of(aSession));
+        when(uploadSessionGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(mediaResourceGateway.assembleChunks(any())).thenReturn(assembled);
+        when(uploadMediaUseCase.execute(any())).thenReturn(new UploadMediaOutput(aVideoId.getValue(), expectedType));
+
+        final var anInput = CompleteUploadSessionInput.with(aVideoId.getValue(), expectedType.name(), aSession.getId().getValue());
+
+        // when
+        final var currentOutput = useCase.execute(anInput);
+
+        // then
+        Assertions.assertEquals(aVideoId.getValue(), currentOutput.videoId());
+        Assertions.assertEquals(expectedType, currentOutput.mediaType());
+
+        verify(uploadMediaUseCase, times(1)).execute(argThat(input ->
+                aVideoId.getValue().equals(input.videoId())
+                        && expectedType == input.videoResource().type()
+                        && assembled.equals(input.videoResource().resource())
+        ));
+        verify(uploadSessionGateway, times(1)).update(argThat(it -> it.getStatus() == UploadSessionStatus.COMPLETED));
+        verify(mediaResourceGateway, times(1)).clearChunks(eq(aSession));
+    }
+
+    @Test
+    void givenASessionWithMissingChunks_whenCallsComplete_shouldReturnError() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var aSession = UploadSession.newSession(aVideoId, VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        aSession.receiveChunk(UploadChunk.with(0, 5, "a"));
+
+        final var expectedErrorMessage = "Upload session %s is missing 5 bytes".formatted(aSession.getId().getValue());
+
+        when(uploadSessionGateway.findById(any())).thenReturn(Optional.of(aSession));
+
+        final var anInput = CompleteUploadSessionInput.with(aVideoId.getValue(), "VIDEO", aSession.getId().getValue());
+
+        // when
+        final var currentException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(anInput));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getMessage());
+        verify(uploadMediaUseCase, never()).execute(any());
+        verify(mediaResourceGateway, never()).clearChunks(any());
+    }
+
+}
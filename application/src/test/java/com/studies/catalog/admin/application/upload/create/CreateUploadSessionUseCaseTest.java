@@ -0,0 +1,109 @@
+package com.studies.catalog.admin.application.upload.create;
+
+import com.studies.catalog.admin.application.UseCaseTest;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.video.VideoGateway;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CreateUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private CreateUploadSessionUseCaseImpl useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(uploadSessionGateway, videoGateway);
+    }
+
+    @Test
+    void givenAValidInput_whenCallsCreateUploadSession_shouldReturnItsId() {
+        // given
+        final var aVideo = Fixture.Videos.theGodfather();
+        final var expectedVideoId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "video.mp4";
+        final var expectedContentType = "video/mp4";
+        final var expectedTotalSize = 5L * 1024 * 1024 * 1024;
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(uploadSessionGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var anInput = CreateUploadSessionInput.with(
+                expectedVideoId.getValue(), expectedType.name(), expectedName, expectedContentType, expectedTotalSize
+        );
+
+        // when
+        final var currentOutput = useCase.execute(anInput);
+
+        // then
+        Assertions.assertNotNull(currentOutput.id());
+        Assertions.assertEquals(expectedVideoId.getValue(), currentOutput.videoId());
+        Assertions.assertEquals(expectedType.name(), currentOutput.mediaType());
+
+        verify(uploadSessionGateway, times(1)).create(argThat(aSession ->
+                expectedVideoId.equals(aSession.getVideoId())
+                        && expectedType == aSession.getMediaType()
+                        && expectedName.equals(aSession.getName())
+                        && expectedContentType.equals(aSession.getContentType())
+                        && expectedTotalSize == aSession.getTotalSize()
+        ));
+    }
+
+    @Test
+    void givenAnUnknownVideo_whenCallsCreateUploadSession_shouldReturnNotFound() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedVideoId.getValue());
+
+        when(videoGateway.findById(any())).thenReturn(Optional.empty());
+
+        final var anInput = CreateUploadSessionInput.with(expectedVideoId.getValue(), "VIDEO", "video.mp4", "video/mp4", 10);
+
+        // when
+        final var currentException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(anInput));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getMessage());
+        verify(uploadSessionGateway, never()).create(any());
+    }
+
+    @Test
+    void givenAnInvalidTotalSize_whenCallsCreateUploadSession_shouldReturnNotification() {
+        // given
+        final var aVideo = Fixture.Videos.theGodfather();
+        final var expectedErrorMessage = "'totalSize' should be greater than zero";
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+
+        final var anInput = CreateUploadSessionInput.with(aVideo.getId().getValue(), "VIDEO", "video.mp4", "video/mp4", 0);
+
+        // when
+        final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
+        verify(uploadSessionGateway, never()).create(any());
+    }
+
+}
@@ -2,25 +2,26 @@ package com.studies.catalog.admin.application.video.create;
 
 import com.studies.catalog.admin.application.UseCaseTest;
 import com.studies.catalog.admin.domain.Fixture;
-import com.studies.catalog.admin.domain.castmember.CastMemberGateway;
 import com.studies.catalog.admin.domain.castmember.CastMemberID;
-import com.studies.catalog.admin.domain.category.CategoryGateway;
 import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
 import com.studies.catalog.admin.domain.exceptions.NotificationException;
-import com.studies.catalog.admin.domain.genre.GenreGateway;
 import com.studies.catalog.admin.domain.genre.GenreID;
 import com.studies.catalog.admin.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.studies.catalog.admin.domain.video.VideoMediaType.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -29,27 +30,34 @@ import static org.mockito.Mockito.*;
 
 class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private CreateVideoUseCaseImpl useCase;
 
-    @Mock
-    private VideoGateway videoGateway;
-
-    @Mock
-    private CategoryGateway categoryGateway;
+    private ExecutorService mediaStorageExecutor;
 
     @Mock
-    private CastMemberGateway castMemberGateway;
-
-    @Mock
-    private GenreGateway genreGateway;
+    private VideoGateway videoGateway;
 
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, mediaResourceGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.mediaStorageExecutor = Executors.newFixedThreadPool(5);
+        this.useCase = new CreateVideoUseCaseImpl(
+                videoGateway,
+                mediaResourceGateway,
+                mediaStorageExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaStorageExecutor.shutdownNow();
     }
 
     @Test
@@ -92,14 +100,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -173,11 +175,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(Set.of(), expectedGenres, expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -251,11 +250,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, Set.of(), expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -326,11 +322,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, Set.of()));
 
         mockImageMedia();
         mockVideoMedia();
@@ -404,14 +397,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers));
 
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
@@ -490,10 +477,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
-        verify(genreGateway, times(0)).existsByIds(any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -545,10 +530,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
-        verify(genreGateway, times(0)).existsByIds(any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -600,10 +583,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(genreGateway, times(0)).existsByIds(any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -655,10 +636,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
-        verify(genreGateway, times(0)).existsByIds(any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -710,10 +689,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(genreGateway, times(0)).existsByIds(any());
         verify(videoGateway, times(0)).create(any());
     }
 
@@ -759,14 +736,69 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(Set.of(), expectedGenres, expectedMembers));
+
+        // when
+        final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
+
+        // then
+        Assertions.assertNotNull(currentException);
+        Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
+
+        verify(videoGateway, times(1))
+                .existingRelations(eq(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers)));
+        verify(mediaResourceGateway, times(0)).storeImage(any(), any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    @Test
+    void givenAValidInput_whenCallsCreateVideoAndSomeCategoriesAndCastMembersDoesNotExists_shouldReturnAnErrorPerType() {
+        // given
+        final var moviesId = Fixture.Categories.movies().getId();
+        final var brandoId = Fixture.CastMembers.marlonBrando().getId();
 
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
+        final var expectedCategoriesError = "Some categories could not be found: %s".formatted(moviesId.getValue());
+        final var expectedMembersError = "Some cast members could not be found: %s".formatted(brandoId.getValue());
+        final var expectedErrorCount = 2;
 
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        final var expectedTitle = Fixture.title();
+        final var expectedDescription = Fixture.Videos.description();
+        final var expectedLaunchYear = Fixture.year();
+        final var expectedDuration = Fixture.duration();
+        final var expectedOpened = Fixture.bool();
+        final var expectedPublished = Fixture.bool();
+        final var expectedRating = Fixture.Videos.rating();
+        final var expectedCategories = Set.of(moviesId);
+        final var expectedGenres = Set.of(Fixture.Genres.crime().getId());
+        final var expectedMembers = Set.of(brandoId);
+        final Resource expectedVideo = null;
+        final Resource expectedTrailer = null;
+        final Resource expectedBanner = null;
+        final Resource expectedThumb = null;
+        final Resource expectedThumbHalf = null;
+
+        final var anInput = CreateVideoInput.with(
+                expectedTitle,
+                expectedDescription,
+                expectedLaunchYear,
+                expectedDuration,
+                expectedOpened,
+                expectedPublished,
+                expectedRating.getName(),
+                asString(expectedCategories),
+                asString(expectedGenres),
+                asString(expectedMembers),
+                expectedVideo,
+                expectedTrailer,
+                expectedBanner,
+                expectedThumb,
+                expectedThumbHalf
+        );
+
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(Set.of(), expectedGenres, Set.of()));
 
         // when
         final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
@@ -774,11 +806,11 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         // then
         Assertions.assertNotNull(currentException);
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
-        Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
+        Assertions.assertEquals(expectedCategoriesError, currentException.getErrors().get(0).message());
+        Assertions.assertEquals(expectedMembersError, currentException.getErrors().get(1).message());
 
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedMembers));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
+        verify(videoGateway, times(1))
+                .existingRelations(eq(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers)));
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
@@ -825,14 +857,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, Set.of(), expectedMembers));
 
         // when
         final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
@@ -842,9 +868,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedMembers));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
+        verify(videoGateway, times(1))
+                .existingRelations(eq(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers)));
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
@@ -891,14 +916,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, Set.of()));
 
         // when
         final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
@@ -908,9 +927,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedMembers));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
+        verify(videoGateway, times(1))
+                .existingRelations(eq(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers)));
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
@@ -957,14 +975,8 @@ class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -982,6 +994,117 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    void givenAValidInput_whenCallsCreateVideo_shouldStoreMediasConcurrently() {
+        // given
+        final var expectedMedias = 5;
+        final var storing = new CountDownLatch(expectedMedias);
+
+        final var anInput = CreateVideoInput.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VIDEO),
+                Fixture.Videos.resource(TRAILER),
+                Fixture.Videos.resource(BANNER),
+                Fixture.Videos.resource(THUMBNAIL),
+                Fixture.Videos.resource(THUMBNAIL_HALF)
+        );
+
+        when(mediaResourceGateway.storeVideo(any(), any())).thenAnswer(t -> {
+            awaitAllStoring(storing);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
+            return VideoMedia.with(resource.checksum(), resource.name(), "/video");
+        });
+
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            awaitAllStoring(storing);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
+            return ImageMedia.with(resource.checksum(), resource.name(), "/img");
+        });
+
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var currentResult = useCase.execute(anInput);
+
+        // then
+        Assertions.assertNotNull(currentResult);
+        Assertions.assertEquals(0, storing.getCount());
+
+        verify(mediaResourceGateway, times(2)).storeVideo(any(), any());
+        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+        verify(mediaResourceGateway, never()).clearResources(any());
+    }
+
+    @Test
+    void givenAValidInput_whenOneMediaStoreFails_shouldCancelTheOthersAndCallClearResources() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+        final var expectedCause = "Storage unavailable";
+        final var started = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+
+        final var anInput = CreateVideoInput.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VIDEO),
+                null,
+                Fixture.Videos.resource(BANNER),
+                null,
+                null
+        );
+
+        when(mediaResourceGateway.storeVideo(any(), any())).thenAnswer(t -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            started.await(10, TimeUnit.SECONDS);
+            throw new RuntimeException(expectedCause);
+        });
+
+        // when
+        final var currentResult = Assertions.assertThrows(InternalErrorException.class, () -> useCase.execute(anInput));
+
+        // then
+        Assertions.assertTrue(currentResult.getMessage().startsWith(expectedErrorMessage));
+        Assertions.assertEquals(expectedCause, currentResult.getCause().getMessage());
+        Assertions.assertEquals(0, interrupted.getCount());
+
+        verify(mediaResourceGateway).clearResources(any());
+        verify(videoGateway, never()).create(any());
+    }
+
+    private static void awaitAllStoring(final CountDownLatch storing) throws InterruptedException {
+        storing.countDown();
+        if (!storing.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Medias were not stored concurrently");
+        }
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
@@ -0,0 +1,137 @@
+package com.studies.catalog.admin.application.video.create;
+
+import com.studies.catalog.admin.application.UseCaseTest;
+import com.studies.catalog.admin.application.video.media.ingest.MediaIngestOutput;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.video.MediaIngest;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoResource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static com.studies.catalog.admin.domain.video.VideoMediaType.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CreateVideoWithIngestUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private CreateVideoWithIngestUseCaseImpl useCase;
+
+    @Mock
+    private MediaIngestGateway mediaIngestGateway;
+
+    @Mock
+    private CreateVideoUseCase createVideoUseCase;
+
+    @Mock
+    private MediaIngestGateway.Admission admission;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaIngestGateway, createVideoUseCase, admission);
+    }
+
+    @Test
+    void givenAVideoWithSomeMedias_whenCallsCreateVideoWithIngest_shouldCreateItAndSubmitEachMedia() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var aVideo = Fixture.Videos.resource(VIDEO);
+        final var aBanner = Fixture.Videos.resource(BANNER);
+
+        final var anInput = CreateVideoInput.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                aVideo,
+                null,
+                aBanner,
+                null,
+                null
+        );
+
+        when(mediaIngestGateway.admit(2)).thenReturn(admission);
+        when(createVideoUseCase.execute(any())).thenReturn(new CreateVideoOutput(expectedId.getValue()));
+        when(mediaIngestGateway.submit(any(), any(), any()))
+                .thenAnswer(invocation -> ingestOf(invocation.getArgument(1), invocation.getArgument(2)));
+
+        // when
+        final var currentOutput = this.useCase.execute(anInput);
+
+        // then
+        Assertions.assertEquals(expectedId.getValue(), currentOutput.id());
+        Assertions.assertEquals(List.of(VIDEO, BANNER), currentOutput.ingests().stream().map(MediaIngestOutput::mediaType).toList());
+
+        final var inOrder = inOrder(mediaIngestGateway, createVideoUseCase, admission);
+        inOrder.verify(mediaIngestGateway).admit(2);
+        inOrder.verify(createVideoUseCase).execute(argThat(input ->
+                input.title().equals(anInput.title()) && input.video() == null && input.banner() == null
+        ));
+        inOrder.verify(mediaIngestGateway).submit(eq(admission), eq(expectedId), eq(VideoResource.with(VIDEO, aVideo)));
+        inOrder.verify(mediaIngestGateway).submit(eq(admission), eq(expectedId), eq(VideoResource.with(BANNER, aBanner)));
+        inOrder.verify(admission).close();
+    }
+
+    @Test
+    void givenAFullIngestQueue_whenCallsCreateVideoWithIngest_shouldNotCreateTheVideo() {
+        // given
+        final var anInput = CreateVideoInput.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VIDEO),
+                null,
+                null,
+                null,
+                null
+        );
+
+        when(mediaIngestGateway.admit(1)).thenThrow(new IllegalStateException("Ingest queue is full"));
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> this.useCase.execute(anInput));
+
+        // then
+        verify(createVideoUseCase, never()).execute(any());
+        verify(mediaIngestGateway, never()).submit(any(), any(), any());
+    }
+
+    private static MediaIngest ingestOf(final VideoID anId, final VideoResource aResource) {
+        return new MediaIngest(
+                VideoID.unique().getValue(),
+                anId.getValue(),
+                aResource.type(),
+                aResource.resource().name(),
+                MediaIngestStatus.QUEUED,
+                aResource.resource().contentLength(),
+                0,
+                null,
+                Instant.now(),
+                Instant.now()
+        );
+    }
+
+}
\ No newline at end of file
@@ -41,14 +41,15 @@ class DeleteVideoUseCaseTest extends UseCaseTest {
                 .when(videoGateway).deleteById(any());
 
         doNothing()
-                .when(mediaResourceGateway).clearResources(any());
+                .when(mediaResourceGateway).scheduleClearResources(any());
 
         // when
         Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedId.getValue()));
 
         // then
         verify(videoGateway).deleteById(eq(expectedId));
-        verify(mediaResourceGateway).clearResources(eq(expectedId));
+        verify(mediaResourceGateway).scheduleClearResources(eq(expectedId));
+        verify(mediaResourceGateway, never()).clearResources(any());
     }
 
     @Test
@@ -82,5 +83,6 @@ class DeleteVideoUseCaseTest extends UseCaseTest {
 
         // then
         verify(videoGateway).deleteById(eq(expectedId));
+        verify(mediaResourceGateway, never()).scheduleClearResources(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.studies.catalog.admin.application.video.media.ingest;
+
+import com.studies.catalog.admin.application.UseCaseTest;
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.video.MediaIngest;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+class GetMediaIngestByIdUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private GetMediaIngestByIdUseCaseImpl useCase;
+
+    @Mock
+    private MediaIngestGateway mediaIngestGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaIngestGateway);
+    }
+
+    @Test
+    void givenAnExistingIngest_whenCallsGetMediaIngestById_shouldReturnIt() {
+        // given
+        final var anIngest = new MediaIngest(
+                "123",
+                "456",
+                VideoMediaType.TRAILER,
+                "trailer.mp4",
+                MediaIngestStatus.RUNNING,
+                10,
+                4,
+                null,
+                Instant.now(),
+                Instant.now()
+        );
+
+        when(mediaIngestGateway.findById(anIngest.id())).thenReturn(Optional.of(anIngest));
+
+        // when
+        final var currentOutput = this.useCase.execute(anIngest.id());
+
+        // then
+        Assertions.assertEquals(MediaIngestOutput.from(anIngest), currentOutput);
+    }
+
+    @Test
+    void givenAnUnknownIngest_whenCallsGetMediaIngestById_shouldReturnNotFound() {
+        // given
+        final var expectedErrorMessage = "Media ingest 123 was not found";
+
+        when(mediaIngestGateway.findById("123")).thenReturn(Optional.empty());
+
+        // when
+        final var currentException = Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute("123"));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getMessage());
+    }
+
+}
\ No newline at end of file
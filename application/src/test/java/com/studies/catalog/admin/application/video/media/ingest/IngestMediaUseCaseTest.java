@@ -0,0 +1,94 @@
+package com.studies.catalog.admin.application.video.media.ingest;
+
+import com.studies.catalog.admin.application.UseCaseTest;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.video.MediaIngest;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.domain.video.VideoResource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IngestMediaUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private IngestMediaUseCaseImpl useCase;
+
+    @Mock
+    private MediaIngestGateway mediaIngestGateway;
+
+    @Mock
+    private MediaIngestGateway.Admission admission;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaIngestGateway, admission);
+    }
+
+    @Test
+    void givenAValidInput_whenCallsIngestMedia_shouldSubmitItWithinAnAdmission() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = VideoResource.with(expectedType, Fixture.Videos.resource(expectedType));
+        final var anIngest = new MediaIngest(
+                "123",
+                expectedId.getValue(),
+                expectedType,
+                expectedResource.resource().name(),
+                MediaIngestStatus.QUEUED,
+                expectedResource.resource().contentLength(),
+                0,
+                null,
+                Instant.now(),
+                Instant.now()
+        );
+
+        when(mediaIngestGateway.admit(1)).thenReturn(admission);
+        when(mediaIngestGateway.submit(any(), any(), any())).thenReturn(anIngest);
+
+        // when
+        final var currentOutput = this.useCase.execute(IngestMediaInput.with(expectedId.getValue(), expectedResource));
+
+        // then
+        Assertions.assertEquals(anIngest.id(), currentOutput.id());
+        Assertions.assertEquals(expectedId.getValue(), currentOutput.videoId());
+        Assertions.assertEquals(expectedType, currentOutput.mediaType());
+        Assertions.assertEquals(MediaIngestStatus.QUEUED, currentOutput.status());
+
+        verify(mediaIngestGateway).submit(eq(admission), eq(expectedId), eq(expectedResource));
+        verify(admission).close();
+    }
+
+    @Test
+    void givenAFailingSubmit_whenCallsIngestMedia_shouldGiveTheAdmissionBack() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = VideoResource.with(expectedType, Fixture.Videos.resource(expectedType));
+
+        when(mediaIngestGateway.admit(1)).thenReturn(admission);
+        when(mediaIngestGateway.submit(any(), any(), any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        // when
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> this.useCase.execute(IngestMediaInput.with(expectedId.getValue(), expectedResource))
+        );
+
+        // then
+        verify(admission).close();
+    }
+
+}
\ No newline at end of file
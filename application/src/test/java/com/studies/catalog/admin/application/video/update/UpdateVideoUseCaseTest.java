@@ -2,14 +2,11 @@ package com.studies.catalog.admin.application.video.update;
 
 import com.studies.catalog.admin.application.UseCaseTest;
 import com.studies.catalog.admin.domain.Fixture;
-import com.studies.catalog.admin.domain.castmember.CastMemberGateway;
 import com.studies.catalog.admin.domain.castmember.CastMemberID;
-import com.studies.catalog.admin.domain.category.CategoryGateway;
 import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.exceptions.DomainException;
 import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
 import com.studies.catalog.admin.domain.exceptions.NotificationException;
-import com.studies.catalog.admin.domain.genre.GenreGateway;
 import com.studies.catalog.admin.domain.genre.GenreID;
 import com.studies.catalog.admin.domain.video.*;
 import org.junit.jupiter.api.Assertions;
@@ -33,21 +30,12 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private VideoGateway videoGateway;
 
-    @Mock
-    private CategoryGateway categoryGateway;
-
-    @Mock
-    private GenreGateway genreGateway;
-
-    @Mock
-    private CastMemberGateway castMemberGateway;
-
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, mediaResourceGateway);
     }
 
     @Test
@@ -96,14 +84,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -187,11 +169,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(Set.of(), expectedGenres, expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -275,11 +254,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, Set.of(), expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -360,11 +336,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, Set.of()));
 
         mockImageMedia();
         mockVideoMedia();
@@ -448,14 +421,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers));
 
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
@@ -546,9 +513,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
 
         verify(videoGateway).findById(eq(aVideo.getId()));
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
@@ -609,9 +574,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
 
         verify(videoGateway).findById(eq(aVideo.getId()));
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
@@ -672,9 +635,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
 
         verify(videoGateway).findById(eq(aVideo.getId()));
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
@@ -735,9 +696,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
 
         verify(videoGateway).findById(eq(aVideo.getId()));
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
@@ -798,9 +757,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
 
         verify(videoGateway).findById(eq(aVideo.getId()));
 
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).existingRelations(any());
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
@@ -852,14 +809,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(Set.of(), expectedGenres, expectedMembers));
 
         // when
         final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
@@ -869,9 +820,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedMembers));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
+        verify(videoGateway, times(1))
+                .existingRelations(eq(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers)));
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
@@ -923,14 +873,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, Set.of(), expectedMembers));
 
         // when
         final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
@@ -940,9 +884,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedMembers));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
+        verify(videoGateway, times(1))
+                .existingRelations(eq(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers)));
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
@@ -994,14 +937,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, Set.of()));
 
         // when
         final var currentException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(anInput));
@@ -1011,9 +948,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
 
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedMembers));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
+        verify(videoGateway, times(1))
+                .existingRelations(eq(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers)));
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
         verify(videoGateway, times(0)).create(any());
     }
@@ -1065,14 +1001,8 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedMembers));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoGateway.existingRelations(any()))
+                .thenReturn(VideoRelations.with(expectedCategories, expectedGenres, expectedMembers));
 
         mockImageMedia();
         mockVideoMedia();
@@ -2,6 +2,8 @@ package com.studies.catalog.admin.domain.category;
 
 import com.studies.catalog.admin.domain.pagination.Pagination;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.Suggestion;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,5 +16,6 @@ public interface CategoryGateway {
     Category update(Category aCategory);
     void deleteById(CategoryID anId);
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
+    List<Suggestion> suggest(SuggestQuery aQuery);
 
 }
@@ -2,6 +2,8 @@ package com.studies.catalog.admin.domain.genre;
 
 import com.studies.catalog.admin.domain.pagination.Pagination;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.Suggestion;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,4 +22,6 @@ public interface GenreGateway {
 
     List<GenreID> existsByIds(Iterable<GenreID> ids);
 
+    List<Suggestion> suggest(SuggestQuery aQuery);
+
 }
\ No newline at end of file
@@ -3,14 +3,58 @@ package com.studies.catalog.admin.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
-public record Pagination<GenericType>(int currentPage, int perPage, long total, List<GenericType> items) {
+public record Pagination<GenericType>(
+        int currentPage,
+        int perPage,
+        long total,
+        List<GenericType> items,
+        String nextCursor,
+        String previousCursor,
+        TotalMode totalMode,
+        boolean hasNext
+) {
+
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<GenericType> items) {
+        this(currentPage, perPage, total, items, null, null);
+    }
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<GenericType> items,
+            final String nextCursor,
+            final String previousCursor
+    ) {
+        this(
+                currentPage,
+                perPage,
+                total,
+                items,
+                nextCursor,
+                previousCursor,
+                TotalMode.EXACT,
+                (long) (currentPage + 1) * perPage < total
+        );
+    }
 
     public <GenericResult> Pagination<GenericResult> map(final Function<GenericType, GenericResult> mapper) {
         final List<GenericResult> aNewList = this.items.stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(
+                currentPage(),
+                perPage(),
+                total(),
+                aNewList,
+                nextCursor(),
+                previousCursor(),
+                totalMode(),
+                hasNext()
+        );
     }
 
 }
\ No newline at end of file
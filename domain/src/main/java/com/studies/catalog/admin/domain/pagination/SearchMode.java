@@ -0,0 +1,20 @@
+package com.studies.catalog.admin.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum SearchMode {
+    CONTAINS,
+    NATURAL,
+    BOOLEAN;
+
+    public static Optional<SearchMode> of(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+
+    public boolean isFullText() {
+        return this != CONTAINS;
+    }
+}
\ No newline at end of file
@@ -1,3 +1,28 @@
 package com.studies.catalog.admin.domain.pagination;
 
-public record SearchQuery(int page, int perPage, String terms, String sort, String direction) {}
\ No newline at end of file
+public record SearchQuery(
+        int page,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        TotalMode totalMode,
+        SearchMode searchMode
+) {
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, TotalMode.EXACT);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final TotalMode totalMode
+    ) {
+        this(page, perPage, terms, sort, direction, totalMode, SearchMode.CONTAINS);
+    }
+
+}
\ No newline at end of file
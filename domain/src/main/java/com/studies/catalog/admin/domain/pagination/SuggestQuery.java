@@ -0,0 +1,4 @@
+package com.studies.catalog.admin.domain.pagination;
+
+public record SuggestQuery(String terms, int limit) {
+}
\ No newline at end of file
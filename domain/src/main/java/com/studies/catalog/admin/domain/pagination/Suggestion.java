@@ -0,0 +1,4 @@
+package com.studies.catalog.admin.domain.pagination;
+
+public record Suggestion(String id, String name) {
+}
\ No newline at end of file
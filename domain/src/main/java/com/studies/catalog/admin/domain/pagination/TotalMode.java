@@ -0,0 +1,16 @@
+package com.studies.catalog.admin.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum TotalMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static Optional<TotalMode> of(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.studies.catalog.admin.domain.upload;
+
+import com.studies.catalog.admin.domain.ValueObject;
+
+import java.util.Objects;
+
+public class UploadChunk extends ValueObject {
+
+    private final long offset;
+    private final long size;
+    private final String checksum;
+
+    private UploadChunk(final long offset, final long size, final String checksum) {
+        this.offset = offset;
+        this.size = size;
+        this.checksum = Objects.requireNonNull(checksum);
+    }
+
+    public static UploadChunk with(final long offset, final long size, final String checksum) {
+        return new UploadChunk(offset, size, checksum);
+    }
+
+    public long offset() {
+        return offset;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long end() {
+        return offset + size;
+    }
+
+    public String checksum() {
+        return checksum;
+    }
+
+    public boolean overlaps(final UploadChunk other) {
+        return this.offset < other.end() && other.offset < this.end();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final UploadChunk that = (UploadChunk) o;
+        return offset == that.offset && size == that.size && Objects.equals(checksum, that.checksum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, size, checksum);
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.studies.catalog.admin.domain.upload;
+
+import com.studies.catalog.admin.domain.AggregateRoot;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
+import com.studies.catalog.admin.domain.utils.InstantUtils;
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.validation.ValidationHandler;
+import com.studies.catalog.admin.domain.validation.handler.Notification;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+public class UploadSession extends AggregateRoot<UploadSessionID> {
+
+    private final VideoID videoId;
+    private final VideoMediaType mediaType;
+    private final String name;
+    private final String contentType;
+    private final long totalSize;
+    private final TreeMap<Long, UploadChunk> chunks;
+    private UploadSessionStatus status;
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    protected UploadSession(
+            final UploadSessionID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aTotalSize,
+            final Collection<UploadChunk> aChunks,
+            final UploadSessionStatus aStatus,
+            final Instant aCreationDate,
+            final Instant anUpdateDate
+    ) {
+        super(anId);
+        this.videoId = aVideoId;
+        this.mediaType = aMediaType;
+        this.name = aName;
+        this.contentType = aContentType;
+        this.totalSize = aTotalSize;
+        this.chunks = new TreeMap<>();
+        this.status = aStatus;
+        this.createdAt = aCreationDate;
+        this.updatedAt = anUpdateDate;
+
+        if (aChunks != null) {
+            aChunks.forEach(it -> this.chunks.put(it.offset(), it));
+        }
+
+        selfValidate();
+    }
+
+    public static UploadSession newSession(
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aTotalSize
+    ) {
+        final var now = InstantUtils.now();
+        return new UploadSession(
+                UploadSessionID.unique(),
+                aVideoId,
+                aMediaType,
+                aName,
+                aContentType,
+                aTotalSize,
+                List.of(),
+                UploadSessionStatus.IN_PROGRESS,
+                now,
+                now
+        );
+    }
+
+    public static UploadSession with(
+            final UploadSessionID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aTotalSize,
+            final Collection<UploadChunk> aChunks,
+            final UploadSessionStatus aStatus,
+            final Instant aCreationDate,
+            final Instant anUpdateDate
+    ) {
+        return new UploadSession(
+                anId,
+                aVideoId,
+                aMediaType,
+                aName,
+                aContentType,
+                aTotalSize,
+                aChunks,
+                aStatus,
+                aCreationDate,
+                anUpdateDate
+        );
+    }
+
+    public void checkAcceptsChunk(final long anOffset, final long aSize) {
+        if (this.status != UploadSessionStatus.IN_PROGRESS) {
+            throw NotificationException.with(new Error("Upload session %s is already completed".formatted(getId().getValue())));
+        }
+
+        if (anOffset < 0 || aSize <= 0 || anOffset + aSize > this.totalSize) {
+            throw NotificationException.with(new Error(
+                    "Chunk [%d, %d) is outside of the upload size %d".formatted(anOffset, anOffset + aSize, this.totalSize)
+            ));
+        }
+
+        final var candidate = UploadChunk.with(anOffset, aSize, "");
+        this.chunks.values().stream()
+                .filter(it -> it.offset() != anOffset)
+                .filter(candidate::overlaps)
+                .findFirst()
+                .ifPresent(it -> {
+                    throw NotificationException.with(new Error(
+                            "Chunk [%d, %d) overlaps the received chunk [%d, %d)".formatted(anOffset, candidate.end(), it.offset(), it.end())
+                    ));
+                });
+    }
+
+    public UploadSession receiveChunk(final UploadChunk aChunk) {
+        checkAcceptsChunk(aChunk.offset(), aChunk.size());
+        this.chunks.put(aChunk.offset(), aChunk);
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public UploadSession complete() {
+        if (this.status == UploadSessionStatus.COMPLETED) {
+            return this;
+        }
+
+        if (!isFullyReceived()) {
+            throw NotificationException.with(new Error(
+                    "Upload session %s is missing %d bytes".formatted(getId().getValue(), missingBytes())
+            ));
+        }
+
+        this.status = UploadSessionStatus.COMPLETED;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public long receivedBytes() {
+        return this.chunks.values().stream()
+                .mapToLong(UploadChunk::size)
+                .sum();
+    }
+
+    public long missingBytes() {
+        return this.totalSize - receivedBytes();
+    }
+
+    public boolean isFullyReceived() {
+        return missingBytes() == 0;
+    }
+
+    public boolean isCompleted() {
+        return this.status == UploadSessionStatus.COMPLETED;
+    }
+
+    public VideoID getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public List<UploadChunk> getChunks() {
+        return List.copyOf(this.chunks.values());
+    }
+
+    public UploadSessionStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+        validate(notification);
+
+        if (notification.hasError())
+            throw new NotificationException("Failed to create an Aggregate UploadSession", notification);
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new UploadSessionValidator(this, aHandler).validate();
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.studies.catalog.admin.domain.upload;
+
+import java.util.Optional;
+
+public interface UploadSessionGateway {
+
+    UploadSession create(UploadSession aSession);
+
+    Optional<UploadSession> findById(UploadSessionID anId);
+
+    UploadSession update(UploadSession aSession);
+
+    void saveChunk(UploadSessionID anId, UploadChunk aChunk);
+
+    void deleteById(UploadSessionID anId);
+
+}
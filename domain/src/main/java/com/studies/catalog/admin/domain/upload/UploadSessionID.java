@@ -0,0 +1,42 @@
+package com.studies.catalog.admin.domain.upload;
+
+import com.studies.catalog.admin.domain.Identifier;
+import com.studies.catalog.admin.domain.utils.IdUtils;
+
+import java.util.Objects;
+
+public class UploadSessionID extends Identifier {
+
+    private final String value;
+
+    private UploadSessionID(final String value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public static UploadSessionID from(final String anId) {
+        return new UploadSessionID(anId.toLowerCase());
+    }
+
+    public static UploadSessionID unique() {
+        return UploadSessionID.from(IdUtils.uuid());
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final UploadSessionID that = (UploadSessionID) o;
+        return getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.studies.catalog.admin.domain.upload;
+
+public enum UploadSessionStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
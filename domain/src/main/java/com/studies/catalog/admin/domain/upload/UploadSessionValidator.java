@@ -0,0 +1,69 @@
+package com.studies.catalog.admin.domain.upload;
+
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.validation.ValidationHandler;
+import com.studies.catalog.admin.domain.validation.Validator;
+
+public class UploadSessionValidator extends Validator {
+
+    private static final int NAME_MAX_LENGTH = 255;
+
+    private final UploadSession session;
+
+    public UploadSessionValidator(final UploadSession aSession, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.session = aSession;
+    }
+
+    @Override
+    public void validate() {
+        checkVideoConstraints();
+        checkMediaTypeConstraints();
+        checkNameConstraints();
+        checkContentTypeConstraints();
+        checkTotalSizeConstraints();
+    }
+
+    private void checkVideoConstraints() {
+        if (this.session.getVideoId() == null) {
+            this.validationHandler().append(new Error("'videoId' should not be null"));
+        }
+    }
+
+    private void checkMediaTypeConstraints() {
+        if (this.session.getMediaType() == null) {
+            this.validationHandler().append(new Error("'mediaType' should not be null"));
+        }
+    }
+
+    private void checkNameConstraints() {
+        final var name = this.session.getName();
+        if (name == null) {
+            this.validationHandler().append(new Error("'name' should not be null"));
+            return;
+        }
+
+        if (name.isBlank()) {
+            this.validationHandler().append(new Error("'name' should not be empty"));
+            return;
+        }
+
+        if (name.trim().length() > NAME_MAX_LENGTH) {
+            this.validationHandler().append(new Error("'name' must be between 1 and 255 characters"));
+        }
+    }
+
+    private void checkContentTypeConstraints() {
+        final var contentType = this.session.getContentType();
+        if (contentType == null || contentType.isBlank()) {
+            this.validationHandler().append(new Error("'contentType' should not be empty"));
+        }
+    }
+
+    private void checkTotalSizeConstraints() {
+        if (this.session.getTotalSize() <= 0) {
+            this.validationHandler().append(new Error("'totalSize' should be greater than zero"));
+        }
+    }
+
+}
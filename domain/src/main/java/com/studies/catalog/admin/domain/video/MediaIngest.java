@@ -0,0 +1,17 @@
+package com.studies.catalog.admin.domain.video;
+
+import java.time.Instant;
+
+public record MediaIngest(
+        String id,
+        String videoId,
+        VideoMediaType mediaType,
+        String name,
+        MediaIngestStatus status,
+        long totalBytes,
+        long transferredBytes,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
\ No newline at end of file
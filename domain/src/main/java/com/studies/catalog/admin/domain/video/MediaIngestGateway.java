@@ -0,0 +1,20 @@
+package com.studies.catalog.admin.domain.video;
+
+import java.util.Optional;
+
+public interface MediaIngestGateway {
+
+    Admission admit(int jobs);
+
+    MediaIngest submit(Admission anAdmission, VideoID anId, VideoResource aResource);
+
+    Optional<MediaIngest> findById(String anId);
+
+    // Reserves room for several jobs up front, whatever was not submitted is given back on close
+    interface Admission extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+}
\ No newline at end of file
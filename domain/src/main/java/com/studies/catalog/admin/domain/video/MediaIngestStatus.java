@@ -0,0 +1,8 @@
+package com.studies.catalog.admin.domain.video;
+
+public enum MediaIngestStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,5 +1,7 @@
 package com.studies.catalog.admin.domain.video;
 
+import com.studies.catalog.admin.domain.upload.UploadSession;
+
 import java.util.Optional;
 
 public interface MediaResourceGateway {
@@ -12,4 +14,14 @@ public interface MediaResourceGateway {
 
     void clearResources(VideoID anId);
 
-}
\ No newline at end of file
+    void scheduleClearResources(VideoID anId);
+
+    boolean storeChunk(UploadSession aSession, long anOffset, Resource aResource, String anExpectedChecksum);
+
+    Resource assembleChunks(UploadSession aSession);
+
+    void clearChunks(UploadSession aSession);
+
+    void scheduleClearChunks(UploadSession aSession);
+
+}
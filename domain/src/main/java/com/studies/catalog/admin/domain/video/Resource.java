@@ -1,35 +1,107 @@
 package com.studies.catalog.admin.domain.video;
 
 import com.studies.catalog.admin.domain.ValueObject;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public class Resource extends ValueObject {
 
-    private final byte[] content;
-    private final String checksum;
+    private final Content content;
+    private final long contentLength;
+    private final Supplier<String> checksum;
     private final String contentType;
     private final String name;
 
-    private Resource(final byte[] content, final String checksum, final String contentType, final String name) {
+    private Resource(
+            final Content content,
+            final long contentLength,
+            final Supplier<String> checksum,
+            final String contentType,
+            final String name
+    ) {
         this.content = Objects.requireNonNull(content);
+        this.contentLength = contentLength;
         this.checksum = Objects.requireNonNull(checksum);
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final byte[] content, final String checksum, final String contentType, final String name) {
-        return new Resource(content, checksum, contentType, name);
+        Objects.requireNonNull(checksum);
+        return new Resource(new BytesContent(content), content.length, () -> checksum, contentType, name);
+    }
+
+    public static Resource with(
+            final Content content,
+            final long contentLength,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        Objects.requireNonNull(checksum);
+        return new Resource(content, contentLength, () -> checksum, contentType, name);
+    }
+
+    public static Resource with(
+            final Content content,
+            final long contentLength,
+            final Supplier<String> checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(content, contentLength, checksum, contentType, name);
     }
 
     public String checksum() {
-        return checksum;
+        final var aChecksum = this.checksum.get();
+        if (aChecksum == null) {
+            throw new IllegalStateException("Checksum of resource %s is only available after its content is read".formatted(name));
+        }
+        return aChecksum;
     }
 
-    public byte[] content() {
+    public Optional<String> knownChecksum() {
+        return Optional.ofNullable(this.checksum.get());
+    }
+
+    public InputStream openStream() throws IOException {
+        return content.open();
+    }
+
+    public InputStream openStream(final long offset, final long length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > contentLength) {
+            throw new IllegalArgumentException("Range [%d, %d) is outside of resource %s".formatted(offset, offset + length, name));
+        }
+        return content.open(offset, length);
+    }
+
+    public Content contentSupplier() {
         return content;
     }
 
+    public long contentLength() {
+        return contentLength;
+    }
+
+    public byte[] content() {
+        if (this.content instanceof BytesContent bytes) {
+            return bytes.value();
+        }
+
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read the content of resource %s".formatted(name), e);
+        }
+    }
+
     public String contentType() {
         return contentType;
     }
@@ -38,4 +110,112 @@ public class Resource extends ValueObject {
         return name;
     }
 
-}
\ No newline at end of file
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Resource that = (Resource) o;
+
+        return contentLength == that.contentLength
+                && sameChecksum(that)
+                && Objects.equals(contentType, that.contentType)
+                && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentLength, contentType, name);
+    }
+
+    private boolean sameChecksum(final Resource that) {
+        final var aChecksum = this.checksum.get();
+        final var otherChecksum = that.checksum.get();
+
+        // A checksum that was not read yet can only be compared by its supplier
+        if (aChecksum == null || otherChecksum == null) {
+            return this.checksum == that.checksum;
+        }
+        return aChecksum.equals(otherChecksum);
+    }
+
+    @FunctionalInterface
+    public interface Content {
+
+        InputStream open() throws IOException;
+
+        default InputStream open(final long offset, final long length) throws IOException {
+            final var in = open();
+            in.skipNBytes(offset);
+            return new RangeInputStream(in, length);
+        }
+    }
+
+    private record BytesContent(byte[] value) implements Content {
+
+        private BytesContent {
+            Objects.requireNonNull(value);
+        }
+
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            return new ByteArrayInputStream(value, (int) offset, (int) length);
+        }
+    }
+
+    private static class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private RangeInputStream(final InputStream in, final long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read != -1) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+}
@@ -16,4 +16,6 @@ public interface VideoGateway {
 
     void deleteById(VideoID anId);
 
+    VideoRelations existingRelations(VideoRelations aRelations);
+
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.studies.catalog.admin.domain.video;
+
+import com.studies.catalog.admin.domain.castmember.CastMemberID;
+import com.studies.catalog.admin.domain.category.CategoryID;
+import com.studies.catalog.admin.domain.genre.GenreID;
+
+import java.util.Set;
+
+public record VideoRelations(
+        Set<CategoryID> categories,
+        Set<GenreID> genres,
+        Set<CastMemberID> members
+) {
+
+    public VideoRelations {
+        categories = categories != null ? Set.copyOf(categories) : Set.of();
+        genres = genres != null ? Set.copyOf(genres) : Set.of();
+        members = members != null ? Set.copyOf(members) : Set.of();
+    }
+
+    public static VideoRelations with(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        return new VideoRelations(categories, genres, members);
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && genres.isEmpty() && members.isEmpty();
+    }
+}
\ No newline at end of file
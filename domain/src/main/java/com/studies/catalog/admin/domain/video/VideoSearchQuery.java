@@ -3,9 +3,12 @@ package com.studies.catalog.admin.domain.video;
 import com.studies.catalog.admin.domain.castmember.CastMemberID;
 import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.genre.GenreID;
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
 
 import java.util.Set;
 
+// A null cursor keeps offset paging by page, an empty one starts keyset paging from the first page
 public record VideoSearchQuery(
         int page,
         int perPage,
@@ -14,6 +17,56 @@ public record VideoSearchQuery(
         String direction,
         Set<CastMemberID> castMembers,
         Set<CategoryID> categories,
-        Set<GenreID> genres
+        Set<GenreID> genres,
+        String cursor,
+        TotalMode totalMode,
+        SearchMode searchMode
 ) {
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, cursor, TotalMode.EXACT);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final String cursor,
+            final TotalMode totalMode
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, cursor, totalMode, SearchMode.CONTAINS);
+    }
+
+    public boolean isKeyset() {
+        return this.cursor != null;
+    }
+
 }
\ No newline at end of file
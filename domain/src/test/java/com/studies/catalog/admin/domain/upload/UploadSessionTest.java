@@ -0,0 +1,148 @@
+package com.studies.catalog.admin.domain.upload;
+
+import com.studies.catalog.admin.domain.UnitTest;
+import com.studies.catalog.admin.domain.exceptions.DomainException;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class UploadSessionTest extends UnitTest {
+
+    @Test
+    void givenValidParams_whenCallsNewSession_shouldInstantiateIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "video.mp4";
+        final var expectedContentType = "video/mp4";
+        final var expectedTotalSize = 1024L;
+
+        // when
+        final var currentSession = UploadSession.newSession(
+                expectedVideoId, expectedType, expectedName, expectedContentType, expectedTotalSize
+        );
+
+        // then
+        Assertions.assertNotNull(currentSession);
+        Assertions.assertNotNull(currentSession.getId());
+        Assertions.assertEquals(expectedVideoId, currentSession.getVideoId());
+        Assertions.assertEquals(expectedType, currentSession.getMediaType());
+        Assertions.assertEquals(expectedName, currentSession.getName());
+        Assertions.assertEquals(expectedContentType, currentSession.getContentType());
+        Assertions.assertEquals(expectedTotalSize, currentSession.getTotalSize());
+        Assertions.assertEquals(UploadSessionStatus.IN_PROGRESS, currentSession.getStatus());
+        Assertions.assertTrue(currentSession.getChunks().isEmpty());
+        Assertions.assertEquals(0, currentSession.receivedBytes());
+        Assertions.assertNotNull(currentSession.getCreatedAt());
+        Assertions.assertNotNull(currentSession.getUpdatedAt());
+    }
+
+    @Test
+    void givenInvalidTotalSize_whenCallsNewSession_shouldReceiveNotification() {
+        // given
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'totalSize' should be greater than zero";
+
+        // when
+        final var currentException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 0)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorCount, currentException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenChunksOutOfOrder_whenCallsComplete_shouldCompleteWhenAllBytesArrived() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+
+        // when
+        aSession.receiveChunk(UploadChunk.with(6, 4, "c"));
+        aSession.receiveChunk(UploadChunk.with(0, 3, "a"));
+
+        Assertions.assertEquals(3, aSession.missingBytes());
+        Assertions.assertThrows(DomainException.class, aSession::complete);
+
+        aSession.receiveChunk(UploadChunk.with(3, 3, "b"));
+        aSession.complete();
+
+        // then
+        Assertions.assertEquals(10, aSession.receivedBytes());
+        Assertions.assertEquals(0, aSession.getChunks().get(0).offset());
+        Assertions.assertEquals(6, aSession.getChunks().get(2).offset());
+        Assertions.assertEquals(UploadSessionStatus.COMPLETED, aSession.getStatus());
+    }
+
+    @Test
+    void givenAResentChunk_whenCallsReceiveChunk_shouldReplaceIt() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        aSession.receiveChunk(UploadChunk.with(0, 4, "a"));
+
+        // when
+        aSession.receiveChunk(UploadChunk.with(0, 5, "b"));
+
+        // then
+        Assertions.assertEquals(1, aSession.getChunks().size());
+        Assertions.assertEquals(5, aSession.receivedBytes());
+        Assertions.assertEquals("b", aSession.getChunks().get(0).checksum());
+    }
+
+    @Test
+    void givenOverlappingChunk_whenCallsReceiveChunk_shouldReceiveError() {
+        // given
+        final var expectedErrorMessage = "Chunk [2, 6) overlaps the received chunk [0, 4)";
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        aSession.receiveChunk(UploadChunk.with(0, 4, "a"));
+
+        // when
+        final var currentException = Assertions.assertThrows(
+                DomainException.class,
+                () -> aSession.receiveChunk(UploadChunk.with(2, 4, "b"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenChunkBeyondTotalSize_whenCallsReceiveChunk_shouldReceiveError() {
+        // given
+        final var expectedErrorMessage = "Chunk [8, 12) is outside of the upload size 10";
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+
+        // when
+        final var currentException = Assertions.assertThrows(
+                DomainException.class,
+                () -> aSession.receiveChunk(UploadChunk.with(8, 4, "a"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenCompletedSession_whenCallsReceiveChunk_shouldReceiveError() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 4);
+        aSession.receiveChunk(UploadChunk.with(0, 4, "a"));
+        aSession.complete();
+
+        final var expectedErrorMessage = "Upload session %s is already completed".formatted(aSession.getId().getValue());
+
+        // when
+        final var currentException = Assertions.assertThrows(
+                DomainException.class,
+                () -> aSession.receiveChunk(UploadChunk.with(0, 4, "a"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getErrors().get(0).message());
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.studies.catalog.admin.domain.video;
+
+import com.studies.catalog.admin.domain.UnitTest;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ResourceTest extends UnitTest {
+
+    @Test
+    void givenByteContent_whenCallsWith_ShouldReturnInstance() throws IOException {
+        // given
+        final var expectedContent = "Content".getBytes();
+        final var expectedChecksum = "abc";
+        final var expectedContentType = "video/mp4";
+        final var expectedName = "video.mp4";
+
+        // when
+        final var currentResource =
+                Resource.with(expectedContent, expectedChecksum, expectedContentType, expectedName);
+
+        // then
+        Assertions.assertNotNull(currentResource);
+        Assertions.assertSame(expectedContent, currentResource.content());
+        Assertions.assertEquals(expectedContent.length, currentResource.contentLength());
+        Assertions.assertEquals(expectedChecksum, currentResource.checksum());
+        Assertions.assertEquals(expectedContentType, currentResource.contentType());
+        Assertions.assertEquals(expectedName, currentResource.name());
+        Assertions.assertArrayEquals(expectedContent, currentResource.openStream().readAllBytes());
+    }
+
+    @Test
+    void givenStreamedContent_whenCallsWith_ShouldNotOpenContentUntilRead() throws IOException {
+        // given
+        final var expectedContent = "Content".getBytes();
+        final var openings = new AtomicInteger();
+
+        // when
+        final var currentResource = Resource.with(
+                () -> {
+                    openings.incrementAndGet();
+                    return new ByteArrayInputStream(expectedContent);
+                },
+                expectedContent.length,
+                "abc",
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // then
+        Assertions.assertEquals(0, openings.get());
+        Assertions.assertEquals(expectedContent.length, currentResource.contentLength());
+        Assertions.assertArrayEquals(expectedContent, currentResource.openStream().readAllBytes());
+        Assertions.assertArrayEquals(expectedContent, currentResource.content());
+        Assertions.assertEquals(2, openings.get());
+    }
+
+    @Test
+    void givenFailingContent_whenCallsContent_ShouldThrowInternalError() {
+        // given
+        final var expectedErrorMessage = "Could not read the content of resource video.mp4";
+
+        final var currentResource = Resource.with(
+                () -> {
+                    throw new IOException("closed");
+                },
+                10,
+                "abc",
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // when
+        final var currentException =
+                Assertions.assertThrows(InternalErrorException.class, currentResource::content);
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getMessage());
+    }
+
+    @Test
+    void givenDeferredChecksum_whenCallsChecksumAfterRead_ShouldReturnIt() throws IOException {
+        // given
+        final var expectedContent = "Content".getBytes();
+        final var expectedChecksum = "abc";
+        final var checksum = new AtomicReference<String>();
+
+        final var currentResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                checksum::get,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, currentResource::checksum);
+        Assertions.assertTrue(currentResource.knownChecksum().isEmpty());
+
+        currentResource.openStream().readAllBytes();
+        checksum.set(expectedChecksum);
+
+        // then
+        Assertions.assertEquals(expectedChecksum, currentResource.checksum());
+        Assertions.assertEquals(expectedChecksum, currentResource.knownChecksum().get());
+    }
+
+    @Test
+    void givenStreamedContent_whenCallsOpenStreamWithRange_ShouldReadOnlyTheRange() throws IOException {
+        // given
+        final var expectedContent = "Content".getBytes();
+
+        final var bytesResource = Resource.with(expectedContent, "abc", "video/mp4", "video.mp4");
+        final var streamedResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "abc",
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // when
+        final var currentBytesRange = bytesResource.openStream(1, 3).readAllBytes();
+        final var currentStreamedRange = streamedResource.openStream(1, 3).readAllBytes();
+
+        // then
+        Assertions.assertArrayEquals("ont".getBytes(), currentBytesRange);
+        Assertions.assertArrayEquals("ont".getBytes(), currentStreamedRange);
+    }
+
+    @Test
+    void givenARangeOutsideOfContent_whenCallsOpenStreamWithRange_ShouldThrowIllegalArgument() {
+        // given
+        final var expectedErrorMessage = "Range [5, 10) is outside of resource video.mp4";
+        final var currentResource = Resource.with("Content".getBytes(), "abc", "video/mp4", "video.mp4");
+
+        // when
+        final var currentException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> currentResource.openStream(5, 5)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, currentException.getMessage());
+    }
+
+    @Test
+    void givenTwoResourcesWithSameMetadata_whenCallsEquals_ShouldReturnTrue() {
+        // given
+        final var content = "Content".getBytes();
+
+        final var res1 = Resource.with(content, "abc", "video/mp4", "video.mp4");
+        final var res2 = Resource.with(() -> new ByteArrayInputStream(content), content.length, "abc", "video/mp4", "video.mp4");
+
+        // then
+        Assertions.assertEquals(res1, res2);
+        Assertions.assertNotSame(res1, res2);
+    }
+
+    @Test
+    void givenUnreadDeferredChecksums_whenCallsEquals_ShouldCompareWithoutThrowing() {
+        // given
+        final var content = "Content".getBytes();
+        final var checksum = new AtomicReference<String>();
+        final var otherChecksum = new AtomicReference<String>();
+
+        final var res1 = Resource.with(() -> new ByteArrayInputStream(content), content.length, checksum::get, "video/mp4", "video.mp4");
+        final var res2 = Resource.with(() -> new ByteArrayInputStream(content), content.length, otherChecksum::get, "video/mp4", "video.mp4");
+
+        // then
+        Assertions.assertEquals(res1, res1);
+        Assertions.assertNotEquals(res1, res2);
+        Assertions.assertEquals(res1.hashCode(), res2.hashCode());
+
+        checksum.set("abc");
+        otherChecksum.set("abc");
+
+        Assertions.assertEquals(res1, res2);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.studies.catalog.admin.infrastructure.services;
+
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.services.impl.FileSystemStorageService;
+import com.studies.catalog.admin.infrastructure.services.impl.FileSystemStorageService.FsyncPolicy;
+import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageServiceBenchmark {
+
+    private static final String ID = "videoId-benchmark/type-VIDEO";
+
+    @Param({"in-memory", "filesystem-none", "filesystem-file"})
+    public String store;
+
+    @Param({"1048576", "67108864"})
+    public int size;
+
+    private Path root;
+    private StorageService target;
+    private Resource resource;
+
+    @Setup
+    public void setUp() throws IOException {
+        final var content = new byte[this.size];
+        new Random(42).nextBytes(content);
+        this.resource = Resource.with(content, "benchmark", "video/mp4", "video.mp4");
+
+        this.root = Files.createTempDirectory("storage-benchmark");
+        this.target = switch (this.store) {
+            case "filesystem-none" -> new FileSystemStorageService(this.root, FsyncPolicy.NONE);
+            case "filesystem-file" -> new FileSystemStorageService(this.root, FsyncPolicy.FILE);
+            default -> new InMemoryStorageService();
+        };
+
+        this.target.store(ID, this.resource);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (final Stream<Path> files = Files.walk(this.root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(it -> it.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void store() {
+        this.target.store(ID, this.resource);
+    }
+
+    @Benchmark
+    public long get() throws IOException {
+        try (final var in = this.target.get(ID).orElseThrow().openStream()) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+}
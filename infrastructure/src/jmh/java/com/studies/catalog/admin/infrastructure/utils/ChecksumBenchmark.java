@@ -0,0 +1,83 @@
+package com.studies.catalog.admin.infrastructure.utils;
+
+import com.google.common.hash.Hashing;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChecksumBenchmark {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    @Param({"1048576", "67108864", "1073741824", "4294967296"})
+    public long size;
+
+    private byte[] block;
+
+    @Setup
+    public void setUp() {
+        this.block = new byte[BLOCK_SIZE];
+        new Random(42).nextBytes(this.block);
+    }
+
+    @Benchmark
+    public String guavaCrc32c() throws IOException {
+        final var hasher = Hashing.crc32c().newHasher();
+        final var buffer = new byte[BLOCK_SIZE];
+
+        try (final var in = new SyntheticInputStream(this.block, this.size)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                hasher.putBytes(buffer, 0, read);
+            }
+        }
+
+        return hasher.hash().toString();
+    }
+
+    @Benchmark
+    public String streamingCrc32c() throws IOException {
+        try (final var in = ChecksumInputStream.of(new SyntheticInputStream(this.block, this.size))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.checksum();
+        }
+    }
+
+    private static class SyntheticInputStream extends InputStream {
+
+        private final byte[] block;
+        private long remaining;
+
+        private SyntheticInputStream(final byte[] block, final long size) {
+            this.block = block;
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            return block[(int) (remaining-- % block.length)] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = (int) Math.min(Math.min(len, block.length), remaining);
+            System.arraycopy(block, 0, b, off, read);
+            remaining -= read;
+            return read;
+        }
+    }
+
+}
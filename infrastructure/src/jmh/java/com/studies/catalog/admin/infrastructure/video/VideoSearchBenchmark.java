@@ -0,0 +1,161 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// Former DISTINCT over left joins against the semi-join filters, on H2 in MySQL mode
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VideoSearchBenchmark {
+
+    private static final String DISTINCT_JOINS = """
+            SELECT DISTINCT v.id, v.title, v.description, v.created_at, v.updated_at
+            FROM videos v
+                LEFT JOIN video_cast_members m ON m.video_id = v.id
+                LEFT JOIN video_categories c ON c.video_id = v.id
+                LEFT JOIN video_genres g ON g.video_id = v.id
+            WHERE c.category_id IN ('c1', 'c2') AND g.genre_id IN ('g1')
+            ORDER BY v.title ASC
+            LIMIT 25
+            """;
+
+    private static final String COUNT_DISTINCT_JOINS = """
+            SELECT COUNT(DISTINCT v.id)
+            FROM videos v
+                LEFT JOIN video_cast_members m ON m.video_id = v.id
+                LEFT JOIN video_categories c ON c.video_id = v.id
+                LEFT JOIN video_genres g ON g.video_id = v.id
+            WHERE c.category_id IN ('c1', 'c2') AND g.genre_id IN ('g1')
+            """;
+
+    private static final String SEMI_JOINS = """
+            SELECT v.id, v.title, v.description, v.created_at, v.updated_at
+            FROM videos v
+            WHERE EXISTS (SELECT c.video_id FROM video_categories c WHERE c.video_id = v.id AND c.category_id IN ('c1', 'c2'))
+            AND EXISTS (SELECT g.video_id FROM video_genres g WHERE g.video_id = v.id AND g.genre_id IN ('g1'))
+            ORDER BY v.title ASC, v.id ASC
+            LIMIT 26
+            """;
+
+    private static final String COUNT_SEMI_JOINS = """
+            SELECT COUNT(v.id)
+            FROM videos v
+            WHERE EXISTS (SELECT c.video_id FROM video_categories c WHERE c.video_id = v.id AND c.category_id IN ('c1', 'c2'))
+            AND EXISTS (SELECT g.video_id FROM video_genres g WHERE g.video_id = v.id AND g.genre_id IN ('g1'))
+            """;
+
+    @Param({"100000", "1000000"})
+    public int videos;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:video_search;MODE=MYSQL;DATABASE_TO_LOWER=TRUE");
+
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE videos (
+                        id CHAR(32) NOT NULL PRIMARY KEY,
+                        title VARCHAR(255) NOT NULL,
+                        description VARCHAR(4000) NOT NULL,
+                        created_at DATETIME(6) NOT NULL,
+                        updated_at DATETIME(6) NOT NULL
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE video_categories (
+                        video_id CHAR(32) NOT NULL,
+                        category_id CHAR(32) NOT NULL,
+                        CONSTRAINT idx_vcs_video_category UNIQUE (video_id, category_id)
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE video_genres (
+                        video_id CHAR(32) NOT NULL,
+                        genre_id CHAR(32) NOT NULL,
+                        CONSTRAINT idx_vgs_video_genre UNIQUE (video_id, genre_id)
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE video_cast_members (
+                        video_id CHAR(32) NOT NULL,
+                        cast_member_id CHAR(32) NOT NULL,
+                        CONSTRAINT idx_vcms_video_member UNIQUE (video_id, cast_member_id)
+                    )
+                    """);
+
+            statement.execute("CREATE INDEX idx_vcs_category_video ON video_categories (category_id, video_id)");
+            statement.execute("CREATE INDEX idx_vgs_genre_video ON video_genres (genre_id, video_id)");
+            statement.execute("CREATE INDEX idx_vcms_member_video ON video_cast_members (cast_member_id, video_id)");
+
+            statement.execute("""
+                    INSERT INTO videos
+                    SELECT CONCAT('v', X), CONCAT('Video ', X), 'description', NOW(), NOW()
+                    FROM SYSTEM_RANGE(1, %d)
+                    """.formatted(this.videos));
+            statement.execute("""
+                    INSERT INTO video_categories
+                    SELECT CONCAT('v', X), CONCAT('c', MOD(X, 50)) FROM SYSTEM_RANGE(1, %d)
+                    UNION ALL
+                    SELECT CONCAT('v', X), CONCAT('c', 50 + MOD(X, 25)) FROM SYSTEM_RANGE(1, %d)
+                    """.formatted(this.videos, this.videos));
+            statement.execute("""
+                    INSERT INTO video_genres
+                    SELECT CONCAT('v', X), CONCAT('g', MOD(X, 20)) FROM SYSTEM_RANGE(1, %d)
+                    """.formatted(this.videos));
+            statement.execute("""
+                    INSERT INTO video_cast_members
+                    SELECT CONCAT('v', X), CONCAT('m', MOD(X, 1000)) FROM SYSTEM_RANGE(1, %d)
+                    UNION ALL
+                    SELECT CONCAT('v', X), CONCAT('m', 1000 + MOD(X, 1000)) FROM SYSTEM_RANGE(1, %d)
+                    """.formatted(this.videos, this.videos));
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        this.connection.close();
+    }
+
+    @Benchmark
+    public int listDistinctJoins() throws SQLException {
+        return rows(DISTINCT_JOINS);
+    }
+
+    @Benchmark
+    public int listSemiJoins() throws SQLException {
+        return rows(SEMI_JOINS);
+    }
+
+    @Benchmark
+    public int countDistinctJoins() throws SQLException {
+        return rows(COUNT_DISTINCT_JOINS);
+    }
+
+    @Benchmark
+    public int countSemiJoins() throws SQLException {
+        return rows(COUNT_SEMI_JOINS);
+    }
+
+    private int rows(final String sql) throws SQLException {
+        try (final var statement = this.connection.createStatement();
+             final var result = statement.executeQuery(sql)) {
+            var rows = 0;
+            while (result.next()) {
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+}
@@ -5,6 +5,7 @@ import com.studies.catalog.admin.infrastructure.category.models.CategoryApiRespo
 import com.studies.catalog.admin.infrastructure.category.models.CategoryListApiResponse;
 import com.studies.catalog.admin.infrastructure.category.models.CreateCategoryApiRequest;
 import com.studies.catalog.admin.infrastructure.category.models.UpdateCategoryApiRequest;
+import com.studies.catalog.admin.infrastructure.search.models.TypeaheadApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -14,6 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Categories")
 @RequestMapping(value = "categories")
 public interface CategoryAPI {
@@ -30,7 +33,20 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total,
+            @RequestParam(name = "searchMode", required = false, defaultValue = "contains") final String searchMode
+    );
+
+    @GetMapping(value = "typeahead", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest categories by name while typing")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggested successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+    })
+    List<TypeaheadApiResponse> typeahead(
+            @RequestParam(name = "q", required = false, defaultValue = "") final String query,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
     );
 
     @GetMapping(
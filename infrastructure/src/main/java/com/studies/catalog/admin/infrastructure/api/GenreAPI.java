@@ -5,6 +5,7 @@ import com.studies.catalog.admin.infrastructure.genre.models.CreateGenreApiReque
 import com.studies.catalog.admin.infrastructure.genre.models.GenreApiResponse;
 import com.studies.catalog.admin.infrastructure.genre.models.GenreListApiResponse;
 import com.studies.catalog.admin.infrastructure.genre.models.UpdateGenreApiRequest;
+import com.studies.catalog.admin.infrastructure.search.models.TypeaheadApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -14,6 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
 public interface GenreAPI {
@@ -30,7 +33,19 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total
+    );
+
+    @GetMapping(value = "typeahead", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest genres by name while typing")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggested successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+    })
+    List<TypeaheadApiResponse> typeahead(
+            @RequestParam(name = "q", required = false, defaultValue = "") final String query,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
     );
 
     @GetMapping(
@@ -0,0 +1,86 @@
+package com.studies.catalog.admin.infrastructure.api;
+
+import com.studies.catalog.admin.infrastructure.upload.models.CreateUploadSessionApiRequest;
+import com.studies.catalog.admin.infrastructure.upload.models.UploadSessionApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "videos/{id}/medias/{type}/uploads")
+@Tag(name = "Video upload sessions")
+public interface UploadSessionAPI {
+
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload of a video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error has occurred"),
+            @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+    })
+    ResponseEntity<?> create(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateUploadSessionApiRequest payload
+    );
+
+    @GetMapping(value = "{uploadId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the received chunks of an upload session")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+    })
+    UploadSessionApiResponse getById(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PutMapping(
+            value = "{uploadId}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a chunk of media starting at the given offset")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk stored successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "Chunk was out of bounds or its checksum did not match"),
+            @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+    })
+    UploadSessionApiResponse uploadChunk(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @RequestParam(name = "offset") long offset,
+            @RequestHeader(name = "X-Chunk-Checksum", required = false) String checksum,
+            @RequestHeader(name = HttpHeaders.CONTENT_LENGTH) long contentLength,
+            InputStream content
+    );
+
+    @PostMapping(value = "{uploadId}/complete", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Assemble the received chunks into the video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "Upload session still has missing chunks"),
+            @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+    })
+    ResponseEntity<?> complete(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+}
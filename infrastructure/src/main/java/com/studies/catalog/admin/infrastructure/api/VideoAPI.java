@@ -2,6 +2,7 @@ package com.studies.catalog.admin.infrastructure.api;
 
 import com.studies.catalog.admin.domain.pagination.Pagination;
 import com.studies.catalog.admin.infrastructure.video.models.CreateVideoApiRequest;
+import com.studies.catalog.admin.infrastructure.video.models.MediaIngestApiResponse;
 import com.studies.catalog.admin.infrastructure.video.models.UpdateVideoApiRequest;
 import com.studies.catalog.admin.infrastructure.video.models.VideoApiResponse;
 import com.studies.catalog.admin.infrastructure.video.models.VideoListApiResponse;
@@ -9,11 +10,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Set;
 
@@ -21,6 +24,8 @@ import java.util.Set;
 @Tag(name = "Video")
 public interface VideoAPI {
 
+    String PREFER = "Prefer";
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List all videos paginated")
     @ApiResponses(value = {
@@ -36,7 +41,10 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") String total,
+            @RequestParam(name = "searchMode", required = false, defaultValue = "contains") String searchMode
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -52,12 +60,18 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by its type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Requested range of the media retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media was not modified"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<StreamingResponseBody> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 
     @PostMapping(
@@ -67,8 +81,10 @@ public interface VideoAPI {
     @Operation(summary = "Create a new video with medias")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Created successfully"),
+            @ApiResponse(responseCode = "202", description = "Created and medias accepted for asynchronous ingest"),
             @ApiResponse(responseCode = "422", description = "A validation error has occurred"),
             @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+            @ApiResponse(responseCode = "503", description = "Asynchronous ingest queue is full"),
     })
     ResponseEntity<?> createFull(
             @RequestParam(name = "title", required = false) String title,
@@ -85,7 +101,8 @@ public interface VideoAPI {
             @RequestParam(name = "trailer_file", required = false) MultipartFile trailerFile,
             @RequestParam(name = "banner_file", required = false) MultipartFile bannerFile,
             @RequestParam(name = "thumb_file", required = false) MultipartFile thumbFile,
-            @RequestParam(name = "thumb_half_file", required = false) MultipartFile thumbHalfFile
+            @RequestParam(name = "thumb_half_file", required = false) MultipartFile thumbHalfFile,
+            @RequestHeader(name = PREFER, required = false) String prefer
     );
 
     @PostMapping(
@@ -129,13 +146,25 @@ public interface VideoAPI {
     @Operation(summary = "Upload a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "202", description = "Media accepted for asynchronous ingest"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+            @ApiResponse(responseCode = "503", description = "Asynchronous ingest queue is full"),
     })
     ResponseEntity<?> uploadMediaByType(
             @PathVariable(name = "id") String id,
             @PathVariable(name = "type") String type,
-            @RequestParam(name = "media_file") MultipartFile media
+            @RequestParam(name = "media_file") MultipartFile media,
+            @RequestHeader(name = PREFER, required = false) String prefer
     );
 
+    @GetMapping(value = "ingests/{ingestId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the progress of an asynchronous media ingest")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ingest retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Ingest was not found or has expired"),
+            @ApiResponse(responseCode = "500", description = "An internal server error has occurred"),
+    })
+    MediaIngestApiResponse getIngestById(@PathVariable(name = "ingestId") String ingestId);
+
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.studies.catalog.admin.infrastructure.api.admission;
+
+import com.studies.catalog.admin.infrastructure.configuration.properties.web.UploadAdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class UploadAdmissionControl {
+
+    private static final String PREFIX = "catalog.upload.admission";
+
+    private final UploadAdmissionProperties props;
+    private final ReentrantLock lock;
+    private final Condition released;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    private int slotsInUse;
+    private long bytesInUse;
+    private int queued;
+
+    public UploadAdmissionControl(final UploadAdmissionProperties props, final MeterRegistry meterRegistry) {
+        this.props = Objects.requireNonNull(props);
+        this.lock = new ReentrantLock(true);
+        this.released = this.lock.newCondition();
+
+        Gauge.builder(PREFIX + ".slots", this, UploadAdmissionControl::slotsInUse)
+                .description("Uploads currently admitted")
+                .register(meterRegistry);
+
+        Gauge.builder(PREFIX + ".bytes", this, UploadAdmissionControl::bytesInUse)
+                .description("Bytes reserved by admitted uploads")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        Gauge.builder(PREFIX + ".queued", this, UploadAdmissionControl::queued)
+                .description("Uploads waiting for admission")
+                .register(meterRegistry);
+
+        this.admitted = Counter.builder(PREFIX + ".requests")
+                .description("Upload admission decisions")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+
+        this.rejected = Counter.builder(PREFIX + ".requests")
+                .description("Upload admission decisions")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    public Optional<Permit> tryAcquire(final long contentLength) throws InterruptedException {
+        final var bytes = reservationFor(contentLength);
+        var remaining = this.props.getQueueTimeout().toNanos();
+
+        this.lock.lock();
+        try {
+            this.queued++;
+            try {
+                while (!fits(bytes)) {
+                    if (remaining <= 0) {
+                        this.rejected.increment();
+                        return Optional.empty();
+                    }
+                    remaining = this.released.awaitNanos(remaining);
+                }
+            } finally {
+                this.queued--;
+            }
+
+            this.slotsInUse++;
+            this.bytesInUse += bytes;
+            this.admitted.increment();
+            return Optional.of(new Permit(bytes, true));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long retryAfterSeconds() {
+        return Math.max(1, this.props.getRetryAfter().toSeconds());
+    }
+
+    public int slotsInUse() {
+        this.lock.lock();
+        try {
+            return this.slotsInUse;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long bytesInUse() {
+        this.lock.lock();
+        try {
+            return this.bytesInUse;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int queued() {
+        this.lock.lock();
+        try {
+            return this.queued;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private long reservationFor(final long contentLength) {
+        final var requested = contentLength >= 0
+                ? contentLength
+                : this.props.getUnknownLengthReservation().toBytes();
+
+        // A single upload larger than the whole budget is still admitted, but only when it runs alone
+        return Math.min(requested, this.props.getMaxInFlightBytes().toBytes());
+    }
+
+    private boolean fits(final long bytes) {
+        return this.slotsInUse < this.props.getMaxConcurrentUploads()
+                && this.bytesInUse + bytes <= this.props.getMaxInFlightBytes().toBytes();
+    }
+
+    private void release(final long bytes, final boolean slot) {
+        this.lock.lock();
+        try {
+            if (slot) {
+                this.slotsInUse--;
+            }
+            this.bytesInUse -= bytes;
+            this.released.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final boolean slot;
+        private long bytes;
+        private boolean closed;
+
+        private Permit(final long bytes, final boolean slot) {
+            this.bytes = bytes;
+            this.slot = slot;
+        }
+
+        public long bytes() {
+            lock.lock();
+            try {
+                return this.bytes;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public Permit split(final long bytes) {
+            lock.lock();
+            try {
+                // The split share keeps its bytes reserved after this permit releases its slot
+                final var splitBytes = this.closed ? 0 : Math.min(Math.max(bytes, 0), this.bytes);
+                this.bytes -= splitBytes;
+                return new Permit(splitBytes, false);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (!this.closed) {
+                    this.closed = true;
+                    release(this.bytes, this.slot);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.studies.catalog.admin.infrastructure.api.admission;
+
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.infrastructure.configuration.json.Json;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final String PERMIT_ATTRIBUTE = UploadAdmissionFilter.class.getName() + ".PERMIT";
+
+    private static final List<String> UPLOAD_PATHS = List.of("/videos", "/videos/*/medias/*");
+
+    private final UploadAdmissionControl admissionControl;
+    private final AntPathMatcher pathMatcher;
+
+    public UploadAdmissionFilter(final UploadAdmissionControl admissionControl) {
+        this.admissionControl = Objects.requireNonNull(admissionControl);
+        this.pathMatcher = new AntPathMatcher();
+    }
+
+    public static Optional<UploadAdmissionControl.Permit> currentPermit() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(attributes.getAttribute(PERMIT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))
+                .map(UploadAdmissionControl.Permit.class::cast);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+
+        // JSON requests carry no media, only multipart bodies are spooled by the container
+        if (!StringUtils.startsWithIgnoreCase(request.getContentType(), MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            return true;
+        }
+
+        final var path = request.getRequestURI().substring(request.getContextPath().length());
+        return UPLOAD_PATHS.stream().noneMatch(pattern -> this.pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final UploadAdmissionControl.Permit permit;
+        try {
+            final var acquired = this.admissionControl.tryAcquire(request.getContentLengthLong());
+            if (acquired.isEmpty()) {
+                reject(response);
+                return;
+            }
+            permit = acquired.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(response);
+            return;
+        }
+
+        try (permit) {
+            request.setAttribute(PERMIT_ATTRIBUTE, permit);
+            filterChain.doFilter(request, response);
+        } finally {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+        }
+    }
+
+    private void reject(final HttpServletResponse response) throws IOException {
+        final var message = "Upload capacity is exhausted, please retry later";
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(this.admissionControl.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(Json.writeValueAsString(new ApiError(message, List.of(new Error(message)))));
+    }
+
+    record ApiError(String message, List<Error> errors) {
+    }
+
+}
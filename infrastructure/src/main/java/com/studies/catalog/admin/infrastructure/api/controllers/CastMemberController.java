@@ -5,20 +5,27 @@ import com.studies.catalog.admin.application.castmember.create.CreateCastMemberU
 import com.studies.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
 import com.studies.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.studies.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
+import com.studies.catalog.admin.application.castmember.retrieve.suggest.SuggestCastMembersUseCase;
 import com.studies.catalog.admin.application.castmember.update.UpdateCastMemberInput;
 import com.studies.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
 import com.studies.catalog.admin.domain.pagination.Pagination;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
+import com.studies.catalog.admin.domain.validation.Error;
 import com.studies.catalog.admin.infrastructure.api.CastMemberAPI;
 import com.studies.catalog.admin.infrastructure.castmember.models.CastMemberApiResponse;
 import com.studies.catalog.admin.infrastructure.castmember.models.CastMemberListApiResponse;
 import com.studies.catalog.admin.infrastructure.castmember.models.CreateCastMemberApiRequest;
 import com.studies.catalog.admin.infrastructure.castmember.models.UpdateCastMemberApiRequest;
 import com.studies.catalog.admin.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.studies.catalog.admin.infrastructure.search.models.TypeaheadApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -29,17 +36,20 @@ public class CastMemberController implements CastMemberAPI {
     private final CreateCastMemberUseCase createCastMemberUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
+    private final SuggestCastMembersUseCase suggestCastMembersUseCase;
 
     public CastMemberController(final ListCastMembersUseCase listCastMembersUseCase,
                                 final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
                                 final CreateCastMemberUseCase createCastMemberUseCase,
                                 final UpdateCastMemberUseCase updateCastMemberUseCase,
-                                final DeleteCastMemberUseCase deleteCastMemberUseCase) {
+                                final DeleteCastMemberUseCase deleteCastMemberUseCase,
+                                final SuggestCastMembersUseCase suggestCastMembersUseCase) {
         this.listCastMembersUseCase = listCastMembersUseCase;
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
+        this.suggestCastMembersUseCase = Objects.requireNonNull(suggestCastMembersUseCase);
     }
 
     @Override
@@ -48,9 +58,13 @@ public class CastMemberController implements CastMemberAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String total
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aTotalMode = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for TotalMode".formatted(total))));
+
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, aTotalMode))
                 .map(CastMemberPresenter::present);
     }
 
@@ -84,4 +98,11 @@ public class CastMemberController implements CastMemberAPI {
         this.deleteCastMemberUseCase.execute(id);
     }
 
+    @Override
+    public List<TypeaheadApiResponse> typeahead(final String query, final int limit) {
+        return this.suggestCastMembersUseCase.execute(new SuggestQuery(query, limit)).stream()
+                .map(it -> new TypeaheadApiResponse(it.id(), it.name()))
+                .toList();
+    }
+
 }
\ No newline at end of file
@@ -6,11 +6,17 @@ import com.studies.catalog.admin.application.category.create.CreateCategoryUseCa
 import com.studies.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import com.studies.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.studies.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.studies.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.studies.catalog.admin.application.category.update.UpdateCategoryInput;
 import com.studies.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.studies.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
 import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.pagination.SearchMode;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
+import com.studies.catalog.admin.domain.validation.Error;
 import com.studies.catalog.admin.domain.validation.handler.Notification;
 import com.studies.catalog.admin.infrastructure.api.CategoryAPI;
 import com.studies.catalog.admin.infrastructure.category.models.CategoryApiResponse;
@@ -18,10 +24,12 @@ import com.studies.catalog.admin.infrastructure.category.models.CategoryListApiR
 import com.studies.catalog.admin.infrastructure.category.models.CreateCategoryApiRequest;
 import com.studies.catalog.admin.infrastructure.category.models.UpdateCategoryApiRequest;
 import com.studies.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import com.studies.catalog.admin.infrastructure.search.models.TypeaheadApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -33,19 +41,22 @@ public class CategoryController implements CategoryAPI {
     private final CreateCategoryUseCase createCategoryUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
 
     public CategoryController(
             final ListCategoriesUseCase listCategoriesUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final CreateCategoryUseCase createCategoryUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
-            final DeleteCategoryUseCase deleteCategoryUseCase
+            final DeleteCategoryUseCase deleteCategoryUseCase,
+            final SuggestCategoriesUseCase suggestCategoriesUseCase
     ) {
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
     }
 
     @Override
@@ -54,9 +65,18 @@ public class CategoryController implements CategoryAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String total,
+            final String searchMode
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aTotalMode = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for TotalMode".formatted(total))));
+        final var aSearchMode = SearchMode.of(searchMode)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for SearchMode".formatted(searchMode))));
+
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, aTotalMode, aSearchMode);
+
+        return listCategoriesUseCase.execute(aQuery)
                 .map(CategoryApiPresenter::present);
     }
 
@@ -108,4 +128,11 @@ public class CategoryController implements CategoryAPI {
         this.deleteCategoryUseCase.execute(anId);
     }
 
+    @Override
+    public List<TypeaheadApiResponse> typeahead(final String query, final int limit) {
+        return this.suggestCategoriesUseCase.execute(new SuggestQuery(query, limit)).stream()
+                .map(it -> new TypeaheadApiResponse(it.id(), it.name()))
+                .toList();
+    }
+
 }
\ No newline at end of file
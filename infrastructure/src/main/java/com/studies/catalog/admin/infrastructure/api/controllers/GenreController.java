@@ -5,20 +5,28 @@ import com.studies.catalog.admin.application.genre.create.CreateGenreUseCase;
 import com.studies.catalog.admin.application.genre.delete.DeleteGenreUseCase;
 import com.studies.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.studies.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
+import com.studies.catalog.admin.application.genre.retrieve.suggest.SuggestGenreUseCase;
 import com.studies.catalog.admin.application.genre.update.UpdateGenreInput;
 import com.studies.catalog.admin.application.genre.update.UpdateGenreUseCase;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
 import com.studies.catalog.admin.domain.pagination.Pagination;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
+import com.studies.catalog.admin.domain.validation.Error;
 import com.studies.catalog.admin.infrastructure.api.GenreAPI;
 import com.studies.catalog.admin.infrastructure.genre.models.CreateGenreApiRequest;
 import com.studies.catalog.admin.infrastructure.genre.models.GenreApiResponse;
 import com.studies.catalog.admin.infrastructure.genre.models.GenreListApiResponse;
 import com.studies.catalog.admin.infrastructure.genre.models.UpdateGenreApiRequest;
 import com.studies.catalog.admin.infrastructure.genre.presenters.GenreApiPresenter;
+import com.studies.catalog.admin.infrastructure.search.models.TypeaheadApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Objects;
 
 @RestController
 public class GenreController implements GenreAPI {
@@ -28,17 +36,20 @@ public class GenreController implements GenreAPI {
     private final CreateGenreUseCase createGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
+    private final SuggestGenreUseCase suggestGenreUseCase;
 
     public GenreController(final ListGenreUseCase listGenreUseCase,
                            final GetGenreByIdUseCase getGenreByIdUseCase,
                            final CreateGenreUseCase createGenreUseCase,
                            final UpdateGenreUseCase updateGenreUseCase,
-                           final DeleteGenreUseCase deleteGenreUseCase) {
+                           final DeleteGenreUseCase deleteGenreUseCase,
+                           final SuggestGenreUseCase suggestGenreUseCase) {
         this.listGenreUseCase = listGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.createGenreUseCase = createGenreUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
+        this.suggestGenreUseCase = Objects.requireNonNull(suggestGenreUseCase);
     }
 
     @Override
@@ -47,9 +58,13 @@ public class GenreController implements GenreAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String total
     ) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aTotalMode = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for TotalMode".formatted(total))));
+
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, aTotalMode))
                 .map(GenreApiPresenter::present);
     }
 
@@ -90,4 +105,11 @@ public class GenreController implements GenreAPI {
         this.deleteGenreUseCase.execute(id);
     }
 
+    @Override
+    public List<TypeaheadApiResponse> typeahead(final String query, final int limit) {
+        return this.suggestGenreUseCase.execute(new SuggestQuery(query, limit)).stream()
+                .map(it -> new TypeaheadApiResponse(it.id(), it.name()))
+                .toList();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.studies.catalog.admin.infrastructure.api.controllers;
+
+import com.studies.catalog.admin.application.upload.chunk.UploadChunkInput;
+import com.studies.catalog.admin.application.upload.chunk.UploadChunkUseCase;
+import com.studies.catalog.admin.application.upload.complete.CompleteUploadSessionInput;
+import com.studies.catalog.admin.application.upload.complete.CompleteUploadSessionUseCase;
+import com.studies.catalog.admin.application.upload.create.CreateUploadSessionInput;
+import com.studies.catalog.admin.application.upload.create.CreateUploadSessionUseCase;
+import com.studies.catalog.admin.application.upload.retrieve.get.GetUploadSessionByIdUseCase;
+import com.studies.catalog.admin.application.upload.retrieve.get.GetUploadSessionInput;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.api.UploadSessionAPI;
+import com.studies.catalog.admin.infrastructure.upload.models.CreateUploadSessionApiRequest;
+import com.studies.catalog.admin.infrastructure.upload.models.UploadSessionApiResponse;
+import com.studies.catalog.admin.infrastructure.upload.presenters.UploadSessionApiPresenter;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RestController
+public class UploadSessionController implements UploadSessionAPI {
+
+    private final CreateUploadSessionUseCase createUploadSessionUseCase;
+    private final GetUploadSessionByIdUseCase getUploadSessionByIdUseCase;
+    private final UploadChunkUseCase uploadChunkUseCase;
+    private final CompleteUploadSessionUseCase completeUploadSessionUseCase;
+
+    public UploadSessionController(final CreateUploadSessionUseCase createUploadSessionUseCase,
+                                   final GetUploadSessionByIdUseCase getUploadSessionByIdUseCase,
+                                   final UploadChunkUseCase uploadChunkUseCase,
+                                   final CompleteUploadSessionUseCase completeUploadSessionUseCase) {
+        this.createUploadSessionUseCase = Objects.requireNonNull(createUploadSessionUseCase);
+        this.getUploadSessionByIdUseCase = Objects.requireNonNull(getUploadSessionByIdUseCase);
+        this.uploadChunkUseCase = Objects.requireNonNull(uploadChunkUseCase);
+        this.completeUploadSessionUseCase = Objects.requireNonNull(completeUploadSessionUseCase);
+    }
+
+    @Override
+    public ResponseEntity<?> create(final String id, final String type, final CreateUploadSessionApiRequest payload) {
+        final var anInput = CreateUploadSessionInput.with(
+                id,
+                type,
+                payload.name(),
+                payload.contentType(),
+                payload.totalSize() != null ? payload.totalSize() : 0
+        );
+
+        final var output = this.createUploadSessionUseCase.execute(anInput);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.id())))
+                .body(output);
+    }
+
+    @Override
+    public UploadSessionApiResponse getById(final String id, final String type, final String uploadId) {
+        return UploadSessionApiPresenter.present(
+                this.getUploadSessionByIdUseCase.execute(GetUploadSessionInput.with(id, type, uploadId))
+        );
+    }
+
+    @Override
+    public UploadSessionApiResponse uploadChunk(
+            final String id,
+            final String type,
+            final String uploadId,
+            final long offset,
+            final String checksum,
+            final long contentLength,
+            final InputStream content
+    ) {
+        final var computedChecksum = new AtomicReference<String>();
+
+        final var aChunk = Resource.with(
+                () -> ChecksumInputStream.of(content, computedChecksum::set),
+                contentLength,
+                computedChecksum::get,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                "%s-%d".formatted(uploadId, offset)
+        );
+
+        final var anInput = UploadChunkInput.with(id, type, uploadId, offset, checksum, aChunk);
+
+        return UploadSessionApiPresenter.present(this.uploadChunkUseCase.execute(anInput));
+    }
+
+    @Override
+    public ResponseEntity<?> complete(final String id, final String type, final String uploadId) {
+        final var output =
+                this.completeUploadSessionUseCase.execute(CompleteUploadSessionInput.with(id, type, uploadId));
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, output.mediaType().name())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+}
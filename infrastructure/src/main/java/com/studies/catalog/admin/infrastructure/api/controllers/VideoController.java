@@ -1,10 +1,16 @@
 package com.studies.catalog.admin.infrastructure.api.controllers;
 
+import com.google.common.io.ByteStreams;
 import com.studies.catalog.admin.application.video.create.CreateVideoInput;
 import com.studies.catalog.admin.application.video.create.CreateVideoUseCase;
+import com.studies.catalog.admin.application.video.create.CreateVideoWithIngestUseCase;
 import com.studies.catalog.admin.application.video.delete.DeleteVideoUseCase;
 import com.studies.catalog.admin.application.video.media.get.GetMediaInput;
 import com.studies.catalog.admin.application.video.media.get.GetMediaUseCase;
+import com.studies.catalog.admin.application.video.media.get.MediaOutput;
+import com.studies.catalog.admin.application.video.media.ingest.GetMediaIngestByIdUseCase;
+import com.studies.catalog.admin.application.video.media.ingest.IngestMediaInput;
+import com.studies.catalog.admin.application.video.media.ingest.IngestMediaUseCase;
 import com.studies.catalog.admin.application.video.media.upload.UploadMediaInput;
 import com.studies.catalog.admin.application.video.media.upload.UploadMediaUseCase;
 import com.studies.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
@@ -16,33 +22,52 @@ import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.exceptions.NotificationException;
 import com.studies.catalog.admin.domain.genre.GenreID;
 import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
 import com.studies.catalog.admin.domain.validation.Error;
 import com.studies.catalog.admin.domain.video.Resource;
 import com.studies.catalog.admin.domain.video.VideoMediaType;
 import com.studies.catalog.admin.domain.video.VideoResource;
 import com.studies.catalog.admin.domain.video.VideoSearchQuery;
 import com.studies.catalog.admin.infrastructure.api.VideoAPI;
-import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
+import com.studies.catalog.admin.infrastructure.services.TransferableContent;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
 import com.studies.catalog.admin.infrastructure.video.models.CreateVideoApiRequest;
+import com.studies.catalog.admin.infrastructure.video.models.MediaIngestApiResponse;
 import com.studies.catalog.admin.infrastructure.video.models.UpdateVideoApiRequest;
 import com.studies.catalog.admin.infrastructure.video.models.VideoApiResponse;
 import com.studies.catalog.admin.infrastructure.video.models.VideoListApiResponse;
 import com.studies.catalog.admin.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.studies.catalog.admin.domain.utils.CollectionUtils.mapTo;
 
 @RestController
 public class VideoController implements VideoAPI {
 
+    // Shared caches may keep media but revalidate each use, so the origin still authorizes every request
+    private static final CacheControl MEDIA_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
     private final ListVideosUseCase listVideosUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
     private final GetMediaUseCase getMediaUseCase;
@@ -50,6 +75,9 @@ public class VideoController implements VideoAPI {
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final IngestMediaUseCase ingestMediaUseCase;
+    private final GetMediaIngestByIdUseCase getMediaIngestByIdUseCase;
+    private final CreateVideoWithIngestUseCase createVideoWithIngestUseCase;
 
     public VideoController(final ListVideosUseCase listVideosUseCase,
                            final GetVideoByIdUseCase getVideoByIdUseCase,
@@ -57,7 +85,10 @@ public class VideoController implements VideoAPI {
                            final CreateVideoUseCase createVideoUseCase,
                            final UpdateVideoUseCase updateVideoUseCase,
                            final DeleteVideoUseCase deleteVideoUseCase,
-                           final UploadMediaUseCase uploadMediaUseCase) {
+                           final UploadMediaUseCase uploadMediaUseCase,
+                           final IngestMediaUseCase ingestMediaUseCase,
+                           final GetMediaIngestByIdUseCase getMediaIngestByIdUseCase,
+                           final CreateVideoWithIngestUseCase createVideoWithIngestUseCase) {
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
@@ -65,6 +96,9 @@ public class VideoController implements VideoAPI {
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.ingestMediaUseCase = Objects.requireNonNull(ingestMediaUseCase);
+        this.getMediaIngestByIdUseCase = Objects.requireNonNull(getMediaIngestByIdUseCase);
+        this.createVideoWithIngestUseCase = Objects.requireNonNull(createVideoWithIngestUseCase);
     }
 
     @Override
@@ -76,14 +110,32 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String cursor,
+            final String total,
+            final String searchMode
     ) {
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
+        final var aTotalMode = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for TotalMode".formatted(total))));
+        final var aSearchMode = SearchMode.of(searchMode)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for SearchMode".formatted(searchMode))));
 
-        final var aQuery =
-                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+        final var aQuery = new VideoSearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                direction,
+                castMemberIDs,
+                categoriesIDs,
+                genresIDs,
+                cursor,
+                aTotalMode,
+                aSearchMode
+        );
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
@@ -94,15 +146,51 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange,
+            final String ifNoneMatch
+    ) {
         final var aMedia =
                 this.getMediaUseCase.execute(GetMediaInput.with(id, type));
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+        final var aLength = aMedia.contentLength();
+        final var anETag = "\"%s\"".formatted(aMedia.checksum());
+
+        if (isNotModified(ifNoneMatch, anETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(anETag)
+                    .cacheControl(MEDIA_CACHE_CONTROL)
+                    .build();
+        }
+
+        final var ranges = requestedRanges(range, ifRange, anETag);
+        if (ranges.size() != 1) {
+            return mediaResponse(HttpStatus.OK, aMedia, anETag)
+                    .contentLength(aLength)
+                    .body(out -> transfer(aMedia.content(), 0, aLength, out));
+        }
+
+        final long start;
+        final long end;
+        try {
+            start = ranges.get(0).getRangeStart(aLength);
+            end = ranges.get(0).getRangeEnd(aLength);
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(aLength))
+                    .build();
+        }
+
+        final var aRangeLength = end - start + 1;
+
+        return mediaResponse(HttpStatus.PARTIAL_CONTENT, aMedia, anETag)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, aLength))
+                .contentLength(aRangeLength)
+                .body(out -> transfer(aMedia.content(), start, aRangeLength, out));
     }
 
     @Override
@@ -121,7 +209,8 @@ public class VideoController implements VideoAPI {
             final MultipartFile trailerFile,
             final MultipartFile bannerFile,
             final MultipartFile thumbFile,
-            final MultipartFile thumbHalfFile
+            final MultipartFile thumbHalfFile,
+            final String prefer
     ) {
         final var anInput = CreateVideoInput.with(
                 aTitle,
@@ -141,6 +230,15 @@ public class VideoController implements VideoAPI {
                 resourceOf(thumbHalfFile)
         );
 
+        if (prefersAsync(prefer)) {
+            final var output = VideoApiPresenter.present(this.createVideoWithIngestUseCase.execute(anInput));
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/videos/" + output.id()))
+                    .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                    .body(output);
+        }
+
         final var output = this.createVideoUseCase.execute(anInput);
 
         return ResponseEntity.created(URI.create("/videos/" + output.id())).body(output);
@@ -195,10 +293,25 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<?> uploadMediaByType(final String id, final String type, final MultipartFile media) {
+    public ResponseEntity<?> uploadMediaByType(
+            final String id,
+            final String type,
+            final MultipartFile media,
+            final String prefer
+    ) {
         final var aType = VideoMediaType.of(type)
                 .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
 
+        if (prefersAsync(prefer)) {
+            final var anInput = IngestMediaInput.with(id, VideoResource.with(aType, resourceOf(media)));
+            final var aJob = VideoApiPresenter.present(this.ingestMediaUseCase.execute(anInput));
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/videos/ingests/" + aJob.id()))
+                    .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                    .body(aJob);
+        }
+
         final var anInput =
                 UploadMediaInput.with(id, VideoResource.with(aType, resourceOf(media)));
 
@@ -209,20 +322,117 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
+    @Override
+    public MediaIngestApiResponse getIngestById(final String ingestId) {
+        return VideoApiPresenter.present(this.getMediaIngestByIdUseCase.execute(ingestId));
+    }
+
+    private boolean prefersAsync(final String prefer) {
+        if (prefer == null || prefer.isBlank()) {
+            return false;
+        }
+
+        for (final var aPreference : prefer.split(",")) {
+            final var aToken = aPreference.split(";")[0].trim();
+            if (aToken.equalsIgnoreCase(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private ResponseEntity.BodyBuilder mediaResponse(final HttpStatus status, final MediaOutput aMedia, final String anETag) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.valueOf(aMedia.contentType()))
+                .eTag(anETag)
+                .cacheControl(MEDIA_CACHE_CONTROL)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+    }
+
+    private boolean isNotModified(final String ifNoneMatch, final String anETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (final var aTag : ifNoneMatch.split(",")) {
+            final var candidate = aTag.trim();
+            if (candidate.equals("*") || candidate.equals(anETag) || candidate.equals("W/".concat(anETag))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private List<HttpRange> requestedRanges(final String range, final String ifRange, final String anETag) {
+        if (range == null || range.isBlank()) {
+            return List.of();
+        }
+
+        if (ifRange != null && !ifRange.equals(anETag)) {
+            return List.of();
+        }
+
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (final IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private static void transfer(
+            final Resource.Content content,
+            final long offset,
+            final long length,
+            final OutputStream out
+    ) throws IOException {
+        // File backed media is read from its FileChannel instead of through a buffered input stream
+        if (content instanceof TransferableContent file) {
+            file.transferTo(offset, length, Channels.newChannel(out));
+            return;
+        }
+
+        try (final var in = content.open(offset, length)) {
+            in.transferTo(out);
+        }
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
-        try {
-            return Resource.with(
-                    part.getBytes(),
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
+        final var checksum = new AtomicReference<String>();
+
+        return Resource.with(
+                new PartContent(part, checksum),
+                part.getSize(),
+                checksum::get,
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
+    }
+
+    private record PartContent(MultipartFile part, AtomicReference<String> checksum) implements Resource.Content {
+
+        @Override
+        public InputStream open() throws IOException {
+            return ChecksumInputStream.of(this.part.getInputStream(), this.checksum::set);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            // Parts spooled to disk are file streams, so skipping seeks instead of reading
+            final var in = this.part.getInputStream();
+            try {
+                in.skipNBytes(offset);
+            } catch (final IOException e) {
+                in.close();
+                throw e;
+            }
+            return ByteStreams.limit(in, length);
         }
     }
 
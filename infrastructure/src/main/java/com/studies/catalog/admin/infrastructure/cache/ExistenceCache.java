@@ -0,0 +1,74 @@
+package com.studies.catalog.admin.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.studies.catalog.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+// Only confirmed ids are cached, a row deleted by another node is still reported until its entry expires
+@Component
+public class ExistenceCache {
+
+    private final Cache<List<Object>, Boolean> confirmed;
+
+    public ExistenceCache(final ExistenceCacheProperties props) {
+        this.confirmed = CacheBuilder.newBuilder()
+                .expireAfterWrite(props.getTtl())
+                .maximumSize(props.getMaxEntries())
+                .build();
+    }
+
+    public List<String> existing(
+            final Class<?> anEntity,
+            final List<String> ids,
+            final Function<List<String>, List<String>> aLoader
+    ) {
+        final var existing = confirmed(anEntity, ids);
+        final var misses = ids.stream()
+                .filter(anId -> !existing.contains(anId))
+                .distinct()
+                .toList();
+
+        if (!misses.isEmpty()) {
+            final var found = aLoader.apply(misses);
+            confirm(anEntity, found);
+            existing.addAll(found);
+        }
+
+        return new ArrayList<>(existing);
+    }
+
+    public Set<String> confirmed(final Class<?> anEntity, final Collection<String> ids) {
+        final var confirmed = new LinkedHashSet<String>();
+        for (final var anId : ids) {
+            if (this.confirmed.getIfPresent(key(anEntity, anId)) != null) {
+                confirmed.add(anId);
+            }
+        }
+        return confirmed;
+    }
+
+    public void confirm(final Class<?> anEntity, final Collection<String> ids) {
+        ids.forEach(anId -> this.confirmed.put(key(anEntity, anId), Boolean.TRUE));
+    }
+
+    public void evict(final Class<?> anEntity, final String anId) {
+        this.confirmed.invalidate(key(anEntity, anId));
+    }
+
+    public void evictAll() {
+        this.confirmed.invalidateAll();
+    }
+
+    private static List<Object> key(final Class<?> anEntity, final String anId) {
+        return List.of(anEntity.getName(), anId);
+    }
+
+}
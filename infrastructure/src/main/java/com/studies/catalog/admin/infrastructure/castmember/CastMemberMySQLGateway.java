@@ -5,11 +5,13 @@ import com.studies.catalog.admin.domain.castmember.CastMemberGateway;
 import com.studies.catalog.admin.domain.castmember.CastMemberID;
 import com.studies.catalog.admin.domain.pagination.Pagination;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.Suggestion;
+import com.studies.catalog.admin.infrastructure.cache.ExistenceCache;
 import com.studies.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.studies.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
-import com.studies.catalog.admin.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.studies.catalog.admin.infrastructure.pagination.Paginator;
+import com.studies.catalog.admin.infrastructure.search.ReferenceSearchIndex;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -22,32 +24,35 @@ import java.util.stream.StreamSupport;
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
-
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final Paginator paginator;
+    private final ReferenceSearchIndex searchIndex;
+    private final ExistenceCache existenceCache;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final Paginator paginator,
+            final ReferenceSearchIndex searchIndex,
+            final ExistenceCache existenceCache
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
     }
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult =
-                this.castMemberRepository.findAll(where, page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+        return this.paginator.findAll(
+                this.castMemberRepository,
+                CastMemberJpaEntity.class,
+                where,
+                aQuery,
+                CastMemberJpaEntity::toAggregate
         );
     }
 
@@ -70,8 +75,11 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     @Override
     public void deleteById(final CastMemberID aMemberId) {
         final var anId = aMemberId.getValue();
-        if (this.castMemberRepository.existsById(anId))
+        if (this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
+            this.searchIndex.removed(CastMemberJpaEntity.class, anId);
+            this.existenceCache.evict(CastMemberJpaEntity.class, anId);
+        }
     }
 
     @Override
@@ -79,18 +87,27 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
                 .map(CastMemberID::getValue)
                 .toList();
-        return this.castMemberRepository.existsByIds(ids).stream()
+
+        return this.existenceCache.existing(CastMemberJpaEntity.class, ids, this.castMemberRepository::existsByIds).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
 
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery aQuery) {
+        return this.searchIndex.suggest(CastMemberJpaEntity.class, aQuery.terms(), aQuery.limit()).stream()
+                .map(it -> new Suggestion(it.id(), it.name()))
+                .toList();
+    }
+
     private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
-                .toAggregate();
+        final var saved = this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember));
+        this.searchIndex.indexed(saved);
+        return saved.toAggregate();
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return this.searchIndex.specification(CastMemberJpaEntity.class, terms, "name");
     }
 
 }
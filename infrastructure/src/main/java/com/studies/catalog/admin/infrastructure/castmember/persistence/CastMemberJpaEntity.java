@@ -3,12 +3,16 @@ package com.studies.catalog.admin.infrastructure.castmember.persistence;
 import com.studies.catalog.admin.domain.castmember.CastMember;
 import com.studies.catalog.admin.domain.castmember.CastMemberID;
 import com.studies.catalog.admin.domain.castmember.CastMemberType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.Instant;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cast-member")
 public class CastMemberJpaEntity {
 
     @Id
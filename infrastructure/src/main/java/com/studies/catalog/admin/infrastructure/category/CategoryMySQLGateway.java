@@ -4,53 +4,60 @@ import com.studies.catalog.admin.domain.category.Category;
 import com.studies.catalog.admin.domain.category.CategoryGateway;
 import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.pagination.SearchMode;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.Suggestion;
+import com.studies.catalog.admin.infrastructure.cache.ExistenceCache;
 import com.studies.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.studies.catalog.admin.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.studies.catalog.admin.infrastructure.pagination.Paginator;
+import com.studies.catalog.admin.infrastructure.search.ReferenceSearchIndex;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
-import static com.studies.catalog.admin.infrastructure.utils.SpecificationUtils.like;
+import static com.studies.catalog.admin.infrastructure.utils.SpecificationUtils.matches;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
-
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final Paginator paginator;
+    private final ReferenceSearchIndex searchIndex;
+    private final ExistenceCache existenceCache;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final Paginator paginator,
+            final ReferenceSearchIndex searchIndex,
+            final ExistenceCache existenceCache
+    ) {
         this.repository = repository;
+        this.paginator = Objects.requireNonNull(paginator);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
     }
 
     @Override
     public Pagination<Category> findAll(SearchQuery aQuery) {
-        // Pagination
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
         // Dynamic search by terms criteria (name ou description)
         final var specifications = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
+                .map(str -> assembleSpecification(aQuery.searchMode(), str))
                 .orElse(null);
 
-        final var pageResult =
-                this.repository.findAll(Specification.where(specifications), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+        return this.paginator.findAll(
+                this.repository,
+                CategoryJpaEntity.class,
+                Specification.where(specifications),
+                aQuery,
+                CategoryJpaEntity::toAggregate
         );
     }
 
@@ -73,8 +80,11 @@ public class CategoryMySQLGateway implements CategoryGateway {
     @Override
     public void deleteById(CategoryID anId) {
         final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue))
+        if (this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
+            this.searchIndex.removed(CategoryJpaEntity.class, anIdValue);
+            this.existenceCache.evict(CategoryJpaEntity.class, anIdValue);
+        }
     }
 
     @Override
@@ -83,19 +93,30 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(CategoryID::getValue)
                 .toList();
 
-        return this.repository.existsByIds(ids).stream()
+        return this.existenceCache.existing(CategoryJpaEntity.class, ids, this.repository::existsByIds).stream()
                 .map(CategoryID::from)
                 .toList();
     }
 
-    private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-        return nameLike.or(descriptionLike);
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery aQuery) {
+        return this.searchIndex.suggest(CategoryJpaEntity.class, aQuery.terms(), aQuery.limit()).stream()
+                .map(it -> new Suggestion(it.id(), it.name()))
+                .toList();
+    }
+
+    private Specification<CategoryJpaEntity> assembleSpecification(final SearchMode aMode, final String str) {
+        if (aMode.isFullText()) {
+            return matches(aMode, str, "name", "description");
+        }
+
+        return this.searchIndex.specification(CategoryJpaEntity.class, str, "name", "description");
     }
 
     private Category save(Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var saved = this.repository.save(CategoryJpaEntity.from(aCategory));
+        this.searchIndex.indexed(saved);
+        return saved.toAggregate();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.studies.catalog.admin.infrastructure.configuration;
+
+import com.studies.catalog.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExistenceCacheConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "existence-cache")
+    public ExistenceCacheProperties existenceCacheProperties() {
+        return new ExistenceCacheProperties();
+    }
+
+}
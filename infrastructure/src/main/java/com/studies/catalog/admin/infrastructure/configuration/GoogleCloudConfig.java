@@ -8,6 +8,7 @@ import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import com.studies.catalog.admin.infrastructure.configuration.properties.google.GoogleCloudProperties;
 import com.studies.catalog.admin.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +22,7 @@ import java.util.Objects;
 
 @Configuration
 @Profile({"!dev & !e2e-test & !integration-test"})
+@ConditionalOnProperty(prefix = "storage.catalog-videos", name = "provider", havingValue = "gcs", matchIfMissing = true)
 public class GoogleCloudConfig {
 
     @Bean
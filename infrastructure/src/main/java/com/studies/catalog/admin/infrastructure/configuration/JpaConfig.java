@@ -0,0 +1,41 @@
+package com.studies.catalog.admin.infrastructure.configuration;
+
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.infrastructure.configuration.jpa.FullTextFunctionContributor;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.EnumSet;
+
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer fullTextFunctionCustomizer(final DataSource dataSource) {
+        final var nativeFullText = EnumSet.of(DatabaseDriver.MYSQL, DatabaseDriver.MARIADB)
+                .contains(databaseOf(dataSource));
+
+        return properties -> properties.put(
+                JpaSettings.METADATA_BUILDER_CONTRIBUTOR,
+                new FullTextFunctionContributor(nativeFullText)
+        );
+    }
+
+    private static DatabaseDriver databaseOf(final DataSource dataSource) {
+        try {
+            return DatabaseDriver.fromProductName(
+                    JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName)
+            );
+        } catch (final MetaDataAccessException e) {
+            throw InternalErrorException.with("Error on reading the database product name", e);
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.studies.catalog.admin.infrastructure.configuration;
+
+import com.studies.catalog.admin.infrastructure.configuration.properties.web.PaginationProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaginationConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "pagination")
+    public PaginationProperties paginationProperties() {
+        return new PaginationProperties();
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.studies.catalog.admin.infrastructure.configuration;
+
+import com.studies.catalog.admin.infrastructure.configuration.properties.search.SearchIndexProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchIndexConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "search.index")
+    public SearchIndexProperties searchIndexProperties() {
+        return new SearchIndexProperties();
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.studies.catalog.admin.infrastructure.configuration;
+
+import com.studies.catalog.admin.domain.utils.IdUtils;
+import com.studies.catalog.admin.infrastructure.configuration.properties.cache.SecondLevelCacheProperties;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "second-level-cache")
+    public SecondLevelCacheProperties secondLevelCacheProperties() {
+        return new SecondLevelCacheProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager secondLevelCacheManager(final SecondLevelCacheProperties props) {
+        var aConfiguration = ConfigurationBuilder.newConfigurationBuilder();
+
+        for (final var aRegion : props.getRegions().entrySet()) {
+            aConfiguration = aConfiguration.withCache(
+                    aRegion.getKey(),
+                    CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                                    Object.class,
+                                    Object.class,
+                                    ResourcePoolsBuilder.heap(aRegion.getValue().getMaxEntries())
+                            )
+                            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(aRegion.getValue().getTtl()))
+            );
+        }
+
+        final var aProvider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+
+        // Every application context gets its own manager, a shared URI would hand the same caches to all of them
+        return aProvider.getCacheManager(
+                URI.create("second-level-cache:" + IdUtils.uuid()),
+                aConfiguration.build()
+        );
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final ObjectProvider<CacheManager> cacheManager) {
+        final var aCacheManager = cacheManager.getIfAvailable();
+
+        if (aCacheManager == null) {
+            // Left unset, Hibernate would pick the JCache region factory from the classpath on its own
+            return properties -> properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+        }
+
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, aCacheManager);
+            // Regions only come from the configuration above, so a region without one is a mapping mistake
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+}
@@ -2,38 +2,152 @@ package com.studies.catalog.admin.infrastructure.configuration;
 
 import com.google.cloud.storage.Storage;
 import com.studies.catalog.admin.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.FileSystemStorageProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.ImageCacheProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.InMemoryStorageProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaIngestProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaKeyMigrationProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaReaperProperties;
 import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.UploadSessionProperties;
 import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.impl.FileSystemStorageService;
 import com.studies.catalog.admin.infrastructure.services.impl.GCStorageService;
+import com.studies.catalog.admin.infrastructure.services.impl.InstrumentedStorageService;
 import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class StorageConfig {
 
+    private ExecutorService compositeUploadExecutor;
+
+    @PreDestroy
+    public void shutdown() {
+        if (this.compositeUploadExecutor != null) {
+            this.compositeUploadExecutor.shutdown();
+        }
+    }
+
     @Bean
     @ConfigurationProperties(value = "storage.catalog-videos")
     public StorageProperties storageProperties() {
         return new StorageProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.reaper")
+    public MediaReaperProperties mediaReaperProperties() {
+        return new MediaReaperProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.key-migration")
+    public MediaKeyMigrationProperties mediaKeyMigrationProperties() {
+        return new MediaKeyMigrationProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.upload-sessions")
+    public UploadSessionProperties uploadSessionProperties() {
+        return new UploadSessionProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.image-cache")
+    public ImageCacheProperties imageCacheProperties() {
+        return new ImageCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.ingest")
+    public MediaIngestProperties mediaIngestProperties() {
+        return new MediaIngestProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.filesystem")
+    public FileSystemStorageProperties fileSystemStorageProperties() {
+        return new FileSystemStorageProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalog-videos.in-memory")
+    public InMemoryStorageProperties inMemoryStorageProperties() {
+        return new InMemoryStorageProperties();
+    }
+
     @Bean
     @Profile({"dev", "e2e-test", "integration-test"})
-    public StorageService localStorageAPI() {
-        return new InMemoryStorageService();
+    public StorageService localStorageAPI(final InMemoryStorageProperties props, final MeterRegistry meterRegistry) {
+        return new InstrumentedStorageService(
+                new InMemoryStorageService(
+                        props.getMaxSize().toBytes(),
+                        Math.toIntExact(props.getSlabSize().toBytes()),
+                        props.getOverflowPolicy()
+                ),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "storage.catalog-videos", name = "provider", havingValue = "filesystem")
+    public StorageService fileSystemStorageAPI(
+            final FileSystemStorageProperties props,
+            final MeterRegistry meterRegistry
+    ) {
+        return new InstrumentedStorageService(
+                new FileSystemStorageService(Path.of(props.getRoot()), props.getFsyncPolicy()),
+                meterRegistry
+        );
     }
 
     @Bean
     @ConditionalOnMissingBean
     public StorageService gcStorageAPI(
             final GoogleStorageProperties props,
-            final Storage storage
+            final Storage storage,
+            final MeterRegistry meterRegistry
     ) {
-        return new GCStorageService(props.getBucket(), storage);
+        if (!props.isCompositeUploadEnabled()) {
+            return new InstrumentedStorageService(new GCStorageService(props.getBucket(), storage), meterRegistry);
+        }
+
+        this.compositeUploadExecutor = compositeUploadExecutor(props.getCompositeUploadParallelism());
+
+        final var compositeUpload = GCStorageService.CompositeUpload.with(
+                props.getCompositeUploadThreshold().toBytes(),
+                Math.toIntExact(props.getCompositeUploadPartSize().toBytes()),
+                props.getCompositeUploadParallelism()
+        );
+
+        return new InstrumentedStorageService(
+                new GCStorageService(props.getBucket(), storage, compositeUpload, this.compositeUploadExecutor),
+                meterRegistry
+        );
+    }
+
+    private static ExecutorService compositeUploadExecutor(final int parallelism) {
+        final var threads = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(parallelism, task -> {
+            final var thread = new Thread(task, "gcs-composite-upload-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
 }
\ No newline at end of file
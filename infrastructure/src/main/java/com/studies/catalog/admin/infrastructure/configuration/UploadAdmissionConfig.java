@@ -0,0 +1,42 @@
+package com.studies.catalog.admin.infrastructure.configuration;
+
+import com.studies.catalog.admin.infrastructure.api.admission.UploadAdmissionControl;
+import com.studies.catalog.admin.infrastructure.api.admission.UploadAdmissionFilter;
+import com.studies.catalog.admin.infrastructure.configuration.properties.web.UploadAdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "upload.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UploadAdmissionConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "upload.admission")
+    public UploadAdmissionProperties uploadAdmissionProperties() {
+        return new UploadAdmissionProperties();
+    }
+
+    @Bean
+    public UploadAdmissionControl uploadAdmissionControl(
+            final UploadAdmissionProperties props,
+            final MeterRegistry meterRegistry
+    ) {
+        return new UploadAdmissionControl(props, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<UploadAdmissionFilter> uploadAdmissionFilter(
+            final UploadAdmissionControl admissionControl
+    ) {
+        final var registration = new FilterRegistrationBean<>(new UploadAdmissionFilter(admissionControl));
+        // Runs right after authentication so anonymous callers never hold upload capacity
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+}
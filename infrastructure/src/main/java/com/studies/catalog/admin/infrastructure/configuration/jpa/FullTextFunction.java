@@ -0,0 +1,85 @@
+package com.studies.catalog.admin.infrastructure.configuration.jpa;
+
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import java.util.ArrayList;
+import java.util.List;
+
+// MATCH ... AGAINST on MySQL, which needs a FULLTEXT index over the columns, and a substring test elsewhere
+public class FullTextFunction implements SQLFunction {
+
+    public static final String NATURAL = "fulltext_natural";
+    public static final String BOOLEAN = "fulltext_boolean";
+
+    private final String modifier;
+    private final boolean nativeFullText;
+
+    public FullTextFunction(final String modifier, final boolean nativeFullText) {
+        this.modifier = modifier;
+        this.nativeFullText = nativeFullText;
+    }
+
+    public static Expression<Double> relevance(
+            final CriteriaBuilder cb,
+            final SearchMode aMode,
+            final String terms,
+            final Expression<?>... columns
+    ) {
+        final var name = switch (aMode) {
+            case NATURAL -> NATURAL;
+            case BOOLEAN -> BOOLEAN;
+            case CONTAINS -> throw new IllegalArgumentException("%s is not a full-text search mode".formatted(aMode));
+        };
+
+        final var arguments = new ArrayList<Expression<?>>(List.of(columns));
+        arguments.add(cb.literal(terms));
+
+        return cb.function(name, Double.class, arguments.toArray(Expression[]::new));
+    }
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) throws QueryException {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public String render(
+            final Type firstArgumentType,
+            final List arguments,
+            final SessionFactoryImplementor factory
+    ) throws QueryException {
+        if (arguments.size() < 2) {
+            throw new QueryException("Full-text search needs at least one column and the search terms");
+        }
+
+        final var columns = String.join(", ", arguments.subList(0, arguments.size() - 1));
+        final var terms = arguments.get(arguments.size() - 1);
+
+        if (this.nativeFullText) {
+            return "match(%s) against (%s %s)".formatted(columns, terms, this.modifier);
+        }
+
+        return "(case when locate(upper(%s), upper(concat_ws(' ', %s))) > 0 then 1.0 else 0.0 end)"
+                .formatted(terms, columns);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.studies.catalog.admin.infrastructure.configuration.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+
+public class FullTextFunctionContributor implements MetadataBuilderContributor {
+
+    private final boolean nativeFullText;
+
+    public FullTextFunctionContributor(final boolean nativeFullText) {
+        this.nativeFullText = nativeFullText;
+    }
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(
+                FullTextFunction.NATURAL,
+                new FullTextFunction("in natural language mode", this.nativeFullText)
+        );
+        metadataBuilder.applySqlFunction(
+                FullTextFunction.BOOLEAN,
+                new FullTextFunction("in boolean mode", this.nativeFullText)
+        );
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.cache;
+
+import java.time.Duration;
+
+public class CacheRegionProperties {
+
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private long maxEntries = 10_000;
+
+    public CacheRegionProperties() {
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public CacheRegionProperties setTtl(Duration ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public CacheRegionProperties setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheRegionProperties{" +
+                "ttl=" + ttl +
+                ", maxEntries=" + maxEntries +
+                '}';
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ExistenceCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceCacheProperties.class);
+
+    private Duration ttl = Duration.ofMinutes(1);
+
+    private long maxEntries = 100_000;
+
+    public ExistenceCacheProperties() {
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public ExistenceCacheProperties setTtl(Duration ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public ExistenceCacheProperties setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExistenceCacheProperties{" +
+                "ttl=" + ttl +
+                ", maxEntries=" + maxEntries +
+                '}';
+    }
+
+}
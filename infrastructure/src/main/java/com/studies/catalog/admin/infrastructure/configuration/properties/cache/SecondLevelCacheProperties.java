@@ -0,0 +1,52 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SecondLevelCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheProperties.class);
+
+    private boolean enabled = true;
+
+    private Map<String, CacheRegionProperties> regions = new LinkedHashMap<>();
+
+    public SecondLevelCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SecondLevelCacheProperties setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public Map<String, CacheRegionProperties> getRegions() {
+        return regions;
+    }
+
+    public SecondLevelCacheProperties setRegions(Map<String, CacheRegionProperties> regions) {
+        this.regions = regions;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "SecondLevelCacheProperties{" +
+                "enabled=" + enabled +
+                ", regions=" + regions +
+                '}';
+    }
+
+}
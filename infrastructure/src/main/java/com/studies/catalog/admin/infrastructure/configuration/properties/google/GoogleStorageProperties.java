@@ -1,5 +1,7 @@
 package com.studies.catalog.admin.infrastructure.configuration.properties.google;
 
+import org.springframework.util.unit.DataSize;
+
 public class GoogleStorageProperties {
 
     private String bucket;
@@ -9,6 +11,10 @@ public class GoogleStorageProperties {
     private int retryMaxDelay;
     private int retryMaxAttempts;
     private double retryMultiplier;
+    private boolean compositeUploadEnabled;
+    private DataSize compositeUploadThreshold = DataSize.ofMegabytes(256);
+    private DataSize compositeUploadPartSize = DataSize.ofMegabytes(32);
+    private int compositeUploadParallelism = 8;
 
     public GoogleStorageProperties() {
     }
@@ -76,4 +82,40 @@ public class GoogleStorageProperties {
         return this;
     }
 
-}
\ No newline at end of file
+    public boolean isCompositeUploadEnabled() {
+        return compositeUploadEnabled;
+    }
+
+    public GoogleStorageProperties setCompositeUploadEnabled(boolean compositeUploadEnabled) {
+        this.compositeUploadEnabled = compositeUploadEnabled;
+        return this;
+    }
+
+    public DataSize getCompositeUploadThreshold() {
+        return compositeUploadThreshold;
+    }
+
+    public GoogleStorageProperties setCompositeUploadThreshold(DataSize compositeUploadThreshold) {
+        this.compositeUploadThreshold = compositeUploadThreshold;
+        return this;
+    }
+
+    public DataSize getCompositeUploadPartSize() {
+        return compositeUploadPartSize;
+    }
+
+    public GoogleStorageProperties setCompositeUploadPartSize(DataSize compositeUploadPartSize) {
+        this.compositeUploadPartSize = compositeUploadPartSize;
+        return this;
+    }
+
+    public int getCompositeUploadParallelism() {
+        return compositeUploadParallelism;
+    }
+
+    public GoogleStorageProperties setCompositeUploadParallelism(int compositeUploadParallelism) {
+        this.compositeUploadParallelism = compositeUploadParallelism;
+        return this;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class SearchIndexProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexProperties.class);
+
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    private int maxCandidates = 1000;
+
+    private int maxSuggestions = 50;
+
+    public SearchIndexProperties() {
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public SearchIndexProperties setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+        return this;
+    }
+
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    public SearchIndexProperties setMaxCandidates(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+        return this;
+    }
+
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    public SearchIndexProperties setMaxSuggestions(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "SearchIndexProperties{" +
+                "refreshInterval=" + refreshInterval +
+                ", maxCandidates=" + maxCandidates +
+                ", maxSuggestions=" + maxSuggestions +
+                '}';
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import com.studies.catalog.admin.infrastructure.services.impl.FileSystemStorageService.FsyncPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class FileSystemStorageProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemStorageProperties.class);
+
+    private String root;
+
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.FILE;
+
+    public FileSystemStorageProperties() {
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    public FileSystemStorageProperties setRoot(String root) {
+        this.root = root;
+        return this;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public FileSystemStorageProperties setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "FileSystemStorageProperties{" +
+                "root='" + root + '\'' +
+                ", fsyncPolicy=" + fsyncPolicy +
+                '}';
+    }
+
+}
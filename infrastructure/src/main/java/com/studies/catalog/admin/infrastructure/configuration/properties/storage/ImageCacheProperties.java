@@ -0,0 +1,76 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+public class ImageCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageCacheProperties.class);
+
+    private boolean enabled = true;
+
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    private DataSize maxEntrySize = DataSize.ofMegabytes(2);
+
+    private Duration ttl = Duration.ofMinutes(5);
+
+    public ImageCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ImageCacheProperties setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public ImageCacheProperties setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public ImageCacheProperties setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+        return this;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public ImageCacheProperties setTtl(Duration ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ImageCacheProperties{" +
+                "enabled=" + enabled +
+                ", maxSize=" + maxSize +
+                ", maxEntrySize=" + maxEntrySize +
+                ", ttl=" + ttl +
+                '}';
+    }
+
+}
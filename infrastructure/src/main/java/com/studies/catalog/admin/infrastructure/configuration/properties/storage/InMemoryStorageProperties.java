@@ -0,0 +1,63 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+public class InMemoryStorageProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStorageProperties.class);
+
+    private DataSize maxSize = DataSize.ofMegabytes(512);
+
+    private DataSize slabSize = DataSize.ofMegabytes(1);
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+
+    public InMemoryStorageProperties() {
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public InMemoryStorageProperties setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public DataSize getSlabSize() {
+        return slabSize;
+    }
+
+    public InMemoryStorageProperties setSlabSize(DataSize slabSize) {
+        this.slabSize = slabSize;
+        return this;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public InMemoryStorageProperties setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryStorageProperties{" +
+                "maxSize=" + maxSize +
+                ", slabSize=" + slabSize +
+                ", overflowPolicy=" + overflowPolicy +
+                '}';
+    }
+
+}
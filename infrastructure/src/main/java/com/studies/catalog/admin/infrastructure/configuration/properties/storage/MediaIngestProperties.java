@@ -0,0 +1,88 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class MediaIngestProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaIngestProperties.class);
+
+    private String spoolDir = Path.of(System.getProperty("java.io.tmpdir"), "catalog-media-ingest").toString();
+
+    private int concurrency = 4;
+
+    private int queueCapacity = 64;
+
+    private Duration retention = Duration.ofHours(1);
+
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    public MediaIngestProperties() {
+    }
+
+    public String getSpoolDir() {
+        return spoolDir;
+    }
+
+    public MediaIngestProperties setSpoolDir(String spoolDir) {
+        this.spoolDir = spoolDir;
+        return this;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public MediaIngestProperties setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public MediaIngestProperties setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public MediaIngestProperties setRetention(Duration retention) {
+        this.retention = retention;
+        return this;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public MediaIngestProperties setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "MediaIngestProperties{" +
+                "spoolDir='" + spoolDir + '\'' +
+                ", concurrency=" + concurrency +
+                ", queueCapacity=" + queueCapacity +
+                ", retention=" + retention +
+                ", retryAfter=" + retryAfter +
+                '}';
+    }
+
+}
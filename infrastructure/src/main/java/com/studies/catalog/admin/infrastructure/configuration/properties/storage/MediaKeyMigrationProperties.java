@@ -0,0 +1,49 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class MediaKeyMigrationProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaKeyMigrationProperties.class);
+
+    private boolean enabled;
+
+    private int batchSize = 500;
+
+    public MediaKeyMigrationProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public MediaKeyMigrationProperties setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public MediaKeyMigrationProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "MediaKeyMigrationProperties{" +
+                "enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                '}';
+    }
+
+}
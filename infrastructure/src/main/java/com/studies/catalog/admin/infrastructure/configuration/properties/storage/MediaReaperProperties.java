@@ -0,0 +1,75 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class MediaReaperProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaReaperProperties.class);
+
+    private boolean enabled = true;
+
+    private int batchSize = 100;
+
+    private Duration retryDelay = Duration.ofSeconds(30);
+
+    private Duration retryMaxDelay = Duration.ofHours(1);
+
+    public MediaReaperProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public MediaReaperProperties setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public MediaReaperProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public MediaReaperProperties setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+        return this;
+    }
+
+    public Duration getRetryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    public MediaReaperProperties setRetryMaxDelay(Duration retryMaxDelay) {
+        this.retryMaxDelay = retryMaxDelay;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "MediaReaperProperties{" +
+                "enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                ", retryDelay=" + retryDelay +
+                ", retryMaxDelay=" + retryMaxDelay +
+                '}';
+    }
+
+}
@@ -1,47 +1,103 @@
-package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.InitializingBean;
-
-public class StorageProperties implements InitializingBean {
-
-    private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
-
-    private String locationPattern;
-
-    private String filenamePattern;
-
-    public StorageProperties() {
-    }
-
-    public String getLocationPattern() {
-        return locationPattern;
-    }
-
-    public void setLocationPattern(String locationPattern) {
-        this.locationPattern = locationPattern;
-    }
-
-    public String getFilenamePattern() {
-        return filenamePattern;
-    }
-
-    public void setFilenamePattern(String filenamePattern) {
-        this.filenamePattern = filenamePattern;
-    }
-
-    @Override
-    public void afterPropertiesSet() {
-        log.debug(toString());
-    }
-
-    @Override
-    public String toString() {
-        return "StorageProperties{" +
-                "locationPattern='" + locationPattern + '\'' +
-                ", filenamePattern='" + filenamePattern + '\'' +
-                '}';
-    }
-
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import com.studies.catalog.admin.infrastructure.video.MediaKeyLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class StorageProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
+
+    private String locationPattern;
+
+    private String filenamePattern;
+
+    private boolean deduplication;
+
+    private int uploadConcurrency = 16;
+
+    private int uploadQueueCapacity = 256;
+
+    private MediaKeyLayout.Type keyLayout = MediaKeyLayout.Type.FLAT;
+
+    private int keyPrefixLength = 2;
+
+    public StorageProperties() {
+    }
+
+    public String getLocationPattern() {
+        return locationPattern;
+    }
+
+    public void setLocationPattern(String locationPattern) {
+        this.locationPattern = locationPattern;
+    }
+
+    public String getFilenamePattern() {
+        return filenamePattern;
+    }
+
+    public void setFilenamePattern(String filenamePattern) {
+        this.filenamePattern = filenamePattern;
+    }
+
+    public boolean isDeduplication() {
+        return deduplication;
+    }
+
+    public void setDeduplication(boolean deduplication) {
+        this.deduplication = deduplication;
+    }
+
+    public int getUploadConcurrency() {
+        return uploadConcurrency;
+    }
+
+    public void setUploadConcurrency(int uploadConcurrency) {
+        this.uploadConcurrency = uploadConcurrency;
+    }
+
+    public int getUploadQueueCapacity() {
+        return uploadQueueCapacity;
+    }
+
+    public void setUploadQueueCapacity(int uploadQueueCapacity) {
+        this.uploadQueueCapacity = uploadQueueCapacity;
+    }
+
+    public MediaKeyLayout.Type getKeyLayout() {
+        return keyLayout;
+    }
+
+    public void setKeyLayout(MediaKeyLayout.Type keyLayout) {
+        this.keyLayout = keyLayout;
+    }
+
+    public int getKeyPrefixLength() {
+        return keyPrefixLength;
+    }
+
+    public void setKeyPrefixLength(int keyPrefixLength) {
+        this.keyPrefixLength = keyPrefixLength;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "StorageProperties{" +
+                "locationPattern='" + locationPattern + '\'' +
+                ", filenamePattern='" + filenamePattern + '\'' +
+                ", deduplication=" + deduplication +
+                ", uploadConcurrency=" + uploadConcurrency +
+                ", uploadQueueCapacity=" + uploadQueueCapacity +
+                ", keyLayout=" + keyLayout +
+                ", keyPrefixLength=" + keyPrefixLength +
+                '}';
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class UploadSessionProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionProperties.class);
+
+    private boolean enabled = true;
+
+    private Duration ttl = Duration.ofHours(24);
+
+    private int batchSize = 100;
+
+    public UploadSessionProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UploadSessionProperties setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public UploadSessionProperties setTtl(Duration ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public UploadSessionProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "UploadSessionProperties{" +
+                "enabled=" + enabled +
+                ", ttl=" + ttl +
+                ", batchSize=" + batchSize +
+                '}';
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class PaginationProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PaginationProperties.class);
+
+    private Duration estimatedTotalTtl = Duration.ofSeconds(30);
+
+    private long estimatedTotalMaxEntries = 1000;
+
+    public PaginationProperties() {
+    }
+
+    public Duration getEstimatedTotalTtl() {
+        return estimatedTotalTtl;
+    }
+
+    public PaginationProperties setEstimatedTotalTtl(Duration estimatedTotalTtl) {
+        this.estimatedTotalTtl = estimatedTotalTtl;
+        return this;
+    }
+
+    public long getEstimatedTotalMaxEntries() {
+        return estimatedTotalMaxEntries;
+    }
+
+    public PaginationProperties setEstimatedTotalMaxEntries(long estimatedTotalMaxEntries) {
+        this.estimatedTotalMaxEntries = estimatedTotalMaxEntries;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "PaginationProperties{" +
+                "estimatedTotalTtl=" + estimatedTotalTtl +
+                ", estimatedTotalMaxEntries=" + estimatedTotalMaxEntries +
+                '}';
+    }
+
+}
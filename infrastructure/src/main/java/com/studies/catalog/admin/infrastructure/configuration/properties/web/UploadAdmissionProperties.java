@@ -0,0 +1,100 @@
+package com.studies.catalog.admin.infrastructure.configuration.properties.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+public class UploadAdmissionProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadAdmissionProperties.class);
+
+    private boolean enabled = true;
+
+    private int maxConcurrentUploads = 8;
+
+    private DataSize maxInFlightBytes = DataSize.ofGigabytes(8);
+
+    private DataSize unknownLengthReservation = DataSize.ofGigabytes(1);
+
+    private Duration queueTimeout = Duration.ofSeconds(5);
+
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    public UploadAdmissionProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UploadAdmissionProperties setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    public UploadAdmissionProperties setMaxConcurrentUploads(int maxConcurrentUploads) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+        return this;
+    }
+
+    public DataSize getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    public UploadAdmissionProperties setMaxInFlightBytes(DataSize maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+        return this;
+    }
+
+    public DataSize getUnknownLengthReservation() {
+        return unknownLengthReservation;
+    }
+
+    public UploadAdmissionProperties setUnknownLengthReservation(DataSize unknownLengthReservation) {
+        this.unknownLengthReservation = unknownLengthReservation;
+        return this;
+    }
+
+    public Duration getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    public UploadAdmissionProperties setQueueTimeout(Duration queueTimeout) {
+        this.queueTimeout = queueTimeout;
+        return this;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public UploadAdmissionProperties setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "UploadAdmissionProperties{" +
+                "enabled=" + enabled +
+                ", maxConcurrentUploads=" + maxConcurrentUploads +
+                ", maxInFlightBytes=" + maxInFlightBytes +
+                ", unknownLengthReservation=" + unknownLengthReservation +
+                ", queueTimeout=" + queueTimeout +
+                ", retryAfter=" + retryAfter +
+                '}';
+    }
+
+}
@@ -8,6 +8,8 @@ import com.studies.catalog.admin.application.castmember.retrieve.get.GetCastMemb
 import com.studies.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCaseImpl;
 import com.studies.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.studies.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCaseImpl;
+import com.studies.catalog.admin.application.castmember.retrieve.suggest.SuggestCastMembersUseCase;
+import com.studies.catalog.admin.application.castmember.retrieve.suggest.SuggestCastMembersUseCaseImpl;
 import com.studies.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
 import com.studies.catalog.admin.application.castmember.update.UpdateCastMemberUseCaseImpl;
 import com.studies.catalog.admin.domain.castmember.CastMemberGateway;
@@ -50,4 +52,9 @@ public class CastMemberUseCaseConfig {
         return new DeleteCastMemberUseCaseImpl(castMemberGateway);
     }
 
+    @Bean
+    public SuggestCastMembersUseCase suggestCastMembersUseCase() {
+        return new SuggestCastMembersUseCaseImpl(castMemberGateway);
+    }
+
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import com.studies.catalog.admin.application.category.retrieve.get.GetCategoryBy
 import com.studies.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCaseImpl;
 import com.studies.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
 import com.studies.catalog.admin.application.category.retrieve.list.ListCategoriesUseCaseImpl;
+import com.studies.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
+import com.studies.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCaseImpl;
 import com.studies.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.studies.catalog.admin.application.category.update.UpdateCategoryUseCaseImpl;
 import com.studies.catalog.admin.domain.category.CategoryGateway;
@@ -48,4 +50,9 @@ public class CategoryUseCaseConfig {
         return new DeleteCategoryUseCaseImpl(categoryGateway);
     }
 
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        return new SuggestCategoriesUseCaseImpl(categoryGateway);
+    }
+
 }
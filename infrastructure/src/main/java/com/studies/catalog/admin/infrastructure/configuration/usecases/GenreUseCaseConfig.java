@@ -8,6 +8,8 @@ import com.studies.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseC
 import com.studies.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCaseImpl;
 import com.studies.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
 import com.studies.catalog.admin.application.genre.retrieve.list.ListGenreUseCaseImpl;
+import com.studies.catalog.admin.application.genre.retrieve.suggest.SuggestGenreUseCase;
+import com.studies.catalog.admin.application.genre.retrieve.suggest.SuggestGenreUseCaseImpl;
 import com.studies.catalog.admin.application.genre.update.UpdateGenreUseCase;
 import com.studies.catalog.admin.application.genre.update.UpdateGenreUseCaseImpl;
 import com.studies.catalog.admin.domain.category.CategoryGateway;
@@ -56,4 +58,9 @@ public class GenreUseCaseConfig {
         return new DeleteGenreUseCaseImpl(genreGateway);
     }
 
+    @Bean
+    public SuggestGenreUseCase suggestGenreUseCase() {
+        return new SuggestGenreUseCaseImpl(genreGateway);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.studies.catalog.admin.infrastructure.configuration.usecases;
+
+import com.studies.catalog.admin.application.video.create.CreateVideoUseCase;
+import com.studies.catalog.admin.application.video.create.CreateVideoWithIngestUseCase;
+import com.studies.catalog.admin.application.video.create.CreateVideoWithIngestUseCaseImpl;
+import com.studies.catalog.admin.application.video.media.ingest.GetMediaIngestByIdUseCase;
+import com.studies.catalog.admin.application.video.media.ingest.GetMediaIngestByIdUseCaseImpl;
+import com.studies.catalog.admin.application.video.media.ingest.IngestMediaUseCase;
+import com.studies.catalog.admin.application.video.media.ingest.IngestMediaUseCaseImpl;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+// Kept apart from VideoUseCaseConfig, the ingest gateway depends on the upload use case declared there
+@Configuration
+public class MediaIngestUseCaseConfig {
+
+    private final MediaIngestGateway mediaIngestGateway;
+
+    public MediaIngestUseCaseConfig(final MediaIngestGateway mediaIngestGateway) {
+        this.mediaIngestGateway = Objects.requireNonNull(mediaIngestGateway);
+    }
+
+    @Bean
+    public IngestMediaUseCase ingestMediaUseCase() {
+        return new IngestMediaUseCaseImpl(mediaIngestGateway);
+    }
+
+    @Bean
+    public GetMediaIngestByIdUseCase getMediaIngestByIdUseCase() {
+        return new GetMediaIngestByIdUseCaseImpl(mediaIngestGateway);
+    }
+
+    @Bean
+    public CreateVideoWithIngestUseCase createVideoWithIngestUseCase(final CreateVideoUseCase createVideoUseCase) {
+        return new CreateVideoWithIngestUseCaseImpl(mediaIngestGateway, createVideoUseCase);
+    }
+
+}
\ No newline at end of file
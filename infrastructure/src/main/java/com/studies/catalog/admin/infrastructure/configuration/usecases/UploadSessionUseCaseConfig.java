@@ -0,0 +1,55 @@
+package com.studies.catalog.admin.infrastructure.configuration.usecases;
+
+import com.studies.catalog.admin.application.upload.chunk.UploadChunkUseCase;
+import com.studies.catalog.admin.application.upload.chunk.UploadChunkUseCaseImpl;
+import com.studies.catalog.admin.application.upload.complete.CompleteUploadSessionUseCase;
+import com.studies.catalog.admin.application.upload.complete.CompleteUploadSessionUseCaseImpl;
+import com.studies.catalog.admin.application.upload.create.CreateUploadSessionUseCase;
+import com.studies.catalog.admin.application.upload.create.CreateUploadSessionUseCaseImpl;
+import com.studies.catalog.admin.application.upload.retrieve.get.GetUploadSessionByIdUseCase;
+import com.studies.catalog.admin.application.upload.retrieve.get.GetUploadSessionByIdUseCaseImpl;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+import com.studies.catalog.admin.domain.video.VideoGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+@Configuration
+public class UploadSessionUseCaseConfig {
+
+    private final UploadSessionGateway uploadSessionGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
+
+    public UploadSessionUseCaseConfig(final UploadSessionGateway uploadSessionGateway,
+                                      final MediaResourceGateway mediaResourceGateway,
+                                      final VideoGateway videoGateway) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Bean
+    public CreateUploadSessionUseCase createUploadSessionUseCase() {
+        return new CreateUploadSessionUseCaseImpl(uploadSessionGateway, videoGateway);
+    }
+
+    @Bean
+    public GetUploadSessionByIdUseCase getUploadSessionByIdUseCase() {
+        return new GetUploadSessionByIdUseCaseImpl(uploadSessionGateway);
+    }
+
+    @Bean
+    public UploadChunkUseCase uploadChunkUseCase() {
+        return new UploadChunkUseCaseImpl(uploadSessionGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public CompleteUploadSessionUseCase completeUploadSessionUseCase(final UploadMediaUseCase uploadMediaUseCase) {
+        return new CompleteUploadSessionUseCaseImpl(uploadSessionGateway, mediaResourceGateway, uploadMediaUseCase);
+    }
+
+}
@@ -16,35 +16,39 @@ import com.studies.catalog.admin.application.video.retrieve.list.ListVideosUseCa
 import com.studies.catalog.admin.application.video.retrieve.list.ListVideosUseCaseImpl;
 import com.studies.catalog.admin.application.video.update.UpdateVideoUseCase;
 import com.studies.catalog.admin.application.video.update.UpdateVideoUseCaseImpl;
-import com.studies.catalog.admin.domain.castmember.CastMemberGateway;
-import com.studies.catalog.admin.domain.category.CategoryGateway;
-import com.studies.catalog.admin.domain.genre.GenreGateway;
 import com.studies.catalog.admin.domain.video.MediaResourceGateway;
 import com.studies.catalog.admin.domain.video.VideoGateway;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class VideoUseCaseConfig {
 
-    private final CategoryGateway categoryGateway;
-    private final CastMemberGateway castMemberGateway;
-    private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final ExecutorService mediaStorageExecutor;
 
-    public VideoUseCaseConfig(final CategoryGateway categoryGateway,
-                              final CastMemberGateway castMemberGateway,
-                              final GenreGateway genreGateway,
-                              final MediaResourceGateway mediaResourceGateway,
-                              final VideoGateway videoGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+    public VideoUseCaseConfig(final MediaResourceGateway mediaResourceGateway,
+                              final VideoGateway videoGateway,
+                              final StorageProperties storageProperties) {
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaStorageExecutor = mediaStorageExecutor(Objects.requireNonNull(storageProperties));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.mediaStorageExecutor.shutdown();
     }
 
     @Bean
@@ -64,17 +68,25 @@ public class VideoUseCaseConfig {
 
     @Bean
     public CreateVideoUseCase createVideoUseCase() {
-        return new CreateVideoUseCaseImpl(categoryGateway, castMemberGateway, genreGateway, videoGateway, mediaResourceGateway);
+        return new CreateVideoUseCaseImpl(videoGateway, mediaResourceGateway, mediaStorageExecutor);
     }
 
     @Bean
     public UpdateVideoUseCase updateVideoUseCase() {
-        return new UpdateVideoUseCaseImpl(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
+        return new UpdateVideoUseCaseImpl(videoGateway, mediaResourceGateway);
     }
 
     @Bean
-    public DeleteVideoUseCase deleteVideoUseCase() {
-        return new DeleteVideoUseCaseImpl(videoGateway, mediaResourceGateway);
+    public DeleteVideoUseCase deleteVideoUseCase(final TransactionTemplate transactionTemplate) {
+        final var aUseCase = new DeleteVideoUseCaseImpl(videoGateway, mediaResourceGateway);
+
+        // The row and the tombstones of its media commit together, so neither outlives the other
+        return new DeleteVideoUseCase() {
+            @Override
+            public void execute(final String anId) {
+                transactionTemplate.executeWithoutResult(status -> aUseCase.execute(anId));
+            }
+        };
     }
 
     @Bean
@@ -87,4 +99,22 @@ public class VideoUseCaseConfig {
         return new UpdateMediaStatusUseCaseImpl(videoGateway);
     }
 
-}
\ No newline at end of file
+    private static ExecutorService mediaStorageExecutor(final StorageProperties props) {
+        final var threads = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                props.getUploadConcurrency(),
+                props.getUploadConcurrency(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getUploadQueueCapacity()),
+                task -> {
+                    final var thread = new Thread(task, "media-storage-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+}
@@ -5,11 +5,13 @@ import com.studies.catalog.admin.domain.genre.GenreGateway;
 import com.studies.catalog.admin.domain.genre.GenreID;
 import com.studies.catalog.admin.domain.pagination.Pagination;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
+import com.studies.catalog.admin.domain.pagination.Suggestion;
+import com.studies.catalog.admin.infrastructure.cache.ExistenceCache;
 import com.studies.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import com.studies.catalog.admin.infrastructure.genre.persistence.GenreRepository;
-import com.studies.catalog.admin.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.studies.catalog.admin.infrastructure.pagination.Paginator;
+import com.studies.catalog.admin.infrastructure.search.ReferenceSearchIndex;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -24,32 +26,36 @@ import static org.springframework.data.jpa.domain.Specification.where;
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
-
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final Paginator paginator;
+    private final ReferenceSearchIndex searchIndex;
+    private final ExistenceCache existenceCache;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final Paginator paginator,
+            final ReferenceSearchIndex searchIndex,
+            final ExistenceCache existenceCache
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
     }
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult =
-                this.genreRepository.findAll(where(where), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+        return this.paginator.findAll(
+                this.genreRepository,
+                GenreJpaEntity.class,
+                where(where),
+                aQuery,
+                this.genreRepository::findAllWithCategoriesByIds,
+                GenreJpaEntity::toAggregate
         );
     }
 
@@ -72,8 +78,11 @@ public class GenreMySQLGateway implements GenreGateway {
     @Override
     public void deleteById(final GenreID anId) {
         final var aGenreId = anId.getValue();
-        if (this.genreRepository.existsById(aGenreId))
+        if (this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
+            this.searchIndex.removed(GenreJpaEntity.class, aGenreId);
+            this.existenceCache.evict(GenreJpaEntity.class, aGenreId);
+        }
     }
 
     @Override
@@ -81,18 +90,27 @@ public class GenreMySQLGateway implements GenreGateway {
         final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
                 .map(GenreID::getValue)
                 .toList();
-        return this.genreRepository.existsByIds(ids).stream()
+
+        return this.existenceCache.existing(GenreJpaEntity.class, ids, this.genreRepository::existsByIds).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery aQuery) {
+        return this.searchIndex.suggest(GenreJpaEntity.class, aQuery.terms(), aQuery.limit()).stream()
+                .map(it -> new Suggestion(it.id(), it.name()))
+                .toList();
+    }
+
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return this.searchIndex.specification(GenreJpaEntity.class, terms, "name");
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
-                .toAggregate();
+        final var saved = this.genreRepository.save(GenreJpaEntity.from(aGenre));
+        this.searchIndex.indexed(saved);
+        return saved.toAggregate();
     }
 
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.studies.catalog.admin.infrastructure.genre.persistence;
 
 import com.studies.catalog.admin.domain.category.CategoryID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
 @Table(name = "genres_categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "genre-category")
 public class GenreCategoryJpaEntity {
 
     @EmbeddedId
@@ -3,6 +3,8 @@ package com.studies.catalog.admin.infrastructure.genre.persistence;
 import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.genre.Genre;
 import com.studies.catalog.admin.domain.genre.GenreID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -15,6 +17,8 @@ import static javax.persistence.FetchType.EAGER;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "genre")
 public class GenreJpaEntity {
 
     @Id
@@ -27,6 +31,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "genre-categories")
     @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
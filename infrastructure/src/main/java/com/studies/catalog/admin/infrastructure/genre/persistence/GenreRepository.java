@@ -5,10 +5,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
@@ -16,4 +20,12 @@ public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
 
+    @Query(value = "select distinct g from Genre g left join fetch g.categories")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<GenreJpaEntity> findAllWithCategories();
+
+    @Query(value = "select distinct g from Genre g left join fetch g.categories where g.id in :ids")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<GenreJpaEntity> findAllWithCategoriesByIds(@Param("ids") List<String> ids);
+
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.studies.catalog.admin.infrastructure.pagination;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
+import com.studies.catalog.admin.infrastructure.configuration.properties.web.PaginationProperties;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+@Component
+public class Paginator {
+
+    private static final String ID = "id";
+
+    private final Cache<List<Object>, Long> estimatedTotals;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Paginator(final PaginationProperties props) {
+        this.estimatedTotals = CacheBuilder.newBuilder()
+                .expireAfterWrite(props.getEstimatedTotalTtl())
+                .maximumSize(props.getEstimatedTotalMaxEntries())
+                .build();
+    }
+
+    public <E, T> Pagination<T> findAll(
+            final JpaSpecificationExecutor<E> aRepository,
+            final Class<E> anEntity,
+            final Specification<E> aSpecification,
+            final SearchQuery aQuery,
+            final Function<E, T> aMapper
+    ) {
+        final var rows = slice(anEntity, anEntity, root -> root, aSpecification, aQuery);
+
+        return page(aRepository, anEntity, aSpecification, aQuery, rows).map(aMapper);
+    }
+
+    // Pages over ids only, so entities with eager collections are loaded in one query per page
+    public <E, T> Pagination<T> findAll(
+            final JpaSpecificationExecutor<E> aRepository,
+            final Class<E> anEntity,
+            final Specification<E> aSpecification,
+            final SearchQuery aQuery,
+            final Function<List<String>, List<E>> aLoader,
+            final Function<E, T> aMapper
+    ) {
+        final var ids = slice(anEntity, String.class, root -> root.get(ID), aSpecification, aQuery);
+
+        final var persistenceUnit = this.entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        final var loaded = ids.isEmpty()
+                ? Map.<Object, E>of()
+                : aLoader.apply(ids).stream().collect(Collectors.toMap(
+                        persistenceUnit::getIdentifier,
+                        Function.identity(),
+                        (it, same) -> it
+                ));
+
+        final var rows = ids.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return page(aRepository, anEntity, aSpecification, aQuery, rows).map(aMapper);
+    }
+
+    public long total(final TotalMode aMode, final List<Object> aKey, final LongSupplier aCount) {
+        return switch (aMode) {
+            case EXACT -> aCount.getAsLong();
+            case ESTIMATED -> estimated(aKey, aCount);
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    public static <T> Pagination<T> sliced(
+            final int page,
+            final int perPage,
+            final List<T> rows,
+            final TotalMode aMode,
+            final long total
+    ) {
+        final var hasNext = rows.size() > perPage;
+        final var items = hasNext ? List.copyOf(rows.subList(0, perPage)) : List.copyOf(rows);
+
+        return new Pagination<>(page, perPage, total, items, null, null, aMode, hasNext);
+    }
+
+    private long estimated(final List<Object> aKey, final LongSupplier aCount) {
+        try {
+            return this.estimatedTotals.get(aKey, aCount::getAsLong);
+        } catch (final ExecutionException e) {
+            throw InternalErrorException.with("Error on counting %s".formatted(aKey.get(0)), e.getCause());
+        }
+    }
+
+    private <E> Pagination<E> page(
+            final JpaSpecificationExecutor<E> aRepository,
+            final Class<E> anEntity,
+            final Specification<E> aSpecification,
+            final SearchQuery aQuery,
+            final List<E> rows
+    ) {
+        final var aKey = List.<Object>of(
+                anEntity.getName(),
+                aQuery.searchMode(),
+                Objects.toString(aQuery.terms(), "").trim()
+        );
+        final var total = total(aQuery.totalMode(), aKey, () -> aRepository.count(aSpecification));
+
+        return sliced(aQuery.page(), aQuery.perPage(), rows, aQuery.totalMode(), total);
+    }
+
+    private <E, R> List<R> slice(
+            final Class<E> anEntity,
+            final Class<R> aResult,
+            final Function<Root<E>, Selection<? extends R>> aSelection,
+            final Specification<E> aSpecification,
+            final SearchQuery aQuery
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(aResult);
+        final var root = query.from(anEntity);
+
+        if (aSpecification != null) {
+            final var predicate = aSpecification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        // Orders set by the specification, such as search relevance, come before the requested sort
+        final var sort = Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort());
+        final var orders = new ArrayList<>(query.getOrderList());
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+
+        query.select(aSelection.apply(root)).orderBy(orders);
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(aQuery.page() * aQuery.perPage())
+                .setMaxResults(aQuery.perPage() + 1)
+                .getResultList();
+    }
+
+}
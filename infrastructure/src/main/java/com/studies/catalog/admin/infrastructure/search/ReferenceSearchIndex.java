@@ -0,0 +1,196 @@
+package com.studies.catalog.admin.infrastructure.search;
+
+import com.studies.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.studies.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import com.studies.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.studies.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.studies.catalog.admin.infrastructure.configuration.properties.search.SearchIndexProperties;
+import com.studies.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
+import com.studies.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import com.studies.catalog.admin.infrastructure.utils.SpecificationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Node-local, rebuilt in the background once older than the refresh interval to pick up writes of other nodes
+@Component
+public class ReferenceSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceSearchIndex.class);
+
+    private final SearchIndexProperties props;
+    private final Clock clock;
+    private final Map<Class<?>, Holder<?>> holders;
+
+    public ReferenceSearchIndex(
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository,
+            final SearchIndexProperties props
+    ) {
+        this(categoryRepository, genreRepository, castMemberRepository, props, Clock.systemUTC());
+    }
+
+    ReferenceSearchIndex(
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository,
+            final SearchIndexProperties props,
+            final Clock clock
+    ) {
+        Objects.requireNonNull(categoryRepository);
+        Objects.requireNonNull(genreRepository);
+        Objects.requireNonNull(castMemberRepository);
+        this.props = Objects.requireNonNull(props);
+        this.clock = Objects.requireNonNull(clock);
+        this.holders = Map.of(
+                CategoryJpaEntity.class, new Holder<CategoryJpaEntity>(
+                        categoryRepository::findAll,
+                        it -> TrigramIndex.Document.with(it.getId(), it.getName(), it.getDescription())
+                ),
+                GenreJpaEntity.class, new Holder<GenreJpaEntity>(
+                        genreRepository::findAllWithCategories,
+                        it -> TrigramIndex.Document.with(it.getId(), it.getName())
+                ),
+                CastMemberJpaEntity.class, new Holder<CastMemberJpaEntity>(
+                        castMemberRepository::findAll,
+                        it -> TrigramIndex.Document.with(it.getId(), it.getName())
+                )
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        this.holders.forEach((aType, aHolder) -> {
+            final var size = aHolder.rebuild();
+            log.info("Search index of {} built with {} entries", aType.getSimpleName(), size);
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.index.refresh-check-interval:10000}",
+            fixedDelayString = "${search.index.refresh-check-interval:10000}"
+    )
+    public void refresh() {
+        this.holders.forEach((aType, aHolder) -> {
+            try {
+                aHolder.refresh();
+            } catch (final RuntimeException ex) {
+                // The previous index keeps serving reads, the next run tries again
+                log.warn("Failed to refresh the search index of {}", aType.getSimpleName(), ex);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        this.holders.values().forEach(Holder::invalidate);
+    }
+
+    public <T> Specification<T> specification(final Class<T> anEntity, final String aTerm, final String... props) {
+        return search(anEntity, aTerm)
+                .map(ids -> SpecificationUtils.<T>in("id", ids))
+                .orElseGet(() -> SpecificationUtils.likeAny(aTerm, props));
+    }
+
+    public List<TrigramIndex.Document> suggest(final Class<?> anEntity, final String aTerm, final int limit) {
+        final var aLimit = Math.max(1, Math.min(limit, this.props.getMaxSuggestions()));
+        return holderOf(anEntity).fresh().suggest(aTerm, aLimit);
+    }
+
+    public void indexed(final Object anEntity) {
+        holderOf(anEntity.getClass()).put(anEntity);
+    }
+
+    public void removed(final Class<?> anEntity, final String anId) {
+        holderOf(anEntity).remove(anId);
+    }
+
+    private Optional<Set<String>> search(final Class<?> anEntity, final String aTerm) {
+        final var ids = holderOf(anEntity).fresh().search(aTerm);
+        return ids.size() > this.props.getMaxCandidates() ? Optional.empty() : Optional.of(ids);
+    }
+
+    private Holder<?> holderOf(final Class<?> anEntity) {
+        return Optional.ofNullable(this.holders.get(anEntity))
+                .orElseThrow(() -> new IllegalArgumentException("%s is not indexed".formatted(anEntity.getName())));
+    }
+
+    private class Holder<E> {
+
+        private final Supplier<List<E>> loader;
+        private final Function<E, TrigramIndex.Document> mapper;
+        private final TrigramIndex index;
+        private volatile Instant builtAt;
+
+        private Holder(final Supplier<List<E>> loader, final Function<E, TrigramIndex.Document> mapper) {
+            this.loader = loader;
+            this.mapper = mapper;
+            this.index = new TrigramIndex();
+        }
+
+        private TrigramIndex fresh() {
+            // Only the very first read waits for a build, afterwards the refresh job swaps the content in place
+            if (this.builtAt == null) {
+                build();
+            }
+            return this.index;
+        }
+
+        private synchronized void build() {
+            if (this.builtAt == null) {
+                rebuild();
+            }
+        }
+
+        private synchronized void refresh() {
+            final var aBuiltAt = this.builtAt;
+            if (aBuiltAt != null && !aBuiltAt.plus(props.getRefreshInterval()).isAfter(clock.instant())) {
+                rebuild();
+            }
+        }
+
+        private synchronized int rebuild() {
+            final var startedAt = clock.instant();
+            final var documents = this.loader.get().stream()
+                    .map(this.mapper)
+                    .toList();
+
+            this.index.replaceAll(documents);
+            this.builtAt = startedAt;
+            return documents.size();
+        }
+
+        private synchronized void invalidate() {
+            this.builtAt = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void put(final Object anEntity) {
+            // Until the first build there is nothing to keep up to date, the build will read the row anyway
+            if (this.builtAt != null) {
+                this.index.put(this.mapper.apply((E) anEntity));
+            }
+        }
+
+        private void remove(final String anId) {
+            if (this.builtAt != null) {
+                this.index.remove(anId);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.studies.catalog.admin.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<String, Document> documents;
+    private final Map<String, Set<String>> postings;
+    private final ReentrantReadWriteLock lock;
+
+    public TrigramIndex() {
+        this.documents = new HashMap<>();
+        this.postings = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    public void put(final Document aDocument) {
+        this.lock.writeLock().lock();
+        try {
+            unindex(aDocument.id());
+            index(aDocument);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String anId) {
+        this.lock.writeLock().lock();
+        try {
+            unindex(anId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceAll(final Collection<Document> documents) {
+        this.lock.writeLock().lock();
+        try {
+            this.documents.clear();
+            this.postings.clear();
+            documents.forEach(this::index);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public Set<String> search(final String aTerm) {
+        final var term = normalize(aTerm);
+
+        this.lock.readLock().lock();
+        try {
+            final var matches = new HashSet<String>();
+            for (final var aDocument : candidates(term)) {
+                if (aDocument.contains(term)) {
+                    matches.add(aDocument.id());
+                }
+            }
+            return matches;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<Document> suggest(final String aTerm, final int limit) {
+        final var term = normalize(aTerm);
+        final Comparator<Document> byRelevance = Comparator
+                .comparing((Document aDocument) -> !aDocument.normalizedName().startsWith(term))
+                .thenComparingInt(aDocument -> aDocument.name().length())
+                .thenComparing(Document::name);
+
+        this.lock.readLock().lock();
+        try {
+            return candidates(term).stream()
+                    .filter(aDocument -> aDocument.contains(term))
+                    .sorted(byRelevance)
+                    .limit(limit)
+                    .toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Document> candidates(final String term) {
+        if (term.length() < GRAM) {
+            return this.documents.values();
+        }
+
+        Set<String> smallest = null;
+        for (final var gram : grams(term)) {
+            final var ids = this.postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+
+        return smallest.stream().map(this.documents::get).toList();
+    }
+
+    private void index(final Document aDocument) {
+        this.documents.put(aDocument.id(), aDocument);
+        aDocument.grams().forEach(gram -> this.postings.computeIfAbsent(gram, it -> new HashSet<>()).add(aDocument.id()));
+    }
+
+    private void unindex(final String anId) {
+        final var previous = this.documents.remove(anId);
+        if (previous == null) {
+            return;
+        }
+
+        previous.grams().forEach(gram -> {
+            final var ids = this.postings.get(gram);
+            ids.remove(anId);
+            if (ids.isEmpty()) {
+                this.postings.remove(gram);
+            }
+        });
+    }
+
+    private static Set<String> grams(final String text) {
+        final var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(final String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    public record Document(String id, String name, List<String> texts) {
+
+        public Document {
+            Objects.requireNonNull(id);
+            Objects.requireNonNull(name);
+            texts = texts.stream().filter(Objects::nonNull).map(TrigramIndex::normalize).toList();
+        }
+
+        public static Document with(final String id, final String name, final String... texts) {
+            final var all = new ArrayList<String>();
+            all.add(name);
+            all.addAll(Arrays.asList(texts));
+            return new Document(id, name, all);
+        }
+
+        private boolean contains(final String term) {
+            return this.texts.stream().anyMatch(text -> text.contains(term));
+        }
+
+        private String normalizedName() {
+            return normalize(this.name);
+        }
+
+        private Set<String> grams() {
+            final var grams = new HashSet<String>();
+            this.texts.forEach(text -> grams.addAll(TrigramIndex.grams(text)));
+            return grams;
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.studies.catalog.admin.infrastructure.search.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TypeaheadApiResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+}
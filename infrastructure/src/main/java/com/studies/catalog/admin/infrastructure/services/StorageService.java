@@ -9,10 +9,18 @@ public interface StorageService {
 
     void store(String id, Resource resource);
 
+    boolean storeIfAbsent(String id, Resource resource);
+
     Optional<Resource> get(String id);
 
     List<String> list(String prefix);
 
+    List<String> list(String prefix, String startAfter, int limit);
+
+    void move(String sourceId, String targetId);
+
+    void compose(List<String> sourceIds, String targetId, String contentType, String name);
+
     void deleteAll(final List<String> ids);
 
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.studies.catalog.admin.infrastructure.services;
+
+import com.studies.catalog.admin.domain.video.Resource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+public interface TransferableContent extends Resource.Content {
+
+    long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    long transferTo(long offset, long length, WritableByteChannel target) throws IOException;
+
+    static long transfer(
+            final FileChannel source,
+            final long offset,
+            final long length,
+            final WritableByteChannel target
+    ) throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            final var count = source.transferTo(offset + transferred, Math.min(TRANSFER_CHUNK_SIZE, length - transferred), target);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+        }
+        return transferred;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,392 @@
+package com.studies.catalog.admin.infrastructure.services.impl;
+
+import com.google.common.io.ByteStreams;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.TransferableContent;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class FileSystemStorageService implements StorageService {
+
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String NAME = "name";
+
+    private final Path dataDir;
+    private final Path metadataDir;
+    private final Path tmpDir;
+    private final FsyncPolicy fsyncPolicy;
+
+    public FileSystemStorageService(final Path root, final FsyncPolicy fsyncPolicy) {
+        Objects.requireNonNull(root);
+        this.dataDir = root.resolve("data").toAbsolutePath().normalize();
+        this.metadataDir = root.resolve("metadata").toAbsolutePath().normalize();
+        this.tmpDir = root.resolve("tmp").toAbsolutePath().normalize();
+        this.fsyncPolicy = Objects.requireNonNull(fsyncPolicy);
+
+        try {
+            Files.createDirectories(this.dataDir);
+            Files.createDirectories(this.metadataDir);
+            Files.createDirectories(this.tmpDir);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not initialize storage at %s".formatted(root), e);
+        }
+    }
+
+    @Override
+    public void store(final String id, final Resource resource) {
+        store(id, resource, true);
+    }
+
+    @Override
+    public boolean storeIfAbsent(final String id, final Resource resource) {
+        return store(id, resource, false);
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var dataFile = resolve(this.dataDir, id);
+        final var metadataFile = resolve(this.metadataDir, id);
+
+        if (!Files.isRegularFile(dataFile) || !Files.isRegularFile(metadataFile)) {
+            return Optional.empty();
+        }
+
+        try (final var in = Files.newInputStream(metadataFile)) {
+            final var metadata = new Properties();
+            metadata.load(in);
+
+            return Optional.of(Resource.with(
+                    new FileContent(dataFile),
+                    Files.size(dataFile),
+                    metadata.getProperty(CHECKSUM),
+                    metadata.getProperty(CONTENT_TYPE),
+                    metadata.getProperty(NAME)
+            ));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on retrieving resource %s".formatted(id), e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var separator = prefix.lastIndexOf('/');
+        final var directory = resolve(this.dataDir, separator < 0 ? "" : prefix.substring(0, separator));
+        final var namePrefix = prefix.substring(separator + 1);
+
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        final var ids = new ArrayList<String>();
+        try (final var entries = Files.list(directory)) {
+            final var matches = entries
+                    .filter(it -> it.getFileName().toString().startsWith(namePrefix))
+                    .toList();
+
+            for (final var entry : matches) {
+                try (final var files = Files.isDirectory(entry) ? Files.walk(entry) : Stream.of(entry)) {
+                    files.filter(Files::isRegularFile)
+                            .map(this::idOf)
+                            .forEach(ids::add);
+                }
+            }
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on listing resources with prefix %s".formatted(prefix), e);
+        }
+
+        return ids;
+    }
+
+    @Override
+    public List<String> list(final String prefix, final String startAfter, final int limit) {
+        return list(prefix).stream()
+                .filter(id -> startAfter == null || id.compareTo(startAfter) > 0)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void move(final String sourceId, final String targetId) {
+        try {
+            commit(resolve(this.metadataDir, sourceId), resolve(this.metadataDir, targetId));
+            commit(resolve(this.dataDir, sourceId), resolve(this.dataDir, targetId));
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on moving resource %s to %s".formatted(sourceId, targetId), e);
+        }
+    }
+
+    @Override
+    public void compose(final List<String> sourceIds, final String targetId, final String contentType, final String name) {
+        Path tmpData = null;
+        Path tmpMetadata = null;
+        try {
+            tmpData = Files.createTempFile(this.tmpDir, "data-", ".tmp");
+            tmpMetadata = Files.createTempFile(this.tmpDir, "metadata-", ".tmp");
+
+            var crc = 0;
+            try (final var out = FileChannel.open(tmpData, WRITE)) {
+                for (final var sourceId : sourceIds) {
+                    try (final var source = FileChannel.open(resolve(this.dataDir, sourceId), READ)) {
+                        final var length = transfer(source, out, out.size());
+                        crc = HashingUtils.crc32cCombine(crc, HashingUtils.crc32c(metadataOf(sourceId).getProperty(CHECKSUM)), length);
+                    }
+                }
+
+                if (this.fsyncPolicy != FsyncPolicy.NONE) {
+                    out.force(true);
+                }
+            }
+
+            writeMetadata(tmpMetadata, HashingUtils.crc32cHex(crc), contentType, name);
+
+            commit(tmpMetadata, resolve(this.metadataDir, targetId));
+            commit(tmpData, resolve(this.dataDir, targetId));
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on composing resource %s".formatted(targetId), e);
+        } finally {
+            deleteQuietly(tmpData);
+            deleteQuietly(tmpMetadata);
+        }
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        if (ids == null || ids.isEmpty())
+            return;
+
+        try {
+            for (final var id : ids) {
+                delete(this.dataDir, id);
+                delete(this.metadataDir, id);
+            }
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on deleting resources %s".formatted(ids), e);
+        }
+    }
+
+    private boolean store(final String id, final Resource resource, final boolean replace) {
+        final var dataFile = resolve(this.dataDir, id);
+        final var metadataFile = resolve(this.metadataDir, id);
+
+        if (!replace && Files.exists(dataFile)) {
+            return false;
+        }
+
+        Path tmpData = null;
+        Path tmpMetadata = null;
+        try {
+            tmpData = Files.createTempFile(this.tmpDir, "data-", ".tmp");
+            tmpMetadata = Files.createTempFile(this.tmpDir, "metadata-", ".tmp");
+
+            writeContent(tmpData, resource);
+            writeMetadata(tmpMetadata, resource.checksum(), resource.contentType(), resource.name());
+
+            if (replace) {
+                commit(tmpMetadata, metadataFile);
+                commit(tmpData, dataFile);
+                return true;
+            }
+
+            if (!claim(tmpData, dataFile)) {
+                return false;
+            }
+            commit(tmpMetadata, metadataFile);
+            return true;
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on storing resource %s".formatted(id), e);
+        } finally {
+            deleteQuietly(tmpData);
+            deleteQuietly(tmpMetadata);
+        }
+    }
+
+    private void writeContent(final Path target, final Resource resource) throws IOException {
+        try (final var out = FileChannel.open(target, WRITE)) {
+            if (resource.contentSupplier() instanceof TransferableContent file) {
+                file.transferTo(0, resource.contentLength(), out);
+            } else {
+                try (final var in = ChecksumInputStream.of(resource.openStream());
+                     final var source = Channels.newChannel(in)) {
+                    transfer(source, out);
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+
+            if (this.fsyncPolicy != FsyncPolicy.NONE) {
+                out.force(true);
+            }
+        }
+    }
+
+    private void writeMetadata(
+            final Path target,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty(CHECKSUM, checksum);
+        metadata.setProperty(CONTENT_TYPE, contentType);
+        metadata.setProperty(NAME, name);
+
+        try (final var out = FileChannel.open(target, WRITE)) {
+            metadata.store(Channels.newOutputStream(out), null);
+
+            if (this.fsyncPolicy != FsyncPolicy.NONE) {
+                out.force(true);
+            }
+        }
+    }
+
+    private Properties metadataOf(final String id) throws IOException {
+        try (final var in = Files.newInputStream(resolve(this.metadataDir, id))) {
+            final var metadata = new Properties();
+            metadata.load(in);
+            return metadata;
+        }
+    }
+
+    private void commit(final Path source, final Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        if (this.fsyncPolicy == FsyncPolicy.FILE_AND_DIRECTORY) {
+            try (final var directory = FileChannel.open(target.getParent(), READ)) {
+                directory.force(true);
+            }
+        }
+    }
+
+    private boolean claim(final Path source, final Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.createLink(target, source);
+        } catch (final FileAlreadyExistsException e) {
+            return false;
+        }
+
+        if (this.fsyncPolicy == FsyncPolicy.FILE_AND_DIRECTORY) {
+            try (final var directory = FileChannel.open(target.getParent(), READ)) {
+                directory.force(true);
+            }
+        }
+        return true;
+    }
+
+    private void delete(final Path root, final String id) throws IOException {
+        final var file = resolve(root, id);
+        if (!Files.deleteIfExists(file)) {
+            return;
+        }
+
+        var parent = file.getParent();
+        while (!parent.equals(root)) {
+            try {
+                Files.deleteIfExists(parent);
+            } catch (final DirectoryNotEmptyException e) {
+                return;
+            }
+            parent = parent.getParent();
+        }
+    }
+
+    private Path resolve(final Path root, final String id) {
+        final var path = root.resolve(id).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid resource id %s".formatted(id));
+        }
+        return path;
+    }
+
+    private String idOf(final Path file) {
+        return this.dataDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private static long transfer(final ReadableByteChannel source, final FileChannel target) throws IOException {
+        return transfer(source, target, 0);
+    }
+
+    private static long transfer(final ReadableByteChannel source, final FileChannel target, final long offset) throws IOException {
+        long position = offset;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+            position += transferred;
+        }
+        return position - offset;
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+        }
+    }
+
+    public enum FsyncPolicy {
+        NONE,
+        FILE,
+        FILE_AND_DIRECTORY
+    }
+
+    private record FileContent(Path path) implements TransferableContent {
+
+        @Override
+        public InputStream open() throws IOException {
+            return Files.newInputStream(this.path, READ);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var channel = FileChannel.open(this.path, READ);
+            try {
+                channel.position(offset);
+            } catch (final IOException e) {
+                channel.close();
+                throw e;
+            }
+            return ByteStreams.limit(Channels.newInputStream(channel), length);
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+            try (final var source = FileChannel.open(this.path, READ)) {
+                return TransferableContent.transfer(source, offset, length, target);
+            }
+        }
+    }
+
+}
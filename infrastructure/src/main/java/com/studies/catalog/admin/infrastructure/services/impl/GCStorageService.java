@@ -1,41 +1,85 @@
 package com.studies.catalog.admin.infrastructure.services.impl;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
 import com.studies.catalog.admin.domain.video.Resource;
 import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.StreamSupport;
 
 public class GCStorageService implements StorageService {
 
+    private static final int MAX_COMPOSE_SOURCES = 32;
+    private static final String COMPOSITE_PREFIX = ".composite/";
+    private static final int HTTP_PRECONDITION_FAILED = 412;
+    private static final int PART_BUFFER_SIZE = 2 * 1024 * 1024;
+
     private final String bucket;
     private final Storage storage;
+    private final CompositeUpload compositeUpload;
+    private final ExecutorService executor;
 
     public GCStorageService(final String bucket, final Storage storage) {
+        this(bucket, storage, CompositeUpload.disabled(), MoreExecutors.newDirectExecutorService());
+    }
+
+    public GCStorageService(
+            final String bucket,
+            final Storage storage,
+            final CompositeUpload compositeUpload,
+            final ExecutorService executor
+    ) {
         this.bucket = bucket;
         this.storage = storage;
+        this.compositeUpload = Objects.requireNonNull(compositeUpload);
+        this.executor = Objects.requireNonNull(executor);
     }
 
     @Override
     public void store(final String id, final Resource resource) {
-        final var info = BlobInfo.newBuilder(this.bucket, id)
-                .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
-                .build();
+        store(id, resource, false);
+    }
 
-        this.storage.create(info, resource.content());
+    @Override
+    public boolean storeIfAbsent(final String id, final Resource resource) {
+        try {
+            store(id, resource, true);
+            return true;
+        } catch (final StorageException e) {
+            if (e.getCode() == HTTP_PRECONDITION_FAILED) {
+                return false;
+            }
+            throw e;
+        }
     }
 
     @Override
     public Optional<Resource> get(final String id) {
         return Optional.ofNullable(this.storage.get(this.bucket, id))
                 .map(blob -> Resource.with(
-                        blob.getContent(),
-                        blob.getCrc32cToHexString(),
+                        new BlobContent(blob),
+                        Objects.requireNonNullElse(blob.getSize(), 0L),
+                        HashingUtils.crc32cFromBigEndianHex(blob.getCrc32cToHexString()),
                         blob.getContentType(),
                         blob.getName()
                 ));
@@ -51,6 +95,46 @@ public class GCStorageService implements StorageService {
                 .toList();
     }
 
+    @Override
+    public List<String> list(final String prefix, final String startAfter, final int limit) {
+        final var options = new ArrayList<Storage.BlobListOption>();
+        options.add(Storage.BlobListOption.prefix(prefix));
+        options.add(Storage.BlobListOption.pageSize(limit + 1L));
+        if (startAfter != null) {
+            options.add(Storage.BlobListOption.startOffset(startAfter));
+        }
+
+        final var blobs = this.storage.list(bucket, options.toArray(Storage.BlobListOption[]::new));
+
+        return StreamSupport.stream(blobs.iterateAll().spliterator(), false)
+                .map(BlobInfo::getBlobId)
+                .map(BlobId::getName)
+                .filter(name -> !name.equals(startAfter))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void move(final String sourceId, final String targetId) {
+        this.storage.copy(Storage.CopyRequest.of(BlobId.of(this.bucket, sourceId), BlobId.of(this.bucket, targetId)))
+                .getResult();
+        this.storage.delete(BlobId.of(this.bucket, sourceId));
+    }
+
+    @Override
+    public void compose(final List<String> sourceIds, final String targetId, final String contentType, final String name) {
+        final var target = BlobInfo.newBuilder(this.bucket, targetId)
+                .setContentType(contentType)
+                .build();
+        final var temporaries = new ArrayList<String>();
+
+        try {
+            compose(sourceIds, target, COMPOSITE_PREFIX + UUID.randomUUID(), temporaries, false);
+        } finally {
+            deleteQuietly(temporaries);
+        }
+    }
+
     @Override
     public void deleteAll(final List<String> ids) {
         if (ids == null || ids.isEmpty())
@@ -63,4 +147,230 @@ public class GCStorageService implements StorageService {
         this.storage.delete(blobs);
     }
 
-}
\ No newline at end of file
+    private void store(final String id, final Resource resource, final boolean ifAbsent) {
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(resource.contentType())
+                .build();
+
+        if (resource.contentLength() >= this.compositeUpload.threshold()) {
+            storeComposite(id, info, resource, ifAbsent);
+            return;
+        }
+
+        final var options = ifAbsent
+                ? new Storage.BlobWriteOption[]{Storage.BlobWriteOption.doesNotExist()}
+                : new Storage.BlobWriteOption[0];
+
+        try (final var in = ChecksumInputStream.of(resource.openStream())) {
+            final var blob = this.storage.createFrom(info, in, options);
+            verifyChecksum(id, in.checksum(), blob);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on storing resource %s".formatted(id), e);
+        }
+    }
+
+    private void storeComposite(final String id, final BlobInfo info, final Resource resource, final boolean ifAbsent) {
+        final var uploadPrefix = COMPOSITE_PREFIX + UUID.randomUUID();
+        final var temporaries = new ArrayList<String>();
+
+        try {
+            final var parts = new ArrayList<String>();
+            final var checksum = uploadParts(resource, uploadPrefix, parts, temporaries);
+            resource.knownChecksum().ifPresent(expected -> verifyPartsChecksum(id, expected, checksum));
+            final var blob = compose(parts, info, uploadPrefix, temporaries, ifAbsent);
+            verifyChecksum(id, checksum, blob);
+        } catch (final ExecutionException e) {
+            throw InternalErrorException.with("Error on storing resource %s".formatted(id), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while storing resource %s".formatted(id), e);
+        } finally {
+            deleteQuietly(temporaries);
+        }
+    }
+
+    private String uploadParts(
+            final Resource resource,
+            final String uploadPrefix,
+            final List<String> parts,
+            final List<String> temporaries
+    ) throws InterruptedException, ExecutionException {
+        final var length = resource.contentLength();
+        final var partSize = this.compositeUpload.partSize();
+        final var permits = new Semaphore(this.compositeUpload.parallelism());
+        final var failure = new AtomicReference<Throwable>();
+        final var uploads = new ArrayList<Future<Integer>>();
+
+        for (long offset = 0; failure.get() == null && (offset < length || parts.isEmpty()); offset += partSize) {
+            permits.acquire();
+
+            final var partOffset = offset;
+            final var partLength = Math.min(partSize, length - offset);
+            final var name = partName(uploadPrefix, parts.size());
+            parts.add(name);
+            temporaries.add(name);
+
+            uploads.add(this.executor.submit(() -> {
+                try (final var in = ChecksumInputStream.of(resource.openStream(partOffset, partLength))) {
+                    uploadPart(name, in);
+                    return in.crc32c();
+                } catch (final IOException | RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                    throw e;
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        final var crcs = awaitAll(uploads);
+
+        var crc = 0;
+        for (int i = 0; i < crcs.size(); i++) {
+            crc = HashingUtils.crc32cCombine(crc, crcs.get(i), Math.min(partSize, length - (long) i * partSize));
+        }
+        return HashingUtils.crc32cHex(crc);
+    }
+
+    private void uploadPart(final String name, final InputStream in) throws IOException {
+        this.storage.createFrom(BlobInfo.newBuilder(this.bucket, name).build(), in, PART_BUFFER_SIZE);
+    }
+
+    private static String partName(final String uploadPrefix, final int index) {
+        return "%s/part-%05d".formatted(uploadPrefix, index);
+    }
+
+    private static <T> List<T> awaitAll(final List<Future<T>> futures) throws InterruptedException, ExecutionException {
+        final var results = new ArrayList<T>(futures.size());
+        ExecutionException failure = null;
+
+        for (final var future : futures) {
+            try {
+                results.add(future.get());
+            } catch (final ExecutionException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private Blob compose(
+            final List<String> parts,
+            final BlobInfo target,
+            final String uploadPrefix,
+            final List<String> temporaries,
+            final boolean ifAbsent
+    ) {
+        var sources = parts;
+        var round = 0;
+
+        while (sources.size() > MAX_COMPOSE_SOURCES) {
+            final var composed = new ArrayList<String>();
+
+            for (int i = 0; i < sources.size(); i += MAX_COMPOSE_SOURCES) {
+                final var name = "%s/compose-%d-%05d".formatted(uploadPrefix, round, composed.size());
+                temporaries.add(name);
+
+                this.storage.compose(Storage.ComposeRequest.newBuilder()
+                        .addSource(sources.subList(i, Math.min(i + MAX_COMPOSE_SOURCES, sources.size())))
+                        .setTarget(BlobInfo.newBuilder(this.bucket, name).build())
+                        .build());
+
+                composed.add(name);
+            }
+
+            sources = composed;
+            round++;
+        }
+
+        final var request = Storage.ComposeRequest.newBuilder()
+                .addSource(sources)
+                .setTarget(target);
+
+        if (ifAbsent) {
+            request.setTargetOptions(Storage.BlobTargetOption.doesNotExist());
+        }
+
+        return this.storage.compose(request.build());
+    }
+
+    private void deleteQuietly(final List<String> names) {
+        final var deletions = names.stream()
+                .map(name -> this.executor.submit(() -> this.storage.delete(BlobId.of(this.bucket, name))))
+                .toList();
+
+        for (final var deletion : deletions) {
+            try {
+                deletion.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException ignored) {
+            }
+        }
+    }
+
+    private static void verifyPartsChecksum(final String id, final String expectedChecksum, final String uploadedChecksum) {
+        if (!expectedChecksum.equals(uploadedChecksum)) {
+            throw InternalErrorException.with(
+                    "Checksum mismatch on resource %s: expected %s but uploaded %s".formatted(id, expectedChecksum, uploadedChecksum),
+                    null
+            );
+        }
+    }
+
+    private void verifyChecksum(final String id, final String expectedChecksum, final Blob blob) {
+        if (blob == null || blob.getCrc32cToHexString() == null) {
+            return;
+        }
+
+        final var storedChecksum = HashingUtils.crc32cFromBigEndianHex(blob.getCrc32cToHexString());
+        if (!expectedChecksum.equals(storedChecksum)) {
+            this.storage.delete(BlobId.of(this.bucket, id));
+            throw InternalErrorException.with(
+                    "Checksum mismatch on resource %s: expected %s but stored %s".formatted(id, expectedChecksum, storedChecksum),
+                    null
+            );
+        }
+    }
+
+    public record CompositeUpload(long threshold, int partSize, int parallelism) {
+
+        public CompositeUpload {
+            if (partSize <= 0 || parallelism <= 0) {
+                throw new IllegalArgumentException("'partSize' and 'parallelism' must be positive");
+            }
+        }
+
+        public static CompositeUpload with(final long threshold, final int partSize, final int parallelism) {
+            return new CompositeUpload(threshold, partSize, parallelism);
+        }
+
+        public static CompositeUpload disabled() {
+            return new CompositeUpload(Long.MAX_VALUE, Integer.MAX_VALUE, 1);
+        }
+    }
+
+    private record BlobContent(Blob blob) implements Resource.Content {
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(this.blob.reader());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var reader = this.blob.reader();
+            reader.seek(offset);
+            reader.limit(offset + length);
+            return Channels.newInputStream(reader);
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.studies.catalog.admin.infrastructure.services.impl;
+
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.TransferableContent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class InstrumentedStorageService implements StorageService {
+
+    private static final String OPERATIONS = "catalog.storage.operations";
+    private static final String ERRORS = "catalog.storage.errors";
+    private static final String BYTES = "catalog.storage.bytes";
+    private static final String IN_FLIGHT = "catalog.storage.inflight";
+
+    private final StorageService delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<Operation, AtomicInteger> inFlight;
+    private final Counter bytesIn;
+    private final Counter bytesOut;
+
+    public InstrumentedStorageService(final StorageService delegate, final MeterRegistry meterRegistry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.inFlight = new EnumMap<>(Operation.class);
+
+        for (final var operation : Operation.values()) {
+            final var counter = new AtomicInteger();
+            this.inFlight.put(operation, counter);
+
+            Gauge.builder(IN_FLIGHT, counter, AtomicInteger::get)
+                    .description("Storage operations currently in progress")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry);
+        }
+
+        this.bytesIn = Counter.builder(BYTES)
+                .description("Bytes transferred to and from the storage")
+                .baseUnit("bytes")
+                .tag("direction", "in")
+                .register(meterRegistry);
+
+        this.bytesOut = Counter.builder(BYTES)
+                .description("Bytes transferred to and from the storage")
+                .baseUnit("bytes")
+                .tag("direction", "out")
+                .register(meterRegistry);
+    }
+
+    public StorageService delegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public void store(final String id, final Resource resource) {
+        record(Operation.STORE, () -> {
+            this.delegate.store(id, resource);
+            return null;
+        });
+        this.bytesIn.increment(resource.contentLength());
+    }
+
+    @Override
+    public boolean storeIfAbsent(final String id, final Resource resource) {
+        final var stored = record(Operation.STORE, () -> this.delegate.storeIfAbsent(id, resource));
+        if (stored) {
+            this.bytesIn.increment(resource.contentLength());
+        }
+        return stored;
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        return record(Operation.GET, () -> this.delegate.get(id))
+                .map(this::counting);
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return record(Operation.LIST, () -> this.delegate.list(prefix));
+    }
+
+    @Override
+    public List<String> list(final String prefix, final String startAfter, final int limit) {
+        return record(Operation.LIST, () -> this.delegate.list(prefix, startAfter, limit));
+    }
+
+    @Override
+    public void move(final String sourceId, final String targetId) {
+        record(Operation.MOVE, () -> {
+            this.delegate.move(sourceId, targetId);
+            return null;
+        });
+    }
+
+    @Override
+    public void compose(final List<String> sourceIds, final String targetId, final String contentType, final String name) {
+        record(Operation.COMPOSE, () -> {
+            this.delegate.compose(sourceIds, targetId, contentType, name);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        record(Operation.DELETE_ALL, () -> {
+            this.delegate.deleteAll(ids);
+            return null;
+        });
+    }
+
+    private <T> T record(final Operation operation, final Supplier<T> call) {
+        final var active = this.inFlight.get(operation);
+        final var sample = Timer.start(this.meterRegistry);
+
+        active.incrementAndGet();
+        try {
+            final var result = call.get();
+            sample.stop(timer(operation, "success"));
+            return result;
+        } catch (final RuntimeException e) {
+            sample.stop(timer(operation, "error"));
+            Counter.builder(ERRORS)
+                    .description("Failed storage operations")
+                    .tag("operation", operation.tag())
+                    .tag("cause", causeOf(e))
+                    .register(this.meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private Timer timer(final Operation operation, final String outcome) {
+        return Timer.builder(OPERATIONS)
+                .description("Latency of storage operations")
+                .tag("operation", operation.tag())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private Resource counting(final Resource aResource) {
+        final var content = aResource.contentSupplier();
+        final var counting = content instanceof TransferableContent transferable
+                ? new CountingTransferableContent(transferable, this.bytesOut)
+                : new CountingContent(content, this.bytesOut);
+
+        return Resource.with(
+                counting,
+                aResource.contentLength(),
+                () -> aResource.knownChecksum().orElse(null),
+                aResource.contentType(),
+                aResource.name()
+        );
+    }
+
+    private static String causeOf(final Throwable t) {
+        var root = t;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName();
+    }
+
+    private enum Operation {
+        STORE("store"),
+        GET("get"),
+        LIST("list"),
+        MOVE("move"),
+        COMPOSE("compose"),
+        DELETE_ALL("deleteAll");
+
+        private final String tag;
+
+        Operation(final String tag) {
+            this.tag = tag;
+        }
+
+        private String tag() {
+            return this.tag;
+        }
+    }
+
+    private record CountingContent(Resource.Content delegate, Counter counter) implements Resource.Content {
+
+        @Override
+        public InputStream open() throws IOException {
+            return new CountingInputStream(this.delegate.open(), this.counter);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            return new CountingInputStream(this.delegate.open(offset, length), this.counter);
+        }
+    }
+
+    private record CountingTransferableContent(
+            TransferableContent delegate,
+            Counter counter
+    ) implements TransferableContent {
+
+        @Override
+        public InputStream open() throws IOException {
+            return new CountingInputStream(this.delegate.open(), this.counter);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            return new CountingInputStream(this.delegate.open(offset, length), this.counter);
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+            final var transferred = this.delegate.transferTo(offset, length, target);
+            this.counter.increment(transferred);
+            return transferred;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final Counter counter;
+
+        private CountingInputStream(final InputStream in, final Counter counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var read = super.read();
+            if (read >= 0) {
+                this.counter.increment();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read > 0) {
+                this.counter.increment(read);
+            }
+            return read;
+        }
+    }
+
+}
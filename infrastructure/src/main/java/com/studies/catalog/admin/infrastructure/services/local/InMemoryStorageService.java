@@ -1,49 +1,420 @@
 package com.studies.catalog.admin.infrastructure.services.local;
 
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
 import com.studies.catalog.admin.domain.video.Resource;
 import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class InMemoryStorageService implements StorageService {
 
+    private static final long DEFAULT_MAX_SIZE = 512L * 1024 * 1024;
+    private static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+    private final ConcurrentNavigableMap<String, Entry> index;
+    private final Set<String> insertionOrder;
+    private final long maxSize;
+    private final int slabSize;
+    private final OverflowPolicy overflowPolicy;
     private final Map<String, Resource> storage;
 
+    private long usedBytes;
+
     public InMemoryStorageService() {
-        this.storage = new ConcurrentHashMap<>();
+        this(DEFAULT_MAX_SIZE, DEFAULT_SLAB_SIZE, OverflowPolicy.REJECT);
+    }
+
+    public InMemoryStorageService(final long maxSize, final int slabSize, final OverflowPolicy overflowPolicy) {
+        if (maxSize <= 0 || slabSize <= 0) {
+            throw new IllegalArgumentException("'maxSize' and 'slabSize' must be positive");
+        }
+        this.index = new ConcurrentSkipListMap<>();
+        this.insertionOrder = new LinkedHashSet<>();
+        this.maxSize = maxSize;
+        this.slabSize = slabSize;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.storage = new StorageView();
     }
 
-    public void clear() {
-        this.storage.clear();
+    public synchronized void clear() {
+        this.index.clear();
+        this.insertionOrder.clear();
+        this.usedBytes = 0;
     }
 
     public Map<String, Resource> storage() {
         return this.storage;
     }
 
+    public synchronized long usedBytes() {
+        return this.usedBytes;
+    }
+
     @Override
     public void store(final String id, final Resource resource) {
-        this.storage.put(id, resource);
+        store(id, resource, true);
+    }
+
+    @Override
+    public boolean storeIfAbsent(final String id, final Resource resource) {
+        return store(id, resource, false);
     }
 
     @Override
     public Optional<Resource> get(final String id) {
-        return Optional.ofNullable(this.storage.get(id));
+        return Optional.ofNullable(this.index.get(id)).map(Entry::toResource);
     }
 
     @Override
     public List<String> list(final String prefix) {
-        return this.storage.keySet().stream()
-                .filter(it -> it.startsWith(prefix))
+        return List.copyOf(this.index.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet());
+    }
+
+    @Override
+    public List<String> list(final String prefix, final String startAfter, final int limit) {
+        final var to = prefix + Character.MAX_VALUE;
+        final var from = startAfter == null || startAfter.compareTo(prefix) < 0 ? prefix : startAfter;
+        if (from.compareTo(to) >= 0) {
+            return List.of();
+        }
+
+        return this.index.subMap(from, !from.equals(startAfter), to, false).keySet().stream()
+                .limit(limit)
                 .toList();
     }
 
     @Override
-    public void deleteAll(final List<String> ids) {
-        ids.forEach(this.storage::remove);
+    public synchronized void move(final String sourceId, final String targetId) {
+        final var anEntry = this.index.get(sourceId);
+        if (anEntry == null) {
+            throw InternalErrorException.with("Resource %s was not found".formatted(sourceId), null);
+        }
+
+        remove(sourceId);
+        commit(targetId, anEntry, 0, true);
+    }
+
+    @Override
+    public synchronized void compose(
+            final List<String> sourceIds,
+            final String targetId,
+            final String contentType,
+            final String name
+    ) {
+        // Slabs are read-only, so the composed entry shares them with its sources
+        final var slabs = new ArrayList<ByteBuffer>();
+        var length = 0L;
+        var crc = 0;
+
+        for (final var sourceId : sourceIds) {
+            final var anEntry = this.index.get(sourceId);
+            if (anEntry == null) {
+                throw InternalErrorException.with("Resource %s was not found".formatted(sourceId), null);
+            }
+
+            slabs.addAll(anEntry.slabs());
+            length += anEntry.length();
+            crc = HashingUtils.crc32cCombine(crc, HashingUtils.crc32c(anEntry.checksum()), anEntry.length());
+        }
+
+        final var anEntry = new Entry(slabs, length, HashingUtils.crc32cHex(crc), contentType, name);
+        commit(targetId, anEntry, reserve(targetId, length), true);
+    }
+
+    @Override
+    public synchronized void deleteAll(final List<String> ids) {
+        ids.forEach(this::remove);
+    }
+
+    private boolean store(final String id, final Resource resource, final boolean replace) {
+        if (!replace && this.index.containsKey(id)) {
+            return false;
+        }
+
+        final var reserved = reserve(id, resource.contentLength());
+
+        final List<ByteBuffer> slabs;
+        try {
+            slabs = copy(resource, reserved);
+        } catch (final IOException | RuntimeException e) {
+            release(reserved);
+            throw InternalErrorException.with("Error on storing resource %s".formatted(id), e);
+        }
+
+        final var anEntry = new Entry(
+                slabs,
+                slabs.stream().mapToLong(ByteBuffer::limit).sum(),
+                resource.checksum(),
+                resource.contentType(),
+                resource.name()
+        );
+
+        return commit(id, anEntry, reserved, replace);
+    }
+
+    private synchronized long reserve(final String id, final long length) {
+        if (length > this.maxSize) {
+            throw storageFull(id, length);
+        }
+
+        if (this.usedBytes + length > this.maxSize) {
+            if (this.overflowPolicy == OverflowPolicy.REJECT) {
+                throw storageFull(id, length);
+            }
+
+            final var iterator = this.insertionOrder.iterator();
+            while (this.usedBytes + length > this.maxSize && iterator.hasNext()) {
+                final var eldest = iterator.next();
+                iterator.remove();
+                this.usedBytes -= this.index.remove(eldest).length();
+            }
+
+            if (this.usedBytes + length > this.maxSize) {
+                throw storageFull(id, length);
+            }
+        }
+
+        this.usedBytes += length;
+        return length;
+    }
+
+    private synchronized void release(final long reserved) {
+        this.usedBytes -= reserved;
+    }
+
+    private synchronized boolean commit(final String id, final Entry anEntry, final long reserved, final boolean replace) {
+        if (!replace && this.index.containsKey(id)) {
+            this.usedBytes -= reserved;
+            return false;
+        }
+
+        remove(id);
+
+        this.usedBytes += anEntry.length() - reserved;
+        this.index.put(id, anEntry);
+        this.insertionOrder.add(id);
+        return true;
+    }
+
+    private void remove(final String id) {
+        final var removed = this.index.remove(id);
+        if (removed != null) {
+            this.insertionOrder.remove(id);
+            this.usedBytes -= removed.length();
+        }
+    }
+
+    private InternalErrorException storageFull(final String id, final long length) {
+        return InternalErrorException.with(
+                "In-memory storage cannot fit resource %s with %d bytes (%d of %d bytes in use)"
+                        .formatted(id, length, this.usedBytes, this.maxSize),
+                null
+        );
+    }
+
+    private List<ByteBuffer> copy(final Resource resource, final long length) throws IOException {
+        final var slabs = new ArrayList<ByteBuffer>();
+
+        try (final var in = ChecksumInputStream.of(resource.openStream());
+             final var source = Channels.newChannel(in)) {
+            var remaining = length;
+            while (remaining > 0) {
+                final var slab = ByteBuffer.allocateDirect((int) Math.min(remaining, this.slabSize));
+                while (slab.hasRemaining()) {
+                    if (source.read(slab) < 0) {
+                        break;
+                    }
+                }
+
+                slabs.add(slab.flip().asReadOnlyBuffer());
+                remaining -= slab.limit();
+
+                if (slab.limit() < slab.capacity()) {
+                    break;
+                }
+            }
+
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        return slabs;
+    }
+
+    public enum OverflowPolicy {
+        REJECT,
+        EVICT_OLDEST
+    }
+
+    private record Entry(
+            List<ByteBuffer> slabs,
+            long length,
+            String checksum,
+            String contentType,
+            String name
+    ) {
+
+        private Resource toResource() {
+            return Resource.with(new SlabContent(this.slabs), this.length, this.checksum, this.contentType, this.name);
+        }
+    }
+
+    private record SlabContent(List<ByteBuffer> slabs) implements Resource.Content {
+
+        @Override
+        public InputStream open() {
+            return new SlabInputStream(this.slabs, 0, Long.MAX_VALUE);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            return new SlabInputStream(this.slabs, offset, length);
+        }
+    }
+
+    private static class SlabInputStream extends InputStream {
+
+        private final Iterator<ByteBuffer> slabs;
+        private ByteBuffer current;
+        private long remaining;
+
+        private SlabInputStream(final List<ByteBuffer> slabs, final long offset, final long length) {
+            this.slabs = slabs.iterator();
+            this.remaining = length;
+
+            var skip = offset;
+            while (this.slabs.hasNext()) {
+                final var slab = this.slabs.next();
+                if (skip < slab.limit()) {
+                    this.current = slab.duplicate().position((int) skip);
+                    break;
+                }
+                skip -= slab.limit();
+            }
+        }
+
+        @Override
+        public int read() {
+            final var buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            this.remaining--;
+            return buffer.get() & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            final var buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+
+            final var read = (int) Math.min(Math.min(len, buffer.remaining()), this.remaining);
+            buffer.get(b, off, read);
+            this.remaining -= read;
+            return read;
+        }
+
+        private ByteBuffer nextBuffer() {
+            if (this.remaining <= 0) {
+                return null;
+            }
+            while (this.current != null && !this.current.hasRemaining()) {
+                this.current = this.slabs.hasNext() ? this.slabs.next().duplicate() : null;
+            }
+            return this.current;
+        }
+    }
+
+    private class StorageView extends AbstractMap<String, Resource> {
+
+        @Override
+        public Set<Map.Entry<String, Resource>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public Iterator<Map.Entry<String, Resource>> iterator() {
+                    final var entries = index.entrySet().iterator();
+                    return new Iterator<>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, Resource> next() {
+                            final var next = entries.next();
+                            return new SimpleImmutableEntry<>(next.getKey(), next.getValue().toResource());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return index.size();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return index.containsKey(key);
+        }
+
+        @Override
+        public Resource get(final Object key) {
+            final var anEntry = index.get(key);
+            return anEntry != null ? anEntry.toResource() : null;
+        }
+
+        @Override
+        public Resource put(final String key, final Resource value) {
+            final var previous = get(key);
+            store(key, value);
+            return previous;
+        }
+
+        @Override
+        public Resource remove(final Object key) {
+            final var previous = get(key);
+            if (key instanceof String id) {
+                deleteAll(List.of(id));
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            InMemoryStorageService.this.clear();
+        }
     }
 
-}
\ No newline at end of file
+}
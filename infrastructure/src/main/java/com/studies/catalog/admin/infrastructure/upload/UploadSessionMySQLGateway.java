@@ -0,0 +1,71 @@
+package com.studies.catalog.admin.infrastructure.upload;
+
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadChunkJpaEntity;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadChunkRepository;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionJpaEntity;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class UploadSessionMySQLGateway implements UploadSessionGateway {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+
+    public UploadSessionMySQLGateway(
+            final UploadSessionRepository uploadSessionRepository,
+            final UploadChunkRepository uploadChunkRepository
+    ) {
+        this.uploadSessionRepository = Objects.requireNonNull(uploadSessionRepository);
+        this.uploadChunkRepository = Objects.requireNonNull(uploadChunkRepository);
+    }
+
+    @Override
+    public UploadSession create(final UploadSession aSession) {
+        return save(aSession);
+    }
+
+    @Override
+    public Optional<UploadSession> findById(final UploadSessionID anId) {
+        return this.uploadSessionRepository.findById(anId.getValue())
+                .map(UploadSessionJpaEntity::toAggregate);
+    }
+
+    @Override
+    public UploadSession update(final UploadSession aSession) {
+        return save(aSession);
+    }
+
+    @Override
+    public void saveChunk(final UploadSessionID anId, final UploadChunk aChunk) {
+        this.uploadChunkRepository.save(UploadChunkJpaEntity.from(anId, aChunk));
+    }
+
+    @Override
+    public void deleteById(final UploadSessionID aSessionId) {
+        final var anId = aSessionId.getValue();
+        if (this.uploadSessionRepository.existsById(anId))
+            this.uploadSessionRepository.deleteById(anId);
+    }
+
+    private UploadSession save(final UploadSession aSession) {
+        final var chunks = aSession.getChunks().stream()
+                .map(it -> UploadChunkJpaEntity.from(aSession.getId(), it))
+                .toList();
+
+        final var anEntity = this.uploadSessionRepository.save(UploadSessionJpaEntity.from(aSession));
+
+        return anEntity
+                .setChunks(new HashSet<>(this.uploadChunkRepository.saveAll(chunks)))
+                .toAggregate();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.studies.catalog.admin.infrastructure.upload;
+
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.utils.InstantUtils;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.UploadSessionProperties;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionJpaEntity;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class UploadSessionSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionSweeper.class);
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionGateway uploadSessionGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final UploadSessionProperties props;
+
+    public UploadSessionSweeper(
+            final UploadSessionRepository uploadSessionRepository,
+            final UploadSessionGateway uploadSessionGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final UploadSessionProperties props
+    ) {
+        this.uploadSessionRepository = Objects.requireNonNull(uploadSessionRepository);
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.props = Objects.requireNonNull(props);
+    }
+
+    @Scheduled(
+            initialDelayString = "${storage.catalog-videos.upload-sessions.interval:600000}",
+            fixedDelayString = "${storage.catalog-videos.upload-sessions.interval:600000}"
+    )
+    public void run() {
+        if (!this.props.isEnabled()) {
+            return;
+        }
+
+        final var swept = sweep();
+        if (swept > 0) {
+            log.info("Expired {} upload sessions", swept);
+        }
+    }
+
+    public int sweep() {
+        final var createdBefore = InstantUtils.now().minus(this.props.getTtl());
+
+        var swept = 0;
+        int expired;
+        do {
+            final var sessions = this.uploadSessionRepository
+                    .findExpired(createdBefore, PageRequest.of(0, this.props.getBatchSize()));
+
+            for (final var anEntity : sessions) {
+                expire(anEntity);
+            }
+
+            expired = sessions.size();
+            swept += expired;
+        } while (expired == this.props.getBatchSize());
+
+        return swept;
+    }
+
+    private void expire(final UploadSessionJpaEntity anEntity) {
+        final var aSession = anEntity.toAggregate();
+        this.mediaResourceGateway.scheduleClearChunks(aSession);
+        this.uploadSessionGateway.deleteById(aSession.getId());
+    }
+
+}
\ No newline at end of file
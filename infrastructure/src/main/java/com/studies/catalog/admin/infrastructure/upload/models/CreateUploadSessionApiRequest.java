@@ -0,0 +1,10 @@
+package com.studies.catalog.admin.infrastructure.upload.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateUploadSessionApiRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("total_size") Long totalSize
+) {
+}
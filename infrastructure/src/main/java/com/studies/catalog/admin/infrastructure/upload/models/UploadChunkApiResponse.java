@@ -0,0 +1,10 @@
+package com.studies.catalog.admin.infrastructure.upload.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UploadChunkApiResponse(
+        @JsonProperty("offset") long offset,
+        @JsonProperty("size") long size,
+        @JsonProperty("checksum") String checksum
+) {
+}
@@ -0,0 +1,23 @@
+package com.studies.catalog.admin.infrastructure.upload.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.studies.catalog.admin.domain.upload.UploadSessionStatus;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.List;
+
+public record UploadSessionApiResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("total_size") long totalSize,
+        @JsonProperty("received_bytes") long receivedBytes,
+        @JsonProperty("status") UploadSessionStatus status,
+        @JsonProperty("chunks") List<UploadChunkApiResponse> chunks,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+}
@@ -0,0 +1,61 @@
+package com.studies.catalog.admin.infrastructure.upload.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class UploadChunkID implements Serializable {
+
+    @Column(name = "upload_session_id", nullable = false)
+    private String uploadSessionId;
+
+    @Column(name = "chunk_offset", nullable = false)
+    private long chunkOffset;
+
+    public UploadChunkID() {
+    }
+
+    private UploadChunkID(final String anUploadSessionId, final long aChunkOffset) {
+        this.uploadSessionId = anUploadSessionId;
+        this.chunkOffset = aChunkOffset;
+    }
+
+    public static UploadChunkID from(final String anUploadSessionId, final long aChunkOffset) {
+        return new UploadChunkID(anUploadSessionId, aChunkOffset);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final UploadChunkID that = (UploadChunkID) o;
+
+        return getChunkOffset() == that.getChunkOffset() && Objects.equals(getUploadSessionId(), that.getUploadSessionId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getUploadSessionId(), getChunkOffset());
+    }
+
+    public String getUploadSessionId() {
+        return uploadSessionId;
+    }
+
+    public UploadChunkID setUploadSessionId(String uploadSessionId) {
+        this.uploadSessionId = uploadSessionId;
+        return this;
+    }
+
+    public long getChunkOffset() {
+        return chunkOffset;
+    }
+
+    public UploadChunkID setChunkOffset(long chunkOffset) {
+        this.chunkOffset = chunkOffset;
+        return this;
+    }
+
+}
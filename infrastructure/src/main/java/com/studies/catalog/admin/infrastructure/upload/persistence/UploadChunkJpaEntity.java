@@ -0,0 +1,84 @@
+package com.studies.catalog.admin.infrastructure.upload.persistence;
+
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+@Entity(name = "UploadChunk")
+@Table(name = "upload_session_chunks")
+public class UploadChunkJpaEntity {
+
+    @EmbeddedId
+    private UploadChunkID id;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    public UploadChunkJpaEntity() {
+    }
+
+    private UploadChunkJpaEntity(final UploadChunkID id, final long size, final String checksum) {
+        this.id = id;
+        this.size = size;
+        this.checksum = checksum;
+    }
+
+    public static UploadChunkJpaEntity from(final UploadSessionID anId, final UploadChunk aChunk) {
+        return new UploadChunkJpaEntity(
+                UploadChunkID.from(anId.getValue(), aChunk.offset()),
+                aChunk.size(),
+                aChunk.checksum()
+        );
+    }
+
+    public UploadChunk toDomain() {
+        return UploadChunk.with(getId().getChunkOffset(), getSize(), getChecksum());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final UploadChunkJpaEntity that = (UploadChunkJpaEntity) o;
+
+        return Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    public UploadChunkID getId() {
+        return id;
+    }
+
+    public UploadChunkJpaEntity setId(UploadChunkID id) {
+        this.id = id;
+        return this;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public UploadChunkJpaEntity setSize(long size) {
+        this.size = size;
+        return this;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public UploadChunkJpaEntity setChecksum(String checksum) {
+        this.checksum = checksum;
+        return this;
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.studies.catalog.admin.infrastructure.upload.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UploadChunkRepository extends JpaRepository<UploadChunkJpaEntity, UploadChunkID> {
+}
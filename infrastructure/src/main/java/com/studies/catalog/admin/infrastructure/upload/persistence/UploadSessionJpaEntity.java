@@ -0,0 +1,199 @@
+package com.studies.catalog.admin.infrastructure.upload.persistence;
+
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+import com.studies.catalog.admin.domain.upload.UploadSessionStatus;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static javax.persistence.FetchType.EAGER;
+
+@Entity(name = "UploadSession")
+@Table(name = "upload_sessions")
+public class UploadSessionJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType mediaType;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private UploadSessionStatus status;
+
+    @OneToMany(fetch = EAGER)
+    @JoinColumn(name = "upload_session_id", insertable = false, updatable = false)
+    private Set<UploadChunkJpaEntity> chunks;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public UploadSessionJpaEntity() {
+    }
+
+    private UploadSessionJpaEntity(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String name,
+            final String contentType,
+            final long totalSize,
+            final UploadSessionStatus status,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+        this.name = name;
+        this.contentType = contentType;
+        this.totalSize = totalSize;
+        this.status = status;
+        this.chunks = new HashSet<>();
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static UploadSessionJpaEntity from(final UploadSession aSession) {
+        return new UploadSessionJpaEntity(
+                aSession.getId().getValue(),
+                aSession.getVideoId().getValue(),
+                aSession.getMediaType(),
+                aSession.getName(),
+                aSession.getContentType(),
+                aSession.getTotalSize(),
+                aSession.getStatus(),
+                aSession.getCreatedAt(),
+                aSession.getUpdatedAt()
+        );
+    }
+
+    public UploadSession toAggregate() {
+        return UploadSession.with(
+                UploadSessionID.from(getId()),
+                VideoID.from(getVideoId()),
+                getMediaType(),
+                getName(),
+                getContentType(),
+                getTotalSize(),
+                getChunks().stream().map(UploadChunkJpaEntity::toDomain).toList(),
+                getStatus(),
+                getCreatedAt(),
+                getUpdatedAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public UploadSessionJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public UploadSessionJpaEntity setVideoId(String videoId) {
+        this.videoId = videoId;
+        return this;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public UploadSessionJpaEntity setMediaType(VideoMediaType mediaType) {
+        this.mediaType = mediaType;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public UploadSessionJpaEntity setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public UploadSessionJpaEntity setContentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public UploadSessionJpaEntity setTotalSize(long totalSize) {
+        this.totalSize = totalSize;
+        return this;
+    }
+
+    public UploadSessionStatus getStatus() {
+        return status;
+    }
+
+    public UploadSessionJpaEntity setStatus(UploadSessionStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public Set<UploadChunkJpaEntity> getChunks() {
+        return chunks == null ? Set.of() : chunks;
+    }
+
+    public UploadSessionJpaEntity setChunks(Set<UploadChunkJpaEntity> chunks) {
+        this.chunks = chunks;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public UploadSessionJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public UploadSessionJpaEntity setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+
+}
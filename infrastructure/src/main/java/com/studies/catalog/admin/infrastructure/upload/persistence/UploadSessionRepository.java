@@ -0,0 +1,16 @@
+package com.studies.catalog.admin.infrastructure.upload.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSessionJpaEntity, String> {
+
+    @Query("select s from UploadSession s where s.createdAt < :createdBefore order by s.createdAt")
+    List<UploadSessionJpaEntity> findExpired(@Param("createdBefore") Instant createdBefore, Pageable page);
+
+}
\ No newline at end of file
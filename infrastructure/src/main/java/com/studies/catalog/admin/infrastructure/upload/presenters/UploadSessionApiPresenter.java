@@ -0,0 +1,27 @@
+package com.studies.catalog.admin.infrastructure.upload.presenters;
+
+import com.studies.catalog.admin.application.upload.retrieve.get.UploadSessionOutput;
+import com.studies.catalog.admin.infrastructure.upload.models.UploadChunkApiResponse;
+import com.studies.catalog.admin.infrastructure.upload.models.UploadSessionApiResponse;
+
+public interface UploadSessionApiPresenter {
+
+    static UploadSessionApiResponse present(final UploadSessionOutput output) {
+        return new UploadSessionApiResponse(
+                output.id(),
+                output.videoId(),
+                output.mediaType(),
+                output.name(),
+                output.contentType(),
+                output.totalSize(),
+                output.receivedBytes(),
+                output.status(),
+                output.chunks().stream()
+                        .map(it -> new UploadChunkApiResponse(it.offset(), it.size(), it.checksum()))
+                        .toList(),
+                output.createdAt(),
+                output.updatedAt()
+        );
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.studies.catalog.admin.infrastructure.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+public class ChecksumInputStream extends FilterInputStream {
+
+    private final CRC32C crc;
+    private final Consumer<String> onComplete;
+    private boolean completed;
+
+    private ChecksumInputStream(final InputStream in, final Consumer<String> onComplete) {
+        super(Objects.requireNonNull(in));
+        this.crc = new CRC32C();
+        this.onComplete = Objects.requireNonNull(onComplete);
+    }
+
+    public static ChecksumInputStream of(final InputStream in) {
+        if (in instanceof ChecksumInputStream checksumStream) {
+            return checksumStream;
+        }
+        return new ChecksumInputStream(in, it -> {});
+    }
+
+    public static ChecksumInputStream of(final InputStream in, final Consumer<String> onComplete) {
+        return new ChecksumInputStream(in, onComplete);
+    }
+
+    public String checksum() {
+        return HashingUtils.crc32cHex(crc32c());
+    }
+
+    public int crc32c() {
+        return (int) this.crc.getValue();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b == -1) {
+            complete();
+        } else {
+            this.crc.update(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read == -1) {
+            complete();
+        } else {
+            this.crc.update(b, off, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        throw new IOException("Skipping is not supported while computing a checksum");
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void complete() {
+        if (!completed) {
+            completed = true;
+            this.onComplete.accept(checksum());
+        }
+    }
+
+}
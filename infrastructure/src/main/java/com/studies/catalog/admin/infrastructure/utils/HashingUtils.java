@@ -3,9 +3,14 @@ package com.studies.catalog.admin.infrastructure.utils;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 public final class HashingUtils {
 
     private static final HashFunction CHECKSUM = Hashing.crc32c();
+    private static final int CRC32C_POLYNOMIAL = 0x82F63B78;
 
     private HashingUtils() {
     }
@@ -14,4 +19,79 @@ public final class HashingUtils {
         return CHECKSUM.hashBytes(content).toString();
     }
 
-}
\ No newline at end of file
+    public static String checksum(final InputStream content) throws IOException {
+        final var in = ChecksumInputStream.of(content);
+        in.transferTo(OutputStream.nullOutputStream());
+        return in.checksum();
+    }
+
+    public static String crc32cHex(final int crc) {
+        return "%08x".formatted(Integer.reverseBytes(crc));
+    }
+
+    public static int crc32c(final String checksum) {
+        return Integer.reverseBytes(Integer.parseUnsignedInt(checksum, 16));
+    }
+
+    public static String crc32cFromBigEndianHex(final String hex) {
+        return crc32cHex(Integer.parseUnsignedInt(hex, 16));
+    }
+
+    // Same zero-extension as zlib's crc32_combine, over the CRC-32C polynomial
+    public static int crc32cCombine(final int first, final int second, final long secondLength) {
+        if (secondLength <= 0) {
+            return first;
+        }
+
+        final var even = new int[32];
+        final var odd = new int[32];
+
+        odd[0] = CRC32C_POLYNOMIAL;
+        for (int n = 1, row = 1; n < 32; n++, row <<= 1) {
+            odd[n] = row;
+        }
+
+        square(even, odd);
+        square(odd, even);
+
+        var crc = first;
+        var length = secondLength;
+        do {
+            square(even, odd);
+            if ((length & 1) != 0) {
+                crc = times(even, crc);
+            }
+            length >>= 1;
+
+            if (length == 0) {
+                break;
+            }
+
+            square(odd, even);
+            if ((length & 1) != 0) {
+                crc = times(odd, crc);
+            }
+            length >>= 1;
+        } while (length != 0);
+
+        return crc ^ second;
+    }
+
+    private static int times(final int[] matrix, final int vector) {
+        var sum = 0;
+        var remaining = vector;
+        for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(final int[] square, final int[] matrix) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+
+}
@@ -1,7 +1,13 @@
 package com.studies.catalog.admin.infrastructure.utils;
 
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import com.studies.catalog.admin.infrastructure.configuration.jpa.FullTextFunction;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+import java.util.Arrays;
+import java.util.Collection;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {
@@ -11,4 +17,25 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> likeAny(final String term, final String... props) {
+        return Arrays.stream(props)
+                .map(prop -> SpecificationUtils.<T>like(prop, term))
+                .reduce(Specification::or)
+                .orElseThrow(() -> new IllegalArgumentException("'props' must not be empty"));
+    }
+
+    public static <T> Specification<T> in(final String prop, final Collection<?> values) {
+        return (root, query, cb) -> values.isEmpty() ? cb.disjunction() : root.get(prop).in(values);
+    }
+
+    public static <T> Specification<T> matches(final SearchMode aMode, final String term, final String... props) {
+        return (root, query, cb) -> {
+            final var columns = Arrays.stream(props).map(root::get).toArray(Expression[]::new);
+
+            query.orderBy(cb.desc(FullTextFunction.relevance(cb, aMode, term, columns)));
+
+            return cb.greaterThan(FullTextFunction.relevance(cb, aMode, term, columns), 0d);
+        };
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.video.MediaIngest;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoResource;
+import com.studies.catalog.admin.infrastructure.api.admission.UploadAdmissionFilter;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class DefaultMediaIngestGateway implements MediaIngestGateway {
+
+    private final MediaIngestService mediaIngestService;
+
+    public DefaultMediaIngestGateway(final MediaIngestService mediaIngestService) {
+        this.mediaIngestService = Objects.requireNonNull(mediaIngestService);
+    }
+
+    @Override
+    public Admission admit(final int jobs) {
+        return this.mediaIngestService.admit(jobs);
+    }
+
+    @Override
+    public MediaIngest submit(final Admission anAdmission, final VideoID anId, final VideoResource aResource) {
+        if (!(anAdmission instanceof MediaIngestService.Admission anIngestAdmission)) {
+            throw new IllegalArgumentException("Admission was not issued by this gateway");
+        }
+
+        return this.mediaIngestService.submit(
+                anIngestAdmission,
+                anId.getValue(),
+                aResource.type(),
+                aResource.resource(),
+                spoolRelease(aResource.resource())
+        ).toIngest();
+    }
+
+    @Override
+    public Optional<MediaIngest> findById(final String anId) {
+        return this.mediaIngestService.findById(anId)
+                .map(MediaIngestJob::toIngest);
+    }
+
+    private static Runnable spoolRelease(final Resource aResource) {
+        // The spooled copy keeps its share of the upload budget until the ingest job deletes it
+        return UploadAdmissionFilter.currentPermit()
+                .<Runnable>map(aPermit -> aPermit.split(aResource.contentLength())::close)
+                .orElse(() -> {
+                });
+    }
+
+}
\ No newline at end of file
@@ -1,68 +1,327 @@
-package com.studies.catalog.admin.infrastructure.video;
-
-import com.studies.catalog.admin.domain.video.*;
-import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
-import com.studies.catalog.admin.infrastructure.services.StorageService;
-import org.springframework.stereotype.Component;
-
-import java.util.Optional;
-
-@Component
-public class DefaultMediaResourceGateway implements MediaResourceGateway {
-
-    private final String filenamePattern;
-    private final String locationPattern;
-    private final StorageService storageService;
-
-    public DefaultMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
-        this.filenamePattern = props.getFilenamePattern();
-        this.locationPattern = props.getLocationPattern();
-        this.storageService = storageService;
-    }
-
-    @Override
-    public VideoMedia storeVideo(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
-        final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return VideoMedia.with(aResource.checksum(), aResource.name(), filepath);
-    }
-
-    @Override
-    public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
-        final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
-    }
-
-    @Override
-    public Optional<Resource> getResource(final VideoID anId, final VideoMediaType type) {
-        return this.storageService.get(filepath(anId, type));
-    }
-
-    @Override
-    public void clearResources(final VideoID anId) {
-        final var ids = this.storageService.list(folder(anId));
-        this.storageService.deleteAll(ids);
-    }
-
-    private String filename(final VideoMediaType aType) {
-        return filenamePattern.replace("{type}", aType.name());
-    }
-
-    private String folder(final VideoID anId) {
-        return locationPattern.replace("{videoId}", anId.getValue());
-    }
-
-    private String filepath(final VideoID anId, final VideoMediaType aType) {
-        return folder(anId)
-                .concat("/")
-                .concat(filename(aType));
-    }
-
-    private void store(final String filepath, final Resource aResource) {
-        this.storageService.store(filepath, aResource);
-    }
-
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.utils.IdUtils;
+import com.studies.catalog.admin.domain.video.*;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+public class DefaultMediaResourceGateway implements MediaResourceGateway {
+
+    private static final String CONTENTS_FOLDER = "contents/";
+
+    private static final Set<VideoMediaType> IMAGE_TYPES =
+            EnumSet.of(VideoMediaType.BANNER, VideoMediaType.THUMBNAIL, VideoMediaType.THUMBNAIL_HALF);
+
+    private final String filenamePattern;
+    private final MediaKeyLayout keyLayout;
+    private final boolean deduplication;
+    private final StorageService storageService;
+    private final MediaContentIndex mediaContentIndex;
+    private final MediaResourceReaper mediaResourceReaper;
+    private final ImageResourceCache imageResourceCache;
+    private final VideoRepository videoRepository;
+
+    public DefaultMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService storageService,
+            final MediaContentIndex mediaContentIndex,
+            final MediaResourceReaper mediaResourceReaper,
+            final ImageResourceCache imageResourceCache,
+            final VideoRepository videoRepository
+    ) {
+        this.filenamePattern = props.getFilenamePattern();
+        this.keyLayout = MediaKeyLayout.from(props);
+        this.deduplication = props.isDeduplication();
+        this.storageService = storageService;
+        this.mediaContentIndex = mediaContentIndex;
+        this.mediaResourceReaper = mediaResourceReaper;
+        this.imageResourceCache = imageResourceCache;
+        this.videoRepository = videoRepository;
+    }
+
+    @Override
+    public VideoMedia storeVideo(final VideoID anId, final VideoResource videoResource) {
+        final var filepath = filepath(anId, videoResource.type());
+        final var aResource = videoResource.resource();
+        final var location = storeMedia(filepath, aResource);
+        return VideoMedia.with(checksum(aResource), aResource.name(), location);
+    }
+
+    @Override
+    public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
+        final var filepath = filepath(anId, videoResource.type());
+        final var aResource = videoResource.resource();
+        final var location = storeMedia(filepath, aResource);
+        this.imageResourceCache.invalidateAll(imageKey(filepath, ""));
+        return ImageMedia.with(checksum(aResource), aResource.name(), location);
+    }
+
+    @Override
+    public Optional<Resource> getResource(final VideoID anId, final VideoMediaType type) {
+        final var filepath = filepath(anId, type);
+
+        if (IMAGE_TYPES.contains(type)) {
+            // Keyed by the checksum of the media row, a replaced image misses even where no invalidation reached
+            return imageChecksum(anId, type)
+                    .map(checksum -> this.imageResourceCache.get(imageKey(filepath, checksum), () -> loadResource(anId, type)))
+                    .orElseGet(() -> loadResource(anId, type));
+        }
+
+        return loadResource(anId, type);
+    }
+
+    private Optional<Resource> loadResource(final VideoID anId, final VideoMediaType type) {
+        final var filepath = filepath(anId, type);
+        final var legacyFilepath = legacyFilepath(anId, type);
+
+        final var aResource = loadResource(filepath);
+        if (aResource.isPresent() || filepath.equals(legacyFilepath)) {
+            return aResource;
+        }
+
+        return loadResource(legacyFilepath);
+    }
+
+    private Optional<Resource> loadResource(final String filepath) {
+        if (this.deduplication) {
+            return this.storageService.get(this.mediaContentIndex.resolve(filepath).orElse(filepath));
+        }
+
+        return this.storageService.get(filepath);
+    }
+
+    @Override
+    public void clearResources(final VideoID anId) {
+        this.imageResourceCache.invalidateAll(folder(anId).concat("/"));
+
+        for (final var aFolder : folders(anId)) {
+            if (this.deduplication) {
+                this.storageService.deleteAll(this.mediaContentIndex.release(aFolder.concat("/")));
+            }
+
+            final var ids = this.storageService.list(aFolder);
+            this.storageService.deleteAll(ids);
+        }
+    }
+
+    @Override
+    public void scheduleClearResources(final VideoID anId) {
+        this.imageResourceCache.invalidateAll(folder(anId).concat("/"));
+
+        final var prefixes = new ArrayList<String>();
+        for (final var aFolder : folders(anId)) {
+            if (this.deduplication) {
+                prefixes.addAll(this.mediaContentIndex.release(aFolder.concat("/")));
+            }
+            prefixes.add(aFolder);
+        }
+
+        this.mediaResourceReaper.schedule(prefixes);
+    }
+
+    @Override
+    public boolean storeChunk(
+            final UploadSession aSession,
+            final long anOffset,
+            final Resource aResource,
+            final String anExpectedChecksum
+    ) {
+        final var aStagingPath = uploadFolder(folder(aSession.getVideoId()), aSession)
+                .concat("/staging/")
+                .concat(IdUtils.uuid());
+
+        store(aStagingPath, aResource);
+
+        if (!checksum(aResource).equalsIgnoreCase(anExpectedChecksum)) {
+            this.storageService.deleteAll(List.of(aStagingPath));
+            return false;
+        }
+
+        this.storageService.move(aStagingPath, chunkpath(aSession, anOffset));
+        return true;
+    }
+
+    @Override
+    public Resource assembleChunks(final UploadSession aSession) {
+        final var anAssembledPath = uploadFolder(folder(aSession.getVideoId()), aSession).concat("/assembled");
+
+        final var sources = aSession.getChunks().stream()
+                .map(it -> chunkpaths(aSession, it.offset()).stream()
+                        .filter(path -> this.storageService.get(path).isPresent())
+                        .findFirst()
+                        .orElseThrow(() -> InternalErrorException.with("Upload chunk %s was not found".formatted(chunkpath(aSession, it.offset())), null)))
+                .toList();
+
+        this.storageService.compose(sources, anAssembledPath, aSession.getContentType(), aSession.getName());
+
+        final var aResource = this.storageService.get(anAssembledPath)
+                .orElseThrow(() -> InternalErrorException.with("Upload %s was not assembled".formatted(anAssembledPath), null));
+
+        return Resource.with(
+                new AssembledContent(anAssembledPath, aResource.contentSupplier()),
+                aResource.contentLength(),
+                aResource.checksum(),
+                aSession.getContentType(),
+                aSession.getName()
+        );
+    }
+
+    @Override
+    public void clearChunks(final UploadSession aSession) {
+        for (final var aFolder : folders(aSession.getVideoId())) {
+            final var ids = this.storageService.list(uploadFolder(aFolder, aSession));
+            this.storageService.deleteAll(ids);
+        }
+    }
+
+    @Override
+    public void scheduleClearChunks(final UploadSession aSession) {
+        this.mediaResourceReaper.schedule(folders(aSession.getVideoId()).stream()
+                .map(it -> uploadFolder(it, aSession))
+                .toList());
+    }
+
+    private String uploadFolder(final String aFolder, final UploadSession aSession) {
+        return aFolder
+                .concat("/uploads/")
+                .concat(aSession.getId().getValue());
+    }
+
+    private String chunkpath(final UploadSession aSession, final long anOffset) {
+        return chunkpath(folder(aSession.getVideoId()), aSession, anOffset);
+    }
+
+    private String chunkpath(final String aFolder, final UploadSession aSession, final long anOffset) {
+        return uploadFolder(aFolder, aSession)
+                .concat("/chunk-%020d".formatted(anOffset));
+    }
+
+    private List<String> chunkpaths(final UploadSession aSession, final long anOffset) {
+        return folders(aSession.getVideoId()).stream()
+                .map(it -> chunkpath(it, aSession, anOffset))
+                .toList();
+    }
+
+    private String filename(final VideoMediaType aType) {
+        return filenamePattern.replace("{type}", aType.name());
+    }
+
+    private String folder(final VideoID anId) {
+        return this.keyLayout.folder(anId);
+    }
+
+    private List<String> folders(final VideoID anId) {
+        final var aFolder = folder(anId);
+        final var aLegacyFolder = this.keyLayout.legacyFolder(anId);
+
+        return aFolder.equals(aLegacyFolder) ? List.of(aFolder) : List.of(aFolder, aLegacyFolder);
+    }
+
+    private String filepath(final VideoID anId, final VideoMediaType aType) {
+        return folder(anId)
+                .concat("/")
+                .concat(filename(aType));
+    }
+
+    private String imageKey(final String filepath, final String checksum) {
+        return filepath
+                .concat("#")
+                .concat(checksum);
+    }
+
+    private Optional<String> imageChecksum(final VideoID anId, final VideoMediaType aType) {
+        final var aVideoId = anId.getValue();
+        return switch (aType) {
+            case BANNER -> this.videoRepository.findBannerChecksum(aVideoId);
+            case THUMBNAIL -> this.videoRepository.findThumbnailChecksum(aVideoId);
+            case THUMBNAIL_HALF -> this.videoRepository.findThumbnailHalfChecksum(aVideoId);
+            default -> Optional.empty();
+        };
+    }
+
+    private String legacyFilepath(final VideoID anId, final VideoMediaType aType) {
+        return this.keyLayout.legacyFolder(anId)
+                .concat("/")
+                .concat(filename(aType));
+    }
+
+    private String storeMedia(final String filepath, final Resource aResource) {
+        if (!this.deduplication) {
+            store(filepath, aResource);
+            return filepath;
+        }
+
+        final var aChecksum = checksum(aResource);
+        final var reused = this.mediaContentIndex.reuse(filepath, aChecksum, aResource.contentLength());
+        if (reused.isPresent()) {
+            this.storageService.deleteAll(reused.get().orphans());
+            return reused.get().location();
+        }
+
+        final var location = CONTENTS_FOLDER.concat(IdUtils.uuid());
+        store(location, aResource);
+
+        final var registration = this.mediaContentIndex
+                .register(filepath, aChecksum, aResource.contentLength(), location);
+
+        final var garbage = new ArrayList<>(registration.orphans());
+        if (!registration.location().equals(location)) {
+            garbage.add(location);
+        }
+        this.storageService.deleteAll(garbage);
+
+        return registration.location();
+    }
+
+    private String checksum(final Resource aResource) {
+        // Parallel part uploads read ranges only, which leaves a streamed checksum unknown
+        return aResource.knownChecksum().orElseGet(() -> digest(aResource));
+    }
+
+    private String digest(final Resource aResource) {
+        try (final var in = aResource.openStream()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read resource %s".formatted(aResource.name()), e);
+        }
+        return aResource.checksum();
+    }
+
+    private void store(final String filepath, final Resource aResource) {
+        // An assembled upload already sits in the storage, so it is moved there instead of copied
+        if (aResource.contentSupplier() instanceof AssembledContent assembled) {
+            this.storageService.move(assembled.path(), filepath);
+            return;
+        }
+
+        this.storageService.store(filepath, aResource);
+    }
+
+    private record AssembledContent(String path, Resource.Content delegate) implements Resource.Content {
+
+        @Override
+        public InputStream open() throws IOException {
+            return this.delegate.open();
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            return this.delegate.open(offset, length);
+        }
+    }
+
 }
\ No newline at end of file
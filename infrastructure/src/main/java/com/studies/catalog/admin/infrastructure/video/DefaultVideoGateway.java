@@ -1,20 +1,34 @@
 package com.studies.catalog.admin.infrastructure.video;
 
 import com.studies.catalog.admin.domain.Identifier;
+import com.studies.catalog.admin.domain.castmember.CastMemberID;
+import com.studies.catalog.admin.domain.category.CategoryID;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
+import com.studies.catalog.admin.domain.genre.GenreID;
 import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.validation.Error;
 import com.studies.catalog.admin.domain.video.*;
+import com.studies.catalog.admin.infrastructure.cache.ExistenceCache;
+import com.studies.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.studies.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.studies.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.studies.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
+import com.studies.catalog.admin.infrastructure.pagination.Paginator;
 import com.studies.catalog.admin.infrastructure.services.EventService;
-import com.studies.catalog.admin.infrastructure.utils.SqlUtils;
 import com.studies.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRelationRepository.RelationIds;
 import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.studies.catalog.admin.domain.utils.CollectionUtils.mapTo;
 import static com.studies.catalog.admin.domain.utils.CollectionUtils.nullIfEmpty;
@@ -24,35 +38,26 @@ public class DefaultVideoGateway implements VideoGateway {
 
     private final VideoRepository videoRepository;
     private final EventService eventService;
+    private final Paginator paginator;
+    private final ExistenceCache existenceCache;
 
     public DefaultVideoGateway(final VideoRepository videoRepository,
-                               @VideoCreatedQueue final EventService eventService) {
+                               @VideoCreatedQueue final EventService eventService,
+                               final Paginator paginator,
+                               final ExistenceCache existenceCache) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
         this.eventService = Objects.requireNonNull(eventService);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
     }
 
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        if (aQuery.isKeyset()) {
+            return findAllByKeyset(aQuery);
+        }
 
-        final var currentPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-                page
-        );
-
-        return new Pagination<>(
-                currentPage.getNumber(),
-                currentPage.getSize(),
-                currentPage.getTotalElements(),
-                currentPage.toList()
-        );
+        return findAllByOffset(aQuery);
     }
 
     @Override
@@ -81,6 +86,172 @@ public class DefaultVideoGateway implements VideoGateway {
             this.videoRepository.deleteById(aVideoId);
     }
 
+    @Override
+    public VideoRelations existingRelations(final VideoRelations aRelations) {
+        final var requested = new RelationIds(
+                mapTo(aRelations.categories(), Identifier::getValue),
+                mapTo(aRelations.genres(), Identifier::getValue),
+                mapTo(aRelations.members(), Identifier::getValue)
+        );
+
+        final var confirmed = new RelationIds(
+                this.existenceCache.confirmed(CategoryJpaEntity.class, requested.categories()),
+                this.existenceCache.confirmed(GenreJpaEntity.class, requested.genres()),
+                this.existenceCache.confirmed(CastMemberJpaEntity.class, requested.members())
+        );
+
+        // Whatever the cache cannot confirm is checked in a single query across the three tables
+        final var unconfirmed = requested.minus(confirmed);
+        final var found = unconfirmed.isEmpty()
+                ? unconfirmed
+                : this.videoRepository.findExistingRelations(unconfirmed);
+
+        this.existenceCache.confirm(CategoryJpaEntity.class, found.categories());
+        this.existenceCache.confirm(GenreJpaEntity.class, found.genres());
+        this.existenceCache.confirm(CastMemberJpaEntity.class, found.members());
+
+        final var existing = confirmed.plus(found);
+        return VideoRelations.with(
+                mapTo(existing.categories(), CategoryID::from),
+                mapTo(existing.genres(), GenreID::from),
+                mapTo(existing.members(), CastMemberID::from)
+        );
+    }
+
+    private Pagination<VideoPreview> findAllByKeyset(final VideoSearchQuery aQuery) {
+        if (!VideoCursor.supports(aQuery.sort())) {
+            throw NotificationException.with(new Error(VideoCursor.unsupported(aQuery.sort())));
+        }
+
+        if (aQuery.searchMode().isFullText()) {
+            throw NotificationException.with(new Error("Cursor pagination does not support full-text search"));
+        }
+
+        final var aCursor = aQuery.cursor().isBlank()
+                ? null
+                : VideoCursor.decode(aQuery.cursor(), aQuery.sort(), aQuery.direction());
+
+        final var backward = aCursor != null && aCursor.backward();
+        final var ascending = Sort.Direction.fromString(aQuery.direction()).isAscending();
+
+        final var terms = aQuery.terms();
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+
+        // One extra row tells whether there is anything beyond this page without counting
+        final var rows = this.videoRepository.findAllByKeyset(
+                terms,
+                aQuery.searchMode(),
+                castMembers,
+                categories,
+                genres,
+                aQuery.sort(),
+                ascending != backward,
+                aCursor != null ? aCursor.sortValue() : null,
+                aCursor != null ? aCursor.id() : null,
+                aQuery.perPage() + 1
+        );
+
+        final var hasMore = rows.size() > aQuery.perPage();
+        final var items = new ArrayList<>(hasMore ? rows.subList(0, aQuery.perPage()) : rows);
+        if (backward) {
+            Collections.reverse(items);
+        }
+
+        final var hasNext = backward || hasMore;
+        final var hasPrevious = backward ? hasMore : aCursor != null;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total(aQuery, terms, castMembers, categories, genres),
+                List.copyOf(items),
+                hasNext ? cursorAfter(items, aQuery) : null,
+                hasPrevious ? cursorBefore(items, aQuery) : null,
+                aQuery.totalMode(),
+                hasNext
+        );
+    }
+
+    private Pagination<VideoPreview> findAllByOffset(final VideoSearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+
+        final var rows = this.videoRepository.findAllByOffset(
+                terms,
+                aQuery.searchMode(),
+                castMembers,
+                categories,
+                genres,
+                aQuery.sort(),
+                Sort.Direction.fromString(aQuery.direction()).isAscending(),
+                aQuery.page() * aQuery.perPage(),
+                aQuery.perPage() + 1
+        );
+
+        final var aPage = Paginator.sliced(
+                aQuery.page(),
+                aQuery.perPage(),
+                rows,
+                aQuery.totalMode(),
+                total(aQuery, terms, castMembers, categories, genres)
+        );
+
+        return new Pagination<>(
+                aPage.currentPage(),
+                aPage.perPage(),
+                aPage.total(),
+                aPage.items(),
+                aPage.hasNext() ? cursorAfter(aPage.items(), aQuery) : null,
+                aQuery.page() > 0 ? cursorBefore(aPage.items(), aQuery) : null,
+                aPage.totalMode(),
+                aPage.hasNext()
+        );
+    }
+
+    private long total(
+            final VideoSearchQuery aQuery,
+            final String terms,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        final var aKey = Arrays.<Object>asList(
+                VideoJpaEntity.class.getName(),
+                aQuery.searchMode(),
+                terms,
+                castMembers,
+                categories,
+                genres
+        );
+        return this.paginator.total(
+                aQuery.totalMode(),
+                aKey,
+                () -> this.videoRepository.countAll(terms, aQuery.searchMode(), castMembers, categories, genres)
+        );
+    }
+
+    private static String cursorAfter(final List<VideoPreview> items, final VideoSearchQuery aQuery) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        return VideoCursor.of(items.get(items.size() - 1), aQuery.sort(), aQuery.direction(), false)
+                .map(VideoCursor::encode)
+                .orElse(null);
+    }
+
+    private static String cursorBefore(final List<VideoPreview> items, final VideoSearchQuery aQuery) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        return VideoCursor.of(items.get(0), aQuery.sort(), aQuery.direction(), true)
+                .map(VideoCursor::encode)
+                .orElse(null);
+    }
+
     private Video save(final Video aVideo) {
         final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
                 .toAggregate();
@@ -0,0 +1,271 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.ImageCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+public class ImageResourceCache {
+
+    private final ImageCacheProperties props;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private long usedBytes;
+    private long generation;
+
+    public ImageResourceCache(final ImageCacheProperties props, final MeterRegistry meterRegistry) {
+        this(props, meterRegistry, Clock.systemUTC());
+    }
+
+    ImageResourceCache(final ImageCacheProperties props, final MeterRegistry meterRegistry, final Clock clock) {
+        this.props = Objects.requireNonNull(props);
+        this.clock = Objects.requireNonNull(clock);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        this.hits = Counter.builder("catalog.media.image.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+
+        this.misses = Counter.builder("catalog.media.image.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        this.evictions = Counter.builder("catalog.media.image.cache.evictions")
+                .register(meterRegistry);
+
+        Gauge.builder("catalog.media.image.cache.size", this, ImageResourceCache::usedBytes)
+                .description("Off-heap bytes held by the image cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public Optional<Resource> get(final String key, final Supplier<Optional<Resource>> loader) {
+        if (!this.props.isEnabled()) {
+            return loader.get();
+        }
+
+        final var cached = lookup(key);
+        if (cached != null) {
+            this.hits.increment();
+            return Optional.of(cached.toResource());
+        }
+
+        this.misses.increment();
+
+        final var aGeneration = generation();
+        final var loaded = loader.get();
+        if (loaded.isEmpty() || loaded.get().contentLength() > this.props.getMaxEntrySize().toBytes()) {
+            return loaded;
+        }
+
+        // Only the metadata is loaded here, the content is read and cached once a response streams it
+        final var aResource = loaded.get();
+        return Optional.of(Resource.with(
+                new LoadingContent(key, aGeneration, aResource),
+                aResource.contentLength(),
+                aResource::checksum,
+                aResource.contentType(),
+                aResource.name()
+        ));
+    }
+
+    public synchronized void invalidate(final String key) {
+        remove(key);
+        this.generation++;
+    }
+
+    public synchronized void invalidateAll(final String prefix) {
+        this.entries.keySet().stream()
+                .filter(it -> it.startsWith(prefix))
+                .toList()
+                .forEach(this::remove);
+        this.generation++;
+    }
+
+    public synchronized long usedBytes() {
+        return this.usedBytes;
+    }
+
+    private synchronized Entry lookup(final String key) {
+        final var anEntry = this.entries.get(key);
+        if (anEntry == null) {
+            return null;
+        }
+
+        if (anEntry.expiresAt().isBefore(this.clock.instant())) {
+            remove(key);
+            return null;
+        }
+
+        return anEntry;
+    }
+
+    private synchronized long generation() {
+        return this.generation;
+    }
+
+    private Entry load(final String key, final long aGeneration, final Resource aResource) {
+        final var anEntry = Entry.load(aResource, this.clock.instant().plus(this.props.getTtl()));
+        put(key, aGeneration, anEntry);
+        return anEntry;
+    }
+
+    private synchronized void put(final String key, final long aGeneration, final Entry anEntry) {
+        // An invalidation since the metadata was loaded may have replaced the image, so its bytes are not cached
+        if (this.generation != aGeneration) {
+            return;
+        }
+
+        remove(key);
+
+        this.entries.put(key, anEntry);
+        this.usedBytes += anEntry.size();
+
+        final var iterator = this.entries.entrySet().iterator();
+        while (this.usedBytes > this.props.getMaxSize().toBytes() && iterator.hasNext()) {
+            final var eldest = iterator.next();
+            iterator.remove();
+            this.usedBytes -= eldest.getValue().size();
+            this.evictions.increment();
+        }
+    }
+
+    private void remove(final String key) {
+        final var removed = this.entries.remove(key);
+        if (removed != null) {
+            this.usedBytes -= removed.size();
+        }
+    }
+
+    private record Entry(
+            ByteBuffer content,
+            String checksum,
+            String contentType,
+            String name,
+            Instant expiresAt
+    ) {
+
+        private static Entry load(final Resource aResource, final Instant expiresAt) {
+            final var buffer = ByteBuffer.allocateDirect((int) aResource.contentLength());
+
+            try (final var in = Channels.newChannel(aResource.openStream())) {
+                while (buffer.hasRemaining()) {
+                    if (in.read(buffer) < 0) {
+                        break;
+                    }
+                }
+            } catch (final IOException e) {
+                throw InternalErrorException.with("Could not read the content of resource %s".formatted(aResource.name()), e);
+            }
+
+            return new Entry(
+                    buffer.flip().asReadOnlyBuffer(),
+                    aResource.checksum(),
+                    aResource.contentType(),
+                    aResource.name(),
+                    expiresAt
+            );
+        }
+
+        private long size() {
+            return this.content.capacity();
+        }
+
+        private Resource toResource() {
+            return Resource.with(
+                    new BufferContent(this.content),
+                    this.content.limit(),
+                    this.checksum,
+                    this.contentType,
+                    this.name
+            );
+        }
+    }
+
+    private class LoadingContent implements Resource.Content {
+
+        private final String key;
+        private final long generation;
+        private final Resource resource;
+
+        private LoadingContent(final String key, final long generation, final Resource resource) {
+            this.key = key;
+            this.generation = generation;
+            this.resource = resource;
+        }
+
+        @Override
+        public InputStream open() {
+            return new BufferContent(load(this.key, this.generation, this.resource).content()).open();
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            return new BufferContent(load(this.key, this.generation, this.resource).content()).open(offset, length);
+        }
+    }
+
+    private record BufferContent(ByteBuffer buffer) implements Resource.Content {
+
+        @Override
+        public InputStream open() {
+            return new BufferInputStream(this.buffer.duplicate());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            return new BufferInputStream(this.buffer.duplicate()
+                    .position((int) offset)
+                    .limit((int) (offset + length)));
+        }
+    }
+
+    private static class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            final var read = Math.min(len, this.buffer.remaining());
+            this.buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaContentJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaContentReferenceJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaContentReferenceRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaContentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class MediaContentIndex {
+
+    private final MediaContentRepository mediaContentRepository;
+    private final MediaContentReferenceRepository mediaContentReferenceRepository;
+
+    public MediaContentIndex(
+            final MediaContentRepository mediaContentRepository,
+            final MediaContentReferenceRepository mediaContentReferenceRepository
+    ) {
+        this.mediaContentRepository = Objects.requireNonNull(mediaContentRepository);
+        this.mediaContentReferenceRepository = Objects.requireNonNull(mediaContentReferenceRepository);
+    }
+
+    @Transactional
+    public Optional<Registration> reuse(final String reference, final String checksum, final long contentLength) {
+        // The row lock keeps a concurrent release from dropping the content before it is retained again
+        final var anId = MediaContentJpaEntity.idOf(checksum, contentLength);
+        return this.mediaContentRepository.findByIdForUpdate(anId)
+                .filter(MediaContentJpaEntity::isReferenced)
+                .map(aContent -> link(reference, anId, aContent));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> resolve(final String reference) {
+        return this.mediaContentReferenceRepository.findById(reference)
+                .flatMap(it -> this.mediaContentRepository.findById(it.getMediaContentId()))
+                .map(MediaContentJpaEntity::getLocation);
+    }
+
+    @Transactional
+    public Registration register(
+            final String reference,
+            final String checksum,
+            final long contentLength,
+            final String location
+    ) {
+        final var anId = MediaContentJpaEntity.idOf(checksum, contentLength);
+        final var aContent = this.mediaContentRepository.findByIdForUpdate(anId)
+                .orElseGet(() -> MediaContentJpaEntity.newContent(checksum, contentLength, location));
+
+        return link(reference, anId, aContent);
+    }
+
+    @Transactional
+    public List<String> release(final String referencePrefix) {
+        final var references = this.mediaContentReferenceRepository.findAllByReferenceStartingWith(referencePrefix);
+        this.mediaContentReferenceRepository.deleteAll(references);
+
+        final var orphans = new ArrayList<String>();
+        references.forEach(it -> releaseContent(it.getMediaContentId(), orphans));
+
+        return orphans;
+    }
+
+    private Registration link(final String reference, final String anId, final MediaContentJpaEntity aContent) {
+        final var previous = this.mediaContentReferenceRepository.findById(reference);
+        if (previous.isPresent() && previous.get().getMediaContentId().equals(anId)) {
+            return new Registration(aContent.getLocation(), List.of());
+        }
+
+        final var orphans = new ArrayList<String>();
+        previous.ifPresent(it -> releaseContent(it.getMediaContentId(), orphans));
+
+        this.mediaContentRepository.save(aContent.retain());
+        this.mediaContentReferenceRepository.save(MediaContentReferenceJpaEntity.with(reference, anId));
+
+        return new Registration(aContent.getLocation(), orphans);
+    }
+
+    private void releaseContent(final String anId, final List<String> orphans) {
+        this.mediaContentRepository.findByIdForUpdate(anId).ifPresent(aContent -> {
+            if (aContent.release().isReferenced()) {
+                this.mediaContentRepository.save(aContent);
+            } else {
+                this.mediaContentRepository.delete(aContent);
+                orphans.add(aContent.getLocation());
+            }
+        });
+    }
+
+    public record Registration(String location, List<String> orphans) {
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.video.MediaIngest;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MediaIngestJob {
+
+    private final String id;
+    private final String videoId;
+    private final VideoMediaType mediaType;
+    private final String name;
+    private final String contentType;
+    private final String checksum;
+    private final long totalBytes;
+    private final AtomicLong transferredBytes;
+    private final Instant createdAt;
+
+    private volatile MediaIngestStatus status;
+    private volatile String error;
+    private volatile Instant updatedAt;
+
+    public MediaIngestJob(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String name,
+            final String contentType,
+            final String checksum,
+            final long totalBytes,
+            final Instant createdAt
+    ) {
+        this(
+                id,
+                videoId,
+                mediaType,
+                name,
+                contentType,
+                checksum,
+                totalBytes,
+                0,
+                MediaIngestStatus.QUEUED,
+                null,
+                createdAt,
+                createdAt
+        );
+    }
+
+    private MediaIngestJob(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String name,
+            final String contentType,
+            final String checksum,
+            final long totalBytes,
+            final long transferredBytes,
+            final MediaIngestStatus status,
+            final String error,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this.id = Objects.requireNonNull(id);
+        this.videoId = Objects.requireNonNull(videoId);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.name = name;
+        this.contentType = contentType;
+        this.checksum = Objects.requireNonNull(checksum);
+        this.totalBytes = totalBytes;
+        this.transferredBytes = new AtomicLong(transferredBytes);
+        this.status = Objects.requireNonNull(status);
+        this.error = error;
+        this.createdAt = Objects.requireNonNull(createdAt);
+        this.updatedAt = Objects.requireNonNull(updatedAt);
+    }
+
+    public static MediaIngestJob with(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String name,
+            final String contentType,
+            final String checksum,
+            final long totalBytes,
+            final long transferredBytes,
+            final MediaIngestStatus status,
+            final String error,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        return new MediaIngestJob(
+                id,
+                videoId,
+                mediaType,
+                name,
+                contentType,
+                checksum,
+                totalBytes,
+                transferredBytes,
+                status,
+                error,
+                createdAt,
+                updatedAt
+        );
+    }
+
+    void queued(final Instant now) {
+        this.status = MediaIngestStatus.QUEUED;
+        this.transferredBytes.set(0);
+        this.updatedAt = now;
+    }
+
+    void running(final Instant now) {
+        this.status = MediaIngestStatus.RUNNING;
+        this.updatedAt = now;
+    }
+
+    void transferred(final long bytes) {
+        this.transferredBytes.addAndGet(bytes);
+    }
+
+    void completed(final Instant now) {
+        this.status = MediaIngestStatus.COMPLETED;
+        this.updatedAt = now;
+    }
+
+    void failed(final String anError, final Instant now) {
+        this.status = MediaIngestStatus.FAILED;
+        this.error = anError;
+        this.updatedAt = now;
+    }
+
+    public MediaIngest toIngest() {
+        return new MediaIngest(
+                getId(),
+                getVideoId(),
+                getMediaType(),
+                getName(),
+                getStatus(),
+                getTotalBytes(),
+                getTransferredBytes(),
+                getError(),
+                getCreatedAt(),
+                getUpdatedAt()
+        );
+    }
+
+    public boolean isFinished() {
+        return this.status == MediaIngestStatus.COMPLETED || this.status == MediaIngestStatus.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getTransferredBytes() {
+        return Math.min(transferredBytes.get(), totalBytes);
+    }
+
+    public MediaIngestStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.exceptions.NoStacktraceException;
+
+import java.time.Duration;
+
+public class MediaIngestRejectedException extends NoStacktraceException {
+
+    private final Duration retryAfter;
+
+    public MediaIngestRejectedException(final Duration retryAfter) {
+        super("Media ingest queue is full, please retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
\ No newline at end of file
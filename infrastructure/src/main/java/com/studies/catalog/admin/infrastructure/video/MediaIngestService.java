@@ -0,0 +1,466 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.google.common.io.ByteStreams;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaInput;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.utils.IdUtils;
+import com.studies.catalog.admin.domain.video.MediaIngestGateway;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.domain.video.VideoResource;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaIngestProperties;
+import com.studies.catalog.admin.infrastructure.services.TransferableContent;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaIngestJobJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaIngestJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+@Component
+public class MediaIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaIngestService.class);
+
+    private static final String SPOOL_SUFFIX = ".spool";
+
+    private static final Set<MediaIngestStatus> FINISHED = EnumSet.of(MediaIngestStatus.COMPLETED, MediaIngestStatus.FAILED);
+
+    private final UploadMediaUseCase uploadMediaUseCase;
+    private final MediaIngestJobRepository mediaIngestJobRepository;
+    private final MediaIngestProperties props;
+    private final Clock clock;
+    private final Path spoolDir;
+    private final Map<String, MediaIngestJob> activeJobs;
+    private final Map<String, Deque<Runnable>> videoQueues;
+    private final int capacity;
+    private final Semaphore slots;
+    private final ThreadPoolExecutor executor;
+    private final Counter completed;
+    private final Counter failed;
+
+    public MediaIngestService(
+            final UploadMediaUseCase uploadMediaUseCase,
+            final MediaIngestJobRepository mediaIngestJobRepository,
+            final MediaIngestProperties props,
+            final MeterRegistry meterRegistry
+    ) {
+        this(uploadMediaUseCase, mediaIngestJobRepository, props, meterRegistry, Clock.systemUTC());
+    }
+
+    MediaIngestService(
+            final UploadMediaUseCase uploadMediaUseCase,
+            final MediaIngestJobRepository mediaIngestJobRepository,
+            final MediaIngestProperties props,
+            final MeterRegistry meterRegistry,
+            final Clock clock
+    ) {
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.mediaIngestJobRepository = Objects.requireNonNull(mediaIngestJobRepository);
+        this.props = Objects.requireNonNull(props);
+        this.clock = Objects.requireNonNull(clock);
+        this.spoolDir = prepareSpoolDir(Path.of(props.getSpoolDir()));
+        this.activeJobs = new ConcurrentHashMap<>();
+        this.videoQueues = new HashMap<>();
+        this.capacity = props.getConcurrency() + props.getQueueCapacity();
+        this.slots = new Semaphore(this.capacity);
+        this.executor = executor(props);
+
+        Gauge.builder("catalog.media.ingest.queued", this, MediaIngestService::queued)
+                .description("Media ingest jobs waiting for a worker")
+                .register(meterRegistry);
+
+        Gauge.builder("catalog.media.ingest.running", this.executor, ThreadPoolExecutor::getActiveCount)
+                .description("Media ingest jobs being stored")
+                .register(meterRegistry);
+
+        this.completed = Counter.builder("catalog.media.ingest.jobs")
+                .description("Finished media ingest jobs")
+                .tag("status", "completed")
+                .register(meterRegistry);
+
+        this.failed = Counter.builder("catalog.media.ingest.jobs")
+                .description("Finished media ingest jobs")
+                .tag("status", "failed")
+                .register(meterRegistry);
+
+        resume();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    public Admission admit(final int jobs) {
+        if (!this.slots.tryAcquire(jobs)) {
+            throw new MediaIngestRejectedException(this.props.getRetryAfter());
+        }
+        return new Admission(jobs);
+    }
+
+    public MediaIngestJob submit(
+            final String aVideoId,
+            final VideoMediaType aType,
+            final Resource aResource,
+            final Runnable aSpoolRelease
+    ) {
+        try (final var anAdmission = admit(1)) {
+            return submit(anAdmission, aVideoId, aType, aResource, aSpoolRelease);
+        }
+    }
+
+    public MediaIngestJob submit(
+            final Admission anAdmission,
+            final String aVideoId,
+            final VideoMediaType aType,
+            final Resource aResource,
+            final Runnable aSpoolRelease
+    ) {
+        anAdmission.claim();
+
+        final var anId = IdUtils.uuid();
+        final var spooled = spoolFile(anId);
+        MediaIngestJob aJob = null;
+        var recorded = false;
+        try {
+            purgeExpired();
+
+            final long size;
+            final String checksum;
+            try (final var in = ChecksumInputStream.of(aResource.content().open())) {
+                size = Files.copy(in, spooled);
+                checksum = in.checksum();
+            } catch (final IOException e) {
+                throw InternalErrorException.with("Error on spooling media of video %s".formatted(aVideoId), e);
+            }
+
+            aJob = new MediaIngestJob(
+                    anId,
+                    aVideoId,
+                    aType,
+                    aResource.name(),
+                    aResource.contentType(),
+                    checksum,
+                    size,
+                    this.clock.instant()
+            );
+
+            this.activeJobs.put(anId, aJob);
+            this.mediaIngestJobRepository.save(MediaIngestJobJpaEntity.from(aJob));
+            recorded = true;
+            dispatch(aJob, aSpoolRelease);
+
+            return aJob;
+        } catch (final RuntimeException e) {
+            // A recorded job left queued would never run, its spool file is gone and nothing resumes it
+            if (recorded) {
+                aJob.failed(e.getMessage(), this.clock.instant());
+                this.failed.increment();
+                persist(aJob);
+            }
+            this.activeJobs.remove(anId);
+            deleteQuietly(spooled);
+            aSpoolRelease.run();
+            this.slots.release();
+            throw e;
+        }
+    }
+
+    public Optional<MediaIngestJob> findById(final String anId) {
+        final var anActiveJob = this.activeJobs.get(anId);
+        if (anActiveJob != null) {
+            return Optional.of(anActiveJob);
+        }
+
+        final var threshold = this.clock.instant().minus(this.props.getRetention());
+        return this.mediaIngestJobRepository.findById(anId)
+                .map(MediaIngestJobJpaEntity::toJob)
+                .filter(aJob -> !aJob.isFinished() || !aJob.getUpdatedAt().isBefore(threshold));
+    }
+
+    private void dispatch(final MediaIngestJob aJob, final Runnable aSpoolRelease) {
+        final var aVideoId = aJob.getVideoId();
+        final Runnable aTask = () -> run(aJob, aSpoolRelease);
+
+        // Jobs of the same video update the same aggregate, so they run one after another
+        synchronized (this.videoQueues) {
+            final var aQueue = this.videoQueues.get(aVideoId);
+            if (aQueue != null) {
+                aQueue.add(aTask);
+                return;
+            }
+            this.videoQueues.put(aVideoId, new ArrayDeque<>());
+        }
+
+        try {
+            this.executor.execute(() -> drain(aVideoId, aTask));
+        } catch (final RejectedExecutionException e) {
+            synchronized (this.videoQueues) {
+                this.videoQueues.remove(aVideoId);
+            }
+            throw e;
+        }
+    }
+
+    private void drain(final String aVideoId, final Runnable aFirstTask) {
+        var aTask = aFirstTask;
+        while (aTask != null) {
+            aTask.run();
+
+            synchronized (this.videoQueues) {
+                aTask = this.videoQueues.get(aVideoId).poll();
+                if (aTask == null) {
+                    this.videoQueues.remove(aVideoId);
+                }
+            }
+        }
+    }
+
+    private void run(final MediaIngestJob aJob, final Runnable aSpoolRelease) {
+        final var spooled = spoolFile(aJob.getId());
+
+        try {
+            aJob.running(this.clock.instant());
+            this.mediaIngestJobRepository.save(MediaIngestJobJpaEntity.from(aJob));
+
+            final var aResource = Resource.with(
+                    new SpooledContent(spooled, aJob),
+                    aJob.getTotalBytes(),
+                    aJob.getChecksum(),
+                    aJob.getContentType(),
+                    aJob.getName()
+            );
+
+            this.uploadMediaUseCase.execute(
+                    UploadMediaInput.with(aJob.getVideoId(), VideoResource.with(aJob.getMediaType(), aResource))
+            );
+            aJob.completed(this.clock.instant());
+            this.completed.increment();
+        } catch (final RuntimeException e) {
+            log.warn("Media ingest job {} of video {} failed", aJob.getId(), aJob.getVideoId(), e);
+            aJob.failed(e.getMessage(), this.clock.instant());
+            this.failed.increment();
+        } finally {
+            if (persist(aJob)) {
+                deleteQuietly(spooled);
+            }
+            aSpoolRelease.run();
+            this.activeJobs.remove(aJob.getId());
+            this.slots.release();
+        }
+    }
+
+    private void resume() {
+        try (final var spooled = Files.newDirectoryStream(this.spoolDir, "*" + SPOOL_SUFFIX)) {
+            for (final var aFile : spooled) {
+                resume(aFile);
+            }
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on reading media ingest spool %s".formatted(this.spoolDir), e);
+        }
+    }
+
+    private void resume(final Path spooled) {
+        final var aFileName = spooled.getFileName().toString();
+        final var anId = aFileName.substring(0, aFileName.length() - SPOOL_SUFFIX.length());
+
+        final var aJob = this.mediaIngestJobRepository.findById(anId)
+                .map(MediaIngestJobJpaEntity::toJob)
+                .filter(it -> !it.isFinished());
+
+        // A spool file without an unfinished job was left behind while it was being written or deleted
+        if (aJob.isEmpty()) {
+            deleteQuietly(spooled);
+            return;
+        }
+
+        final var anUnfinishedJob = aJob.get();
+        if (!this.slots.tryAcquire()) {
+            anUnfinishedJob.failed("Media ingest could not be resumed after a restart", this.clock.instant());
+            this.failed.increment();
+            if (persist(anUnfinishedJob)) {
+                deleteQuietly(spooled);
+            }
+            return;
+        }
+
+        anUnfinishedJob.queued(this.clock.instant());
+        this.activeJobs.put(anId, anUnfinishedJob);
+        persist(anUnfinishedJob);
+        dispatch(anUnfinishedJob, () -> {
+        });
+
+        log.info("Resumed media ingest job {} of video {}", anId, anUnfinishedJob.getVideoId());
+    }
+
+    private boolean persist(final MediaIngestJob aJob) {
+        try {
+            this.mediaIngestJobRepository.save(MediaIngestJobJpaEntity.from(aJob));
+            return true;
+        } catch (final RuntimeException e) {
+            log.warn("Could not record the state of media ingest job {}", aJob.getId(), e);
+            return false;
+        }
+    }
+
+    private void purgeExpired() {
+        final var threshold = this.clock.instant().minus(this.props.getRetention());
+        this.mediaIngestJobRepository.deleteByStatusUpdatedBefore(FINISHED, threshold);
+    }
+
+    private int queued() {
+        return Math.max(0, this.capacity - this.slots.availablePermits() - this.executor.getActiveCount());
+    }
+
+    private Path spoolFile(final String anId) {
+        return this.spoolDir.resolve(anId + SPOOL_SUFFIX);
+    }
+
+    private static Path prepareSpoolDir(final Path aDir) {
+        try {
+            return Files.createDirectories(aDir);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on preparing media ingest spool %s".formatted(aDir), e);
+        }
+    }
+
+    private static void deleteQuietly(final Path aPath) {
+        try {
+            Files.deleteIfExists(aPath);
+        } catch (final IOException e) {
+            log.warn("Could not delete spooled media {}", aPath, e);
+        }
+    }
+
+    private static ThreadPoolExecutor executor(final MediaIngestProperties props) {
+        final var threads = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                props.getConcurrency(),
+                props.getConcurrency(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                task -> {
+                    final var thread = new Thread(task, "media-ingest-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public class Admission implements MediaIngestGateway.Admission {
+
+        private int remaining;
+
+        private Admission(final int jobs) {
+            this.remaining = jobs;
+        }
+
+        private synchronized void claim() {
+            if (this.remaining == 0) {
+                throw new IllegalStateException("Media ingest admission has no job left");
+            }
+            this.remaining--;
+        }
+
+        @Override
+        public synchronized void close() {
+            slots.release(this.remaining);
+            this.remaining = 0;
+        }
+    }
+
+    private record SpooledContent(Path path, MediaIngestJob job) implements TransferableContent {
+
+        @Override
+        public InputStream open() throws IOException {
+            return new ProgressInputStream(Files.newInputStream(this.path, READ), this.job);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var channel = FileChannel.open(this.path, READ);
+            try {
+                channel.position(offset);
+            } catch (final IOException e) {
+                channel.close();
+                throw e;
+            }
+            return new ProgressInputStream(ByteStreams.limit(Channels.newInputStream(channel), length), this.job);
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+            try (final var source = FileChannel.open(this.path, READ)) {
+                final var transferred = TransferableContent.transfer(source, offset, length, target);
+                this.job.transferred(transferred);
+                return transferred;
+            }
+        }
+    }
+
+    private static class ProgressInputStream extends FilterInputStream {
+
+        private final MediaIngestJob job;
+
+        private ProgressInputStream(final InputStream in, final MediaIngestJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var read = super.read();
+            if (read >= 0) {
+                this.job.transferred(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read > 0) {
+                this.job.transferred(read);
+            }
+            return read;
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+public class MediaKeyLayout {
+
+    private static final String VIDEO_ID = "{videoId}";
+    private static final int MAX_PREFIX_LENGTH = 8;
+
+    private final String locationPattern;
+    private final Type type;
+    private final int prefixLength;
+
+    private MediaKeyLayout(final String locationPattern, final Type type, final int prefixLength) {
+        this.locationPattern = Objects.requireNonNull(locationPattern);
+        this.type = Objects.requireNonNull(type);
+        this.prefixLength = prefixLength;
+
+        if (!locationPattern.contains(VIDEO_ID)) {
+            throw new IllegalArgumentException("'locationPattern' must contain %s".formatted(VIDEO_ID));
+        }
+
+        if (type == Type.HASHED && (prefixLength < 1 || prefixLength > MAX_PREFIX_LENGTH)) {
+            throw new IllegalArgumentException("'keyPrefixLength' must be between 1 and %d".formatted(MAX_PREFIX_LENGTH));
+        }
+    }
+
+    public static MediaKeyLayout with(final String locationPattern, final Type type, final int prefixLength) {
+        return new MediaKeyLayout(locationPattern, type, prefixLength);
+    }
+
+    public static MediaKeyLayout from(final StorageProperties props) {
+        return with(props.getLocationPattern(), props.getKeyLayout(), props.getKeyPrefixLength());
+    }
+
+    public boolean isHashed() {
+        return this.type == Type.HASHED;
+    }
+
+    public String folder(final VideoID anId) {
+        final var aFolder = legacyFolder(anId);
+
+        if (!isHashed()) {
+            return aFolder;
+        }
+
+        return hashPrefix(anId.getValue()).concat("/").concat(aFolder);
+    }
+
+    public String legacyFolder(final VideoID anId) {
+        return this.locationPattern.replace(VIDEO_ID, anId.getValue());
+    }
+
+    public String legacyPrefix() {
+        return this.locationPattern.substring(0, this.locationPattern.indexOf(VIDEO_ID));
+    }
+
+    public Optional<String> migrate(final String aLegacyKey) {
+        final var prefix = legacyPrefix();
+        final var suffix = this.locationPattern.substring(this.locationPattern.indexOf(VIDEO_ID) + VIDEO_ID.length())
+                .concat("/");
+
+        if (!isHashed() || prefix.isEmpty() || !aLegacyKey.startsWith(prefix)) {
+            return Optional.empty();
+        }
+
+        final var end = aLegacyKey.indexOf(suffix, prefix.length());
+        if (end <= prefix.length()) {
+            return Optional.empty();
+        }
+
+        final var anId = VideoID.from(aLegacyKey.substring(prefix.length(), end));
+        final var aLegacyFolder = legacyFolder(anId);
+
+        return Optional.of(folder(anId).concat(aLegacyKey.substring(aLegacyFolder.length())));
+    }
+
+    private String hashPrefix(final String aVideoId) {
+        return HashingUtils.checksum(aVideoId.getBytes(StandardCharsets.UTF_8)).substring(0, this.prefixLength);
+    }
+
+    public enum Type {
+        FLAT,
+        HASHED
+    }
+
+}
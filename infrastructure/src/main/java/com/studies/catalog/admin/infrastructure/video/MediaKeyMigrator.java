@@ -0,0 +1,90 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaKeyMigrationProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class MediaKeyMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaKeyMigrator.class);
+
+    private final StorageService storageService;
+    private final VideoRepository videoRepository;
+    private final MediaKeyLayout keyLayout;
+    private final MediaKeyMigrationProperties props;
+
+    private String cursor;
+
+    public MediaKeyMigrator(
+            final StorageService storageService,
+            final VideoRepository videoRepository,
+            final StorageProperties storageProperties,
+            final MediaKeyMigrationProperties props
+    ) {
+        this.storageService = Objects.requireNonNull(storageService);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.keyLayout = MediaKeyLayout.from(storageProperties);
+        this.props = Objects.requireNonNull(props);
+    }
+
+    @Scheduled(
+            initialDelayString = "${storage.catalog-videos.key-migration.interval:60000}",
+            fixedDelayString = "${storage.catalog-videos.key-migration.interval:60000}"
+    )
+    public void run() {
+        if (!this.props.isEnabled() || !this.keyLayout.isHashed()) {
+            return;
+        }
+
+        do {
+            final var migrated = migrate(this.props.getBatchSize());
+            log.info("Migrated {} media objects to the hashed key layout", migrated);
+        } while (this.cursor != null);
+    }
+
+    public int migrate(final int batchSize) {
+        final var legacyKeys = this.storageService.list(this.keyLayout.legacyPrefix(), this.cursor, batchSize);
+        this.cursor = legacyKeys.size() < batchSize ? null : legacyKeys.get(legacyKeys.size() - 1);
+
+        var migrated = 0;
+        for (final var aLegacyKey : legacyKeys) {
+            final var aKey = this.keyLayout.migrate(aLegacyKey);
+            if (aKey.isEmpty()) {
+                continue;
+            }
+
+            try {
+                move(aLegacyKey, aKey.get());
+                migrated++;
+            } catch (final Exception e) {
+                log.warn("Could not migrate media object {} to {}", aLegacyKey, aKey.get(), e);
+            }
+        }
+
+        return migrated;
+    }
+
+    private void move(final String aLegacyKey, final String aKey) {
+        final var aResource = this.storageService.get(aLegacyKey);
+        if (aResource.isEmpty()) {
+            return;
+        }
+
+        // A media written under the new layout is newer than its legacy copy and must not be overwritten
+        this.storageService.storeIfAbsent(aKey, aResource.get());
+
+        this.videoRepository.updateVideoMediaLocation(aLegacyKey, aKey);
+        this.videoRepository.updateImageMediaLocation(aLegacyKey, aKey);
+        this.storageService.deleteAll(List.of(aLegacyKey));
+    }
+
+}
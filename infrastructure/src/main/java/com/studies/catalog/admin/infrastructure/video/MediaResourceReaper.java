@@ -0,0 +1,131 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.utils.InstantUtils;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaReaperProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaTombstoneJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaTombstoneRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class MediaResourceReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaResourceReaper.class);
+
+    private final MediaTombstoneRepository mediaTombstoneRepository;
+    private final StorageService storageService;
+    private final MediaReaperProperties props;
+    private final AtomicLong backlog;
+    private final Counter deletedResources;
+    private final Counter failedAttempts;
+
+    public MediaResourceReaper(
+            final MediaTombstoneRepository mediaTombstoneRepository,
+            final StorageService storageService,
+            final MediaReaperProperties props,
+            final MeterRegistry meterRegistry
+    ) {
+        this.mediaTombstoneRepository = Objects.requireNonNull(mediaTombstoneRepository);
+        this.storageService = Objects.requireNonNull(storageService);
+        this.props = Objects.requireNonNull(props);
+        this.backlog = new AtomicLong(mediaTombstoneRepository.count());
+
+        Gauge.builder("catalog.media.reaper.backlog", this.backlog, AtomicLong::get)
+                .description("Storage prefixes waiting to be deleted")
+                .register(meterRegistry);
+
+        this.deletedResources = Counter.builder("catalog.media.reaper.deleted")
+                .description("Storage objects deleted by the reaper")
+                .register(meterRegistry);
+
+        this.failedAttempts = Counter.builder("catalog.media.reaper.failures")
+                .description("Tombstones whose deletion failed and was rescheduled")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public void schedule(final List<String> prefixes) {
+        this.mediaTombstoneRepository.saveAll(prefixes.stream()
+                .map(MediaTombstoneJpaEntity::newTombstone)
+                .toList());
+
+        this.backlog.addAndGet(prefixes.size());
+    }
+
+    @Scheduled(
+            initialDelayString = "${storage.catalog-videos.reaper.interval:10000}",
+            fixedDelayString = "${storage.catalog-videos.reaper.interval:10000}"
+    )
+    public void run() {
+        if (!this.props.isEnabled()) {
+            return;
+        }
+
+        reap();
+    }
+
+    public void reap() {
+        try {
+            int reaped;
+            do {
+                reaped = reapBatch();
+            } while (reaped == this.props.getBatchSize());
+        } finally {
+            this.backlog.set(this.mediaTombstoneRepository.count());
+        }
+    }
+
+    private int reapBatch() {
+        final var tombstones = this.mediaTombstoneRepository
+                .findDue(InstantUtils.now(), PageRequest.of(0, this.props.getBatchSize()));
+
+        if (tombstones.isEmpty()) {
+            return 0;
+        }
+
+        final var ids = new LinkedHashSet<String>();
+        final var listed = new ArrayList<MediaTombstoneJpaEntity>();
+        final var failed = new ArrayList<MediaTombstoneJpaEntity>();
+
+        for (final var aTombstone : tombstones) {
+            try {
+                ids.addAll(this.storageService.list(aTombstone.getPrefix()));
+                listed.add(aTombstone);
+            } catch (final Exception e) {
+                failed.add(failed(aTombstone, e));
+            }
+        }
+
+        try {
+            this.storageService.deleteAll(List.copyOf(ids));
+            this.mediaTombstoneRepository.deleteAll(listed);
+            this.deletedResources.increment(ids.size());
+        } catch (final Exception e) {
+            listed.forEach(it -> failed.add(failed(it, e)));
+        }
+
+        this.mediaTombstoneRepository.saveAll(failed);
+        return tombstones.size();
+    }
+
+    private MediaTombstoneJpaEntity failed(final MediaTombstoneJpaEntity aTombstone, final Exception error) {
+        log.warn("Could not delete resources with prefix {} [attempt:{}]", aTombstone.getPrefix(), aTombstone.getAttempts() + 1, error);
+        this.failedAttempts.increment();
+        return aTombstone.failed(error, this.props.getRetryDelay(), this.props.getRetryMaxDelay());
+    }
+
+}
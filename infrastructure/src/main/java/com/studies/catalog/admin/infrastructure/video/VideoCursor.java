@@ -0,0 +1,116 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.video.VideoPreview;
+import com.studies.catalog.admin.infrastructure.configuration.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+public record VideoCursor(
+        @JsonProperty("s") String sort,
+        @JsonProperty("d") String direction,
+        @JsonProperty("b") boolean backward,
+        @JsonProperty("v") String value,
+        @JsonProperty("i") String id
+) {
+
+    public VideoCursor {
+        Objects.requireNonNull(sort);
+        Objects.requireNonNull(direction);
+        Objects.requireNonNull(id);
+    }
+
+    public static Optional<VideoCursor> of(
+            final VideoPreview aBoundary,
+            final String sort,
+            final String direction,
+            final boolean backward
+    ) {
+        return SortKey.of(sort).map(aKey -> new VideoCursor(
+                aKey.property,
+                direction.toLowerCase(),
+                backward,
+                aKey.extractor.apply(aBoundary),
+                aBoundary.id()
+        ));
+    }
+
+    public static VideoCursor decode(final String aToken, final String sort, final String direction) {
+        final VideoCursor aCursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            aCursor = Json.readValue(json, VideoCursor.class);
+        } catch (final RuntimeException e) {
+            throw invalid();
+        }
+
+        if (aCursor == null || !aCursor.sort().equals(sort) || !aCursor.direction().equalsIgnoreCase(direction)) {
+            throw invalid();
+        }
+
+        return aCursor;
+    }
+
+    public static boolean supports(final String sort) {
+        return SortKey.of(sort).isPresent();
+    }
+
+    public static String unsupported(final String sort) {
+        return "Cursor pagination does not support sorting by %s".formatted(sort);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Comparable<?> sortValue() {
+        try {
+            return SortKey.of(this.sort)
+                    .map(aKey -> aKey.parser.apply(this.value))
+                    .orElseThrow(VideoCursor::invalid);
+        } catch (final RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static NotificationException invalid() {
+        return NotificationException.with(new Error("Invalid cursor"));
+    }
+
+    private enum SortKey {
+        TITLE("title", VideoPreview::title, aValue -> aValue),
+        CREATED_AT("createdAt", aPreview -> aPreview.createdAt().toString(), Instant::parse),
+        UPDATED_AT("updatedAt", aPreview -> aPreview.updatedAt().toString(), Instant::parse);
+
+        private final String property;
+        private final Function<VideoPreview, String> extractor;
+        private final Function<String, Comparable<?>> parser;
+
+        SortKey(
+                final String property,
+                final Function<VideoPreview, String> extractor,
+                final Function<String, Comparable<?>> parser
+        ) {
+            this.property = property;
+            this.extractor = extractor;
+            this.parser = parser;
+        }
+
+        private static Optional<SortKey> of(final String sort) {
+            return Arrays.stream(values())
+                    .filter(aKey -> aKey.property.equals(sort))
+                    .findFirst();
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.studies.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CreateVideoIngestApiResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("ingests") List<MediaIngestApiResponse> ingests
+) {
+}
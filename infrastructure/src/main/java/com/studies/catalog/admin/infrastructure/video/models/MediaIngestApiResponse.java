@@ -0,0 +1,21 @@
+package com.studies.catalog.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+
+import java.time.Instant;
+
+public record MediaIngestApiResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("name") String name,
+        @JsonProperty("status") MediaIngestStatus status,
+        @JsonProperty("total_bytes") long totalBytes,
+        @JsonProperty("transferred_bytes") long transferredBytes,
+        @JsonProperty("error") String error,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+}
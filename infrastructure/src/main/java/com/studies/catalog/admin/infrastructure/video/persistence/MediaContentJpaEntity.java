@@ -0,0 +1,141 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import com.studies.catalog.admin.domain.utils.InstantUtils;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.Objects;
+
+@Entity(name = "MediaContent")
+@Table(name = "media_contents")
+public class MediaContentJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    @Column(name = "location", nullable = false)
+    private String location;
+
+    @Column(name = "references_count", nullable = false)
+    private int references;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public MediaContentJpaEntity() {
+    }
+
+    private MediaContentJpaEntity(
+            final String id,
+            final String checksum,
+            final long contentLength,
+            final String location,
+            final int references,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.checksum = checksum;
+        this.contentLength = contentLength;
+        this.location = location;
+        this.references = references;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaContentJpaEntity newContent(final String checksum, final long contentLength, final String location) {
+        return new MediaContentJpaEntity(idOf(checksum, contentLength), checksum, contentLength, location, 0, InstantUtils.now());
+    }
+
+    public static String idOf(final String checksum, final long contentLength) {
+        return "%s-%d".formatted(checksum, contentLength);
+    }
+
+    public MediaContentJpaEntity retain() {
+        this.references++;
+        return this;
+    }
+
+    public MediaContentJpaEntity release() {
+        this.references--;
+        return this;
+    }
+
+    public boolean isReferenced() {
+        return this.references > 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaContentJpaEntity that = (MediaContentJpaEntity) o;
+
+        return Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public MediaContentJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public MediaContentJpaEntity setChecksum(String checksum) {
+        this.checksum = checksum;
+        return this;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public MediaContentJpaEntity setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+        return this;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public MediaContentJpaEntity setLocation(String location) {
+        this.location = location;
+        return this;
+    }
+
+    public int getReferences() {
+        return references;
+    }
+
+    public MediaContentJpaEntity setReferences(int references) {
+        this.references = references;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public MediaContentJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+}
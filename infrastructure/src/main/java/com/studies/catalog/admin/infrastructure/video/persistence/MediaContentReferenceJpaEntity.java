@@ -0,0 +1,61 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+@Entity(name = "MediaContentReference")
+@Table(name = "media_content_references")
+public class MediaContentReferenceJpaEntity {
+
+    @Id
+    @Column(name = "reference", nullable = false)
+    private String reference;
+
+    @Column(name = "media_content_id", nullable = false)
+    private String mediaContentId;
+
+    public MediaContentReferenceJpaEntity() {
+    }
+
+    private MediaContentReferenceJpaEntity(final String reference, final String mediaContentId) {
+        this.reference = reference;
+        this.mediaContentId = mediaContentId;
+    }
+
+    public static MediaContentReferenceJpaEntity with(final String reference, final String mediaContentId) {
+        return new MediaContentReferenceJpaEntity(reference, mediaContentId);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaContentReferenceJpaEntity that = (MediaContentReferenceJpaEntity) o;
+
+        return Objects.equals(getReference(), that.getReference());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getReference());
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public MediaContentReferenceJpaEntity setReference(String reference) {
+        this.reference = reference;
+        return this;
+    }
+
+    public String getMediaContentId() {
+        return mediaContentId;
+    }
+
+    public MediaContentReferenceJpaEntity setMediaContentId(String mediaContentId) {
+        this.mediaContentId = mediaContentId;
+        return this;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface MediaContentReferenceRepository extends JpaRepository<MediaContentReferenceJpaEntity, String> {
+
+    List<MediaContentReferenceJpaEntity> findAllByReferenceStartingWith(String prefix);
+
+}
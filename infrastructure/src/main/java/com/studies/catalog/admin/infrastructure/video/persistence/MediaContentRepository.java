@@ -0,0 +1,17 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface MediaContentRepository extends JpaRepository<MediaContentJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from MediaContent c where c.id = :id")
+    Optional<MediaContentJpaEntity> findByIdForUpdate(@Param("id") String id);
+
+}
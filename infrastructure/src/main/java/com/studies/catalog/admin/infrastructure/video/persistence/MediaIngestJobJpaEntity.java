@@ -0,0 +1,243 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.video.MediaIngestJob;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.Objects;
+
+@Entity(name = "MediaIngestJob")
+@Table(name = "media_ingest_jobs")
+public class MediaIngestJobJpaEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType mediaType;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "total_bytes", nullable = false)
+    private long totalBytes;
+
+    @Column(name = "transferred_bytes", nullable = false)
+    private long transferredBytes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private MediaIngestStatus status;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public MediaIngestJobJpaEntity() {
+    }
+
+    private MediaIngestJobJpaEntity(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String name,
+            final String contentType,
+            final String checksum,
+            final long totalBytes,
+            final long transferredBytes,
+            final MediaIngestStatus status,
+            final String error,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+        this.name = name;
+        this.contentType = contentType;
+        this.checksum = checksum;
+        this.totalBytes = totalBytes;
+        this.transferredBytes = transferredBytes;
+        this.status = status;
+        this.error = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static MediaIngestJobJpaEntity from(final MediaIngestJob aJob) {
+        return new MediaIngestJobJpaEntity(
+                aJob.getId(),
+                aJob.getVideoId(),
+                aJob.getMediaType(),
+                aJob.getName(),
+                aJob.getContentType(),
+                aJob.getChecksum(),
+                aJob.getTotalBytes(),
+                aJob.getTransferredBytes(),
+                aJob.getStatus(),
+                aJob.getError(),
+                aJob.getCreatedAt(),
+                aJob.getUpdatedAt()
+        );
+    }
+
+    public MediaIngestJob toJob() {
+        return MediaIngestJob.with(
+                getId(),
+                getVideoId(),
+                getMediaType(),
+                getName(),
+                getContentType(),
+                getChecksum(),
+                getTotalBytes(),
+                getTransferredBytes(),
+                getStatus(),
+                getError(),
+                getCreatedAt(),
+                getUpdatedAt()
+        );
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaIngestJobJpaEntity that = (MediaIngestJobJpaEntity) o;
+
+        return Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public MediaIngestJobJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public MediaIngestJobJpaEntity setVideoId(String videoId) {
+        this.videoId = videoId;
+        return this;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public MediaIngestJobJpaEntity setMediaType(VideoMediaType mediaType) {
+        this.mediaType = mediaType;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MediaIngestJobJpaEntity setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public MediaIngestJobJpaEntity setContentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public MediaIngestJobJpaEntity setChecksum(String checksum) {
+        this.checksum = checksum;
+        return this;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public MediaIngestJobJpaEntity setTotalBytes(long totalBytes) {
+        this.totalBytes = totalBytes;
+        return this;
+    }
+
+    public long getTransferredBytes() {
+        return transferredBytes;
+    }
+
+    public MediaIngestJobJpaEntity setTransferredBytes(long transferredBytes) {
+        this.transferredBytes = transferredBytes;
+        return this;
+    }
+
+    public MediaIngestStatus getStatus() {
+        return status;
+    }
+
+    public MediaIngestJobJpaEntity setStatus(MediaIngestStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public MediaIngestJobJpaEntity setError(String error) {
+        this.error = error;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public MediaIngestJobJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public MediaIngestJobJpaEntity setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+
+}
\ No newline at end of file
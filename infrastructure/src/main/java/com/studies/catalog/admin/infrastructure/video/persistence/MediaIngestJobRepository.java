@@ -0,0 +1,23 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface MediaIngestJobRepository extends JpaRepository<MediaIngestJobJpaEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from MediaIngestJob j where j.status in :statuses and j.updatedAt < :updatedBefore")
+    int deleteByStatusUpdatedBefore(
+            @Param("statuses") Collection<MediaIngestStatus> statuses,
+            @Param("updatedBefore") Instant updatedBefore
+    );
+
+}
\ No newline at end of file
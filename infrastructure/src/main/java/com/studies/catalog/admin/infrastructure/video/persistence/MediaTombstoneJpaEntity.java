@@ -0,0 +1,138 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import com.studies.catalog.admin.domain.utils.IdUtils;
+import com.studies.catalog.admin.domain.utils.InstantUtils;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+@Entity(name = "MediaTombstone")
+@Table(name = "media_tombstones")
+public class MediaTombstoneJpaEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "prefix", nullable = false)
+    private String prefix;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public MediaTombstoneJpaEntity() {
+    }
+
+    private MediaTombstoneJpaEntity(
+            final String id,
+            final String prefix,
+            final int attempts,
+            final String lastError,
+            final Instant nextAttemptAt,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.prefix = prefix;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaTombstoneJpaEntity newTombstone(final String prefix) {
+        final var now = InstantUtils.now();
+        return new MediaTombstoneJpaEntity(IdUtils.uuid(), prefix, 0, null, now, now);
+    }
+
+    public MediaTombstoneJpaEntity failed(final Throwable error, final Duration retryDelay, final Duration retryMaxDelay) {
+        final var aDelay = retryDelay.multipliedBy(1L << Math.min(this.attempts, 20));
+        final var aMessage = String.valueOf(error.getMessage());
+
+        this.attempts++;
+        this.lastError = aMessage.length() > MAX_ERROR_LENGTH ? aMessage.substring(0, MAX_ERROR_LENGTH) : aMessage;
+        this.nextAttemptAt = InstantUtils.now().plus(aDelay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : aDelay);
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaTombstoneJpaEntity that = (MediaTombstoneJpaEntity) o;
+
+        return Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public MediaTombstoneJpaEntity setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public MediaTombstoneJpaEntity setPrefix(String prefix) {
+        this.prefix = prefix;
+        return this;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public MediaTombstoneJpaEntity setAttempts(int attempts) {
+        this.attempts = attempts;
+        return this;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public MediaTombstoneJpaEntity setLastError(String lastError) {
+        this.lastError = lastError;
+        return this;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public MediaTombstoneJpaEntity setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public MediaTombstoneJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MediaTombstoneRepository extends JpaRepository<MediaTombstoneJpaEntity, String> {
+
+    @Query("select t from MediaTombstone t where t.nextAttemptAt <= :now order by t.nextAttemptAt")
+    List<MediaTombstoneJpaEntity> findDue(@Param("now") Instant now, Pageable page);
+
+}
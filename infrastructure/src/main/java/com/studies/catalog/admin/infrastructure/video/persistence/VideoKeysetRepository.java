@@ -0,0 +1,44 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import com.studies.catalog.admin.domain.video.VideoPreview;
+
+import java.util.List;
+import java.util.Set;
+
+public interface VideoKeysetRepository {
+
+    List<VideoPreview> findAllByKeyset(
+            String terms,
+            SearchMode searchMode,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres,
+            String sort,
+            boolean ascending,
+            Comparable<?> afterValue,
+            String afterId,
+            int limit
+    );
+
+    List<VideoPreview> findAllByOffset(
+            String terms,
+            SearchMode searchMode,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres,
+            String sort,
+            boolean ascending,
+            int offset,
+            int limit
+    );
+
+    long countAll(
+            String terms,
+            SearchMode searchMode,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres
+    );
+
+}
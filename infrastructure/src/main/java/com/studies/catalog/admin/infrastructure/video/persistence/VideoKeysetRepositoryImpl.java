@@ -0,0 +1,221 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import com.studies.catalog.admin.domain.video.VideoPreview;
+import com.studies.catalog.admin.infrastructure.configuration.jpa.FullTextFunction;
+import com.studies.catalog.admin.infrastructure.utils.SqlUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.AbstractQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class VideoKeysetRepositoryImpl implements VideoKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<VideoPreview> findAllByKeyset(
+            final String terms,
+            final SearchMode searchMode,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final String sort,
+            final boolean ascending,
+            final Comparable<?> afterValue,
+            final String afterId,
+            final int limit
+    ) {
+        return list(terms, searchMode, castMembers, categories, genres, sort, ascending, afterValue, afterId, 0, limit);
+    }
+
+    @Override
+    public List<VideoPreview> findAllByOffset(
+            final String terms,
+            final SearchMode searchMode,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final String sort,
+            final boolean ascending,
+            final int offset,
+            final int limit
+    ) {
+        return list(terms, searchMode, castMembers, categories, genres, sort, ascending, null, null, offset, limit);
+    }
+
+    @Override
+    public long countAll(
+            final String terms,
+            final SearchMode searchMode,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(cb.count(video))
+                .where(filters(cb, query, video, terms, searchMode, castMembers, categories, genres).toArray(Predicate[]::new));
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<VideoPreview> list(
+            final String terms,
+            final SearchMode searchMode,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final String sort,
+            final boolean ascending,
+            final Comparable<?> afterValue,
+            final String afterId,
+            final int offset,
+            final int limit
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        final var predicates = filters(cb, query, video, terms, searchMode, castMembers, categories, genres);
+        if (afterId != null) {
+            predicates.add(after(cb, video, sort, ascending, afterValue, afterId));
+        }
+
+        query.select(cb.construct(
+                        VideoPreview.class,
+                        video.get("id"),
+                        video.get("title"),
+                        video.get("description"),
+                        video.get("createdAt"),
+                        video.get("updatedAt")
+                ))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders(cb, video, terms, searchMode, sort, ascending));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Semi-joins keep a video that matches several of the ids to a single row, so no DISTINCT is needed
+    private static List<Predicate> filters(
+            final CriteriaBuilder cb,
+            final AbstractQuery<?> query,
+            final Root<VideoJpaEntity> video,
+            final String terms,
+            final SearchMode searchMode,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        final var predicates = new ArrayList<Predicate>();
+
+        if (terms != null && !terms.isBlank()) {
+            predicates.add(searchMode.isFullText()
+                    ? cb.greaterThan(relevance(cb, video, searchMode, terms), 0d)
+                    : cb.like(cb.upper(video.get("title")), SqlUtils.like(SqlUtils.upper(terms))));
+        }
+        if (castMembers != null) {
+            predicates.add(related(cb, query, video, VideoCastMemberJpaEntity.class, "castMemberId", castMembers));
+        }
+        if (categories != null) {
+            predicates.add(related(cb, query, video, VideoCategoryJpaEntity.class, "categoryId", categories));
+        }
+        if (genres != null) {
+            predicates.add(related(cb, query, video, VideoGenreJpaEntity.class, "genreId", genres));
+        }
+
+        return predicates;
+    }
+
+    private static Predicate related(
+            final CriteriaBuilder cb,
+            final AbstractQuery<?> query,
+            final Root<VideoJpaEntity> video,
+            final Class<?> aRelation,
+            final String anAttribute,
+            final Set<String> ids
+    ) {
+        final var subquery = query.subquery(String.class);
+        final var relation = subquery.from(aRelation);
+        final Path<String> videoId = relation.get("id").get("videoId");
+
+        subquery.select(videoId)
+                .where(
+                        cb.equal(videoId, video.get("id")),
+                        relation.get("id").get(anAttribute).in(ids)
+                );
+
+        return cb.exists(subquery);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate after(
+            final CriteriaBuilder cb,
+            final Root<VideoJpaEntity> video,
+            final String sort,
+            final boolean ascending,
+            final Comparable afterValue,
+            final String afterId
+    ) {
+        final Expression<Comparable> key = video.get(sort);
+        final Expression<String> id = video.get("id");
+
+        if (ascending) {
+            return cb.or(
+                    cb.greaterThan(key, afterValue),
+                    cb.and(cb.equal(key, afterValue), cb.greaterThan(id, afterId))
+            );
+        }
+
+        return cb.or(
+                cb.lessThan(key, afterValue),
+                cb.and(cb.equal(key, afterValue), cb.lessThan(id, afterId))
+        );
+    }
+
+    private static List<Order> orders(
+            final CriteriaBuilder cb,
+            final Root<VideoJpaEntity> video,
+            final String terms,
+            final SearchMode searchMode,
+            final String sort,
+            final boolean ascending
+    ) {
+        final var orders = new ArrayList<Order>();
+        if (terms != null && !terms.isBlank() && searchMode.isFullText()) {
+            orders.add(cb.desc(relevance(cb, video, searchMode, terms)));
+        }
+        orders.add(order(cb, video.get(sort), ascending));
+        orders.add(order(cb, video.get("id"), ascending));
+        return orders;
+    }
+
+    private static Expression<Double> relevance(
+            final CriteriaBuilder cb,
+            final Root<VideoJpaEntity> video,
+            final SearchMode searchMode,
+            final String terms
+    ) {
+        return FullTextFunction.relevance(cb, searchMode, terms.trim(), video.get("title"), video.get("description"));
+    }
+
+    private static Order order(final CriteriaBuilder cb, final Expression<?> expression, final boolean ascending) {
+        return ascending ? cb.asc(expression) : cb.desc(expression);
+    }
+
+}
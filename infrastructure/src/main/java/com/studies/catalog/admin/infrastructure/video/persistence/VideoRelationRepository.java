@@ -0,0 +1,51 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public interface VideoRelationRepository {
+
+    RelationIds findExistingRelations(RelationIds ids);
+
+    record RelationIds(Set<String> categories, Set<String> genres, Set<String> members) {
+
+        public RelationIds {
+            categories = categories != null ? Set.copyOf(categories) : Set.of();
+            genres = genres != null ? Set.copyOf(genres) : Set.of();
+            members = members != null ? Set.copyOf(members) : Set.of();
+        }
+
+        public boolean isEmpty() {
+            return categories.isEmpty() && genres.isEmpty() && members.isEmpty();
+        }
+
+        public RelationIds minus(final RelationIds other) {
+            return new RelationIds(
+                    minus(categories, other.categories()),
+                    minus(genres, other.genres()),
+                    minus(members, other.members())
+            );
+        }
+
+        public RelationIds plus(final RelationIds other) {
+            return new RelationIds(
+                    plus(categories, other.categories()),
+                    plus(genres, other.genres()),
+                    plus(members, other.members())
+            );
+        }
+
+        private static Set<String> minus(final Set<String> left, final Set<String> right) {
+            final var result = new HashSet<>(left);
+            result.removeAll(right);
+            return result;
+        }
+
+        private static Set<String> plus(final Set<String> left, final Set<String> right) {
+            final var result = new HashSet<>(left);
+            result.addAll(right);
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.studies.catalog.admin.infrastructure.video.persistence;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class VideoRelationRepositoryImpl implements VideoRelationRepository {
+
+    private static final List<String> TABLES = List.of("categories", "genres", "cast_members");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public RelationIds findExistingRelations(final RelationIds ids) {
+        final var requested = List.of(ids.categories(), ids.genres(), ids.members());
+        final var found = List.<Set<String>>of(new HashSet<>(), new HashSet<>(), new HashSet<>());
+
+        // One branch per relation type with ids to check, tagged with the type's position
+        final var branches = new ArrayList<String>();
+        for (int i = 0; i < TABLES.size(); i++) {
+            if (!requested.get(i).isEmpty()) {
+                branches.add("select %d, id from %s where id in (:ids%d)".formatted(i, TABLES.get(i), i));
+            }
+        }
+
+        if (branches.isEmpty()) {
+            return ids;
+        }
+
+        final var query = this.entityManager.createNativeQuery(String.join(" union all ", branches));
+        for (int i = 0; i < TABLES.size(); i++) {
+            if (!requested.get(i).isEmpty()) {
+                query.setParameter("ids" + i, requested.get(i));
+            }
+        }
+
+        for (final var aRow : query.getResultList()) {
+            final var columns = (Object[]) aRow;
+            // CHAR ids may come back space padded
+            found.get(((Number) columns[0]).intValue()).add(columns[1].toString().trim());
+        }
+
+        return new RelationIds(found.get(0), found.get(1), found.get(2));
+    }
+
+}
@@ -1,43 +1,33 @@
 package com.studies.catalog.admin.infrastructure.video.persistence;
 
-import com.studies.catalog.admin.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Set;
-
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
-
-    @Query("""
-            select distinct new com.studies.catalog.admin.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
-            from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
-            """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            Pageable page
-    );
-
-}
\ No newline at end of file
+import java.util.Optional;
+
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, VideoKeysetRepository,
+        VideoRelationRepository {
+
+    @Transactional
+    @Modifying
+    @Query("update VideoMedia m set m.filePath = :to where m.filePath = :from")
+    int updateVideoMediaLocation(@Param("from") String from, @Param("to") String to);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageMedia m set m.filePath = :to where m.filePath = :from")
+    int updateImageMediaLocation(@Param("from") String from, @Param("to") String to);
+
+    @Query("select m.checksum from Video v join v.banner m where v.id = :id")
+    Optional<String> findBannerChecksum(@Param("id") String anId);
+
+    @Query("select m.checksum from Video v join v.thumbnail m where v.id = :id")
+    Optional<String> findThumbnailChecksum(@Param("id") String anId);
+
+    @Query("select m.checksum from Video v join v.thumbnailHalf m where v.id = :id")
+    Optional<String> findThumbnailHalfChecksum(@Param("id") String anId);
+
+}
@@ -1,5 +1,7 @@
 package com.studies.catalog.admin.infrastructure.video.presenters;
 
+import com.studies.catalog.admin.application.video.create.CreateVideoIngestOutput;
+import com.studies.catalog.admin.application.video.media.ingest.MediaIngestOutput;
 import com.studies.catalog.admin.application.video.media.upload.UploadMediaOutput;
 import com.studies.catalog.admin.application.video.retrieve.get.VideoOutput;
 import com.studies.catalog.admin.application.video.retrieve.list.VideoListOutput;
@@ -82,4 +84,26 @@ public interface VideoApiPresenter {
         return new UploadMediaApiResponse(output.videoId(), output.mediaType());
     }
 
+    static MediaIngestApiResponse present(final MediaIngestOutput output) {
+        return new MediaIngestApiResponse(
+                output.id(),
+                output.videoId(),
+                output.mediaType(),
+                output.name(),
+                output.status(),
+                output.totalBytes(),
+                output.transferredBytes(),
+                output.error(),
+                output.createdAt(),
+                output.updatedAt()
+        );
+    }
+
+    static CreateVideoIngestApiResponse present(final CreateVideoIngestOutput output) {
+        return new CreateVideoIngestApiResponse(
+                output.id(),
+                output.ingests().stream().map(VideoApiPresenter::present).toList()
+        );
+    }
+
 }
\ No newline at end of file
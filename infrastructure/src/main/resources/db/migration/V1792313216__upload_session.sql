@@ -0,0 +1,21 @@
+CREATE TABLE upload_sessions (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    total_size BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_us_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
+
+CREATE TABLE upload_session_chunks (
+    upload_session_id CHAR(32) NOT NULL,
+    chunk_offset BIGINT NOT NULL,
+    size BIGINT NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_usc_session_offset PRIMARY KEY (upload_session_id, chunk_offset),
+    CONSTRAINT fk_usc_upload_session_id FOREIGN KEY (upload_session_id) REFERENCES upload_sessions (id) ON DELETE CASCADE
+);
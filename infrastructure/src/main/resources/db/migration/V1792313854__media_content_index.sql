@@ -0,0 +1,14 @@
+CREATE TABLE media_contents (
+    id VARCHAR(300) NOT NULL PRIMARY KEY,
+    checksum VARCHAR(255) NOT NULL,
+    content_length BIGINT NOT NULL,
+    location VARCHAR(500) NOT NULL,
+    references_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE media_content_references (
+    reference VARCHAR(500) NOT NULL PRIMARY KEY,
+    media_content_id VARCHAR(300) NOT NULL,
+    CONSTRAINT fk_mcr_media_content_id FOREIGN KEY (media_content_id) REFERENCES media_contents (id)
+);
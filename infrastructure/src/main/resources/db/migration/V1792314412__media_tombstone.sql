@@ -0,0 +1,10 @@
+CREATE TABLE media_tombstones (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    prefix VARCHAR(500) NOT NULL,
+    attempts INT NOT NULL,
+    last_error VARCHAR(1000),
+    next_attempt_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_mt_next_attempt_at ON media_tombstones (next_attempt_at);
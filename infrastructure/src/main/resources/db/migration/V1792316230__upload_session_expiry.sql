@@ -0,0 +1 @@
+CREATE INDEX idx_us_created_at ON upload_sessions (created_at);
@@ -0,0 +1,16 @@
+CREATE TABLE media_ingest_jobs (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    name VARCHAR(255),
+    content_type VARCHAR(255),
+    checksum VARCHAR(255) NOT NULL,
+    total_bytes BIGINT NOT NULL,
+    transferred_bytes BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    error VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_mij_status_updated_at ON media_ingest_jobs (status, updated_at);
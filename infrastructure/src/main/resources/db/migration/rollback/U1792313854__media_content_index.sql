@@ -0,0 +1,2 @@
+DROP TABLE media_content_references;
+DROP TABLE media_contents;
\ No newline at end of file
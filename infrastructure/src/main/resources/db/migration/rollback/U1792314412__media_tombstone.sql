@@ -0,0 +1 @@
+DROP TABLE media_tombstones;
\ No newline at end of file
@@ -0,0 +1,3 @@
+DROP INDEX idx_vcms_member_video ON video_cast_members;
+DROP INDEX idx_vgs_genre_video ON video_genres;
+DROP INDEX idx_vcs_category_video ON video_categories;
\ No newline at end of file
@@ -0,0 +1 @@
+DROP INDEX idx_us_created_at ON upload_sessions;
\ No newline at end of file
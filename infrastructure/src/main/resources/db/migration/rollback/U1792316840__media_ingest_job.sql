@@ -0,0 +1 @@
+DROP TABLE media_ingest_jobs;
\ No newline at end of file
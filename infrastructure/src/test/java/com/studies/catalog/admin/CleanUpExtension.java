@@ -1,8 +1,15 @@
 package com.studies.catalog.admin;
 
+import com.studies.catalog.admin.infrastructure.cache.ExistenceCache;
 import com.studies.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
 import com.studies.catalog.admin.infrastructure.category.persistence.CategoryRepository;
 import com.studies.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import com.studies.catalog.admin.infrastructure.search.ReferenceSearchIndex;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaContentReferenceRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaContentRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaIngestJobRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaTombstoneRepository;
 import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -19,11 +26,19 @@ public class CleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+                appContext.getBean(MediaTombstoneRepository.class),
+                appContext.getBean(MediaContentReferenceRepository.class),
+                appContext.getBean(MediaContentRepository.class),
+                appContext.getBean(MediaIngestJobRepository.class),
+                appContext.getBean(UploadSessionRepository.class),
                 appContext.getBean(VideoRepository.class),
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class)
         ));
+
+        appContext.getBeanProvider(ExistenceCache.class).ifAvailable(ExistenceCache::evictAll);
+        appContext.getBeanProvider(ReferenceSearchIndex.class).ifAvailable(ReferenceSearchIndex::invalidateAll);
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
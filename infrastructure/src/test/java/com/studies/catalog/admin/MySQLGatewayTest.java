@@ -18,7 +18,12 @@ import java.lang.annotation.*;
         basePackages = "com.studies.catalog.admin",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*Paginat(or|ionConfig)"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*JpaConfig"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*(ReferenceSearchIndex|SearchIndexConfig)"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*ExistenceCache(Config)?"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*SecondLevelCacheConfig")
         }
 )
 @DataJpaTest
@@ -0,0 +1,84 @@
+package com.studies.catalog.admin.application.video.delete;
+
+import com.studies.catalog.admin.IntegrationTest;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+import com.studies.catalog.admin.domain.video.Video;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaTombstoneRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.time.Year;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+@IntegrationTest
+class DeleteVideoUseCaseIT {
+
+    @Autowired
+    private DeleteVideoUseCase useCase;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private MediaTombstoneRepository mediaTombstoneRepository;
+
+    @SpyBean
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Test
+    void givenAValidId_whenCallsDeleteVideo_shouldDeleteItAndScheduleItsMedia() {
+        final var expectedId = givenAVideo();
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
+
+        Assertions.assertEquals(0, videoRepository.count());
+        Assertions.assertTrue(mediaTombstoneRepository.count() > 0);
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsDeleteVideo_shouldBeOk() {
+        Assertions.assertDoesNotThrow(() -> useCase.execute("123"));
+
+        Assertions.assertEquals(0, videoRepository.count());
+    }
+
+    @Test
+    void givenAValidId_whenSchedulingTheMediaFails_shouldKeepTheVideo() {
+        final var expectedId = givenAVideo();
+
+        doThrow(new IllegalStateException("Gateway error"))
+                .when(mediaResourceGateway).scheduleClearResources(eq(expectedId));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(expectedId.getValue()));
+
+        Assertions.assertTrue(videoRepository.existsById(expectedId.getValue()));
+        Assertions.assertEquals(0, mediaTombstoneRepository.count());
+    }
+
+    private VideoID givenAVideo() {
+        final var aVideo = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+        videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+        return aVideo.getId();
+    }
+
+}
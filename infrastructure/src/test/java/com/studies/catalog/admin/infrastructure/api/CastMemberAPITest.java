@@ -10,6 +10,8 @@ import com.studies.catalog.admin.application.castmember.retrieve.get.CastMemberO
 import com.studies.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCaseImpl;
 import com.studies.catalog.admin.application.castmember.retrieve.list.CastMemberListOutput;
 import com.studies.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCaseImpl;
+import com.studies.catalog.admin.application.castmember.retrieve.suggest.CastMemberSuggestionOutput;
+import com.studies.catalog.admin.application.castmember.retrieve.suggest.SuggestCastMembersUseCase;
 import com.studies.catalog.admin.application.castmember.update.UpdateCastMemberOutput;
 import com.studies.catalog.admin.application.castmember.update.UpdateCastMemberUseCaseImpl;
 import com.studies.catalog.admin.domain.Fixture;
@@ -63,6 +65,9 @@ class CastMemberAPITest {
     @MockBean
     private DeleteCastMemberUseCaseImpl deleteCastMemberUseCase;
 
+    @MockBean
+    private SuggestCastMembersUseCase suggestCastMembersUseCase;
+
     @Test
     void givenValidParams_whenCallListCastMembers_shouldReturnIt() throws Exception {
         // given
@@ -419,4 +424,36 @@ class CastMemberAPITest {
         verify(deleteCastMemberUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    void givenATerm_whenCallsTypeahead_shouldReturnTheSuggestions() throws Exception {
+        // given
+        final var expectedTerm = "Vin";
+        final var expectedLimit = 5;
+        final var aSuggestion = new CastMemberSuggestionOutput("123", "Vin Diesel");
+
+        when(suggestCastMembersUseCase.execute(any()))
+                .thenReturn(List.of(aSuggestion));
+
+        // when
+        final var aRequest = get("/cast_members/typeahead")
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .queryParam("q", expectedTerm)
+                .queryParam("limit", String.valueOf(expectedLimit))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(aSuggestion.id())))
+                .andExpect(jsonPath("$[0].name", equalTo(aSuggestion.name())));
+
+        verify(suggestCastMembersUseCase).execute(argThat(query ->
+                Objects.equals(expectedTerm, query.terms())
+                        && Objects.equals(expectedLimit, query.limit())
+        ));
+    }
+
 }
\ No newline at end of file
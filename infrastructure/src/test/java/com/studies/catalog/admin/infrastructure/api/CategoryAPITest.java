@@ -10,6 +10,8 @@ import com.studies.catalog.admin.application.category.retrieve.get.CategoryOutpu
 import com.studies.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.studies.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.studies.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.studies.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.studies.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.studies.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.studies.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.studies.catalog.admin.domain.category.Category;
@@ -63,6 +65,9 @@ class CategoryAPITest {
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
     @Test
     void givenAValidRequest_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedName = "Movies";
@@ -406,4 +411,36 @@ class CategoryAPITest {
         ));
     }
 
+    @Test
+    void givenATerm_whenCallsTypeahead_shouldReturnTheSuggestions() throws Exception {
+        // given
+        final var expectedTerm = "Movies";
+        final var expectedLimit = 5;
+        final var aSuggestion = new CategorySuggestionOutput("123", "Movies and series");
+
+        when(suggestCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(aSuggestion));
+
+        // when
+        final var aRequest = get("/categories/typeahead")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("q", expectedTerm)
+                .queryParam("limit", String.valueOf(expectedLimit))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(aSuggestion.id())))
+                .andExpect(jsonPath("$[0].name", equalTo(aSuggestion.name())));
+
+        verify(suggestCategoriesUseCase).execute(argThat(query ->
+                Objects.equals(expectedTerm, query.terms())
+                        && Objects.equals(expectedLimit, query.limit())
+        ));
+    }
+
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import com.studies.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import com.studies.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.studies.catalog.admin.application.genre.retrieve.list.GenreListOutput;
 import com.studies.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
+import com.studies.catalog.admin.application.genre.retrieve.suggest.GenreSuggestionOutput;
+import com.studies.catalog.admin.application.genre.retrieve.suggest.SuggestGenreUseCase;
 import com.studies.catalog.admin.application.genre.update.UpdateGenreOutput;
 import com.studies.catalog.admin.application.genre.update.UpdateGenreUseCase;
 import com.studies.catalog.admin.domain.category.CategoryID;
@@ -63,6 +65,9 @@ class GenreAPITest {
     @MockBean
     private DeleteGenreUseCase deleteGenreUseCase;
 
+    @MockBean
+    private SuggestGenreUseCase suggestGenreUseCase;
+
     @Test
     void givenAValidRequest_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         // given
@@ -351,4 +356,36 @@ class GenreAPITest {
         ));
     }
 
+    @Test
+    void givenATerm_whenCallsTypeahead_shouldReturnTheSuggestions() throws Exception {
+        // given
+        final var expectedTerm = "Act";
+        final var expectedLimit = 5;
+        final var aSuggestion = new GenreSuggestionOutput("123", "Action");
+
+        when(suggestGenreUseCase.execute(any()))
+                .thenReturn(List.of(aSuggestion));
+
+        // when
+        final var aRequest = get("/genres/typeahead")
+                .with(ApiTest.GENRES_JWT)
+                .queryParam("q", expectedTerm)
+                .queryParam("limit", String.valueOf(expectedLimit))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(aSuggestion.id())))
+                .andExpect(jsonPath("$[0].name", equalTo(aSuggestion.name())));
+
+        verify(suggestGenreUseCase).execute(argThat(query ->
+                Objects.equals(expectedTerm, query.terms())
+                        && Objects.equals(expectedLimit, query.limit())
+        ));
+    }
+
 }
\ No newline at end of file
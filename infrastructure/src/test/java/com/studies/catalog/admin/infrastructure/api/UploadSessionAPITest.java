@@ -0,0 +1,174 @@
+package com.studies.catalog.admin.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studies.catalog.admin.ApiTest;
+import com.studies.catalog.admin.ControllerTest;
+import com.studies.catalog.admin.application.upload.chunk.UploadChunkInput;
+import com.studies.catalog.admin.application.upload.chunk.UploadChunkUseCase;
+import com.studies.catalog.admin.application.upload.complete.CompleteUploadSessionUseCase;
+import com.studies.catalog.admin.application.upload.create.CreateUploadSessionOutput;
+import com.studies.catalog.admin.application.upload.create.CreateUploadSessionUseCase;
+import com.studies.catalog.admin.application.upload.retrieve.get.GetUploadSessionByIdUseCase;
+import com.studies.catalog.admin.application.upload.retrieve.get.UploadSessionOutput;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaOutput;
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.upload.models.CreateUploadSessionApiRequest;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = UploadSessionAPI.class)
+class UploadSessionAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @MockBean
+    private CreateUploadSessionUseCase createUploadSessionUseCase;
+
+    @MockBean
+    private GetUploadSessionByIdUseCase getUploadSessionByIdUseCase;
+
+    @MockBean
+    private UploadChunkUseCase uploadChunkUseCase;
+
+    @MockBean
+    private CompleteUploadSessionUseCase completeUploadSessionUseCase;
+
+    @Test
+    void givenAValidCommand_whenCallsCreateUploadSession_shouldReturnItsLocation() throws Exception {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 1024);
+        final var expectedVideoId = aSession.getVideoId().getValue();
+        final var expectedId = aSession.getId().getValue();
+
+        final var aCommand = new CreateUploadSessionApiRequest("video.mp4", "video/mp4", 1024L);
+
+        when(createUploadSessionUseCase.execute(any()))
+                .thenReturn(CreateUploadSessionOutput.from(aSession));
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/uploads", expectedVideoId, "VIDEO")
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/VIDEO/uploads/%s".formatted(expectedVideoId, expectedId)))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(createUploadSessionUseCase).execute(argThat(cmd ->
+                expectedVideoId.equals(cmd.videoId())
+                        && "VIDEO".equals(cmd.mediaType())
+                        && "video.mp4".equals(cmd.name())
+                        && "video/mp4".equals(cmd.contentType())
+                        && 1024L == cmd.totalSize()
+        ));
+    }
+
+    @Test
+    void givenAChunk_whenCallsUploadChunk_shouldStreamItToTheUseCase() throws Exception {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var content = "01234".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(content);
+
+        when(uploadChunkUseCase.execute(any())).thenAnswer(invocation -> {
+            final UploadChunkInput anInput = invocation.getArgument(0);
+            try (final var in = anInput.resource().openStream()) {
+                in.readAllBytes();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            aSession.receiveChunk(UploadChunk.with(anInput.offset(), anInput.resource().contentLength(), anInput.resource().checksum()));
+            return UploadSessionOutput.from(aSession);
+        });
+
+        // when
+        final var request = put("/videos/{id}/medias/{type}/uploads/{uploadId}",
+                aSession.getVideoId().getValue(), "VIDEO", aSession.getId().getValue())
+                .queryParam("offset", "0")
+                .header("X-Chunk-Checksum", expectedChecksum)
+                .header(CONTENT_LENGTH, content.length)
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(content);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.received_bytes", equalTo(5)))
+                .andExpect(jsonPath("$.chunks[0].checksum", equalTo(expectedChecksum)));
+
+        final var captor = ArgumentCaptor.forClass(UploadChunkInput.class);
+        verify(uploadChunkUseCase).execute(captor.capture());
+
+        final var currentInput = captor.getValue();
+        Assertions.assertEquals(0, currentInput.offset());
+        Assertions.assertEquals(expectedChecksum, currentInput.checksum());
+        Assertions.assertEquals(content.length, currentInput.resource().contentLength());
+        Assertions.assertEquals(expectedChecksum, currentInput.resource().checksum());
+    }
+
+    @Test
+    void givenACompletedUpload_whenCallsComplete_shouldReturnMediaLocation() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedUploadId = "123";
+
+        when(completeUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedVideoId, VideoMediaType.TRAILER));
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/uploads/{uploadId}/complete",
+                expectedVideoId, "trailer", expectedUploadId)
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/TRAILER".formatted(expectedVideoId)))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId)))
+                .andExpect(jsonPath("$.media_type", equalTo("TRAILER")));
+
+        verify(completeUploadSessionUseCase).execute(argThat(cmd ->
+                expectedVideoId.equals(cmd.videoId())
+                        && "trailer".equals(cmd.mediaType())
+                        && expectedUploadId.equals(cmd.uploadId())
+        ));
+    }
+
+}
@@ -3,12 +3,17 @@ package com.studies.catalog.admin.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studies.catalog.admin.ApiTest;
 import com.studies.catalog.admin.ControllerTest;
+import com.studies.catalog.admin.application.video.create.CreateVideoIngestOutput;
 import com.studies.catalog.admin.application.video.create.CreateVideoInput;
 import com.studies.catalog.admin.application.video.create.CreateVideoOutput;
 import com.studies.catalog.admin.application.video.create.CreateVideoUseCase;
+import com.studies.catalog.admin.application.video.create.CreateVideoWithIngestUseCase;
 import com.studies.catalog.admin.application.video.delete.DeleteVideoUseCase;
 import com.studies.catalog.admin.application.video.media.get.GetMediaUseCase;
 import com.studies.catalog.admin.application.video.media.get.MediaOutput;
+import com.studies.catalog.admin.application.video.media.ingest.GetMediaIngestByIdUseCase;
+import com.studies.catalog.admin.application.video.media.ingest.IngestMediaUseCase;
+import com.studies.catalog.admin.application.video.media.ingest.MediaIngestOutput;
 import com.studies.catalog.admin.application.video.media.upload.UploadMediaInput;
 import com.studies.catalog.admin.application.video.media.upload.UploadMediaOutput;
 import com.studies.catalog.admin.application.video.media.upload.UploadMediaUseCase;
@@ -26,8 +31,11 @@ import com.studies.catalog.admin.domain.exceptions.NotFoundException;
 import com.studies.catalog.admin.domain.exceptions.NotificationException;
 import com.studies.catalog.admin.domain.genre.GenreID;
 import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
 import com.studies.catalog.admin.domain.validation.Error;
 import com.studies.catalog.admin.domain.video.*;
+import com.studies.catalog.admin.infrastructure.video.MediaIngestRejectedException;
 import com.studies.catalog.admin.infrastructure.video.models.CreateVideoApiRequest;
 import com.studies.catalog.admin.infrastructure.video.models.UpdateVideoApiRequest;
 import org.hamcrest.Matchers;
@@ -40,9 +48,13 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import static com.studies.catalog.admin.domain.utils.CollectionUtils.mapTo;
@@ -85,6 +97,15 @@ class VideoAPITest {
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private IngestMediaUseCase ingestMediaUseCase;
+
+    @MockBean
+    private GetMediaIngestByIdUseCase getMediaIngestByIdUseCase;
+
+    @MockBean
+    private CreateVideoWithIngestUseCase createVideoWithIngestUseCase;
+
     @Test
     void givenValidParams_whenCallsListVideos_shouldReturnPagination() throws Exception {
         // given
@@ -206,6 +227,115 @@ class VideoAPITest {
         Assertions.assertTrue(currentQuery.genres().isEmpty());
     }
 
+    @Test
+    void givenACursor_whenCallsListVideos_shouldForwardItAndReturnTheNextCursor() throws Exception {
+        // given
+        final var aVideo = new VideoPreview(Fixture.video());
+        final var expectedCursor = "eyJzIjoidGl0bGUifQ";
+        final var expectedNextCursor = "eyJzIjoidGl0bGUiLCJiIjpmYWxzZX0";
+
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 25, 1, List.of(VideoListOutput.from(aVideo)), expectedNextCursor, null));
+
+        // when
+        final var request = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.previous_cursor", Matchers.nullValue()))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideosUseCase).execute(captor.capture());
+
+        Assertions.assertEquals(expectedCursor, captor.getValue().cursor());
+        Assertions.assertTrue(captor.getValue().isKeyset());
+    }
+
+    @Test
+    void givenTotalNone_whenCallsListVideos_shouldForwardItAndReturnWhetherThereIsANextPage() throws Exception {
+        // given
+        final var aVideo = new VideoPreview(Fixture.video());
+        final var expectedItems = List.of(VideoListOutput.from(aVideo));
+
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 25, Pagination.UNKNOWN_TOTAL, expectedItems, null, null, TotalMode.NONE, true));
+
+        // when
+        final var request = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("total", "none")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.total_mode", equalTo("NONE")))
+                .andExpect(jsonPath("$.has_next", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideosUseCase).execute(captor.capture());
+
+        Assertions.assertEquals(TotalMode.NONE, captor.getValue().totalMode());
+    }
+
+    @Test
+    void givenAnInvalidTotal_whenCallsListVideos_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "Invalid approximate for TotalMode";
+
+        // when
+        final var request = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("total", "approximate")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(listVideosUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenASearchMode_whenCallsListVideos_shouldForwardIt() throws Exception {
+        // given
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 25, 0, List.of()));
+
+        // when
+        final var request = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("search", "godfather")
+                .queryParam("searchMode", "boolean")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isOk());
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideosUseCase).execute(captor.capture());
+
+        Assertions.assertEquals("godfather", captor.getValue().terms());
+        Assertions.assertEquals(SearchMode.BOOLEAN, captor.getValue().searchMode());
+    }
+
     @Test
     void givenAValidId_whenCallsGetById_shouldReturnVideo() throws Exception {
         // given
@@ -310,7 +440,7 @@ class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource);
 
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
@@ -318,14 +448,170 @@ class VideoAPITest {
         final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
                 .with(ApiTest.VIDEOS_JWT);
 
-        final var response = this.mvc.perform(request);
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
 
         // then
         response.andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.contentLength())))
                 .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+                .andExpect(header().string(CACHE_CONTROL, "no-cache, public"))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    void givenAMatchingIfNoneMatch_whenCallsGetMediaById_shouldReturnNotModifiedWithoutReadingContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedETag = "\"%s\"".formatted(expectedResource.checksum());
+
+        final var expectedMedia = new MediaOutput(
+                () -> {
+                    throw new IllegalStateException("Content must not be read");
+                },
+                expectedResource.contentLength(),
+                expectedResource.checksum(),
+                expectedResource.contentType(),
+                expectedResource.name()
+        );
+
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(IF_NONE_MATCH, "\"other\", W/%s".formatted(expectedETag))
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().string(CACHE_CONTROL, "no-cache, public"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void givenAStaleIfNoneMatch_whenCallsGetMediaById_shouldReturnContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(IF_NONE_MATCH, "\"stale\"")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    void givenAValidRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedLength = expectedResource.contentLength();
+        final var expectedContent = Arrays.copyOfRange(expectedResource.content(), 1, 4);
+
+        final var expectedMedia = MediaOutput.with(expectedResource);
+
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=1-3")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
+                .andExpect(header().string(CONTENT_LENGTH, "3"))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 1-3/%d".formatted(expectedLength)))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedLength = expectedResource.contentLength();
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=%d-".formatted(expectedLength))
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedLength)));
+    }
+
+    @Test
+    void givenAStaleIfRange_whenCallsGetMediaById_shouldReturnFullContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        final var expectedMedia = MediaOutput.with(expectedResource);
+
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=1-3")
+                .header(IF_RANGE, "\"stale\"")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.contentLength())))
+                .andExpect(header().doesNotExist(CONTENT_RANGE))
+                .andExpect(content().bytes(expectedResource.content()));
     }
 
     @Test
@@ -760,7 +1046,7 @@ class VideoAPITest {
         final var currentInput = captor.getValue();
 
         Assertions.assertEquals(expectedId.getValue(), currentInput.videoId());
-        Assertions.assertEquals(expectedResource.content(), currentInput.videoResource().resource().content());
+        Assertions.assertArrayEquals(expectedResource.content(), currentInput.videoResource().resource().content());
         Assertions.assertEquals(expectedResource.name(), currentInput.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), currentInput.videoResource().resource().contentType());
         Assertions.assertEquals(expectedType, currentInput.videoResource().type());
@@ -790,4 +1076,161 @@ class VideoAPITest {
                 .andExpect(jsonPath("$.message", equalTo("Invalid INVALID for VideoMediaType")));
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenPreferRespondAsync_whenCallsUploadMedia_shouldSpoolItAndReturnAccepted() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedIngest = ingestOf("job-1", expectedId.getValue(), expectedType, expectedResource.contentLength());
+
+        final var expectedVideo =
+                new MockMultipartFile("media_file", expectedResource.name(), expectedResource.contentType(), expectedResource.content());
+
+        when(ingestMediaUseCase.execute(any()))
+                .thenReturn(expectedIngest);
+
+        // when
+        final var request = multipart("/videos/{id}/medias/{type}", expectedId.getValue(), expectedType.name())
+                .file(expectedVideo)
+                .with(ApiTest.VIDEOS_JWT)
+                .header("Prefer", "respond-async")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.MULTIPART_FORM_DATA);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isAccepted())
+                .andExpect(header().string(LOCATION, "/videos/ingests/job-1"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.id", equalTo("job-1")))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.status", equalTo("QUEUED")))
+                .andExpect(jsonPath("$.total_bytes", equalTo((int) expectedResource.contentLength())));
+
+        verify(this.ingestMediaUseCase).execute(argThat(input ->
+                Objects.equals(expectedId.getValue(), input.videoId())
+                        && Objects.equals(expectedType, input.videoResource().type())
+                        && Objects.equals(expectedResource.name(), input.videoResource().resource().name())
+        ));
+        verify(this.uploadMediaUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenPreferRespondAsync_whenCallsCreateFull_shouldCreateTheVideoAndSpoolEachMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedVideo =
+                new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+
+        final var expectedBanner =
+                new MockMultipartFile("banner_file", "banner.jpg", "image/jpg", "BANNER".getBytes());
+
+        when(createVideoWithIngestUseCase.execute(any()))
+                .thenReturn(CreateVideoIngestOutput.with(expectedId.getValue(), List.of(
+                        ingestOf("job-VIDEO", expectedId.getValue(), VideoMediaType.VIDEO, 5),
+                        ingestOf("job-BANNER", expectedId.getValue(), VideoMediaType.BANNER, 6)
+                )));
+
+        // when
+        final var request = multipart("/videos")
+                .file(expectedVideo)
+                .file(expectedBanner)
+                .with(ApiTest.VIDEOS_JWT)
+                .header("Prefer", "wait=5, respond-async")
+                .param("title", Fixture.title())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.MULTIPART_FORM_DATA);
+
+        this.mvc.perform(request)
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(LOCATION, "/videos/" + expectedId.getValue()))
+                .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.ingests", hasSize(2)))
+                .andExpect(jsonPath("$.ingests[0].media_type", equalTo("VIDEO")))
+                .andExpect(jsonPath("$.ingests[1].media_type", equalTo("BANNER")));
+
+        // then
+        final var inputCaptor = ArgumentCaptor.forClass(CreateVideoInput.class);
+
+        verify(createVideoWithIngestUseCase).execute(inputCaptor.capture());
+
+        final var currentInput = inputCaptor.getValue();
+
+        Assertions.assertEquals(expectedVideo.getOriginalFilename(), currentInput.getVideo().get().name());
+        Assertions.assertEquals(expectedBanner.getOriginalFilename(), currentInput.getBanner().get().name());
+        Assertions.assertTrue(currentInput.getTrailer().isEmpty());
+        verify(createVideoUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAFullIngestQueue_whenCallsCreateFullAsync_shouldReturnServiceUnavailable() throws Exception {
+        // given
+        final var expectedVideo =
+                new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+
+        final var expectedMessage = "Media ingest queue is full, please retry later";
+
+        when(createVideoWithIngestUseCase.execute(any()))
+                .thenThrow(new MediaIngestRejectedException(Duration.ofSeconds(30)));
+
+        // when
+        final var request = multipart("/videos")
+                .file(expectedVideo)
+                .with(ApiTest.VIDEOS_JWT)
+                .header("Prefer", "respond-async")
+                .param("title", Fixture.title())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.MULTIPART_FORM_DATA);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(RETRY_AFTER, "30"))
+                .andExpect(jsonPath("$.message", equalTo(expectedMessage)));
+
+        verify(createVideoUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAnUnknownIngestId_whenCallsGetIngestById_shouldReturnNotFound() throws Exception {
+        // given
+        when(getMediaIngestByIdUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(new Error("Media ingest unknown was not found")));
+
+        // when
+        final var request = get("/videos/ingests/{id}", "unknown")
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo("Media ingest unknown was not found")));
+    }
+
+    private static MediaIngestOutput ingestOf(
+            final String anId,
+            final String aVideoId,
+            final VideoMediaType aType,
+            final long aTotal
+    ) {
+        return new MediaIngestOutput(
+                anId,
+                aVideoId,
+                aType,
+                "media",
+                MediaIngestStatus.QUEUED,
+                aTotal,
+                0,
+                null,
+                Instant.now(),
+                Instant.now()
+        );
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.studies.catalog.admin.infrastructure.api.admission;
+
+import com.studies.catalog.admin.infrastructure.configuration.properties.web.UploadAdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class UploadAdmissionControlTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UploadAdmissionProperties props;
+    private UploadAdmissionControl target;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.props = new UploadAdmissionProperties()
+                .setMaxConcurrentUploads(2)
+                .setMaxInFlightBytes(DataSize.ofBytes(100))
+                .setUnknownLengthReservation(DataSize.ofBytes(40))
+                .setQueueTimeout(Duration.ZERO)
+                .setRetryAfter(Duration.ofSeconds(15));
+        this.target = new UploadAdmissionControl(this.props, this.meterRegistry);
+    }
+
+    @Test
+    void givenFreeBudget_whenCallsTryAcquire_shouldReserveSlotAndBytesUntilClosed() throws InterruptedException {
+        // when
+        final var currentPermit = this.target.tryAcquire(30).get();
+
+        // then
+        Assertions.assertEquals(1, this.target.slotsInUse());
+        Assertions.assertEquals(30, this.target.bytesInUse());
+        Assertions.assertEquals(30, gauge("bytes"));
+
+        currentPermit.close();
+        currentPermit.close();
+
+        Assertions.assertEquals(0, this.target.slotsInUse());
+        Assertions.assertEquals(0, this.target.bytesInUse());
+    }
+
+    @Test
+    void givenExhaustedSlots_whenCallsTryAcquire_shouldReject() throws InterruptedException {
+        // given
+        this.target.tryAcquire(10);
+        this.target.tryAcquire(10);
+
+        // when
+        final var currentPermit = this.target.tryAcquire(10);
+
+        // then
+        Assertions.assertTrue(currentPermit.isEmpty());
+        Assertions.assertEquals(1.0, requests("rejected"));
+        Assertions.assertEquals(2.0, requests("admitted"));
+    }
+
+    @Test
+    void givenExhaustedBytes_whenCallsTryAcquire_shouldReject() throws InterruptedException {
+        // given
+        this.target.tryAcquire(80);
+
+        // when
+        final var currentPermit = this.target.tryAcquire(30);
+
+        // then
+        Assertions.assertTrue(currentPermit.isEmpty());
+        Assertions.assertEquals(80, this.target.bytesInUse());
+    }
+
+    @Test
+    void givenUnknownLength_whenCallsTryAcquire_shouldReserveTheConfiguredAmount() throws InterruptedException {
+        // when
+        this.target.tryAcquire(-1);
+
+        // then
+        Assertions.assertEquals(40, this.target.bytesInUse());
+    }
+
+    @Test
+    void givenUploadLargerThanTheBudget_whenCallsTryAcquire_shouldAdmitItOnlyWhenAlone() throws InterruptedException {
+        // when
+        final var currentPermit = this.target.tryAcquire(500).get();
+
+        // then
+        Assertions.assertEquals(100, currentPermit.bytes());
+        Assertions.assertTrue(this.target.tryAcquire(1).isEmpty());
+    }
+
+    @Test
+    void givenAPermit_whenCallsSplit_shouldKeepTheSplitBytesUntilTheyAreClosed() throws InterruptedException {
+        // given
+        final var aPermit = this.target.tryAcquire(60).get();
+
+        // when
+        final var aSplit = aPermit.split(40);
+        aPermit.close();
+
+        // then
+        Assertions.assertEquals(40, aSplit.bytes());
+        Assertions.assertEquals(20, aPermit.bytes());
+        Assertions.assertEquals(0, this.target.slotsInUse());
+        Assertions.assertEquals(40, this.target.bytesInUse());
+
+        aSplit.close();
+
+        Assertions.assertEquals(0, this.target.bytesInUse());
+    }
+
+    @Test
+    void givenQueueTimeout_whenAPermitIsReleased_shouldAdmitTheWaitingUpload() throws Exception {
+        // given
+        this.props.setQueueTimeout(Duration.ofSeconds(5));
+        final var running = this.target.tryAcquire(100).get();
+
+        // when
+        final var waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.target.tryAcquire(50);
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        while (this.target.queued() == 0) {
+            Thread.onSpinWait();
+        }
+        running.close();
+
+        // then
+        final var currentPermit = waiting.get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(currentPermit.isPresent());
+        Assertions.assertEquals(50, this.target.bytesInUse());
+        Assertions.assertEquals(0, this.target.queued());
+    }
+
+    private double gauge(final String name) {
+        return this.meterRegistry.get("catalog.upload.admission." + name).gauge().value();
+    }
+
+    private double requests(final String result) {
+        return this.meterRegistry.get("catalog.upload.admission.requests").tag("result", result).counter().count();
+    }
+
+}
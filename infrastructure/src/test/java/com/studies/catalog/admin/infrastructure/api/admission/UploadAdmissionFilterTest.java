@@ -0,0 +1,171 @@
+package com.studies.catalog.admin.infrastructure.api.admission;
+
+import com.studies.catalog.admin.infrastructure.configuration.properties.web.UploadAdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+class UploadAdmissionFilterTest {
+
+    private UploadAdmissionControl admissionControl;
+    private UploadAdmissionFilter target;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new UploadAdmissionProperties()
+                .setMaxConcurrentUploads(1)
+                .setMaxInFlightBytes(DataSize.ofBytes(100))
+                .setQueueTimeout(Duration.ZERO)
+                .setRetryAfter(Duration.ofSeconds(15));
+
+        this.admissionControl = new UploadAdmissionControl(props, new SimpleMeterRegistry());
+        this.target = new UploadAdmissionFilter(this.admissionControl);
+    }
+
+    @Test
+    void givenAnUpload_whenCallsFilter_shouldHoldAPermitWhileTheUploadRuns() throws Exception {
+        // given
+        final var request = upload("/api/videos/123/medias/VIDEO", 60);
+        final var response = new MockHttpServletResponse();
+        final var bytesDuringUpload = new AtomicLong();
+
+        final var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                bytesDuringUpload.set(admissionControl.bytesInUse());
+                resp.setStatus(204);
+            }
+        });
+
+        // when
+        this.target.doFilter(request, response, chain);
+
+        // then
+        Assertions.assertEquals(204, response.getStatus());
+        Assertions.assertEquals(60, bytesDuringUpload.get());
+        Assertions.assertEquals(0, this.admissionControl.bytesInUse());
+    }
+
+    @Test
+    void givenExhaustedBudget_whenCallsFilter_shouldAnswerServiceUnavailableWithRetryAfter() throws Exception {
+        // given
+        final var running = this.admissionControl.tryAcquire(10).get();
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        // when
+        this.target.doFilter(upload("/api/videos", 60), response, chain);
+
+        // then
+        Assertions.assertEquals(503, response.getStatus());
+        Assertions.assertEquals("15", response.getHeader(HttpHeaders.RETRY_AFTER));
+        Assertions.assertTrue(response.getContentAsString().contains("Upload capacity is exhausted"));
+        Assertions.assertNull(chain.getRequest());
+
+        running.close();
+    }
+
+    @Test
+    void givenExhaustedBudget_whenCallsFilterForAReadOrAnotherEndpoint_shouldLetItThrough() throws Exception {
+        // given
+        final var running = this.admissionControl.tryAcquire(10).get();
+
+        final var aRead = new MockHttpServletRequest("GET", "/api/videos/123/medias/VIDEO");
+        aRead.setContextPath("/api");
+
+        final var anotherEndpoint = upload("/api/videos/123/medias/VIDEO/uploads", 10);
+
+        // when
+        final var readChain = new MockFilterChain();
+        this.target.doFilter(aRead, new MockHttpServletResponse(), readChain);
+
+        final var otherChain = new MockFilterChain();
+        this.target.doFilter(anotherEndpoint, new MockHttpServletResponse(), otherChain);
+
+        // then
+        Assertions.assertNotNull(readChain.getRequest());
+        Assertions.assertNotNull(otherChain.getRequest());
+
+        running.close();
+    }
+
+    @Test
+    void givenExhaustedBudget_whenCallsFilterForAJsonCreate_shouldLetItThrough() throws Exception {
+        // given
+        final var running = this.admissionControl.tryAcquire(10).get();
+
+        final var aJsonCreate = new MockHttpServletRequest("POST", "/api/videos");
+        aJsonCreate.setContextPath("/api");
+        aJsonCreate.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        aJsonCreate.setContent("{}".getBytes());
+
+        final var chain = new MockFilterChain();
+
+        // when
+        this.target.doFilter(aJsonCreate, new MockHttpServletResponse(), chain);
+
+        // then
+        Assertions.assertNotNull(chain.getRequest());
+        Assertions.assertEquals(10, this.admissionControl.bytesInUse());
+
+        running.close();
+    }
+
+    @Test
+    void givenAnUpload_whenTheRequestSplitsItsPermit_shouldKeepTheSplitBytesReservedAfterTheRequest() throws Exception {
+        // given
+        final var request = upload("/api/videos/123/medias/VIDEO", 60);
+        final var response = new MockHttpServletResponse();
+        final var spooled = new AtomicReference<UploadAdmissionControl.Permit>();
+
+        final var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(req));
+                try {
+                    spooled.set(UploadAdmissionFilter.currentPermit().orElseThrow().split(40));
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+                resp.setStatus(202);
+            }
+        });
+
+        // when
+        this.target.doFilter(request, response, chain);
+
+        // then
+        Assertions.assertEquals(202, response.getStatus());
+        Assertions.assertEquals(0, this.admissionControl.slotsInUse());
+        Assertions.assertEquals(40, this.admissionControl.bytesInUse());
+
+        spooled.get().close();
+
+        Assertions.assertEquals(0, this.admissionControl.bytesInUse());
+    }
+
+    private static MockHttpServletRequest upload(final String uri, final int length) {
+        final var request = new MockHttpServletRequest("POST", uri);
+        request.setContextPath("/api");
+        request.setContentType("multipart/form-data; boundary=media");
+        request.setContent(new byte[length]);
+        return request;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.studies.catalog.admin.infrastructure.cache;
+
+import com.studies.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.studies.catalog.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import com.studies.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+class ExistenceCacheTest {
+
+    private static final List<String> STORED = List.of("1", "2", "3");
+
+    private ExistenceCache target;
+    private List<List<String>> loads;
+    private Function<List<String>, List<String>> loader;
+
+    @BeforeEach
+    void setUp() {
+        this.target = new ExistenceCache(new ExistenceCacheProperties());
+        this.loads = new ArrayList<>();
+        this.loader = ids -> {
+            this.loads.add(ids);
+            return ids.stream().filter(STORED::contains).toList();
+        };
+    }
+
+    @Test
+    void givenConfirmedIds_whenCallsExistingAgain_shouldOnlyLoadTheMisses() {
+        // given
+        this.target.existing(CategoryJpaEntity.class, List.of("1", "2"), this.loader);
+
+        // when
+        final var actualIds = this.target.existing(CategoryJpaEntity.class, List.of("1", "2", "3"), this.loader);
+
+        // then
+        Assertions.assertEquals(List.of("1", "2", "3"), actualIds);
+        Assertions.assertEquals(List.of(List.of("1", "2"), List.of("3")), this.loads);
+    }
+
+    @Test
+    void givenOnlyConfirmedIds_whenCallsExisting_shouldNotLoad() {
+        // given
+        this.target.existing(CategoryJpaEntity.class, List.of("1", "2"), this.loader);
+
+        // when
+        final var actualIds = this.target.existing(CategoryJpaEntity.class, List.of("2", "1", "2"), this.loader);
+
+        // then
+        Assertions.assertEquals(List.of("2", "1"), actualIds);
+        Assertions.assertEquals(1, this.loads.size());
+    }
+
+    @Test
+    void givenAnAbsentId_whenCallsExistingAgain_shouldLoadItAgain() {
+        // given
+        this.target.existing(CategoryJpaEntity.class, List.of("9"), this.loader);
+
+        // when
+        final var actualIds = this.target.existing(CategoryJpaEntity.class, List.of("9"), this.loader);
+
+        // then
+        Assertions.assertEquals(List.of(), actualIds);
+        Assertions.assertEquals(2, this.loads.size());
+    }
+
+    @Test
+    void givenAnEvictedId_whenCallsExisting_shouldLoadItAgain() {
+        // given
+        this.target.existing(CategoryJpaEntity.class, List.of("1"), this.loader);
+
+        // when
+        this.target.evict(CategoryJpaEntity.class, "1");
+        this.target.existing(CategoryJpaEntity.class, List.of("1"), this.loader);
+
+        // then
+        Assertions.assertEquals(List.of(List.of("1"), List.of("1")), this.loads);
+    }
+
+    @Test
+    void givenAnIdConfirmedForAnotherEntity_whenCallsExisting_shouldLoadIt() {
+        // given
+        this.target.existing(CategoryJpaEntity.class, List.of("1"), this.loader);
+
+        // when
+        this.target.existing(GenreJpaEntity.class, List.of("1"), this.loader);
+
+        // then
+        Assertions.assertEquals(2, this.loads.size());
+    }
+
+    @Test
+    void givenAnExpiredId_whenCallsExisting_shouldLoadItAgain() throws InterruptedException {
+        // given
+        final var target = new ExistenceCache(new ExistenceCacheProperties().setTtl(Duration.ofMillis(20)));
+        target.existing(CategoryJpaEntity.class, List.of("1"), this.loader);
+
+        // when
+        Thread.sleep(100);
+        final var actualIds = target.existing(CategoryJpaEntity.class, List.of("1"), this.loader);
+
+        // then
+        Assertions.assertEquals(List.of("1"), actualIds);
+        Assertions.assertEquals(2, this.loads.size());
+    }
+
+    @Test
+    void givenConfirmedIds_whenCallsEvictAll_shouldLoadThemAgain() {
+        // given
+        this.target.existing(CategoryJpaEntity.class, List.of("1", "2"), this.loader);
+
+        // when
+        this.target.evictAll();
+        this.target.existing(CategoryJpaEntity.class, List.of("1", "2"), this.loader);
+
+        // then
+        Assertions.assertEquals(List.of(List.of("1", "2"), List.of("1", "2")), this.loads);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.studies.catalog.admin.infrastructure.cache;
+
+import com.studies.catalog.admin.IntegrationTest;
+import com.studies.catalog.admin.domain.category.Category;
+import com.studies.catalog.admin.domain.category.CategoryGateway;
+import com.studies.catalog.admin.domain.category.CategoryID;
+import com.studies.catalog.admin.domain.genre.Genre;
+import com.studies.catalog.admin.domain.genre.GenreGateway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+@IntegrationTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void givenALoadedGenre_whenCallsFindByIdAgain_shouldServeItAndItsCategoriesFromTheCache() {
+        // given
+        final var movies = this.categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var aGenre = this.genreGateway.create(Genre.newGenre("Action", true).addCategory(movies.getId()));
+        final var expectedCategories = List.of(movies.getId().getValue());
+
+        this.genreGateway.findById(aGenre.getId());
+
+        final var statistics = statistics();
+        statistics.clear();
+
+        // when
+        final var actualGenre = this.genreGateway.findById(aGenre.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(expectedCategories, categoryIds(actualGenre.getCategories()));
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_shouldReadTheUpdatedCategory() {
+        // given
+        final var aCategory = this.categoryGateway.create(Category.newCategory("Movie", null, true));
+        final var expectedName = "Movies";
+        final var expectedDescription = "The most watched category";
+
+        this.categoryGateway.findById(aCategory.getId());
+
+        // when
+        this.categoryGateway.update(
+                Category.with(aCategory).update(expectedName, expectedDescription, false)
+        );
+
+        final var actualCategory = this.categoryGateway.findById(aCategory.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(expectedName, actualCategory.getName());
+        Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
+        Assertions.assertFalse(actualCategory.isActive());
+    }
+
+    private Statistics statistics() {
+        return this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static List<String> categoryIds(final List<CategoryID> ids) {
+        return ids.stream()
+                .map(anId -> anId.getValue().trim())
+                .toList();
+    }
+
+}
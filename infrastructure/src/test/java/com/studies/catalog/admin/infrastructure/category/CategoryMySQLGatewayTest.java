@@ -3,7 +3,10 @@ package com.studies.catalog.admin.infrastructure.category;
 import com.studies.catalog.admin.MySQLGatewayTest;
 import com.studies.catalog.admin.domain.category.Category;
 import com.studies.catalog.admin.domain.category.CategoryID;
+import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.pagination.SearchMode;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
 import com.studies.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.studies.catalog.admin.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
@@ -126,6 +129,62 @@ class CategoryMySQLGatewayTest {
                 currentResult.items().get(0).getId().getValue().replaceAll("\\s+", ""));
     }
 
+    @Test
+    void givenTotalModeNone_whenCallsFindAll_shouldSkipTheTotalAndTellWhetherThereIsANextPage() {
+        final var expectedPerPage = 2;
+
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        var query = new SearchQuery(0, expectedPerPage, "", "name", "asc", TotalMode.NONE);
+        var currentResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, currentResult.total());
+        Assertions.assertEquals(TotalMode.NONE, currentResult.totalMode());
+        Assertions.assertTrue(currentResult.hasNext());
+        Assertions.assertEquals(expectedPerPage, currentResult.items().size());
+        Assertions.assertEquals(documentaries.getId(), currentResult.items().get(0).getId());
+        Assertions.assertEquals(movies.getId(), currentResult.items().get(1).getId());
+
+        query = new SearchQuery(1, expectedPerPage, "", "name", "asc", TotalMode.NONE);
+        currentResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, currentResult.total());
+        Assertions.assertFalse(currentResult.hasNext());
+        Assertions.assertEquals(1, currentResult.items().size());
+        Assertions.assertEquals(series.getId(), currentResult.items().get(0).getId());
+    }
+
+    @Test
+    void givenTotalModeEstimated_whenCallsFindAllAgain_shouldReuseTheRecentTotal() {
+        final var expectedTotal = 2;
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        final var query = new SearchQuery(0, 10, "", "name", "asc", TotalMode.ESTIMATED);
+        final var firstResult = categoryGateway.findAll(query);
+
+        categoryRepository.save(CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true)));
+
+        final var currentResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, firstResult.total());
+        Assertions.assertEquals(expectedTotal, currentResult.total());
+        Assertions.assertEquals(TotalMode.ESTIMATED, currentResult.totalMode());
+        Assertions.assertFalse(currentResult.hasNext());
+        Assertions.assertEquals(3, currentResult.items().size());
+    }
+
     @Test
     void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllAndTermsMatchCategoryName_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -188,6 +247,27 @@ class CategoryMySQLGatewayTest {
                 currentResult.items().get(0).getId().getValue().replaceAll("\\s+", ""));
     }
 
+    @Test
+    void givenNaturalSearchMode_whenCallsFindAll_shouldMatchNameAndDescription() {
+        final var movies = Category.newCategory("Movies", "The most watched category", true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Watched Documentaries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var query = new SearchQuery(0, 10, "watched", "name", "asc", TotalMode.EXACT, SearchMode.NATURAL);
+        final var currentResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(2, currentResult.total());
+        Assertions.assertEquals(2, currentResult.items().size());
+        Assertions.assertEquals(movies.getId(), currentResult.items().get(0).getId());
+        Assertions.assertEquals(documentaries.getId(), currentResult.items().get(1).getId());
+    }
+
     @Test
     void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds() {
         // given
@@ -218,6 +298,27 @@ class CategoryMySQLGatewayTest {
         Assertions.assertTrue(expectedIds.containsAll(currentResult));
     }
 
+    @Test
+    void givenAConfirmedCategory_whenDeletedAndCallsExistsByIdsAgain_shouldNotReturnIt() {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertEquals(List.of(aCategory.getId().getValue()), existingIds(aCategory.getId()));
+
+        // when
+        categoryGateway.deleteById(aCategory.getId());
+
+        // then
+        Assertions.assertEquals(List.of(), existingIds(aCategory.getId()));
+    }
+
+    private List<String> existingIds(final CategoryID... ids) {
+        return categoryGateway.existsByIds(List.of(ids)).stream()
+                .map(categoryID -> categoryID.getValue().trim())
+                .toList();
+    }
+
     @Test
     void givenAPrePersistedCategoryAndValidCategoryId_whenCallsFindById_shouldReturnCategory() {
         final var expectedName = "Movies";
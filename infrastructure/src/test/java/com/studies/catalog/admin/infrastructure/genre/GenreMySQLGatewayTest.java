@@ -6,15 +6,18 @@ import com.studies.catalog.admin.domain.category.CategoryID;
 import com.studies.catalog.admin.domain.genre.Genre;
 import com.studies.catalog.admin.domain.genre.GenreID;
 import com.studies.catalog.admin.domain.pagination.SearchQuery;
+import com.studies.catalog.admin.domain.pagination.SuggestQuery;
 import com.studies.catalog.admin.infrastructure.category.CategoryMySQLGateway;
 import com.studies.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import com.studies.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
 import java.util.Comparator;
 import java.util.List;
 
@@ -30,6 +33,9 @@ class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidGenre_whenCallsCreateGenre_shouldPersistGenre() {
         final var movies =
@@ -517,6 +523,72 @@ class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    void givenGenresWithCategories_whenCallsFindAll_shouldRunTheSameQueriesWhateverThePageSize() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var expectedCategories = List.of(movies.getId(), series.getId());
+
+        for (final var aName : List.of("Comedy", "Action", "Drama", "Terror", "Science")) {
+            genreGateway.create(Genre.newGenre(aName, true).addCategories(expectedCategories));
+        }
+
+        // when
+        final var smallPageStatements = statementsToList(new SearchQuery(0, 1, "", "name", "asc"));
+        final var fullPageStatements = statementsToList(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(smallPageStatements, fullPageStatements);
+    }
+
+    @Test
+    void givenGenresWithCategories_whenCallsSuggest_shouldLoadTheIndexInASingleQuery() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var categories = List.of(movies.getId(), series.getId());
+
+        for (final var aName : List.of("Comedy", "Action", "Drama", "Terror", "Science")) {
+            genreGateway.create(Genre.newGenre(aName, true).addCategories(categories));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        final var currentSuggestions = genreGateway.suggest(new SuggestQuery("Action", 5));
+
+        // then
+        Assertions.assertEquals(1, currentSuggestions.size());
+        Assertions.assertEquals("Action", currentSuggestions.get(0).name());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private long statementsToList(final SearchQuery aQuery) {
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        final var currentPage = genreGateway.findAll(aQuery);
+
+        Assertions.assertEquals(Math.min(aQuery.perPage(), 5), currentPage.items().size());
+        currentPage.items().forEach(aGenre -> Assertions.assertEquals(2, aGenre.getCategories().size()));
+
+        return statistics.getPrepareStatementCount();
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comedy", true)),
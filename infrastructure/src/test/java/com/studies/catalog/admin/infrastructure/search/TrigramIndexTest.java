@@ -0,0 +1,81 @@
+package com.studies.catalog.admin.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+class TrigramIndexTest {
+
+    private TrigramIndex target;
+
+    @BeforeEach
+    void setUp() {
+        this.target = new TrigramIndex();
+        this.target.replaceAll(List.of(
+                TrigramIndex.Document.with("1", "Movies", "The most watched category"),
+                TrigramIndex.Document.with("2", "Series", "Watched in seasons"),
+                TrigramIndex.Document.with("3", "Documentaries"),
+                TrigramIndex.Document.with("4", "Kids movies", "Animations")
+        ));
+    }
+
+    @Test
+    void givenATermInTheMiddleOfAText_whenCallsSearch_shouldIgnoreCaseAndReturnIt() {
+        Assertions.assertEquals(Set.of("1", "4"), this.target.search("OVIE"));
+        Assertions.assertEquals(Set.of("1", "2"), this.target.search("watched"));
+        Assertions.assertEquals(Set.of("3"), this.target.search("taries"));
+    }
+
+    @Test
+    void givenATermShorterThanATrigram_whenCallsSearch_shouldScanEveryDocument() {
+        Assertions.assertEquals(Set.of("1", "2", "3", "4"), this.target.search("e"));
+        Assertions.assertEquals(Set.of("4"), this.target.search("s "));
+    }
+
+    @Test
+    void givenATermSpanningTwoTexts_whenCallsSearch_shouldNotReturnIt() {
+        Assertions.assertEquals(Set.of(), this.target.search("movies animations"));
+        Assertions.assertEquals(Set.of(), this.target.search("unknown"));
+    }
+
+    @Test
+    void givenAnUpdatedDocument_whenCallsSearch_shouldOnlyMatchItsNewTexts() {
+        // when
+        this.target.put(TrigramIndex.Document.with("1", "Films", "Long features"));
+
+        // then
+        Assertions.assertEquals(Set.of("4"), this.target.search("movies"));
+        Assertions.assertEquals(Set.of("1"), this.target.search("film"));
+        Assertions.assertEquals(4, this.target.size());
+    }
+
+    @Test
+    void givenARemovedDocument_whenCallsSearch_shouldNotReturnIt() {
+        // when
+        this.target.remove("4");
+
+        // then
+        Assertions.assertEquals(Set.of("1"), this.target.search("movies"));
+        Assertions.assertEquals(3, this.target.size());
+    }
+
+    @Test
+    void givenATerm_whenCallsSuggest_shouldRankNamesStartingWithItFirst() {
+        // when
+        final var actualSuggestions = this.target.suggest("mov", 10).stream()
+                .map(TrigramIndex.Document::id)
+                .toList();
+
+        // then
+        Assertions.assertEquals(List.of("1", "4"), actualSuggestions);
+    }
+
+    @Test
+    void givenALimit_whenCallsSuggest_shouldReturnAtMostIt() {
+        Assertions.assertEquals(2, this.target.suggest("s", 2).size());
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.studies.catalog.admin.infrastructure.services.impl;
+
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.services.TransferableContent;
+import com.studies.catalog.admin.infrastructure.services.impl.FileSystemStorageService.FsyncPolicy;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+class FileSystemStorageAPITest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new FileSystemStorageService(root, FsyncPolicy.FILE_AND_DIRECTORY);
+    }
+
+    @Test
+    void givenValidResource_whenCallsStore_shouldStoreIt() throws IOException {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedId = "videoId-123/type-THUMBNAIL";
+
+        target.store(expectedId, expectedResource);
+
+        final var currentContent = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedResource, currentContent);
+        Assertions.assertArrayEquals(expectedResource.content(), currentContent.content());
+        Assertions.assertArrayEquals(expectedResource.content(), Files.readAllBytes(root.resolve("data").resolve(expectedId)));
+
+        try (final var tmpFiles = Files.list(root.resolve("tmp"))) {
+            Assertions.assertEquals(0, tmpFiles.count());
+        }
+    }
+
+    @Test
+    void givenStreamedResourceWithDeferredChecksum_whenCallsStore_shouldStoreComputedChecksum() {
+        final var expectedContent = "Content".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "videoId-123/type-VIDEO";
+        final var checksum = new AtomicReference<String>();
+
+        final var aResource = Resource.with(
+                () -> ChecksumInputStream.of(new ByteArrayInputStream(expectedContent), checksum::set),
+                expectedContent.length,
+                checksum::get,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        target.store(expectedId, aResource);
+
+        final var currentContent = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedChecksum, currentContent.checksum());
+        Assertions.assertArrayEquals(expectedContent, currentContent.content());
+    }
+
+    @Test
+    void givenExistingResource_whenCallsStoreAgain_shouldReplaceIt() {
+        final var expectedId = "videoId-123/type-BANNER";
+        final var expectedResource = Resource.with("Updated".getBytes(), "def", "image/jpg", "banner.jpg");
+
+        target.store(expectedId, Resource.with("Original".getBytes(), "abc", "image/jpg", "banner.jpg"));
+        target.store(expectedId, expectedResource);
+
+        final var currentContent = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedResource, currentContent);
+        Assertions.assertArrayEquals(expectedResource.content(), currentContent.content());
+    }
+
+    @Test
+    void givenStoredResource_whenOpensARange_shouldReadOnlyTheRange() throws IOException {
+        final var expectedId = "videoId-123/type-VIDEO";
+
+        target.store(expectedId, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        final var currentContent = target.get(expectedId).get();
+
+        try (final var in = currentContent.openStream(1, 3)) {
+            Assertions.assertArrayEquals("ont".getBytes(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void givenStoredResource_whenTransfersARange_shouldWriteOnlyTheRange() throws IOException {
+        final var expectedId = "videoId-123/type-VIDEO";
+
+        target.store(expectedId, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        final var currentContent = (TransferableContent) target.get(expectedId).get().contentSupplier();
+        final var out = new ByteArrayOutputStream();
+
+        Assertions.assertEquals(3, currentContent.transferTo(1, 3, Channels.newChannel(out)));
+        Assertions.assertArrayEquals("ont".getBytes(), out.toByteArray());
+    }
+
+    @Test
+    void givenAResourceReadThroughInstrumentation_whenCallsStore_shouldTransferTheFileAndCountIt() {
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var instrumented = new InstrumentedStorageService(target, meterRegistry);
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        instrumented.store("videoId-1/type-VIDEO", expectedResource);
+        final var storedResource = instrumented.get("videoId-1/type-VIDEO").get();
+
+        instrumented.store("videoId-2/type-VIDEO", storedResource);
+
+        Assertions.assertInstanceOf(TransferableContent.class, storedResource.contentSupplier());
+        Assertions.assertArrayEquals(expectedResource.content(), target.get("videoId-2/type-VIDEO").get().content());
+        Assertions.assertEquals(
+                expectedResource.contentLength(),
+                meterRegistry.get("catalog.storage.bytes").tag("direction", "out").counter().count()
+        );
+    }
+
+    @Test
+    void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
+        target.store("item", Fixture.Videos.resource(VideoMediaType.THUMBNAIL));
+
+        final var currentContent = target.get("invalidResourceID");
+
+        Assertions.assertTrue(currentContent.isEmpty());
+    }
+
+    @Test
+    void givenAnIdOutsideOfRoot_whenCallsGet_shouldThrowIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> target.get("../outside"));
+    }
+
+    @Test
+    void givenPrefix_whenCallsList_shouldRetrieveAll() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedIds = List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER", "videoId-1/uploads/abc/chunk-1");
+
+        expectedIds.forEach(id -> target.store(id, expectedResource));
+        target.store("videoId-2/type-VIDEO", expectedResource);
+
+        final var currentIds = target.list("videoId-1");
+
+        Assertions.assertEquals(expectedIds.size(), currentIds.size());
+        Assertions.assertTrue(expectedIds.containsAll(currentIds));
+        Assertions.assertEquals(List.of("videoId-1/uploads/abc/chunk-1"), target.list("videoId-1/uploads/"));
+        Assertions.assertTrue(target.list("videoId-3").isEmpty());
+    }
+
+    @Test
+    void givenPrefix_whenCallsListAfterAKey_shouldRetrieveTheNextPage() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+        List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER", "videoId-2/type-VIDEO")
+                .forEach(id -> target.store(id, expectedResource));
+
+        Assertions.assertEquals(List.of("videoId-1/type-BANNER", "videoId-1/type-VIDEO"), target.list("videoId-", null, 2));
+        Assertions.assertEquals(List.of("videoId-2/type-VIDEO"), target.list("videoId-", "videoId-1/type-VIDEO", 2));
+    }
+
+    @Test
+    void givenExistingResource_whenCallsStoreIfAbsent_shouldKeepIt() {
+        final var expectedId = "videoId-123/type-BANNER";
+        final var expectedResource = Resource.with("Original".getBytes(), "abc", "image/jpg", "banner.jpg");
+
+        Assertions.assertTrue(target.storeIfAbsent(expectedId, expectedResource));
+        Assertions.assertFalse(target.storeIfAbsent(expectedId, Resource.with("Updated".getBytes(), "def", "image/jpg", "banner.jpg")));
+
+        final var currentContent = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedResource, currentContent);
+        Assertions.assertArrayEquals(expectedResource.content(), currentContent.content());
+    }
+
+    @Test
+    void givenResource_whenCallsDeleteAll_shouldEmptyStorage() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedIds = List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER");
+
+        expectedIds.forEach(id -> target.store(id, expectedResource));
+
+        target.deleteAll(expectedIds);
+
+        Assertions.assertTrue(target.list("videoId-1").isEmpty());
+        Assertions.assertTrue(target.get("videoId-1/type-VIDEO").isEmpty());
+        Assertions.assertFalse(Files.exists(root.resolve("data").resolve("videoId-1")));
+    }
+
+    @Test
+    void givenStoredParts_whenCallsCompose_shouldConcatenateThemWithTheCombinedChecksum() throws IOException {
+        final var first = "01234".getBytes();
+        final var second = "56789".getBytes();
+        final var expectedContent = "0123456789".getBytes();
+        final var expectedId = "videoId-123/type-VIDEO";
+
+        target.store("uploads/part1", Resource.with(first, HashingUtils.checksum(first), "application/octet-stream", "part1"));
+        target.store("uploads/part2", Resource.with(second, HashingUtils.checksum(second), "application/octet-stream", "part2"));
+
+        target.compose(List.of("uploads/part1", "uploads/part2"), expectedId, "video/mp4", "video.mp4");
+
+        final var currentContent = target.get(expectedId).get();
+
+        Assertions.assertArrayEquals(expectedContent, currentContent.content());
+        Assertions.assertEquals(HashingUtils.checksum(expectedContent), currentContent.checksum());
+        Assertions.assertEquals("video/mp4", currentContent.contentType());
+        Assertions.assertEquals("video.mp4", currentContent.name());
+
+        try (final var tmpFiles = Files.list(root.resolve("tmp"))) {
+            Assertions.assertEquals(0, tmpFiles.count());
+        }
+    }
+
+}
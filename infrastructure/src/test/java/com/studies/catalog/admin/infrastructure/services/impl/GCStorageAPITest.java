@@ -1,21 +1,33 @@
 package com.studies.catalog.admin.infrastructure.services.impl;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
 import com.studies.catalog.admin.domain.video.Resource;
 import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.util.List;
+import java.util.zip.CRC32C;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -34,28 +46,71 @@ class GCStorageAPITest {
     }
 
     @Test
-    void givenValidResource_whenCallsStore_shouldStoreIt() {
+    void givenValidResource_whenCallsStore_shouldStoreIt() throws IOException {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
         final var expectedId = expectedResource.name();
 
-        final Blob blob = mockBlob(expectedResource);
-        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+        final var blob = mockStoredBlob(crc32cOf(expectedResource.content()));
+        final var storedContent = new ByteArrayOutputStream();
+
+        doAnswer(invocation -> {
+            invocation.<InputStream>getArgument(1).transferTo(storedContent);
+            return blob;
+        }).when(storage).createFrom(any(BlobInfo.class), any(InputStream.class));
 
         this.target.store(expectedId, expectedResource);
 
         final var capture = ArgumentCaptor.forClass(BlobInfo.class);
 
-        verify(storage, times(1)).create(capture.capture(), eq(expectedResource.content()));
+        verify(storage, times(1)).createFrom(capture.capture(), any(InputStream.class));
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        verify(storage, never()).delete(any(BlobId.class));
 
         final var currentBlob = capture.getValue();
         Assertions.assertEquals(this.bucket, currentBlob.getBlobId().getBucket());
         Assertions.assertEquals(expectedId, currentBlob.getBlobId().getName());
         Assertions.assertEquals(expectedResource.contentType(), currentBlob.getContentType());
-        Assertions.assertEquals(expectedResource.checksum(), currentBlob.getCrc32cToHexString());
+        Assertions.assertArrayEquals(expectedResource.content(), storedContent.toByteArray());
+    }
+
+    @Test
+    void givenCorruptedUpload_whenCallsStore_shouldDeleteItAndThrow() throws IOException {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedId = expectedResource.name();
+
+        final var blob = mockStoredBlob("00000000");
+
+        doAnswer(invocation -> {
+            invocation.<InputStream>getArgument(1).transferTo(OutputStream.nullOutputStream());
+            return blob;
+        }).when(storage).createFrom(any(BlobInfo.class), any(InputStream.class));
+
+        final var currentException = Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> this.target.store(expectedId, expectedResource)
+        );
+
+        Assertions.assertTrue(currentException.getMessage().startsWith("Checksum mismatch on resource %s".formatted(expectedId)));
+        verify(storage, times(1)).delete(eq(BlobId.of(bucket, expectedId)));
+    }
+
+    @Test
+    void givenExistingBlob_whenCallsStoreIfAbsent_shouldNotReplaceIt() throws IOException {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedId = expectedResource.name();
+
+        doThrow(new StorageException(412, "conditionNotMet"))
+                .when(storage).createFrom(any(BlobInfo.class), any(InputStream.class), any(Storage.BlobWriteOption.class));
+
+        final var stored = this.target.storeIfAbsent(expectedId, expectedResource);
+
+        Assertions.assertFalse(stored);
+        verify(storage, times(1)).createFrom(any(BlobInfo.class), any(InputStream.class), eq(Storage.BlobWriteOption.doesNotExist()));
+        verify(storage, never()).delete(any(BlobId.class));
     }
 
     @Test
-    void givenResource_whenCallsGet_shouldRetrieveIt() {
+    void givenResource_whenCallsGet_shouldRetrieveIt() throws IOException {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
         final var expectedId = expectedResource.name();
 
@@ -64,12 +119,40 @@ class GCStorageAPITest {
 
         final var currentContent = target.get(expectedId).get();
 
-        Assertions.assertEquals(expectedResource.checksum(), currentContent.checksum());
+        Assertions.assertEquals(HashingUtils.checksum(expectedResource.content()), currentContent.checksum());
         Assertions.assertEquals(expectedResource.name(), currentContent.name());
-        Assertions.assertEquals(expectedResource.content(), currentContent.content());
+        Assertions.assertEquals(expectedResource.contentLength(), currentContent.contentLength());
+        Assertions.assertArrayEquals(expectedResource.content(), currentContent.content());
         Assertions.assertEquals(expectedResource.contentType(), currentContent.contentType());
     }
 
+    @Test
+    void givenResource_whenCallsGetAndOpensARange_shouldReadOnlyTheRange() throws IOException {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final var expectedId = expectedResource.name();
+        final var expectedOffset = 2L;
+        final var expectedLength = 3L;
+
+        final var reader = Mockito.mock(ReadChannel.class);
+        final var channel = Channels.newChannel(new ByteArrayInputStream(expectedResource.content()));
+        when(reader.read(any())).thenAnswer(invocation -> channel.read(invocation.getArgument(0)));
+
+        final Blob blob = mockBlob(expectedResource);
+        when(blob.reader()).thenReturn(reader);
+        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+
+        final var currentContent = target.get(expectedId).get();
+
+        try (final var in = currentContent.openStream(expectedOffset, expectedLength)) {
+            Assertions.assertNotNull(in);
+        }
+
+        verify(storage, times(1)).get(eq(bucket), eq(expectedId));
+        verify(reader, times(1)).seek(eq(expectedOffset));
+        verify(reader, times(1)).limit(eq(expectedOffset + expectedLength));
+        verify(blob, never()).getContent();
+    }
+
     @Test
     void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
@@ -83,7 +166,7 @@ class GCStorageAPITest {
     }
 
     @Test
-    void givenPrefix_whenCallsList_shouldRetrieveAll() {
+    void givenPrefix_whenCallsList_shouldRetrieveAll() throws IOException {
         final var video = Fixture.Videos.resource(VideoMediaType.VIDEO);
         final var banner = Fixture.Videos.resource(VideoMediaType.BANNER);
         final var expectedIds = List.of(video.name(), banner.name());
@@ -119,11 +202,28 @@ class GCStorageAPITest {
         Assertions.assertTrue(expectedIds.size() == currentIds.size() && currentIds.containsAll(expectedIds));
     }
 
-    private Blob mockBlob(final Resource resource) {
+    private Blob mockStoredBlob(final String crc32c) {
+        final var blob = Mockito.mock(Blob.class);
+        when(blob.getCrc32cToHexString()).thenReturn(crc32c);
+        return blob;
+    }
+
+    private static String crc32cOf(final byte[] content) {
+        final var crc = new CRC32C();
+        crc.update(content);
+        return "%08x".formatted((int) crc.getValue());
+    }
+
+    private Blob mockBlob(final Resource resource) throws IOException {
+        final var channel = Channels.newChannel(new ByteArrayInputStream(resource.content()));
+        final var reader = Mockito.mock(ReadChannel.class);
+        when(reader.read(any())).thenAnswer(invocation -> channel.read(invocation.getArgument(0)));
+
         final var blob1 = Mockito.mock(Blob.class);
         when(blob1.getBlobId()).thenReturn(BlobId.of(bucket, resource.name()));
-        when(blob1.getCrc32cToHexString()).thenReturn(resource.checksum());
-        when(blob1.getContent()).thenReturn(resource.content());
+        when(blob1.getCrc32cToHexString()).thenReturn(crc32cOf(resource.content()));
+        when(blob1.getSize()).thenReturn(resource.contentLength());
+        when(blob1.reader()).thenReturn(reader);
         when(blob1.getContentType()).thenReturn(resource.contentType());
         when(blob1.getName()).thenReturn(resource.name());
         return blob1;
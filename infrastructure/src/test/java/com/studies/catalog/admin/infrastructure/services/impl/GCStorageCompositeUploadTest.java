@@ -0,0 +1,196 @@
+package com.studies.catalog.admin.infrastructure.services.impl;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.StreamSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class GCStorageCompositeUploadTest {
+
+    private final String bucket = "test";
+
+    private Storage local;
+
+    private Storage storage;
+
+    private GCStorageService target;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.local = LocalStorageHelper.getOptions().getService();
+        this.storage = Mockito.mock(Storage.class, AdditionalAnswers.delegatesTo(this.local));
+        this.executor = Executors.newFixedThreadPool(3);
+        this.target = new GCStorageService(
+                this.bucket,
+                this.storage,
+                GCStorageService.CompositeUpload.with(16, 4, 3),
+                this.executor
+        );
+
+        // The local stand-in does not implement compose, so it is emulated by concatenating the sources
+        doAnswer(invocation -> compose(invocation.getArgument(0), false))
+                .when(this.storage).compose(any(Storage.ComposeRequest.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void givenResourceAboveThreshold_whenCallsStore_shouldUploadPartsAndComposeThem() {
+        // given
+        final var expectedContent = randomBytes(100);
+        final var expectedId = "videoId-1/type-VIDEO";
+
+        // when
+        this.target.store(expectedId, resource(expectedContent));
+
+        // then
+        Assertions.assertArrayEquals(expectedContent, this.local.readAllBytes(BlobId.of(this.bucket, expectedId)));
+        Assertions.assertEquals("video/mp4", this.local.get(this.bucket, expectedId).getContentType());
+        Assertions.assertEquals(0, temporaryObjects());
+        verify(this.storage, times(1)).compose(any(Storage.ComposeRequest.class));
+        verify(this.storage, never()).create(any(BlobInfo.class), any(byte[].class));
+    }
+
+    @Test
+    void givenStreamedResourceAboveThreshold_whenCallsStore_shouldUploadRangesInParallelAndComposeThem() {
+        // given
+        final var expectedContent = randomBytes(100);
+        final var expectedId = "videoId-1/type-VIDEO";
+
+        final var aChecksum = new AtomicReference<String>();
+        final var aResource = Resource.with(
+                new Resource.Content() {
+                    @Override
+                    public InputStream open() {
+                        return ChecksumInputStream.of(new ByteArrayInputStream(expectedContent), aChecksum::set);
+                    }
+
+                    @Override
+                    public InputStream open(final long offset, final long length) {
+                        return new ByteArrayInputStream(expectedContent, (int) offset, (int) length);
+                    }
+                },
+                expectedContent.length,
+                aChecksum::get,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // when
+        this.target.store(expectedId, aResource);
+
+        // then
+        Assertions.assertArrayEquals(expectedContent, this.local.readAllBytes(BlobId.of(this.bucket, expectedId)));
+        Assertions.assertTrue(aResource.knownChecksum().isEmpty());
+        Assertions.assertEquals(0, temporaryObjects());
+        verify(this.storage, times(1)).compose(any(Storage.ComposeRequest.class));
+    }
+
+    @Test
+    void givenResourceWithAnotherChecksum_whenCallsStore_shouldThrowWithoutComposing() {
+        // given
+        final var expectedId = "videoId-1/type-VIDEO";
+        final var aResource = Resource.with(randomBytes(100), "abc", "video/mp4", "video.mp4");
+
+        // when
+        Assertions.assertThrows(InternalErrorException.class, () -> this.target.store(expectedId, aResource));
+
+        // then
+        Assertions.assertNull(this.local.get(this.bucket, expectedId));
+        Assertions.assertEquals(0, temporaryObjects());
+        verify(this.storage, never()).compose(any(Storage.ComposeRequest.class));
+    }
+
+    @Test
+    void givenMorePartsThanAComposeAccepts_whenCallsStore_shouldComposeInRounds() {
+        // given
+        final var expectedContent = randomBytes(160);
+        final var expectedId = "videoId-1/type-VIDEO";
+
+        // when
+        this.target.store(expectedId, resource(expectedContent));
+
+        // then
+        Assertions.assertArrayEquals(expectedContent, this.local.readAllBytes(BlobId.of(this.bucket, expectedId)));
+        Assertions.assertEquals(0, temporaryObjects());
+        verify(this.storage, times(3)).compose(any(Storage.ComposeRequest.class));
+    }
+
+    @Test
+    void givenCorruptedCompose_whenCallsStore_shouldDeleteItAndThrow() {
+        // given
+        final var expectedId = "videoId-1/type-VIDEO";
+
+        doAnswer(invocation -> compose(invocation.getArgument(0), true))
+                .when(this.storage).compose(any(Storage.ComposeRequest.class));
+
+        // when
+        Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> this.target.store(expectedId, resource(randomBytes(100)))
+        );
+
+        // then
+        Assertions.assertNull(this.local.get(this.bucket, expectedId));
+        Assertions.assertEquals(0, temporaryObjects());
+    }
+
+    private Object compose(final Storage.ComposeRequest request, final boolean corrupt) {
+        final var content = new ByteArrayOutputStream();
+        request.getSourceBlobs().forEach(source ->
+                content.writeBytes(this.local.readAllBytes(BlobId.of(this.bucket, source.getName()))));
+
+        final var bytes = content.toByteArray();
+        if (corrupt) {
+            bytes[0] ^= 1;
+        }
+
+        return this.local.create(request.getTarget(), bytes);
+    }
+
+    private long temporaryObjects() {
+        final var blobs = this.local.list(this.bucket, Storage.BlobListOption.prefix(".composite/"));
+        return StreamSupport.stream(blobs.iterateAll().spliterator(), false).count();
+    }
+
+    private static Resource resource(final byte[] content) {
+        return Resource.with(content, HashingUtils.checksum(content), "video/mp4", "video.mp4");
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final var content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
+}
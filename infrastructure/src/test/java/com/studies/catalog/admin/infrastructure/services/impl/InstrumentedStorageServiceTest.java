@@ -0,0 +1,118 @@
+package com.studies.catalog.admin.infrastructure.services.impl;
+
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+
+class InstrumentedStorageServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryStorageService delegate;
+    private InstrumentedStorageService target;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.delegate = new InMemoryStorageService();
+        this.target = new InstrumentedStorageService(this.delegate, this.meterRegistry);
+    }
+
+    @Test
+    void givenAResource_whenCallsStoreAndReadsIt_shouldRecordLatencyAndBytes() throws IOException {
+        // given
+        final var expectedContent = "content".getBytes();
+        final var expectedResource = Resource.with(expectedContent, "abc", "text/plain", "file.txt");
+
+        // when
+        this.target.store("item", expectedResource);
+        final var currentContent = this.target.get("item").get().openStream().readAllBytes();
+
+        // then
+        Assertions.assertArrayEquals(expectedContent, currentContent);
+        Assertions.assertEquals(1, timerCount("store", "success"));
+        Assertions.assertEquals(1, timerCount("get", "success"));
+        Assertions.assertEquals(expectedContent.length, bytes("in"));
+        Assertions.assertEquals(expectedContent.length, bytes("out"));
+    }
+
+    @Test
+    void givenARangedRead_whenCallsGet_shouldCountOnlyTheBytesRead() throws IOException {
+        // given
+        this.target.store("item", Resource.with("content".getBytes(), "abc", "text/plain", "file.txt"));
+
+        // when
+        final var currentContent = this.target.get("item").get().openStream(2, 3).readAllBytes();
+
+        // then
+        Assertions.assertEquals("nte", new String(currentContent));
+        Assertions.assertEquals(3, bytes("out"));
+    }
+
+    @Test
+    void givenAFailingDelegate_whenCallsStore_shouldRecordTheErrorByCause() {
+        // given
+        final var failing = Mockito.mock(StorageService.class);
+        final var target = new InstrumentedStorageService(failing, this.meterRegistry);
+
+        Mockito.doThrow(InternalErrorException.with("Error on storing", new UncheckedIOException(new IOException())))
+                .when(failing).store(any(), any());
+
+        // when
+        Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> target.store("item", Resource.with("content".getBytes(), "abc", "text/plain", "file.txt"))
+        );
+
+        // then
+        Assertions.assertEquals(1, timerCount("store", "error"));
+        Assertions.assertEquals(0, bytes("in"));
+        Assertions.assertEquals(1, this.meterRegistry.get("catalog.storage.errors")
+                .tag("operation", "store")
+                .tag("cause", "IOException")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void givenOperations_whenTheyFinish_shouldNotLeaveAnyInFlight() {
+        // when
+        this.target.list("item");
+        this.target.deleteAll(List.of("item"));
+
+        // then
+        Assertions.assertEquals(1, timerCount("list", "success"));
+        Assertions.assertEquals(1, timerCount("deleteAll", "success"));
+        Assertions.assertEquals(0, this.meterRegistry.get("catalog.storage.inflight").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum());
+    }
+
+    private long timerCount(final String operation, final String outcome) {
+        return this.meterRegistry.get("catalog.storage.operations")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private double bytes(final String direction) {
+        return this.meterRegistry.get("catalog.storage.bytes")
+                .tag("direction", direction)
+                .counter()
+                .count();
+    }
+
+}
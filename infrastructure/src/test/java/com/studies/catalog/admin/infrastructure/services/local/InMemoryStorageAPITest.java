@@ -1,11 +1,15 @@
 package com.studies.catalog.admin.infrastructure.services.local;
 
 import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.exceptions.InternalErrorException;
+import com.studies.catalog.admin.domain.video.Resource;
 import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.List;
 
 class InMemoryStorageAPITest {
@@ -68,6 +72,28 @@ class InMemoryStorageAPITest {
         Assertions.assertTrue(expectedIds.containsAll(currentContent));
     }
 
+    @Test
+    void givenPrefix_whenCallsListAfterAKey_shouldRetrieveTheNextPage() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+        List.of("item1", "item2", "item3", "other").forEach(id -> this.target.storage().put(id, expectedResource));
+
+        Assertions.assertEquals(List.of("item1", "item2"), target.list("item", null, 2));
+        Assertions.assertEquals(List.of("item3"), target.list("item", "item2", 2));
+        Assertions.assertEquals(List.of(), target.list("item", "item3", 2));
+    }
+
+    @Test
+    void givenExistingResource_whenCallsStoreIfAbsent_shouldKeepIt() {
+        final var expectedResource = Resource.with("Original".getBytes(), "abc", "image/jpg", "banner.jpg");
+
+        Assertions.assertTrue(target.storeIfAbsent("item", expectedResource));
+        Assertions.assertFalse(target.storeIfAbsent("item", Resource.with("Updated".getBytes(), "def", "image/jpg", "banner.jpg")));
+
+        Assertions.assertEquals(expectedResource, target.get("item").get());
+        Assertions.assertEquals(expectedResource.contentLength(), target.usedBytes());
+    }
+
     @Test
     void givenResource_whenCallsDeleteAll_shouldEmptyStorage() {
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
@@ -82,4 +108,80 @@ class InMemoryStorageAPITest {
         Assertions.assertTrue(this.target.storage().isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenSiblingPrefixes_whenCallsList_shouldRetrieveOnlyTheMatchingRange() {
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+
+        this.target.storage().put("videoId-1/type-BANNER", expectedResource);
+        this.target.storage().put("videoId-1/type-VIDEO", expectedResource);
+        this.target.storage().put("videoId-10/type-VIDEO", expectedResource);
+        this.target.storage().put("videoId-2/type-VIDEO", expectedResource);
+
+        final var currentContent = target.list("videoId-1/");
+
+        Assertions.assertEquals(List.of("videoId-1/type-BANNER", "videoId-1/type-VIDEO"), currentContent);
+    }
+
+    @Test
+    void givenContentLargerThanASlab_whenCallsGet_shouldReadItWholeAndByRange() throws IOException {
+        final var target = new InMemoryStorageService(1024, 4, InMemoryStorageService.OverflowPolicy.REJECT);
+        final var expectedContent = "0123456789";
+
+        target.store("item", Resource.with(expectedContent.getBytes(), "abc", "text/plain", "item.txt"));
+
+        final var currentContent = target.get("item").get();
+
+        Assertions.assertEquals(expectedContent.length(), currentContent.contentLength());
+        Assertions.assertEquals(expectedContent, new String(currentContent.openStream().readAllBytes()));
+        Assertions.assertEquals("3456789", new String(currentContent.openStream(3, 7).readAllBytes()));
+        Assertions.assertEquals(expectedContent.length(), target.usedBytes());
+    }
+
+    @Test
+    void givenRejectPolicyAndFullStorage_whenCallsStore_shouldThrowAndKeepExistingContent() {
+        final var target = new InMemoryStorageService(8, 4, InMemoryStorageService.OverflowPolicy.REJECT);
+
+        target.store("item1", Resource.with("12345".getBytes(), "abc", "text/plain", "item1.txt"));
+
+        Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> target.store("item2", Resource.with("6789".getBytes(), "def", "text/plain", "item2.txt"))
+        );
+
+        Assertions.assertEquals(List.of("item1"), target.list(""));
+        Assertions.assertEquals(5, target.usedBytes());
+    }
+
+    @Test
+    void givenEvictPolicyAndFullStorage_whenCallsStore_shouldEvictTheOldestContent() {
+        final var target = new InMemoryStorageService(8, 4, InMemoryStorageService.OverflowPolicy.EVICT_OLDEST);
+
+        target.store("item1", Resource.with("123".getBytes(), "abc", "text/plain", "item1.txt"));
+        target.store("item2", Resource.with("456".getBytes(), "def", "text/plain", "item2.txt"));
+        target.store("item3", Resource.with("789".getBytes(), "ghi", "text/plain", "item3.txt"));
+
+        Assertions.assertEquals(List.of("item2", "item3"), target.list("item"));
+        Assertions.assertEquals(6, target.usedBytes());
+    }
+
+    @Test
+    void givenStoredParts_whenCallsCompose_shouldConcatenateThemWithTheCombinedChecksum() throws IOException {
+        final var target = new InMemoryStorageService(1024, 4, InMemoryStorageService.OverflowPolicy.REJECT);
+        final var first = "01234".getBytes();
+        final var second = "56789".getBytes();
+        final var expectedContent = "0123456789".getBytes();
+
+        target.store("part1", Resource.with(first, HashingUtils.checksum(first), "application/octet-stream", "part1"));
+        target.store("part2", Resource.with(second, HashingUtils.checksum(second), "application/octet-stream", "part2"));
+
+        target.compose(List.of("part1", "part2"), "item", "video/mp4", "video.mp4");
+
+        final var currentContent = target.get("item").get();
+
+        Assertions.assertArrayEquals(expectedContent, currentContent.openStream().readAllBytes());
+        Assertions.assertEquals(HashingUtils.checksum(expectedContent), currentContent.checksum());
+        Assertions.assertEquals("video/mp4", currentContent.contentType());
+        Assertions.assertEquals("video.mp4", currentContent.name());
+    }
+
+}
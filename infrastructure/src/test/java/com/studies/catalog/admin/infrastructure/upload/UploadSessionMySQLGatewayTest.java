@@ -0,0 +1,160 @@
+package com.studies.catalog.admin.infrastructure.upload;
+
+import com.studies.catalog.admin.MySQLGatewayTest;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+import com.studies.catalog.admin.domain.upload.UploadSessionStatus;
+import com.studies.catalog.admin.domain.video.Video;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadChunkRepository;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Year;
+import java.util.Set;
+
+@MySQLGatewayTest
+class UploadSessionMySQLGatewayTest {
+
+    @Autowired
+    private UploadSessionMySQLGateway uploadSessionGateway;
+
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private UploadChunkRepository uploadChunkRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Video video;
+
+    @BeforeEach
+    void setUp() {
+        this.video = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(this.video));
+    }
+
+    @Test
+    void testDependencies() {
+        Assertions.assertNotNull(uploadSessionGateway);
+        Assertions.assertNotNull(uploadSessionRepository);
+        Assertions.assertNotNull(uploadChunkRepository);
+    }
+
+    @Test
+    void givenAValidSession_whenCallsCreate_shouldPersistIt() {
+        // given
+        final var aSession = UploadSession.newSession(this.video.getId(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 1024);
+        final var expectedId = aSession.getId();
+
+        Assertions.assertEquals(0, uploadSessionRepository.count());
+
+        // when
+        final var currentSession = uploadSessionGateway.create(aSession);
+
+        // then
+        Assertions.assertEquals(1, uploadSessionRepository.count());
+
+        Assertions.assertEquals(expectedId, currentSession.getId());
+
+        final var persistedSession = uploadSessionRepository.findById(expectedId.getValue()).get();
+
+        Assertions.assertEquals(this.video.getId().getValue(), persistedSession.getVideoId());
+        Assertions.assertEquals(VideoMediaType.VIDEO, persistedSession.getMediaType());
+        Assertions.assertEquals("video.mp4", persistedSession.getName());
+        Assertions.assertEquals("video/mp4", persistedSession.getContentType());
+        Assertions.assertEquals(1024, persistedSession.getTotalSize());
+        Assertions.assertEquals(UploadSessionStatus.IN_PROGRESS, persistedSession.getStatus());
+        Assertions.assertEquals(aSession.getCreatedAt(), persistedSession.getCreatedAt());
+    }
+
+    @Test
+    void givenPersistedSession_whenCallsSaveChunk_shouldBeReturnedByFindById() {
+        // given
+        final var aSession = uploadSessionGateway.create(
+                UploadSession.newSession(this.video.getId(), VideoMediaType.TRAILER, "trailer.mp4", "video/mp4", 10)
+        );
+
+        // when
+        uploadSessionGateway.saveChunk(aSession.getId(), UploadChunk.with(5, 5, "b"));
+        uploadSessionGateway.saveChunk(aSession.getId(), UploadChunk.with(0, 5, "a"));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final var currentSession = uploadSessionGateway.findById(aSession.getId()).get();
+
+        // then
+        Assertions.assertEquals(2, uploadChunkRepository.count());
+        Assertions.assertEquals(10, currentSession.receivedBytes());
+        Assertions.assertEquals(UploadChunk.with(0, 5, "a"), currentSession.getChunks().get(0));
+        Assertions.assertEquals(UploadChunk.with(5, 5, "b"), currentSession.getChunks().get(1));
+        Assertions.assertTrue(currentSession.isFullyReceived());
+    }
+
+    @Test
+    void givenCompletedSession_whenCallsUpdate_shouldPersistStatus() {
+        // given
+        final var aSession = uploadSessionGateway.create(
+                UploadSession.newSession(this.video.getId(), VideoMediaType.BANNER, "banner.png", "image/png", 4)
+        );
+        aSession.receiveChunk(UploadChunk.with(0, 4, "a"));
+
+        // when
+        final var currentSession = uploadSessionGateway.update(aSession.complete());
+
+        // then
+        Assertions.assertEquals(UploadSessionStatus.COMPLETED, currentSession.getStatus());
+        Assertions.assertEquals(
+                UploadSessionStatus.COMPLETED,
+                uploadSessionRepository.findById(aSession.getId().getValue()).get().getStatus()
+        );
+        Assertions.assertEquals(1, uploadChunkRepository.count());
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(uploadSessionGateway.findById(UploadSessionID.from("empty")).isEmpty());
+    }
+
+    @Test
+    void givenPersistedSession_whenCallsDeleteById_shouldDeleteIt() {
+        // given
+        final var aSession = uploadSessionGateway.create(
+                UploadSession.newSession(this.video.getId(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10)
+        );
+
+        Assertions.assertEquals(1, uploadSessionRepository.count());
+
+        // when
+        uploadSessionGateway.deleteById(aSession.getId());
+
+        // then
+        Assertions.assertEquals(0, uploadSessionRepository.count());
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.studies.catalog.admin.infrastructure.upload;
+
+import com.studies.catalog.admin.IntegrationTest;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.upload.UploadSessionGateway;
+import com.studies.catalog.admin.domain.upload.UploadSessionID;
+import com.studies.catalog.admin.domain.upload.UploadSessionStatus;
+import com.studies.catalog.admin.domain.utils.InstantUtils;
+import com.studies.catalog.admin.domain.video.MediaResourceGateway;
+import com.studies.catalog.admin.domain.video.Video;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.UploadSessionProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.impl.InstrumentedStorageService;
+import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionJpaEntity;
+import com.studies.catalog.admin.infrastructure.upload.persistence.UploadSessionRepository;
+import com.studies.catalog.admin.infrastructure.video.MediaResourceReaper;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+import static com.studies.catalog.admin.domain.Fixture.Videos.resource;
+
+@IntegrationTest
+class UploadSessionSweeperTest {
+
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Autowired
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Autowired
+    private MediaResourceReaper mediaResourceReaper;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private StorageService storageService;
+
+    private Video video;
+
+    private UploadSessionSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        storageService().clear();
+
+        this.video = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(this.video));
+
+        final var props = new UploadSessionProperties()
+                .setTtl(Duration.ofHours(1))
+                .setBatchSize(1);
+
+        this.sweeper = new UploadSessionSweeper(uploadSessionRepository, uploadSessionGateway, mediaResourceGateway, props);
+    }
+
+    @Test
+    void givenExpiredAndActiveSessions_whenCallsSweep_shouldDeleteOnlyTheExpiredOnesAndTheirChunks() {
+        // given
+        final var expiredOne = session(Duration.ofHours(3));
+        final var expiredTwo = session(Duration.ofHours(2));
+        final var active = session(Duration.ZERO);
+        final var aChunk = resource(VideoMediaType.VIDEO);
+
+        this.mediaResourceGateway.storeChunk(expiredOne, 0, aChunk, aChunk.checksum());
+        this.mediaResourceGateway.storeChunk(active, 0, aChunk, aChunk.checksum());
+
+        // when
+        final var swept = this.sweeper.sweep();
+
+        // then
+        Assertions.assertEquals(2, swept);
+        Assertions.assertEquals(List.of(active.getId().getValue()), uploadSessionRepository.findAll().stream()
+                .map(UploadSessionJpaEntity::getId)
+                .toList());
+        Assertions.assertTrue(uploadSessionGateway.findById(expiredTwo.getId()).isEmpty());
+
+        this.mediaResourceReaper.reap();
+
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(storageService().storage().keySet().stream()
+                .allMatch(it -> it.contains(active.getId().getValue())));
+    }
+
+    private UploadSession session(final Duration age) {
+        final var createdAt = InstantUtils.now().minus(age);
+
+        return this.uploadSessionGateway.create(UploadSession.with(
+                UploadSessionID.unique(),
+                this.video.getId(),
+                VideoMediaType.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                10,
+                List.of(),
+                UploadSessionStatus.IN_PROGRESS,
+                createdAt,
+                createdAt
+        ));
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) ((InstrumentedStorageService) this.storageService).delegate();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.studies.catalog.admin.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32C;
+
+class HashingUtilsTest {
+
+    @Test
+    void givenContent_whenCallsStreamedChecksum_shouldMatchByteArrayChecksum() throws IOException {
+        final var content = new byte[3 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+
+        final var expectedChecksum = HashingUtils.checksum(content);
+
+        final var currentChecksum = HashingUtils.checksum(new ByteArrayInputStream(content));
+
+        Assertions.assertEquals(expectedChecksum, currentChecksum);
+    }
+
+    @Test
+    void givenChecksumInputStream_whenReadToTheEnd_shouldPublishChecksumOnce() throws IOException {
+        final var content = "Content".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(content);
+        final var published = new AtomicReference<String>();
+
+        try (final var in = ChecksumInputStream.of(new ByteArrayInputStream(content), it -> {
+            Assertions.assertNull(published.get());
+            published.set(it);
+        })) {
+            Assertions.assertFalse(in.isCompleted());
+            in.transferTo(OutputStream.nullOutputStream());
+            Assertions.assertEquals(-1, in.read());
+
+            Assertions.assertTrue(in.isCompleted());
+            Assertions.assertEquals(expectedChecksum, in.checksum());
+        }
+
+        Assertions.assertEquals(expectedChecksum, published.get());
+    }
+
+    @Test
+    void givenBigEndianHex_whenCallsCrc32cFromBigEndianHex_shouldReturnChecksumFormat() {
+        final var content = "Content".getBytes();
+        final var crc = new CRC32C();
+        crc.update(content);
+
+        final var bigEndianHex = "%08x".formatted((int) crc.getValue());
+
+        Assertions.assertEquals(HashingUtils.checksum(content), HashingUtils.crc32cFromBigEndianHex(bigEndianHex));
+    }
+
+}
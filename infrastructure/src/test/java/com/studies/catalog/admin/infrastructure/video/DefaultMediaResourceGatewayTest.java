@@ -1,167 +1,602 @@
-package com.studies.catalog.admin.infrastructure.video;
-
-
-import com.studies.catalog.admin.IntegrationTest;
-import com.studies.catalog.admin.domain.video.*;
-import com.studies.catalog.admin.infrastructure.services.StorageService;
-import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
-import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.ArrayList;
-
-import static com.studies.catalog.admin.domain.Fixture.Videos.mediaType;
-import static com.studies.catalog.admin.domain.Fixture.Videos.resource;
-
-
-@IntegrationTest
-class DefaultMediaResourceGatewayTest {
-
-    @Autowired
-    private MediaResourceGateway mediaResourceGateway;
-
-    @Autowired
-    private StorageService storageService;
-
-    @BeforeEach
-    public void setUp() {
-        storageService().clear();
-    }
-
-    @Test
-    void testInjection() {
-        Assertions.assertNotNull(mediaResourceGateway);
-        Assertions.assertInstanceOf(DefaultMediaResourceGateway.class, mediaResourceGateway);
-
-        Assertions.assertNotNull(storageService);
-        Assertions.assertInstanceOf(InMemoryStorageService.class, storageService);
-    }
-
-    @Test
-    void givenValidResource_whenCallsStorageVideo_shouldStoreIt() {
-        // given
-        final var expectedVideoId = VideoID.unique();
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedResource = resource(expectedType);
-        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
-        final var expectedStatus = MediaStatus.PENDING;
-        final var expectedEncodedLocation = "";
-
-        // when
-        final var currentMedia =
-                this.mediaResourceGateway.storeVideo(expectedVideoId, VideoResource.with(expectedType, expectedResource));
-
-        // then
-        Assertions.assertNotNull(currentMedia.id());
-        Assertions.assertEquals(expectedLocation, currentMedia.rawLocation());
-        Assertions.assertEquals(expectedResource.name(), currentMedia.name());
-        Assertions.assertEquals(expectedResource.checksum(), currentMedia.checksum());
-        Assertions.assertEquals(expectedStatus, currentMedia.status());
-        Assertions.assertEquals(expectedEncodedLocation, currentMedia.encodedLocation());
-
-        final var currentStored = storageService().storage().get(expectedLocation);
-
-        Assertions.assertEquals(expectedResource, currentStored);
-    }
-
-    @Test
-    void givenValidResource_whenCallsStorageImage_shouldStoreIt() {
-        // given
-        final var expectedVideoId = VideoID.unique();
-        final var expectedType = VideoMediaType.BANNER;
-        final var expectedResource = resource(expectedType);
-        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
-
-        // when
-        final var currentMedia =
-                this.mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedType, expectedResource));
-
-        // then
-        Assertions.assertNotNull(currentMedia.id());
-        Assertions.assertEquals(expectedLocation, currentMedia.location());
-        Assertions.assertEquals(expectedResource.name(), currentMedia.name());
-        Assertions.assertEquals(expectedResource.checksum(), currentMedia.checksum());
-
-        final var currentStored = storageService().storage().get(expectedLocation);
-
-        Assertions.assertEquals(expectedResource, currentStored);
-    }
-
-    @Test
-    void givenValidVideoId_whenCallsGetResource_shouldReturnIt() {
-        // given
-        final var videoOne = VideoID.unique();
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedResource = resource(expectedType);
-
-        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), expectedType), expectedResource);
-        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.TRAILER.name()), resource(mediaType()));
-        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()), resource(mediaType()));
-
-        Assertions.assertEquals(3, storageService().storage().size());
-
-        // when
-        final var currentResult = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
-
-        // then
-        Assertions.assertEquals(expectedResource, currentResult);
-    }
-
-    @Test
-    void givenInvalidType_whenCallsGetResource_shouldReturnEmpty() {
-        // given
-        final var videoOne = VideoID.unique();
-        final var expectedType = VideoMediaType.THUMBNAIL;
-
-        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.VIDEO.name()), resource(mediaType()));
-        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.TRAILER.name()), resource(mediaType()));
-        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()), resource(mediaType()));
-
-        Assertions.assertEquals(3, storageService().storage().size());
-
-        // when
-        final var currentResult = this.mediaResourceGateway.getResource(videoOne, expectedType);
-
-        // then
-        Assertions.assertTrue(currentResult.isEmpty());
-    }
-
-    @Test
-    void givenValidVideoId_whenCallsClearResources_shouldDeleteAll() {
-        // given
-        final var videoOne = VideoID.unique();
-        final var videoTwo = VideoID.unique();
-
-        final var toBeDeleted = new ArrayList<String>();
-        toBeDeleted.add("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.VIDEO.name()));
-        toBeDeleted.add("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.TRAILER.name()));
-        toBeDeleted.add("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()));
-
-        final var expectedValues = new ArrayList<String>();
-        expectedValues.add("videoId-%s/type-%s".formatted(videoTwo.getValue(), VideoMediaType.VIDEO.name()));
-        expectedValues.add("videoId-%s/type-%s".formatted(videoTwo.getValue(), VideoMediaType.BANNER.name()));
-
-        toBeDeleted.forEach(id -> storageService().store(id, resource(mediaType())));
-        expectedValues.forEach(id -> storageService().store(id, resource(mediaType())));
-
-        Assertions.assertEquals(5, storageService().storage().size());
-
-        // when
-        this.mediaResourceGateway.clearResources(videoOne);
-
-        // then
-        Assertions.assertEquals(2, storageService().storage().size());
-
-        final var currentKeys = storageService().storage().keySet();
-
-        Assertions.assertEquals(expectedValues.size(), currentKeys.size());
-        Assertions.assertTrue(currentKeys.containsAll(expectedValues));
-    }
-
-    private InMemoryStorageService storageService() {
-        return (InMemoryStorageService) storageService;
-    }
-
+package com.studies.catalog.admin.infrastructure.video;
+
+
+import com.studies.catalog.admin.IntegrationTest;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.upload.UploadChunk;
+import com.studies.catalog.admin.domain.upload.UploadSession;
+import com.studies.catalog.admin.domain.video.*;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.impl.InstrumentedStorageService;
+import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import com.studies.catalog.admin.infrastructure.utils.ChecksumInputStream;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.studies.catalog.admin.domain.Fixture.Videos.mediaType;
+import static com.studies.catalog.admin.domain.Fixture.Videos.resource;
+import static com.studies.catalog.admin.infrastructure.utils.HashingUtils.checksum;
+
+
+@IntegrationTest
+class DefaultMediaResourceGatewayTest {
+
+    @Autowired
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private MediaContentIndex mediaContentIndex;
+
+    @Autowired
+    private MediaResourceReaper mediaResourceReaper;
+
+    @Autowired
+    private ImageResourceCache imageResourceCache;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @BeforeEach
+    public void setUp() {
+        storageService().clear();
+    }
+
+    @Test
+    void testInjection() {
+        Assertions.assertNotNull(mediaResourceGateway);
+        Assertions.assertInstanceOf(DefaultMediaResourceGateway.class, mediaResourceGateway);
+
+        Assertions.assertNotNull(storageService);
+        Assertions.assertInstanceOf(InstrumentedStorageService.class, storageService);
+        Assertions.assertInstanceOf(InMemoryStorageService.class, ((InstrumentedStorageService) storageService).delegate());
+    }
+
+    @Test
+    void givenValidResource_whenCallsStorageVideo_shouldStoreIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = resource(expectedType);
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+        final var expectedStatus = MediaStatus.PENDING;
+        final var expectedEncodedLocation = "";
+
+        // when
+        final var currentMedia =
+                this.mediaResourceGateway.storeVideo(expectedVideoId, VideoResource.with(expectedType, expectedResource));
+
+        // then
+        Assertions.assertNotNull(currentMedia.id());
+        Assertions.assertEquals(expectedLocation, currentMedia.rawLocation());
+        Assertions.assertEquals(expectedResource.name(), currentMedia.name());
+        Assertions.assertEquals(expectedResource.checksum(), currentMedia.checksum());
+        Assertions.assertEquals(expectedStatus, currentMedia.status());
+        Assertions.assertEquals(expectedEncodedLocation, currentMedia.encodedLocation());
+
+        final var currentStored = storageService().storage().get(expectedLocation);
+
+        Assertions.assertEquals(expectedResource, currentStored);
+    }
+
+    @Test
+    void givenValidResource_whenCallsStorageImage_shouldStoreIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = resource(expectedType);
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+
+        // when
+        final var currentMedia =
+                this.mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedType, expectedResource));
+
+        // then
+        Assertions.assertNotNull(currentMedia.id());
+        Assertions.assertEquals(expectedLocation, currentMedia.location());
+        Assertions.assertEquals(expectedResource.name(), currentMedia.name());
+        Assertions.assertEquals(expectedResource.checksum(), currentMedia.checksum());
+
+        final var currentStored = storageService().storage().get(expectedLocation);
+
+        Assertions.assertEquals(expectedResource, currentStored);
+    }
+
+    @Test
+    void givenValidVideoId_whenCallsGetResource_shouldReturnIt() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = resource(expectedType);
+
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), expectedType), expectedResource);
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.TRAILER.name()), resource(mediaType()));
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()), resource(mediaType()));
+
+        Assertions.assertEquals(3, storageService().storage().size());
+
+        // when
+        final var currentResult = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
+
+        // then
+        Assertions.assertEquals(expectedResource, currentResult);
+    }
+
+    @Test
+    void givenInvalidType_whenCallsGetResource_shouldReturnEmpty() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.THUMBNAIL;
+
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.VIDEO.name()), resource(mediaType()));
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.TRAILER.name()), resource(mediaType()));
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()), resource(mediaType()));
+
+        Assertions.assertEquals(3, storageService().storage().size());
+
+        // when
+        final var currentResult = this.mediaResourceGateway.getResource(videoOne, expectedType);
+
+        // then
+        Assertions.assertTrue(currentResult.isEmpty());
+    }
+
+    @Test
+    void givenCachedImage_whenCallsStoreImage_shouldServeTheReplacedContent() throws IOException {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = Resource.with("New banner".getBytes(), "new", "image/jpg", "new-banner.jpg");
+
+        this.mediaResourceGateway.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with("Old banner".getBytes(), "old", "image/jpg", "banner.jpg"))
+        );
+        try (final var in = this.mediaResourceGateway.getResource(videoOne, expectedType).get().openStream()) {
+            in.readAllBytes();
+        }
+
+        // when
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedType, expectedResource));
+        final var currentResult = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
+
+        // then
+        Assertions.assertEquals(expectedResource, currentResult);
+        Assertions.assertArrayEquals("New banner".getBytes(), currentResult.openStream().readAllBytes());
+    }
+
+    @Test
+    void givenCachedImageReplacedElsewhere_whenCallsGetResource_shouldServeTheContentOfTheMediaRow() throws IOException {
+        // given
+        final var aVideo = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+        final var videoOne = aVideo.getId();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = Resource.with("New banner".getBytes(), "new", "image/jpg", "new-banner.jpg");
+
+        final var oldBanner = this.mediaResourceGateway.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with("Old banner".getBytes(), "old", "image/jpg", "banner.jpg"))
+        );
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo.updateBannerMedia(oldBanner)));
+
+        try (final var in = this.mediaResourceGateway.getResource(videoOne, expectedType).get().openStream()) {
+            in.readAllBytes();
+        }
+
+        // when
+        storageService().store(oldBanner.location(), expectedResource);
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo.updateBannerMedia(
+                ImageMedia.with(expectedResource.checksum(), expectedResource.name(), oldBanner.location())
+        )));
+        final var currentResult = this.mediaResourceGateway.getResource(videoOne, expectedType).get();
+
+        // then
+        Assertions.assertEquals(expectedResource, currentResult);
+        Assertions.assertArrayEquals("New banner".getBytes(), currentResult.openStream().readAllBytes());
+    }
+
+    @Test
+    void givenValidVideoId_whenCallsClearResources_shouldDeleteAll() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+
+        final var toBeDeleted = new ArrayList<String>();
+        toBeDeleted.add("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.VIDEO.name()));
+        toBeDeleted.add("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.TRAILER.name()));
+        toBeDeleted.add("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()));
+
+        final var expectedValues = new ArrayList<String>();
+        expectedValues.add("videoId-%s/type-%s".formatted(videoTwo.getValue(), VideoMediaType.VIDEO.name()));
+        expectedValues.add("videoId-%s/type-%s".formatted(videoTwo.getValue(), VideoMediaType.BANNER.name()));
+
+        toBeDeleted.forEach(id -> storageService().store(id, resource(mediaType())));
+        expectedValues.forEach(id -> storageService().store(id, resource(mediaType())));
+
+        Assertions.assertEquals(5, storageService().storage().size());
+
+        // when
+        this.mediaResourceGateway.clearResources(videoOne);
+
+        // then
+        Assertions.assertEquals(2, storageService().storage().size());
+
+        final var currentKeys = storageService().storage().keySet();
+
+        Assertions.assertEquals(expectedValues.size(), currentKeys.size());
+        Assertions.assertTrue(currentKeys.containsAll(expectedValues));
+    }
+
+    @Test
+    void givenValidVideoId_whenCallsScheduleClearResources_shouldDeleteThemOnlyWhenReaped() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.VIDEO.name()), resource(mediaType()));
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()), resource(mediaType()));
+        storageService().store("videoId-%s/type-%s".formatted(videoTwo.getValue(), VideoMediaType.VIDEO.name()), resource(mediaType()));
+
+        // when
+        this.mediaResourceGateway.scheduleClearResources(videoOne);
+
+        // then
+        Assertions.assertEquals(3, storageService().storage().size());
+
+        this.mediaResourceReaper.reap();
+
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(storageService().storage()
+                .containsKey("videoId-%s/type-%s".formatted(videoTwo.getValue(), VideoMediaType.VIDEO.name())));
+    }
+
+    @Test
+    void givenStoredChunks_whenCallsAssembleChunks_shouldComposeThemInOrder() throws IOException {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var first = "01234".getBytes();
+        final var second = "56789".getBytes();
+        final var expectedContent = "0123456789".getBytes();
+
+        this.mediaResourceGateway.storeChunk(aSession, 5, Resource.with(second, checksum(second), "application/octet-stream", "b"), checksum(second));
+        this.mediaResourceGateway.storeChunk(aSession, 0, Resource.with(first, checksum(first), "application/octet-stream", "a"), checksum(first));
+
+        aSession.receiveChunk(UploadChunk.with(5, 5, checksum(second)));
+        aSession.receiveChunk(UploadChunk.with(0, 5, checksum(first)));
+
+        // when
+        final var currentResource = this.mediaResourceGateway.assembleChunks(aSession);
+
+        // then
+        Assertions.assertEquals(10, currentResource.contentLength());
+        Assertions.assertEquals("video.mp4", currentResource.name());
+        Assertions.assertEquals("video/mp4", currentResource.contentType());
+        Assertions.assertArrayEquals(expectedContent, currentResource.openStream().readAllBytes());
+        Assertions.assertEquals(checksum(expectedContent), currentResource.checksum());
+    }
+
+    @Test
+    void givenAssembledChunks_whenCallsStoreVideo_shouldMoveThemToTheMediaKey() throws IOException {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var first = "01234".getBytes();
+        final var second = "56789".getBytes();
+        final var expectedContent = "0123456789".getBytes();
+        final var expectedKey = "videoId-%s/type-%s".formatted(aSession.getVideoId().getValue(), VideoMediaType.VIDEO.name());
+
+        this.mediaResourceGateway.storeChunk(aSession, 0, Resource.with(first, checksum(first), "application/octet-stream", "a"), checksum(first));
+        this.mediaResourceGateway.storeChunk(aSession, 5, Resource.with(second, checksum(second), "application/octet-stream", "b"), checksum(second));
+
+        aSession.receiveChunk(UploadChunk.with(0, 5, checksum(first)));
+        aSession.receiveChunk(UploadChunk.with(5, 5, checksum(second)));
+
+        final var aResource = this.mediaResourceGateway.assembleChunks(aSession);
+
+        // when
+        final var currentMedia = this.mediaResourceGateway.storeVideo(aSession.getVideoId(), VideoResource.with(VideoMediaType.VIDEO, aResource));
+
+        // then
+        Assertions.assertEquals(expectedKey, currentMedia.rawLocation());
+        Assertions.assertEquals(checksum(expectedContent), currentMedia.checksum());
+        Assertions.assertArrayEquals(expectedContent, storageService().storage().get(expectedKey).openStream().readAllBytes());
+        Assertions.assertEquals(3, storageService().storage().size());
+    }
+
+    @Test
+    void givenStoredChunks_whenCallsClearChunks_shouldDeleteOnlySessionChunks() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var aMedia = "videoId-%s/type-%s".formatted(aSession.getVideoId().getValue(), VideoMediaType.BANNER.name());
+
+        final var aChunk = resource(VideoMediaType.VIDEO);
+
+        storageService().store(aMedia, resource(VideoMediaType.BANNER));
+        this.mediaResourceGateway.storeChunk(aSession, 0, aChunk, aChunk.checksum());
+        this.mediaResourceGateway.storeChunk(aSession, 7, aChunk, aChunk.checksum());
+
+        Assertions.assertEquals(3, storageService().storage().size());
+
+        // when
+        this.mediaResourceGateway.clearChunks(aSession);
+
+        // then
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(storageService().storage().containsKey(aMedia));
+    }
+
+    @Test
+    void givenAChunkWithAnotherChecksum_whenCallsStoreChunk_shouldNotKeepIt() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var content = "01234".getBytes();
+        final var aChunk = Resource.with(content, checksum(content), "application/octet-stream", "a");
+
+        // when
+        final var stored = this.mediaResourceGateway.storeChunk(aSession, 0, aChunk, checksum("56789".getBytes()));
+
+        // then
+        Assertions.assertFalse(stored);
+        Assertions.assertTrue(storageService().storage().isEmpty());
+    }
+
+    @Test
+    void givenAChunk_whenCallsStoreChunk_shouldMoveItToTheChunkKey() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var content = "01234".getBytes();
+        final var aChunk = Resource.with(content, checksum(content), "application/octet-stream", "a");
+        final var expectedKey = "videoId-%s/uploads/%s/chunk-%020d"
+                .formatted(aSession.getVideoId().getValue(), aSession.getId().getValue(), 0);
+
+        // when
+        final var stored = this.mediaResourceGateway.storeChunk(aSession, 0, aChunk, checksum(content));
+
+        // then
+        Assertions.assertTrue(stored);
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(storageService().storage().containsKey(expectedKey));
+    }
+
+    @Test
+    void givenStoredChunks_whenCallsScheduleClearChunks_shouldDeleteThemOnReap() {
+        // given
+        final var aSession = UploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 10);
+        final var aChunk = resource(VideoMediaType.VIDEO);
+
+        this.mediaResourceGateway.storeChunk(aSession, 0, aChunk, aChunk.checksum());
+
+        // when
+        this.mediaResourceGateway.scheduleClearChunks(aSession);
+
+        // then
+        Assertions.assertEquals(1, storageService().storage().size());
+
+        this.mediaResourceReaper.reap();
+
+        Assertions.assertTrue(storageService().storage().isEmpty());
+    }
+
+    @Test
+    void givenDeduplicationAndSameContent_whenCallsStoreForTwoVideos_shouldStoreItOnce() {
+        // given
+        final var deduplicatingGateway = deduplicatingGateway();
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Resource.with("Trailer".getBytes(), "abc", "video/mp4", "trailer.mp4");
+
+        // when
+        final var mediaOne = deduplicatingGateway.storeVideo(videoOne, VideoResource.with(expectedType, expectedResource));
+        final var mediaTwo = deduplicatingGateway.storeVideo(videoTwo, VideoResource.with(expectedType, expectedResource));
+
+        // then
+        Assertions.assertEquals(mediaOne.rawLocation(), mediaTwo.rawLocation());
+        Assertions.assertEquals(expectedResource.checksum(), mediaTwo.checksum());
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(expectedResource, deduplicatingGateway.getResource(videoOne, expectedType).get());
+        Assertions.assertEquals(expectedResource, deduplicatingGateway.getResource(videoTwo, expectedType).get());
+    }
+
+    @Test
+    void givenDeduplicationAndStreamedDuplicate_whenCallsStore_shouldSkipTheStore() {
+        // given
+        final var trackedStorage = Mockito.spy(storageService);
+        final var deduplicatingGateway = deduplicatingGateway(trackedStorage);
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var content = "Banner".getBytes();
+        final var expectedChecksum = checksum(content);
+
+        final var aChecksum = new AtomicReference<String>();
+        final var streamedResource = Resource.with(
+                () -> ChecksumInputStream.of(new ByteArrayInputStream(content), aChecksum::set),
+                content.length,
+                aChecksum::get,
+                "image/jpg",
+                "banner.jpg"
+        );
+
+        final var mediaOne = deduplicatingGateway.storeImage(
+                videoOne,
+                VideoResource.with(expectedType, Resource.with(content, expectedChecksum, "image/jpg", "banner.jpg"))
+        );
+
+        Mockito.clearInvocations(trackedStorage);
+
+        // when
+        final var mediaTwo = deduplicatingGateway.storeImage(videoTwo, VideoResource.with(expectedType, streamedResource));
+
+        // then
+        Assertions.assertEquals(mediaOne.location(), mediaTwo.location());
+        Assertions.assertEquals(expectedChecksum, mediaTwo.checksum());
+        Assertions.assertEquals(1, storageService().storage().size());
+        Mockito.verify(trackedStorage, Mockito.never()).store(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void givenDeduplicationAndReleasedContent_whenCallsStore_shouldStoreItAgainBeforeTheReap() {
+        // given
+        final var deduplicatingGateway = deduplicatingGateway();
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Resource.with("Trailer".getBytes(), "abc", "video/mp4", "trailer.mp4");
+
+        final var mediaOne = deduplicatingGateway.storeVideo(videoOne, VideoResource.with(expectedType, expectedResource));
+        deduplicatingGateway.scheduleClearResources(videoOne);
+
+        // when
+        final var mediaTwo = deduplicatingGateway.storeVideo(videoTwo, VideoResource.with(expectedType, expectedResource));
+        this.mediaResourceReaper.reap();
+
+        // then
+        Assertions.assertNotEquals(mediaOne.rawLocation(), mediaTwo.rawLocation());
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(expectedResource, deduplicatingGateway.getResource(videoTwo, expectedType).get());
+    }
+
+    @Test
+    void givenDeduplicationAndSharedContent_whenCallsClearResources_shouldKeepItUntilTheLastReference() {
+        // given
+        final var deduplicatingGateway = deduplicatingGateway();
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Resource.with("Trailer".getBytes(), "abc", "video/mp4", "trailer.mp4");
+
+        deduplicatingGateway.storeVideo(videoOne, VideoResource.with(expectedType, expectedResource));
+        deduplicatingGateway.storeVideo(videoTwo, VideoResource.with(expectedType, expectedResource));
+        deduplicatingGateway.storeVideo(videoOne, VideoResource.with(VideoMediaType.VIDEO, resource(VideoMediaType.VIDEO)));
+
+        Assertions.assertEquals(2, storageService().storage().size());
+
+        // when
+        deduplicatingGateway.clearResources(videoOne);
+
+        // then
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(deduplicatingGateway.getResource(videoOne, expectedType).isEmpty());
+        Assertions.assertEquals(expectedResource, deduplicatingGateway.getResource(videoTwo, expectedType).get());
+
+        deduplicatingGateway.clearResources(videoTwo);
+
+        Assertions.assertTrue(storageService().storage().isEmpty());
+    }
+
+    @Test
+    void givenDeduplicationAndReplacedMedia_whenCallsStore_shouldDeleteTheOrphanContent() {
+        // given
+        final var deduplicatingGateway = deduplicatingGateway();
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.THUMBNAIL;
+        final var expectedResource = resource(expectedType);
+
+        deduplicatingGateway.storeImage(videoOne, VideoResource.with(expectedType, resource(expectedType)));
+
+        // when
+        final var currentMedia = deduplicatingGateway.storeImage(videoOne, VideoResource.with(expectedType, expectedResource));
+
+        // then
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertEquals(expectedResource, storageService().storage().get(currentMedia.location()));
+        Assertions.assertEquals(expectedResource, deduplicatingGateway.getResource(videoOne, expectedType).get());
+    }
+
+    @Test
+    void givenHashedLayout_whenCallsStoreVideo_shouldStoreItUnderAHashedPrefix() {
+        // given
+        final var hashedGateway = hashedGateway();
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = resource(expectedType);
+        final var expectedLocation = MediaKeyLayout.with("videoId-{videoId}", MediaKeyLayout.Type.HASHED, 2)
+                .folder(videoOne)
+                .concat("/type-VIDEO");
+
+        // when
+        final var currentMedia = hashedGateway.storeVideo(videoOne, VideoResource.with(expectedType, expectedResource));
+
+        // then
+        Assertions.assertEquals(expectedLocation, currentMedia.rawLocation());
+        Assertions.assertTrue(expectedLocation.matches("[0-9a-f]{2}/videoId-.+"));
+        Assertions.assertEquals(expectedResource, storageService().storage().get(expectedLocation));
+        Assertions.assertEquals(expectedResource, hashedGateway.getResource(videoOne, expectedType).get());
+    }
+
+    @Test
+    void givenHashedLayoutAndLegacyMedia_whenCallsGetResourceAndClear_shouldFallBackToTheLegacyPath() {
+        // given
+        final var hashedGateway = hashedGateway();
+        final var videoOne = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = resource(expectedType);
+
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), expectedType.name()), expectedResource);
+        hashedGateway.storeVideo(videoOne, VideoResource.with(VideoMediaType.VIDEO, resource(VideoMediaType.VIDEO)));
+
+        Assertions.assertEquals(2, storageService().storage().size());
+
+        // when
+        final var currentResult = hashedGateway.getResource(videoOne, expectedType).get();
+        hashedGateway.clearResources(videoOne);
+
+        // then
+        Assertions.assertEquals(expectedResource, currentResult);
+        Assertions.assertTrue(storageService().storage().isEmpty());
+    }
+
+    private DefaultMediaResourceGateway hashedGateway() {
+        final var props = new StorageProperties();
+        props.setFilenamePattern("type-{type}");
+        props.setLocationPattern("videoId-{videoId}");
+        props.setKeyLayout(MediaKeyLayout.Type.HASHED);
+        props.setKeyPrefixLength(2);
+
+        return new DefaultMediaResourceGateway(props, storageService, mediaContentIndex, mediaResourceReaper, imageResourceCache, videoRepository);
+    }
+
+    private DefaultMediaResourceGateway deduplicatingGateway() {
+        return deduplicatingGateway(storageService);
+    }
+
+    private DefaultMediaResourceGateway deduplicatingGateway(final StorageService storageService) {
+        final var props = new StorageProperties();
+        props.setFilenamePattern("type-{type}");
+        props.setLocationPattern("videoId-{videoId}");
+        props.setDeduplication(true);
+
+        return new DefaultMediaResourceGateway(props, storageService, mediaContentIndex, mediaResourceReaper, imageResourceCache, videoRepository);
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) ((InstrumentedStorageService) storageService).delegate();
+    }
+
 }
\ No newline at end of file
@@ -8,9 +8,13 @@ import com.studies.catalog.admin.domain.castmember.CastMemberID;
 import com.studies.catalog.admin.domain.category.Category;
 import com.studies.catalog.admin.domain.category.CategoryGateway;
 import com.studies.catalog.admin.domain.category.CategoryID;
+import com.studies.catalog.admin.domain.exceptions.NotificationException;
 import com.studies.catalog.admin.domain.genre.Genre;
 import com.studies.catalog.admin.domain.genre.GenreGateway;
 import com.studies.catalog.admin.domain.genre.GenreID;
+import com.studies.catalog.admin.domain.pagination.Pagination;
+import com.studies.catalog.admin.domain.pagination.SearchMode;
+import com.studies.catalog.admin.domain.pagination.TotalMode;
 import com.studies.catalog.admin.domain.video.*;
 import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.Assertions;
@@ -22,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.List;
 import java.util.Set;
 
 @IntegrationTest
@@ -208,6 +213,30 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals("The Movie", currentPage.items().get(1).title());
     }
 
+    @Test
+    void givenSeveralCastMembersOfTheSameVideo_whenCallFindAll_shouldReturnTheVideoOnce() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                Set.of(marlonBrando.getId(), alPacino.getId()),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        final var currentPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(3, currentPage.total());
+        Assertions.assertEquals(List.of("The Godfather", "The Movie", "The Panic in Needle Park"), titles(currentPage));
+    }
+
     @Test
     void givenAValidGenre_whenCallFindAll_shouldReturnFilteredList() {
         // given
@@ -411,6 +440,158 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals(expectedVideo, currentPage.items().get(0).title());
     }
 
+    @Test
+    void givenAnEmptyCursor_whenCallsFindAllAndFollowsNextCursors_shouldWalkTheWholeListInOrder() {
+        // given
+        mockVideos();
+
+        // when
+        final var firstPage = videoGateway.findAll(keysetQuery("", "title", "asc", Set.of()));
+        final var secondPage = videoGateway.findAll(keysetQuery(firstPage.nextCursor(), "title", "asc", Set.of()));
+
+        // then
+        Assertions.assertEquals(4, firstPage.total());
+        Assertions.assertEquals(List.of("Driving Miss Daisy", "The Godfather"), titles(firstPage));
+        Assertions.assertNull(firstPage.previousCursor());
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        Assertions.assertEquals(List.of("The Movie", "The Panic in Needle Park"), titles(secondPage));
+        Assertions.assertNull(secondPage.nextCursor());
+        Assertions.assertNotNull(secondPage.previousCursor());
+    }
+
+    @Test
+    void givenAPreviousCursor_whenCallsFindAll_shouldReturnThePrecedingItemsInOrder() {
+        // given
+        mockVideos();
+
+        final var firstPage = videoGateway.findAll(keysetQuery("", "createdAt", "desc", Set.of()));
+        final var secondPage = videoGateway.findAll(keysetQuery(firstPage.nextCursor(), "createdAt", "desc", Set.of()));
+
+        // when
+        final var currentPage = videoGateway.findAll(keysetQuery(secondPage.previousCursor(), "createdAt", "desc", Set.of()));
+
+        // then
+        Assertions.assertEquals(titles(firstPage), titles(currentPage));
+        Assertions.assertNull(currentPage.previousCursor());
+        Assertions.assertNotNull(currentPage.nextCursor());
+    }
+
+    @Test
+    void givenAFilterAndCursor_whenCallsFindAll_shouldPageOnlyTheMatchingVideos() {
+        // given
+        mockVideos();
+
+        final var firstPage = videoGateway.findAll(keysetQuery("", "title", "asc", Set.of(drama.getId())));
+
+        // when
+        final var currentPage = videoGateway.findAll(keysetQuery(firstPage.nextCursor(), "title", "asc", Set.of(drama.getId())));
+
+        // then
+        Assertions.assertEquals(2, firstPage.total());
+        Assertions.assertEquals(List.of("The Godfather", "The Panic in Needle Park"), titles(firstPage));
+        Assertions.assertNull(firstPage.nextCursor());
+        Assertions.assertTrue(currentPage.items().isEmpty());
+    }
+
+    @Test
+    void givenAnOffsetPage_whenCallsFindAll_shouldExposeCursorsToContinueFrom() {
+        // given
+        mockVideos();
+
+        final var anOffsetPage = videoGateway.findAll(
+                new VideoSearchQuery(1, 1, "", "title", "asc", Set.of(), Set.of(), Set.of())
+        );
+
+        // when
+        final var currentPage = videoGateway.findAll(keysetQuery(anOffsetPage.nextCursor(), "title", "asc", Set.of()));
+
+        // then
+        Assertions.assertEquals(List.of("The Godfather"), titles(anOffsetPage));
+        Assertions.assertNotNull(anOffsetPage.previousCursor());
+        Assertions.assertEquals(List.of("The Movie", "The Panic in Needle Park"), titles(currentPage));
+    }
+
+    @Test
+    void givenTotalModeNone_whenCallsFindAll_shouldSkipTheTotalAndTellWhetherThereIsANextPage() {
+        // given
+        mockVideos();
+
+        // when
+        final var firstPage = videoGateway.findAll(
+                new VideoSearchQuery(0, 2, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, TotalMode.NONE)
+        );
+        final var lastPage = videoGateway.findAll(
+                new VideoSearchQuery(1, 2, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, TotalMode.NONE)
+        );
+
+        // then
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(List.of("Driving Miss Daisy", "The Godfather"), titles(firstPage));
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, lastPage.total());
+        Assertions.assertFalse(lastPage.hasNext());
+        Assertions.assertEquals(List.of("The Movie", "The Panic in Needle Park"), titles(lastPage));
+        Assertions.assertNull(lastPage.nextCursor());
+        Assertions.assertNotNull(lastPage.previousCursor());
+    }
+
+    @Test
+    void givenNaturalSearchMode_whenCallsFindAll_shouldReturnMatchingVideos() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "needle", "title", "asc", Set.of(), Set.of(), Set.of(), null, TotalMode.EXACT, SearchMode.NATURAL
+        );
+
+        // when
+        final var currentPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(1, currentPage.total());
+        Assertions.assertEquals(List.of("The Panic in Needle Park"), titles(currentPage));
+    }
+
+    @Test
+    void givenACursorAndFullTextSearch_whenCallsFindAll_shouldThrowNotificationException() {
+        // given
+        final var aQuery = new VideoSearchQuery(
+                0, 2, "needle", "title", "asc", Set.of(), Set.of(), Set.of(), "", TotalMode.EXACT, SearchMode.BOOLEAN
+        );
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> videoGateway.findAll(aQuery)
+        );
+
+        // then
+        Assertions.assertEquals(
+                "Cursor pagination does not support full-text search",
+                actualException.getErrors().get(0).message()
+        );
+    }
+
+    @Test
+    void givenACursorIssuedForAnotherSort_whenCallsFindAll_shouldThrowNotificationException() {
+        // given
+        mockVideos();
+
+        final var aCursor = videoGateway.findAll(keysetQuery("", "title", "asc", Set.of())).nextCursor();
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> videoGateway.findAll(keysetQuery(aCursor, "createdAt", "asc", Set.of()))
+        );
+
+        // then
+        Assertions.assertEquals("Invalid cursor", actualException.getErrors().get(0).message());
+    }
+
     @Test
     void givenAValidVideo_whenCallsFindById_shouldReturnIt() {
         // given
@@ -843,6 +1024,41 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals(1, videoRepository.count());
     }
 
+    private static VideoSearchQuery keysetQuery(
+            final String aCursor,
+            final String aSort,
+            final String aDirection,
+            final Set<GenreID> genres
+    ) {
+        return new VideoSearchQuery(0, 2, "", aSort, aDirection, Set.of(), Set.of(), genres, aCursor);
+    }
+
+    private static List<String> titles(final Pagination<VideoPreview> aPage) {
+        return aPage.items().stream().map(VideoPreview::title).toList();
+    }
+
+    @Test
+    void givenExistingAndMissingRelations_whenCallsExistingRelations_shouldReturnOnlyTheExistingOnes() {
+        // given
+        final var missingCategory = CategoryID.unique();
+        final var missingGenre = GenreID.unique();
+        final var missingMember = CastMemberID.unique();
+
+        final var aRelations = VideoRelations.with(
+                Set.of(movies.getId(), trailers.getId(), missingCategory),
+                Set.of(crime.getId(), missingGenre),
+                Set.of(missingMember)
+        );
+
+        // when
+        final var currentRelations = videoGateway.existingRelations(aRelations);
+
+        // then
+        Assertions.assertEquals(Set.of(movies.getId(), trailers.getId()), currentRelations.categories());
+        Assertions.assertEquals(Set.of(crime.getId()), currentRelations.genres());
+        Assertions.assertEquals(Set.of(), currentRelations.members());
+    }
+
     private void mockVideos() {
 
         videoGateway.create(Video.newVideo(
@@ -0,0 +1,274 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.ImageCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ImageResourceCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private ImageCacheProperties props;
+    private ImageResourceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        this.props = new ImageCacheProperties()
+                .setMaxSize(DataSize.ofBytes(10))
+                .setMaxEntrySize(DataSize.ofBytes(6))
+                .setTtl(Duration.ofMinutes(1));
+        this.cache = new ImageResourceCache(this.props, this.meterRegistry, this.clock);
+    }
+
+    @Test
+    void givenCachedImage_whenCallsGet_shouldNotCallTheLoaderAgain() throws IOException {
+        // given
+        final var expectedResource = image("banner");
+        final var loads = new AtomicInteger();
+
+        read(this.cache.get("banner", () -> load(loads, expectedResource)));
+
+        // when
+        final var currentResult = this.cache.get("banner", () -> load(loads, expectedResource)).get();
+
+        // then
+        Assertions.assertEquals(expectedResource, currentResult);
+        Assertions.assertEquals("banner", new String(currentResult.openStream().readAllBytes()));
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1.0, requests("hit"));
+        Assertions.assertEquals(1.0, requests("miss"));
+        Assertions.assertEquals(6, this.cache.usedBytes());
+    }
+
+    @Test
+    void givenCachedImage_whenCallsOpenStreamWithRange_shouldReadOnlyTheRange() throws IOException {
+        // given
+        read(this.cache.get("banner", () -> Optional.of(image("banner"))));
+
+        // when
+        final var currentResult = this.cache.get("banner", Optional::empty).get();
+
+        // then
+        Assertions.assertEquals("nne", new String(currentResult.openStream(2, 3).readAllBytes()));
+    }
+
+    @Test
+    void givenFullCache_whenCallsGet_shouldEvictTheLeastRecentlyUsed() {
+        // given
+        final var loads = new AtomicInteger();
+
+        read(this.cache.get("one", () -> load(loads, image("one"))));
+        read(this.cache.get("two", () -> load(loads, image("two"))));
+        read(this.cache.get("one", () -> load(loads, image("one"))));
+
+        // when
+        read(this.cache.get("three", () -> load(loads, image("three"))));
+
+        // then
+        Assertions.assertEquals(8, this.cache.usedBytes());
+        Assertions.assertEquals(1.0, this.meterRegistry.get("catalog.media.image.cache.evictions").counter().count());
+
+        read(this.cache.get("one", () -> load(loads, image("one"))));
+        Assertions.assertEquals(3, loads.get());
+
+        read(this.cache.get("two", () -> load(loads, image("two"))));
+        Assertions.assertEquals(4, loads.get());
+    }
+
+    @Test
+    void givenOversizedImage_whenCallsGet_shouldNotCacheIt() {
+        // given
+        final var loads = new AtomicInteger();
+
+        // when
+        read(this.cache.get("poster", () -> load(loads, image("poster!"))));
+        read(this.cache.get("poster", () -> load(loads, image("poster!"))));
+
+        // then
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, this.cache.usedBytes());
+    }
+
+    @Test
+    void givenExpiredImage_whenCallsGet_shouldLoadItAgain() {
+        // given
+        final var loads = new AtomicInteger();
+
+        read(this.cache.get("banner", () -> load(loads, image("banner"))));
+        this.clock.advance(Duration.ofMinutes(2));
+
+        // when
+        read(this.cache.get("banner", () -> load(loads, image("banner"))));
+
+        // then
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(2.0, requests("miss"));
+    }
+
+    @Test
+    void givenCachedImages_whenCallsInvalidateAll_shouldDropOnlyMatchingKeys() {
+        // given
+        final var loads = new AtomicInteger();
+
+        read(this.cache.get("videoId-1/type-BANNER", () -> load(loads, image("a"))));
+        read(this.cache.get("videoId-2/type-BANNER", () -> load(loads, image("b"))));
+
+        // when
+        this.cache.invalidateAll("videoId-1/");
+
+        // then
+        Assertions.assertEquals(1, this.cache.usedBytes());
+
+        read(this.cache.get("videoId-1/type-BANNER", () -> load(loads, image("a"))));
+        read(this.cache.get("videoId-2/type-BANNER", () -> load(loads, image("b"))));
+        Assertions.assertEquals(3, loads.get());
+    }
+
+    @Test
+    void givenACacheMiss_whenOnlyTheMetadataIsUsed_shouldNotReadTheContent() {
+        // given
+        final var expectedResource = Resource.with(
+                new Resource.Content() {
+                    @Override
+                    public InputStream open() {
+                        throw new IllegalStateException("Content must not be read");
+                    }
+
+                    @Override
+                    public InputStream open(final long offset, final long length) {
+                        throw new IllegalStateException("Content must not be read");
+                    }
+                },
+                6,
+                "banner",
+                "image/jpg",
+                "banner.jpg"
+        );
+
+        // when
+        final var currentResult = this.cache.get("banner", () -> Optional.of(expectedResource)).get();
+
+        // then
+        Assertions.assertEquals("banner", currentResult.checksum());
+        Assertions.assertEquals(6, currentResult.contentLength());
+        Assertions.assertEquals(0, this.cache.usedBytes());
+    }
+
+    @Test
+    void givenAnInvalidationBeforeTheContentIsRead_whenReadsIt_shouldReturnTheImageWithoutCachingIt() {
+        // given
+        final var loads = new AtomicInteger();
+        final var currentResult = this.cache.get("banner", () -> load(loads, image("stale")));
+
+        // when
+        this.cache.invalidate("banner");
+
+        // then
+        Assertions.assertEquals("stale", read(currentResult));
+        Assertions.assertEquals(0, this.cache.usedBytes());
+
+        read(this.cache.get("banner", () -> load(loads, image("banner"))));
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(6, this.cache.usedBytes());
+    }
+
+    @Test
+    void givenAPrefixInvalidationDuringTheLoad_whenReadsTheImage_shouldNotCacheIt() {
+        // given
+        final var loads = new AtomicInteger();
+
+        // when
+        read(this.cache.get("videoId-1/type-BANNER", () -> {
+            this.cache.invalidateAll("videoId-1/");
+            return load(loads, image("stale"));
+        }));
+
+        // then
+        Assertions.assertEquals(0, this.cache.usedBytes());
+
+        read(this.cache.get("videoId-1/type-BANNER", () -> load(loads, image("a"))));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenDisabledCache_whenCallsGet_shouldAlwaysCallTheLoader() {
+        // given
+        final var loads = new AtomicInteger();
+        this.props.setEnabled(false);
+
+        // when
+        read(this.cache.get("banner", () -> load(loads, image("banner"))));
+        read(this.cache.get("banner", () -> load(loads, image("banner"))));
+
+        // then
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, this.cache.usedBytes());
+    }
+
+    private double requests(final String result) {
+        return this.meterRegistry.get("catalog.media.image.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static String read(final Optional<Resource> aResource) {
+        try (final var in = aResource.orElseThrow().openStream()) {
+            return new String(in.readAllBytes());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<Resource> load(final AtomicInteger loads, final Resource aResource) {
+        loads.incrementAndGet();
+        return Optional.of(aResource);
+    }
+
+    private static Resource image(final String content) {
+        return Resource.with(content.getBytes(), content, "image/jpg", content.concat(".jpg"));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+
+}
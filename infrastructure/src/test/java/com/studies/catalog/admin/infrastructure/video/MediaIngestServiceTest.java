@@ -0,0 +1,381 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.IntegrationTest;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaInput;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaOutput;
+import com.studies.catalog.admin.application.video.media.upload.UploadMediaUseCase;
+import com.studies.catalog.admin.domain.Fixture;
+import com.studies.catalog.admin.domain.exceptions.NotFoundException;
+import com.studies.catalog.admin.domain.validation.Error;
+import com.studies.catalog.admin.domain.video.MediaIngestStatus;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.domain.video.Video;
+import com.studies.catalog.admin.domain.video.VideoGateway;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaIngestProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.impl.InstrumentedStorageService;
+import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import com.studies.catalog.admin.infrastructure.utils.HashingUtils;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaIngestJobJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaIngestJobRepository;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@IntegrationTest
+class MediaIngestServiceTest {
+
+    private static final Runnable NO_RELEASE = () -> {
+    };
+
+    @TempDir
+    Path spoolDir;
+
+    @Autowired
+    private MediaIngestJobRepository mediaIngestJobRepository;
+
+    @Autowired
+    private UploadMediaUseCase realUploadMediaUseCase;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private StorageService storageService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UploadMediaUseCase uploadMediaUseCase;
+    private List<MediaIngestService> services;
+    private MediaIngestService target;
+
+    @BeforeEach
+    void setUp() {
+        storageService().clear();
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.uploadMediaUseCase = Mockito.mock(UploadMediaUseCase.class);
+        this.services = new ArrayList<>();
+        this.target = service(this.uploadMediaUseCase, 1, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.services.forEach(MediaIngestService::shutdown);
+    }
+
+    @Test
+    void givenAMedia_whenCallsSubmit_shouldStoreTheSpooledCopyAndRecordTheCompletion() throws Exception {
+        // given
+        final var expectedContent = "VIDEO-CONTENT".getBytes();
+        final var expectedFile = Resource.with(expectedContent, HashingUtils.checksum(expectedContent), "video/mp4", "video.mp4");
+        final var currentContent = new AtomicReference<byte[]>();
+        final var currentChecksum = new AtomicReference<String>();
+
+        Mockito.when(this.uploadMediaUseCase.execute(any())).thenAnswer(invocation -> {
+            final UploadMediaInput anInput = invocation.getArgument(0);
+            final var aResource = anInput.videoResource().resource();
+            try (final var in = aResource.openStream()) {
+                currentContent.set(in.readAllBytes());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            currentChecksum.set(aResource.checksum());
+            return new UploadMediaOutput(anInput.videoId(), anInput.videoResource().type());
+        });
+
+        final var released = new CountDownLatch(1);
+
+        // when
+        final var aJob = this.target.submit("123", VideoMediaType.VIDEO, expectedFile, released::countDown);
+        final var currentJob = awaitFinished(this.target, aJob.getId());
+
+        // then
+        Assertions.assertTrue(released.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(MediaIngestStatus.COMPLETED, currentJob.getStatus());
+        Assertions.assertEquals(expectedContent.length, currentJob.getTotalBytes());
+        Assertions.assertEquals(expectedContent.length, currentJob.getTransferredBytes());
+        Assertions.assertArrayEquals(expectedContent, currentContent.get());
+        Assertions.assertEquals(HashingUtils.checksum(expectedContent), currentChecksum.get());
+        Assertions.assertEquals(1.0, jobs("completed"));
+
+        final var persistedJob = this.mediaIngestJobRepository.findById(aJob.getId()).orElseThrow().toJob();
+        Assertions.assertEquals(MediaIngestStatus.COMPLETED, persistedJob.getStatus());
+        Assertions.assertEquals(expectedContent.length, persistedJob.getTransferredBytes());
+        Assertions.assertEquals(HashingUtils.checksum(expectedContent), persistedJob.getChecksum());
+
+        Assertions.assertEquals(0, spooledFiles());
+    }
+
+    @Test
+    void givenAFailingUpload_whenCallsSubmit_shouldRecordTheFailure() throws Exception {
+        // given
+        final var expectedFile = file("video.mp4", "video/mp4");
+        final var expectedError = "Video with ID 123 was not found";
+
+        Mockito.when(this.uploadMediaUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(new Error(expectedError)));
+
+        final var released = new CountDownLatch(1);
+
+        // when
+        final var aJob = this.target.submit("123", VideoMediaType.VIDEO, expectedFile, released::countDown);
+        final var currentJob = awaitFinished(this.target, aJob.getId());
+
+        // then
+        Assertions.assertTrue(released.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(MediaIngestStatus.FAILED, currentJob.getStatus());
+        Assertions.assertEquals(expectedError, currentJob.getError());
+        Assertions.assertEquals(1.0, jobs("failed"));
+
+        final var persistedJob = this.mediaIngestJobRepository.findById(aJob.getId()).orElseThrow().toJob();
+        Assertions.assertEquals(MediaIngestStatus.FAILED, persistedJob.getStatus());
+        Assertions.assertEquals(expectedError, persistedJob.getError());
+
+        Assertions.assertEquals(0, spooledFiles());
+    }
+
+    @Test
+    void givenSeveralMediasOfOneVideo_whenCallsSubmit_shouldPersistAllOfThem() throws Exception {
+        // given
+        final var aVideo = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+
+        final var aService = service(this.realUploadMediaUseCase, 4, 4);
+        final var aVideoId = aVideo.getId().getValue();
+
+        // when
+        final var jobs = List.of(
+                aService.submit(aVideoId, VideoMediaType.VIDEO, file("video.mp4", "video/mp4"), NO_RELEASE),
+                aService.submit(aVideoId, VideoMediaType.TRAILER, file("trailer.mp4", "video/mp4"), NO_RELEASE),
+                aService.submit(aVideoId, VideoMediaType.BANNER, file("banner.jpg", "image/jpg"), NO_RELEASE),
+                aService.submit(aVideoId, VideoMediaType.THUMBNAIL, file("thumb.jpg", "image/jpg"), NO_RELEASE)
+        );
+
+        for (final var aJob : jobs) {
+            Assertions.assertEquals(MediaIngestStatus.COMPLETED, awaitFinished(aService, aJob.getId()).getStatus());
+        }
+
+        // then
+        final var persistedVideo = this.videoGateway.findById(aVideo.getId()).orElseThrow();
+
+        Assertions.assertTrue(persistedVideo.getVideo().isPresent());
+        Assertions.assertTrue(persistedVideo.getTrailer().isPresent());
+        Assertions.assertTrue(persistedVideo.getBanner().isPresent());
+        Assertions.assertTrue(persistedVideo.getThumbnail().isPresent());
+    }
+
+    @Test
+    void givenAFullQueue_whenCallsSubmit_shouldRejectTheMediaWithoutSpoolingIt() throws Exception {
+        // given
+        final var aService = service(this.uploadMediaUseCase, 1, 1);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        Mockito.when(this.uploadMediaUseCase.execute(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            final UploadMediaInput anInput = invocation.getArgument(0);
+            return new UploadMediaOutput(anInput.videoId(), anInput.videoResource().type());
+        });
+
+        final var running = aService.submit("123", VideoMediaType.VIDEO, file("video.mp4", "video/mp4"), NO_RELEASE);
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        final var queued = aService.submit("456", VideoMediaType.VIDEO, file("video.mp4", "video/mp4"), NO_RELEASE);
+
+        try {
+            // when
+            final var actualException = Assertions.assertThrows(
+                    MediaIngestRejectedException.class,
+                    () -> aService.submit("789", VideoMediaType.VIDEO, file("video.mp4", "video/mp4"), NO_RELEASE)
+            );
+
+            // then
+            Assertions.assertEquals(Duration.ofSeconds(30), actualException.getRetryAfter());
+            Assertions.assertEquals(2, this.mediaIngestJobRepository.count());
+            Assertions.assertEquals(2, spooledFiles());
+        } finally {
+            release.countDown();
+        }
+
+        Assertions.assertEquals(MediaIngestStatus.COMPLETED, awaitFinished(aService, running.getId()).getStatus());
+        Assertions.assertEquals(MediaIngestStatus.COMPLETED, awaitFinished(aService, queued.getId()).getStatus());
+    }
+
+    @Test
+    void givenAStoppedExecutor_whenCallsSubmit_shouldRecordTheJobAsFailed() throws Exception {
+        // given
+        final var aService = service(this.uploadMediaUseCase, 1, 4);
+        aService.shutdown();
+
+        final var released = new CountDownLatch(1);
+
+        // when
+        Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> aService.submit("123", VideoMediaType.VIDEO, file("video.mp4", "video/mp4"), released::countDown)
+        );
+
+        // then
+        Assertions.assertTrue(released.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, this.mediaIngestJobRepository.count());
+
+        final var persistedJob = this.mediaIngestJobRepository.findAll().get(0).toJob();
+        Assertions.assertEquals(MediaIngestStatus.FAILED, persistedJob.getStatus());
+        Assertions.assertEquals(1.0, jobs("failed"));
+        Assertions.assertEquals(0, spooledFiles());
+        Mockito.verifyNoInteractions(this.uploadMediaUseCase);
+    }
+
+    @Test
+    void givenAnUnfinishedJobWithItsSpoolFile_whenServiceStarts_shouldResumeIt() throws Exception {
+        // given
+        final var expectedContent = "VIDEO-CONTENT".getBytes();
+        final var anUnfinishedJob = MediaIngestJob.with(
+                "resumed",
+                "123",
+                VideoMediaType.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                HashingUtils.checksum(expectedContent),
+                expectedContent.length,
+                5,
+                MediaIngestStatus.RUNNING,
+                null,
+                Instant.now(),
+                Instant.now()
+        );
+
+        this.mediaIngestJobRepository.saveAndFlush(MediaIngestJobJpaEntity.from(anUnfinishedJob));
+        Files.write(this.spoolDir.resolve("resumed.spool"), expectedContent);
+
+        Mockito.when(this.uploadMediaUseCase.execute(any())).thenAnswer(invocation -> {
+            final UploadMediaInput anInput = invocation.getArgument(0);
+            try (final var in = anInput.videoResource().resource().openStream()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return new UploadMediaOutput(anInput.videoId(), anInput.videoResource().type());
+        });
+
+        // when
+        final var aService = service(this.uploadMediaUseCase, 1, 4);
+        final var currentJob = awaitFinished(aService, "resumed");
+
+        // then
+        Assertions.assertEquals(MediaIngestStatus.COMPLETED, currentJob.getStatus());
+        Assertions.assertEquals(expectedContent.length, currentJob.getTransferredBytes());
+        Assertions.assertEquals(
+                MediaIngestStatus.COMPLETED,
+                this.mediaIngestJobRepository.findById("resumed").orElseThrow().toJob().getStatus()
+        );
+        Assertions.assertEquals(0, spooledFiles());
+    }
+
+    @Test
+    void givenLeftoverSpoolFilesWithoutAJob_whenServiceStarts_shouldDeleteThem() throws IOException {
+        // given
+        final var leftover = Files.writeString(this.spoolDir.resolve("previous.spool"), "content");
+
+        // when
+        service(this.uploadMediaUseCase, 1, 4);
+
+        // then
+        Assertions.assertFalse(Files.exists(leftover));
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindById_shouldReturnEmpty() {
+        // when
+        final var currentJob = this.target.findById("unknown");
+
+        // then
+        Assertions.assertTrue(currentJob.isEmpty());
+    }
+
+    private MediaIngestService service(final UploadMediaUseCase aUseCase, final int concurrency, final int queueCapacity) {
+        final var aService = new MediaIngestService(
+                aUseCase,
+                this.mediaIngestJobRepository,
+                new MediaIngestProperties()
+                        .setSpoolDir(this.spoolDir.toString())
+                        .setConcurrency(concurrency)
+                        .setQueueCapacity(queueCapacity)
+                        .setRetention(Duration.ofHours(1))
+                        .setRetryAfter(Duration.ofSeconds(30)),
+                this.meterRegistry
+        );
+        this.services.add(aService);
+        return aService;
+    }
+
+    private static Resource file(final String aName, final String aContentType) {
+        final var content = aName.getBytes();
+        return Resource.with(content, HashingUtils.checksum(content), aContentType, aName);
+    }
+
+    private MediaIngestJob awaitFinished(final MediaIngestService aService, final String anId) throws InterruptedException {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            final var aJob = aService.findById(anId).orElseThrow();
+            if (aJob.isFinished() && !Files.exists(this.spoolDir.resolve(anId + ".spool"))) {
+                return aJob;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Media ingest %s did not finish".formatted(anId));
+    }
+
+    private long spooledFiles() throws IOException {
+        try (final var spooled = Files.list(this.spoolDir)) {
+            return spooled.count();
+        }
+    }
+
+    private double jobs(final String status) {
+        return this.meterRegistry.get("catalog.media.ingest.jobs").tag("status", status).counter().count();
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) ((InstrumentedStorageService) this.storageService).delegate();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+class MediaKeyLayoutTest {
+
+    @Test
+    void givenFlatLayout_whenCallsFolder_shouldReturnTheLegacyFolder() {
+        // given
+        final var anId = VideoID.from("123");
+        final var target = MediaKeyLayout.with("videoId-{videoId}", MediaKeyLayout.Type.FLAT, 2);
+
+        // when
+        final var currentFolder = target.folder(anId);
+
+        // then
+        Assertions.assertEquals("videoId-123", currentFolder);
+        Assertions.assertEquals(Optional.empty(), target.migrate("videoId-123/type-VIDEO"));
+    }
+
+    @Test
+    void givenHashedLayout_whenCallsFolder_shouldPrefixAStableHash() {
+        // given
+        final var anId = VideoID.from("123");
+        final var target = MediaKeyLayout.with("videoId-{videoId}", MediaKeyLayout.Type.HASHED, 3);
+
+        // when
+        final var currentFolder = target.folder(anId);
+
+        // then
+        Assertions.assertTrue(currentFolder.matches("[0-9a-f]{3}/videoId-123"));
+        Assertions.assertEquals(currentFolder, target.folder(VideoID.from("123")));
+        Assertions.assertEquals("videoId-123", target.legacyFolder(anId));
+        Assertions.assertEquals("videoId-", target.legacyPrefix());
+    }
+
+    @Test
+    void givenHashedLayout_whenCallsMigrate_shouldMapLegacyKeysOnly() {
+        // given
+        final var anId = VideoID.from("123");
+        final var target = MediaKeyLayout.with("videos/{videoId}/media", MediaKeyLayout.Type.HASHED, 2);
+        final var expectedFolder = target.folder(anId);
+
+        // when
+        final var currentMedia = target.migrate("videos/123/media/type-VIDEO");
+        final var currentChunk = target.migrate("videos/123/media/uploads/abc/chunk-1");
+
+        // then
+        Assertions.assertEquals(Optional.of(expectedFolder.concat("/type-VIDEO")), currentMedia);
+        Assertions.assertEquals(Optional.of(expectedFolder.concat("/uploads/abc/chunk-1")), currentChunk);
+        Assertions.assertEquals(Optional.empty(), target.migrate("contents/abc"));
+        Assertions.assertEquals(Optional.empty(), target.migrate("videos/"));
+    }
+
+    @Test
+    void givenInvalidPrefixLength_whenCallsWith_shouldThrow() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> MediaKeyLayout.with("videoId-{videoId}", MediaKeyLayout.Type.HASHED, 9)
+        );
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.IntegrationTest;
+import com.studies.catalog.admin.domain.video.Resource;
+import com.studies.catalog.admin.domain.video.VideoID;
+import com.studies.catalog.admin.domain.video.VideoMediaType;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaKeyMigrationProperties;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.services.impl.InstrumentedStorageService;
+import com.studies.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import com.studies.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.studies.catalog.admin.domain.Fixture.Videos.resource;
+
+@IntegrationTest
+class MediaKeyMigratorTest {
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    private MediaKeyLayout keyLayout;
+
+    private MediaKeyMigrator target;
+
+    @BeforeEach
+    void setUp() {
+        storageService().clear();
+
+        final var props = new StorageProperties();
+        props.setFilenamePattern("type-{type}");
+        props.setLocationPattern("videoId-{videoId}");
+        props.setKeyLayout(MediaKeyLayout.Type.HASHED);
+        props.setKeyPrefixLength(2);
+
+        this.keyLayout = MediaKeyLayout.from(props);
+        this.target = new MediaKeyMigrator(
+                this.storageService,
+                this.videoRepository,
+                props,
+                new MediaKeyMigrationProperties().setEnabled(true).setBatchSize(2)
+        );
+    }
+
+    @Test
+    void givenLegacyObjects_whenCallsMigrate_shouldMoveThemInBatches() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedResource = resource(VideoMediaType.VIDEO);
+
+        storageService().store(legacyKey(videoOne, "type-VIDEO"), expectedResource);
+        storageService().store(legacyKey(videoOne, "type-BANNER"), resource(VideoMediaType.BANNER));
+        storageService().store(legacyKey(videoTwo, "type-VIDEO"), resource(VideoMediaType.VIDEO));
+
+        // when
+        final var firstBatch = this.target.migrate(2);
+        final var secondBatch = this.target.migrate(2);
+        final var thirdBatch = this.target.migrate(2);
+
+        // then
+        Assertions.assertEquals(2, firstBatch);
+        Assertions.assertEquals(1, secondBatch);
+        Assertions.assertEquals(0, thirdBatch);
+
+        Assertions.assertEquals(
+                Set.of(key(videoOne, "type-VIDEO"), key(videoOne, "type-BANNER"), key(videoTwo, "type-VIDEO")),
+                storageService().storage().keySet()
+        );
+        Assertions.assertEquals(expectedResource, storageService().storage().get(key(videoOne, "type-VIDEO")));
+    }
+
+    @Test
+    void givenObjectAlreadyWrittenUnderTheNewLayout_whenCallsMigrate_shouldKeepTheNewerCopy() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var expectedResource = Resource.with("new".getBytes(), "new", "video/mp4", "new.mp4");
+
+        storageService().store(legacyKey(videoOne, "type-VIDEO"), Resource.with("old".getBytes(), "old", "video/mp4", "old.mp4"));
+        storageService().store(key(videoOne, "type-VIDEO"), expectedResource);
+
+        // when
+        final var migrated = this.target.migrate(10);
+
+        // then
+        Assertions.assertEquals(1, migrated);
+        Assertions.assertEquals(List.of(key(videoOne, "type-VIDEO")), this.storageService.list(""));
+        Assertions.assertEquals(expectedResource, storageService().storage().get(key(videoOne, "type-VIDEO")));
+    }
+
+    @Test
+    void givenALegacyObjectThatCannotBeMigrated_whenCallsMigrate_shouldContinueAfterIt() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var unknownKey = this.keyLayout.legacyPrefix().concat("0");
+
+        storageService().store(unknownKey, resource(VideoMediaType.VIDEO));
+        storageService().store(legacyKey(videoOne, "type-VIDEO"), resource(VideoMediaType.VIDEO));
+        storageService().store(legacyKey(videoTwo, "type-VIDEO"), resource(VideoMediaType.VIDEO));
+
+        // when
+        final var firstBatch = this.target.migrate(2);
+        final var secondBatch = this.target.migrate(2);
+
+        // then
+        Assertions.assertEquals(1, firstBatch);
+        Assertions.assertEquals(1, secondBatch);
+        Assertions.assertEquals(
+                Set.of(unknownKey, key(videoOne, "type-VIDEO"), key(videoTwo, "type-VIDEO")),
+                storageService().storage().keySet()
+        );
+    }
+
+    private String legacyKey(final VideoID anId, final String aFilename) {
+        return this.keyLayout.legacyFolder(anId).concat("/").concat(aFilename);
+    }
+
+    private String key(final VideoID anId, final String aFilename) {
+        return this.keyLayout.folder(anId).concat("/").concat(aFilename);
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) ((InstrumentedStorageService) storageService).delegate();
+    }
+
+}
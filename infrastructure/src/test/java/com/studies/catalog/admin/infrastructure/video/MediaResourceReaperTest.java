@@ -0,0 +1,112 @@
+package com.studies.catalog.admin.infrastructure.video;
+
+import com.studies.catalog.admin.IntegrationTest;
+import com.studies.catalog.admin.infrastructure.configuration.properties.storage.MediaReaperProperties;
+import com.studies.catalog.admin.infrastructure.services.StorageService;
+import com.studies.catalog.admin.infrastructure.video.persistence.MediaTombstoneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@IntegrationTest
+class MediaResourceReaperTest {
+
+    @Autowired
+    private MediaTombstoneRepository mediaTombstoneRepository;
+
+    private StorageService storageService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MediaResourceReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        this.storageService = Mockito.mock(StorageService.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        final var props = new MediaReaperProperties()
+                .setBatchSize(2)
+                .setRetryDelay(Duration.ofMinutes(1))
+                .setRetryMaxDelay(Duration.ofMinutes(10));
+
+        this.reaper = new MediaResourceReaper(mediaTombstoneRepository, storageService, props, meterRegistry);
+    }
+
+    @Test
+    void givenScheduledPrefixes_whenCallsReap_shouldDeleteThemInBatches() {
+        // given
+        final var expectedBacklog = 3.0;
+
+        when(storageService.list(eq("videoId-1"))).thenReturn(List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER"));
+        when(storageService.list(eq("videoId-2"))).thenReturn(List.of("videoId-2/type-VIDEO"));
+        when(storageService.list(eq("contents/abc"))).thenReturn(List.of("contents/abc"));
+
+        this.reaper.schedule(List.of("videoId-1", "videoId-2", "contents/abc"));
+
+        Assertions.assertEquals(expectedBacklog, backlog());
+
+        // when
+        this.reaper.reap();
+
+        // then
+        final var capture = ArgumentCaptor.forClass(List.class);
+        verify(storageService, times(2)).deleteAll(capture.capture());
+
+        final var currentIds = capture.getAllValues().stream()
+                .flatMap(List::stream)
+                .toList();
+
+        Assertions.assertEquals(4, currentIds.size());
+        Assertions.assertTrue(currentIds.containsAll(List.of(
+                "videoId-1/type-VIDEO", "videoId-1/type-BANNER", "videoId-2/type-VIDEO", "contents/abc"
+        )));
+
+        Assertions.assertEquals(0, mediaTombstoneRepository.count());
+        Assertions.assertEquals(0.0, backlog());
+        Assertions.assertEquals(4.0, meterRegistry.get("catalog.media.reaper.deleted").counter().count());
+    }
+
+    @Test
+    void givenAFailingStorage_whenCallsReap_shouldKeepTombstonesForRetry() {
+        // given
+        final var expectedErrorMessage = "Storage unavailable";
+
+        when(storageService.list(eq("videoId-1"))).thenReturn(List.of("videoId-1/type-VIDEO"));
+        doThrow(new RuntimeException(expectedErrorMessage))
+                .when(storageService).deleteAll(any());
+
+        this.reaper.schedule(List.of("videoId-1"));
+
+        // when
+        this.reaper.reap();
+        this.reaper.reap();
+
+        // then
+        verify(storageService, times(1)).deleteAll(any());
+
+        final var currentTombstone = mediaTombstoneRepository.findAll().get(0);
+        Assertions.assertEquals(1, currentTombstone.getAttempts());
+        Assertions.assertEquals(expectedErrorMessage, currentTombstone.getLastError());
+        Assertions.assertTrue(currentTombstone.getNextAttemptAt().isAfter(currentTombstone.getCreatedAt()));
+
+        Assertions.assertEquals(1.0, backlog());
+        Assertions.assertEquals(1.0, meterRegistry.get("catalog.media.reaper.failures").counter().count());
+    }
+
+    private double backlog() {
+        return meterRegistry.get("catalog.media.reaper.backlog").gauge().value();
+    }
+
+}